@@ -0,0 +1,83 @@
+package com.tetris.benchmarks;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.tetris.bot.BeamSearchPlanner;
+import com.tetris.bot.LinearEvaluator;
+import com.tetris.model.GameSpace;
+
+/**
+ * Benchmarks for planning a placement by a beam search over the preview, on pools of different sizes.
+ * Compare the scores across thread counts to see how the search scales across cores.
+ * 
+ * @author Jiameng Li
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class BeamSearchBenchmark {
+
+    /** The number of threads in the pool. */
+    @Param({"1", "2", "4"})
+    private int myThreads;
+
+    /** The maximum number of boards kept at each depth. */
+    @Param({"16", "64"})
+    private int myWidth;
+
+    /** The game space with a T-piece at the top of the stack and four pieces in the preview. */
+    private GameSpace mySpace;
+
+    /** The pool that expands the beam. */
+    private ForkJoinPool myPool;
+
+    /** The planner. */
+    private BeamSearchPlanner myPlanner;
+
+    /**
+     * Create the game space, the pool, and the planner.
+     */
+    @Setup
+    public void setup() {
+        mySpace = Fixtures.create(Fixtures.MIDGAME, Fixtures.T_PIECE, 0, 0, 5, 4);
+        myPool = new ForkJoinPool(myThreads);
+        myPlanner = new BeamSearchPlanner(myPool, LinearEvaluator::new, myWidth, 5);
+    }
+
+    /**
+     * Shut down the pool.
+     */
+    @TearDown
+    public void tearDown() {
+        myPool.shutdown();
+    }
+
+    /**
+     * Plan the placement of the T-piece five pieces deep.
+     * 
+     * @return The planned placement.
+     */
+    @Benchmark
+    public int plan() {
+        return myPlanner.plan(mySpace);
+    }
+
+}
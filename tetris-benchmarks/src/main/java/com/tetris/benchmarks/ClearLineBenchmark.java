@@ -0,0 +1,96 @@
+package com.tetris.benchmarks;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.tetris.model.GameSpace;
+import com.tetris.model.ScoreCounter;
+
+/**
+ * Benchmarks for clearing lines after a vertical I-piece is placed in a well.
+ * The state is restored before every clear, {@link #restore()} measures the restore alone.
+ * 
+ * @author Jiameng Li
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class ClearLineBenchmark {
+
+    /** The number of lines the I-piece completes. */
+    @Param({"0", "1", "2", "3", "4"})
+    private int myLines;
+
+    /** The number of rows of garbage below the well. */
+    @Param({"0", "6", "12"})
+    private int myHeight;
+
+    /** The game space. */
+    private GameSpace mySpace;
+
+    /** The score counter. */
+    private ScoreCounter myCounter;
+
+    /** The state of the game space right after the I-piece is placed. */
+    private ByteBuffer myState;
+
+    /**
+     * Create the stack, the I-piece fills the rightmost column of the four rows above the garbage.
+     */
+    @Setup
+    public void setup() {
+        final String[] rows = new String[4 + myHeight];
+        for (int i = 0; i < 4; i++) {
+            rows[i] = i < 4 - myLines ? "XXX.XXXXXX" : "XXXXXXXXXX";
+        }
+        for (int i = 4; i < rows.length; i++) {
+            final StringBuilder row = new StringBuilder("XXXXXXXXX.");
+            row.setCharAt(i * 3 % 9, '.');
+            rows[i] = row.toString();
+        }
+        final int row = 19 - myHeight;
+        myState = ByteBuffer.wrap(Fixtures.state(rows, Fixtures.I_PIECE, 1, row, 9));
+        mySpace = Fixtures.create(rows, Fixtures.I_PIECE, 1, row, 9);
+        myCounter = new ScoreCounter();
+    }
+
+    /**
+     * Restore the state and clear the lines.
+     * 
+     * @return The number of lines cleared so far.
+     */
+    @Benchmark
+    public int clearLine() {
+        mySpace.load(myState.rewind());
+        mySpace.clearLine(myCounter);
+        return myCounter.getLine();
+    }
+
+    /**
+     * Restore the state only, the baseline of {@link #clearLine()}.
+     * 
+     * @return The game space.
+     */
+    @Benchmark
+    public GameSpace restore() {
+        mySpace.load(myState.rewind());
+        return mySpace;
+    }
+
+}
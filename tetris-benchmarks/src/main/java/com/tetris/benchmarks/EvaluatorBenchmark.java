@@ -0,0 +1,73 @@
+package com.tetris.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.tetris.bot.AutoPlayer;
+import com.tetris.bot.LinearEvaluator;
+import com.tetris.model.GameSpace;
+
+/**
+ * Benchmarks for evaluating a board and choosing the best placement over a stack in the middle of a game.
+ * 
+ * @author Jiameng Li
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class EvaluatorBenchmark {
+
+    /** The game space with a T-piece at the top of the stack. */
+    private GameSpace mySpace;
+
+    /** The evaluator. */
+    private LinearEvaluator myEvaluator;
+
+    /** The auto-player. */
+    private AutoPlayer myPlayer;
+
+    /**
+     * Create the game space, the evaluator and the auto-player.
+     */
+    @Setup
+    public void setup() {
+        mySpace = Fixtures.create(Fixtures.MIDGAME, Fixtures.T_PIECE, 0, 0, 5);
+        myEvaluator = new LinearEvaluator();
+        myPlayer = new AutoPlayer(myEvaluator);
+    }
+
+    /**
+     * Evaluate the board.
+     * 
+     * @return The score of the board.
+     */
+    @Benchmark
+    public double evaluate() {
+        return myEvaluator.evaluate(mySpace.getBoard(), 0, 0);
+    }
+
+    /**
+     * Find and evaluate every placement of the T-piece.
+     * 
+     * @return The index of the best placement.
+     */
+    @Benchmark
+    public int choose() {
+        return myPlayer.choose(mySpace);
+    }
+
+}
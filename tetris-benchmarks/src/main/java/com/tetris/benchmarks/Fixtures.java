@@ -0,0 +1,140 @@
+package com.tetris.benchmarks;
+
+import java.nio.ByteBuffer;
+
+import com.tetris.model.Board;
+import com.tetris.model.GameSpace;
+import com.tetris.model.PieceGenerator;
+import com.tetris.model.Setting;
+
+/**
+ * Board fixtures shared by the benchmarks. Each fixture is written as rows of the 10 columns
+ * inside the walls, from top to bottom, aligned with the floor. 'X' is an occupied cell.
+ * 
+ * @author Jiameng Li
+ * @version 1.0
+ */
+public final class Fixtures {
+
+    /** Index of the I-piece in the pieces of a game space. */
+    public static final int I_PIECE = 0;
+
+    /** Index of the T-piece in the pieces of a game space. */
+    public static final int T_PIECE = 5;
+
+    /** A stack in the middle of a game, uneven with a few holes. */
+    public static final String[] MIDGAME = {
+        "......X...",
+        "X....XX...",
+        "XX..XXXX.X",
+        "XXX.XXXXXX",
+        "XXXXX.XXXX",
+        "X.XXXXXXXX",
+        "XXXXXXX.XX",
+        "XXX.XXXXXX"
+    };
+
+    /** A stack with a T-spin double slot, the T-piece fits rows 18 and 19 under the overhang at row 17. */
+    public static final String[] T_SLOT = {
+        "XXXX......",
+        "XXX...XXXX",
+        "XXXX.XXXXX"
+    };
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private Fixtures() {
+        super();
+    }
+
+    /**
+     * Create a game space with the given stack and current piece.
+     * 
+     * @param theRows The rows of the stack from top to bottom, aligned with the floor.
+     * @param thePiece The index of the current piece in the pieces of the game space.
+     * @param theShape The index of the shape of the current piece.
+     * @param theRow The row of the bottom left corner of the current piece.
+     * @param theCol The column of the bottom left corner of the current piece.
+     * @return The game space.
+     */
+    public static GameSpace create(final String[] theRows, final int thePiece, final int theShape, 
+                                   final int theRow, final int theCol) {
+        return create(theRows, thePiece, theShape, theRow, theCol, 1);
+    }
+
+    /**
+     * Create a game space with the given stack, current piece, and number of pieces in the preview.
+     * The preview contains the pieces after the current piece in the order of the pieces of the game space.
+     * 
+     * @param theRows The rows of the stack from top to bottom, aligned with the floor.
+     * @param thePiece The index of the current piece in the pieces of the game space.
+     * @param theShape The index of the shape of the current piece.
+     * @param theRow The row of the bottom left corner of the current piece.
+     * @param theCol The column of the bottom left corner of the current piece.
+     * @param thePreviews The number of pieces in the preview.
+     * @return The game space.
+     */
+    public static GameSpace create(final String[] theRows, final int thePiece, final int theShape, 
+                                   final int theRow, final int theCol, final int thePreviews) {
+        final GameSpace space = new GameSpace(Setting.HEADLESS, 0);
+        space.load(ByteBuffer.wrap(state(theRows, thePiece, theShape, theRow, theCol, thePreviews)));
+        return space;
+    }
+
+    /**
+     * Create the state of a game space with the given stack and current piece, 
+     * in the format read by {@link GameSpace#load(ByteBuffer)}.
+     * 
+     * @param theRows The rows of the stack from top to bottom, aligned with the floor.
+     * @param thePiece The index of the current piece in the pieces of the game space.
+     * @param theShape The index of the shape of the current piece.
+     * @param theRow The row of the bottom left corner of the current piece.
+     * @param theCol The column of the bottom left corner of the current piece.
+     * @return The state of the game space.
+     */
+    public static byte[] state(final String[] theRows, final int thePiece, final int theShape, 
+                               final int theRow, final int theCol) {
+        return state(theRows, thePiece, theShape, theRow, theCol, 1);
+    }
+
+    /**
+     * Create the state of a game space with the given stack, current piece, and number of pieces in the preview,
+     * in the format read by {@link GameSpace#load(ByteBuffer)}.
+     * 
+     * @param theRows The rows of the stack from top to bottom, aligned with the floor.
+     * @param thePiece The index of the current piece in the pieces of the game space.
+     * @param theShape The index of the shape of the current piece.
+     * @param theRow The row of the bottom left corner of the current piece.
+     * @param theCol The column of the bottom left corner of the current piece.
+     * @param thePreviews The number of pieces in the preview.
+     * @return The state of the game space.
+     */
+    public static byte[] state(final String[] theRows, final int thePiece, final int theShape, 
+                               final int theRow, final int theCol, final int thePreviews) {
+        final Board board = new Board();
+        for (int i = 0; i < theRows.length; i++) {
+            final int row = Board.FLOOR - theRows.length + i;
+            for (int c = 0; c < theRows[i].length(); c++) {
+                if (theRows[i].charAt(c) == 'X') {
+                    board.fill(row, Board.LEFT + c, (byte) (1 + (row + c) % 7));
+                }
+            }
+        }
+        final ByteBuffer buffer = ByteBuffer.allocate(1024);
+        board.save(buffer);
+        buffer.put((byte) thePiece).put((byte) theShape);
+        buffer.put((byte) thePreviews);
+        for (int i = 1; i <= thePreviews; i++) {
+            buffer.put((byte) PieceGenerator.pack((thePiece + i) % PieceGenerator.TYPES, 0));
+        }
+        buffer.put((byte) GameSpace.NO_HOLD).put((byte) 0).put((byte) theShape);
+        buffer.putInt(theRow).putInt(theCol);
+        buffer.put((byte) 0).put((byte) 0);
+        buffer.putLong(0);
+        final byte[] state = new byte[buffer.position()];
+        buffer.flip().get(state);
+        return state;
+    }
+
+}
@@ -0,0 +1,91 @@
+package com.tetris.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.tetris.model.GameSpace;
+
+/**
+ * Benchmarks for moving the current piece over a stack in the middle of a game, and for copying the game.
+ * 
+ * @author Jiameng Li
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class GameSpaceBenchmark {
+
+    /** The game space with a T-piece at the top of the stack. */
+    private GameSpace mySpace;
+
+    /** The snapshot reused by every invocation. */
+    private GameSpace.Snapshot mySnapshot;
+
+    /**
+     * Create the game space.
+     */
+    @Setup
+    public void setup() {
+        mySpace = Fixtures.create(Fixtures.MIDGAME, Fixtures.T_PIECE, 0, 0, 5);
+        mySnapshot = mySpace.snapshot();
+    }
+
+    /**
+     * Check a move that is blocked by the stack right below the piece.
+     * 
+     * @return Whether the piece can move.
+     */
+    @Benchmark
+    public boolean canMove() {
+        return mySpace.canMove(14, 5);
+    }
+
+    /**
+     * Drop the piece onto the stack, then lift it back up for the next invocation.
+     * 
+     * @return The number of lines dropped.
+     */
+    @Benchmark
+    public int hardDrop() {
+        final int drop = mySpace.hardDrop();
+        mySpace.dropCurrent(-drop);
+        return drop;
+    }
+
+    /**
+     * Capture the game in the reused snapshot and restore it, as a search does for every branch.
+     * 
+     * @return The hash of the restored game space.
+     */
+    @Benchmark
+    public long snapshotRestore() {
+        mySpace.snapshot(mySnapshot);
+        mySpace.restore(mySnapshot);
+        return mySpace.getHash();
+    }
+
+    /**
+     * Fork the game into a new game space.
+     * 
+     * @return The fork.
+     */
+    @Benchmark
+    public GameSpace fork() {
+        return mySpace.fork();
+    }
+
+}
@@ -0,0 +1,63 @@
+package com.tetris.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.tetris.bot.MoveGenerator;
+import com.tetris.model.GameSpace;
+
+/**
+ * Benchmarks for finding every reachable placement of a piece over a stack in the middle of a game.
+ * 
+ * @author Jiameng Li
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class MoveGeneratorBenchmark {
+
+    /** The index of the piece in the pieces of a game space. */
+    @Param({"0", "3", "5"})
+    private int myPiece;
+
+    /** The game space with the piece at the top of the stack. */
+    private GameSpace mySpace;
+
+    /** The move generator. */
+    private MoveGenerator myGenerator;
+
+    /**
+     * Create the game space and the move generator.
+     */
+    @Setup
+    public void setup() {
+        mySpace = Fixtures.create(Fixtures.MIDGAME, myPiece, 0, 0, 5);
+        myGenerator = new MoveGenerator();
+    }
+
+    /**
+     * Find every placement of the piece.
+     * 
+     * @return The number of placements.
+     */
+    @Benchmark
+    public int generate() {
+        return myGenerator.generate(mySpace);
+    }
+
+}
@@ -0,0 +1,101 @@
+package com.tetris.benchmarks;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.tetris.model.PieceUnit;
+
+/**
+ * Benchmarks for painting piece units into an offscreen image the size of the game space.
+ * 
+ * @author Jiameng Li
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class PieceUnitBenchmark {
+
+    /** The offscreen image. */
+    private BufferedImage myImage;
+
+    /** The graphics of the offscreen image. */
+    private Graphics2D myGraphics;
+
+    /** The unit to paint. */
+    private PieceUnit myUnit;
+
+    /**
+     * Create the image and the unit.
+     */
+    @Setup
+    public void setup() {
+        myImage = new BufferedImage(10 * PieceUnit.SIZE, 20 * PieceUnit.SIZE, BufferedImage.TYPE_INT_RGB);
+        myGraphics = myImage.createGraphics();
+        myUnit = new PieceUnit(Color.CYAN, Color.BLUE);
+    }
+
+    /**
+     * Dispose the graphics.
+     */
+    @TearDown
+    public void tearDown() {
+        myGraphics.dispose();
+    }
+
+    /**
+     * Paint one unit.
+     * 
+     * @return The image.
+     */
+    @Benchmark
+    public BufferedImage paintUnit() {
+        myUnit.paintUnit(myGraphics, 5 * PieceUnit.SIZE, 10 * PieceUnit.SIZE, PieceUnit.SUB_SIZE);
+        return myImage;
+    }
+
+    /**
+     * Paint one unit after its color changed, like the first paint after the background changes.
+     * 
+     * @return The image.
+     */
+    @Benchmark
+    public BufferedImage paintUnitRecolored() {
+        myUnit.setOuterColor(Color.CYAN);
+        myUnit.paintUnit(myGraphics, 5 * PieceUnit.SIZE, 10 * PieceUnit.SIZE, PieceUnit.SUB_SIZE);
+        return myImage;
+    }
+
+    /**
+     * Paint a full board of units.
+     * 
+     * @return The image.
+     */
+    @Benchmark
+    public BufferedImage paintBoard() {
+        for (int y = 0; y < myImage.getHeight(); y += PieceUnit.SIZE) {
+            for (int x = 0; x < myImage.getWidth(); x += PieceUnit.SIZE) {
+                myUnit.paintUnit(myGraphics, x, y, PieceUnit.SUB_SIZE);
+            }
+        }
+        return myImage;
+    }
+
+}
@@ -0,0 +1,79 @@
+package com.tetris.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.tetris.model.GameSpace;
+import com.tetris.model.TPiece;
+
+/**
+ * Benchmarks for rotating with wall kicks and detecting T-spins.
+ * 
+ * @author Jiameng Li
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class RotationBenchmark {
+
+    /** The game space with a vertical I-piece against the right wall, it only rotates after a kick. */
+    private GameSpace myKickSpace;
+
+    /** The game space with a T-piece rotated into a T-spin double slot. */
+    private GameSpace myTSpinSpace;
+
+    /**
+     * Create the game spaces.
+     */
+    @Setup
+    public void setup() {
+        myKickSpace = Fixtures.create(Fixtures.MIDGAME, Fixtures.I_PIECE, 1, 10, 9);
+        myTSpinSpace = Fixtures.create(Fixtures.T_SLOT, Fixtures.T_PIECE, 2, 19, 5);
+    }
+
+    /**
+     * Find the move of the I-piece rotating clockwise, which fails once before the wall kick succeeds.
+     * The game space is not changed, so every invocation rotates from the same state.
+     * 
+     * @return The move of the rotation.
+     */
+    @Benchmark
+    public int[] rotateClockwiseWithKick() {
+        return myKickSpace.getCurrentPiece().rotateClockwise(myKickSpace);
+    }
+
+    /**
+     * Find the wall kick of the I-piece against the board without rotating it.
+     * 
+     * @return The packed rotation.
+     */
+    @Benchmark
+    public int findRotationWithKick() {
+        return myKickSpace.getCurrentPiece().findRotation(myKickSpace.getBoard(), 1, 10, 9, true);
+    }
+
+    /**
+     * Check whether the T-piece in the slot performs a T-spin.
+     * 
+     * @return The type of T-spin.
+     */
+    @Benchmark
+    public int isTSpin() {
+        return TPiece.isTSpin(myTSpinSpace.getBoard(), myTSpinSpace.getCurrentShape(), 19, 5);
+    }
+
+}
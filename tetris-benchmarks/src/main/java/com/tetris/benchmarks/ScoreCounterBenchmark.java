@@ -0,0 +1,70 @@
+package com.tetris.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.tetris.model.ScoreCounter;
+
+/**
+ * Benchmarks for scoring line clears.
+ * 
+ * @author Jiameng Li
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class ScoreCounterBenchmark {
+
+    /** The number of lines cleared each time. */
+    @Param({"1", "2", "3", "4"})
+    private int myLines;
+
+    /** The score counter. */
+    private ScoreCounter myCounter;
+
+    /**
+     * Create the score counter.
+     */
+    @Setup
+    public void setup() {
+        myCounter = new ScoreCounter();
+    }
+
+    /**
+     * Score a regular line clear, or a back-to-back Tetris.
+     * 
+     * @return The score.
+     */
+    @Benchmark
+    public long addLine() {
+        myCounter.addLine(myLines, false, false, false);
+        return myCounter.getScore();
+    }
+
+    /**
+     * Score a back-to-back full T-spin.
+     * 
+     * @return The score.
+     */
+    @Benchmark
+    public long addLineTSpin() {
+        myCounter.addLine(Math.min(myLines, 3), false, true, false);
+        return myCounter.getScore();
+    }
+
+}
@@ -0,0 +1,250 @@
+package com.tetris.bot;
+
+import java.util.List;
+
+import com.tetris.engine.GameEngine;
+import com.tetris.engine.Input;
+import com.tetris.engine.Player;
+import com.tetris.model.Board;
+import com.tetris.model.GameSpace;
+import com.tetris.model.Piece;
+import com.tetris.model.PieceGenerator;
+import com.tetris.model.TPiece;
+
+/**
+ * A player that tries every reachable placement of the current piece, and of the piece it would get by holding,
+ * and moves to the placement whose board the evaluator scores highest. Not thread-safe, use one player per game.
+ * 
+ * @author Jiameng Li
+ * @version 1.0
+ */
+public class AutoPlayer implements Player {
+
+    /** The evaluator that scores each placement. */
+    private final Evaluator myEvaluator;
+
+    /** The move generator that finds the placements. */
+    private final MoveGenerator myGenerator;
+
+    /** The move generator that finds the placements of the piece after holding. */
+    private final MoveGenerator myHoldGenerator;
+
+    /** The board each placement is tried on. */
+    private final Board myScratch;
+
+    /** Whether the last choice holds the current piece first. */
+    private boolean myHolding;
+
+    /** The score of the best placement found by the last search of a move generator. */
+    private double myBestScore;
+
+    /**
+     * Create a player that uses the default {@link LinearEvaluator}.
+     */
+    public AutoPlayer() {
+        this(new LinearEvaluator());
+    }
+
+    /**
+     * Create a player that uses the given evaluator.
+     * 
+     * @param theEvaluator The evaluator that scores each placement.
+     */
+    public AutoPlayer(final Evaluator theEvaluator) {
+        super();
+        myEvaluator = theEvaluator;
+        myGenerator = new MoveGenerator();
+        myHoldGenerator = new MoveGenerator();
+        myScratch = new Board();
+    }
+
+    /**
+     * {@inheritDoc}
+     * Hold first if the best placement is after holding, then follow the path to the best placement.
+     * Moving down by one row is done by a tick.
+     */
+    @Override
+    public void play(final GameEngine theEngine) {
+        final int best = choose(theEngine.getGameSpace());
+        if (best >= 0 && myHolding) {
+            theEngine.step(Input.HOLD);
+        }
+        if (best >= 0) {
+            final List<Input> path = getGenerator().getPath(best);
+            for (int i = 0; i < path.size() && theEngine.isPlaying(); i++) {
+                if (path.get(i) == Input.SOFT_DROP) {
+                    theEngine.tick();
+                } else {
+                    theEngine.step(path.get(i));
+                }
+            }
+        }
+    }
+
+    /**
+     * Find the best placement of the current piece of the given game space, or of the piece
+     * that becomes current after holding if that is better.
+     * 
+     * @param theSpace The game space.
+     * @return The index of the best placement in the move generator, -1 if there's no placement.
+     */
+    public int choose(final GameSpace theSpace) {
+        int best = findBest(theSpace.getBoard(), theSpace.getCurrentPiece(), myGenerator,
+                            myGenerator.generate(theSpace));
+        final double score = myBestScore;
+        myHolding = false;
+        final int count = generateHold(theSpace);
+        if (count > 0) {
+            final int held = getHoldPiece(theSpace);
+            final int hold = findBest(theSpace.getBoard(), theSpace.getPiece(PieceGenerator.getType(held)),
+                                      myHoldGenerator, count);
+            if (hold >= 0 && (best < 0 || myBestScore > score)) {
+                best = hold;
+                myHolding = true;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Find the placements of the piece that becomes current after holding, in the hold move generator.
+     * 
+     * @param theSpace The game space.
+     * @return The number of placements, 0 if the current piece can't be held.
+     */
+    int generateHold(final GameSpace theSpace) {
+        int count = 0;
+        if (theSpace.canHold()) {
+            final int held = getHoldPiece(theSpace);
+            count = myHoldGenerator.generate(theSpace.getBoard(), theSpace.getPiece(PieceGenerator.getType(held)),
+                                             PieceGenerator.getShape(held), GameSpace.START_ROW,
+                                             GameSpace.START_COLUMN);
+        }
+        return count;
+    }
+
+    /**
+     * Get the piece that becomes current after holding, which is the held piece or the next piece if none is held.
+     * 
+     * @param theSpace The game space.
+     * @return The piece packed by {@link PieceGenerator#pack(int, int)}.
+     */
+    private static int getHoldPiece(final GameSpace theSpace) {
+        return theSpace.getHold() == GameSpace.NO_HOLD ? theSpace.getPreview(0) : theSpace.getHold();
+    }
+
+    /**
+     * Find the placement whose board the evaluator scores highest and remember its score.
+     * 
+     * @param theBoard The board.
+     * @param thePiece The piece.
+     * @param theGenerator The move generator holding the placements.
+     * @param theCount The number of placements.
+     * @return The index of the best placement, -1 if every placement ends the game.
+     */
+    private int findBest(final Board theBoard, final Piece thePiece, final MoveGenerator theGenerator,
+                         final int theCount) {
+        int best = -1;
+        double bestScore = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < theCount; i++) {
+            final int placement = theGenerator.getPlacement(i);
+            myScratch.copyFrom(theBoard);
+            final int spin = getTSpin(myScratch, thePiece, placement);
+            final int lines = place(myScratch, thePiece, placement);
+            if (lines >= 0) {
+                final double score = myEvaluator.evaluate(myScratch, lines, spin);
+                if (best < 0 || score > bestScore) {
+                    best = i;
+                    bestScore = score;
+                }
+            }
+        }
+        myBestScore = bestScore;
+        return best;
+    }
+
+    /**
+     * Get the move generator, which holds the placements found by the last call to {@link #choose(GameSpace)}.
+     * After a choice that holds, this is the generator of the piece that becomes current after holding.
+     * 
+     * @return The move generator.
+     */
+    public MoveGenerator getGenerator() {
+        return myHolding ? myHoldGenerator : myGenerator;
+    }
+
+    /**
+     * Check whether the last call to {@link #choose(GameSpace)} holds the current piece first.
+     * 
+     * @return Whether the current piece is held first.
+     */
+    public boolean isHolding() {
+        return myHolding;
+    }
+
+    /**
+     * Set whether the current piece is held first, for subclasses that choose the placement themselves.
+     * 
+     * @param theHolding Whether the current piece is held first.
+     */
+    void setHolding(final boolean theHolding) {
+        myHolding = theHolding;
+    }
+
+    /**
+     * Get the type of T-spin a placement makes before it's placed on the board.
+     * 
+     * @param theBoard The board.
+     * @param thePiece The piece.
+     * @param thePlacement The placement found by {@link MoveGenerator}.
+     * @return The type of T-spin, 0 if none.
+     */
+    static int getTSpin(final Board theBoard, final Piece thePiece, final int thePlacement) {
+        int spin = 0;
+        if (thePiece instanceof TPiece && MoveGenerator.isRotated(thePlacement)) {
+            spin = TPiece.isTSpin(theBoard, MoveGenerator.getShape(thePlacement), 
+                                  MoveGenerator.getRow(thePlacement), MoveGenerator.getColumn(thePlacement));
+        }
+        return spin;
+    }
+
+    /**
+     * Place a piece on the board and remove the rows it fills, the same way the game space does.
+     * 
+     * @param theBoard The board.
+     * @param thePiece The piece.
+     * @param thePlacement The placement found by {@link MoveGenerator}.
+     * @return The number of lines cleared, or -1 if the piece reaches above the top and ends the game.
+     */
+    static int place(final Board theBoard, final Piece thePiece, final int thePlacement) {
+        final int size = thePiece.getSize();
+        final int shape = MoveGenerator.getShape(thePlacement);
+        final int row = MoveGenerator.getRow(thePlacement);
+        final int col = MoveGenerator.getColumn(thePlacement);
+        int lines = 0;
+        for (int i = size - 1, r = row; i > -1 && lines == 0; i--, r--) {
+            final int mask = thePiece.getMask(shape, i);
+            if (mask != 0 && r < 0) {
+                lines = -1;
+            }
+            for (int m = mask; m != 0 && lines == 0; m &= m - 1) {
+                theBoard.fill(r, col + Integer.numberOfTrailingZeros(m), (byte) 1);
+            }
+        }
+        if (lines == 0) {
+            int r = Math.min(row, Board.FLOOR - 1);
+            int top = row - size;
+            while (r > top && r > -1) {
+                if (theBoard.isFull(r)) {
+                    theBoard.removeRow(r);
+                    lines++;
+                    top++;
+                } else {
+                    r--;
+                }
+            }
+        }
+        return lines;
+    }
+
+}
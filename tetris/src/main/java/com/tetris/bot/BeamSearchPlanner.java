@@ -0,0 +1,642 @@
+package com.tetris.bot;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Supplier;
+
+import com.tetris.model.Board;
+import com.tetris.model.GameSpace;
+import com.tetris.model.Piece;
+import com.tetris.model.PieceGenerator;
+import com.tetris.model.Zobrist;
+
+/**
+ * Plan the placement of the current piece by a beam search over the current piece and the pieces in the preview.
+ * Each depth places one more piece. Holding is a branch like any placement: a board in the beam is expanded
+ * into the placements of the piece it has to place next and, if it may hold, the placements of the piece
+ * that becomes current after holding. Every board keeps its own hold and position in the preview.
+ * Every board in the beam is expanded into all its reachable placements,
+ * the children are scored by the evaluator with the lines and T-spins made along the way,
+ * and only the best children up to the width of the beam are kept for the next depth.
+ * The beam is split into tasks of a fork/join pool. Each worker thread has its own move generator,
+ * evaluator, and scratch board, and only the children that survive are copied into the boards of the beam,
+ * so the search allocates no board while it runs.
+ * Boards reached by placing the same pieces in a different order are transpositions: they have the same
+ * Zobrist hash, so their scores are shared through a {@link TranspositionTable} and only one of them
+ * is kept in the beam.
+ * A planner can be used by one game at a time.
+ * 
+ * @author Jiameng Li
+ * @version 1.0
+ */
+public class BeamSearchPlanner {
+
+    /** Number of boards in the beam expanded by a task without splitting further. */
+    private static final int NODES_PER_TASK = 2;
+
+    /** The flag set on a planned placement that is made after holding the current piece. */
+    public static final int HOLD = 1 << 30;
+
+    /** The source of a placement that places the held piece. */
+    private static final int HELD = -2;
+
+    /** The source of a placement that can't be made. */
+    private static final int NONE = -1;
+
+    /** The placement of a child that keeps the board of its parent because its path used up the preview. */
+    private static final int PASS = -1;
+
+    /** The number of entries of the default transposition table as a power of 2. */
+    private static final int TABLE_BITS = 16;
+
+    /** The kind of the counter of lines in the key of a board. */
+    private static final int LINES = 0;
+
+    /** The kind of the counter of T-spins in the key of a board. */
+    private static final int T_SPINS = 1;
+
+    /** The kind of the counter of pieces taken from the preview in the key of a board. */
+    private static final int QUEUE = 2;
+
+    /** Best children first. Ties are broken by the order they are found, so the result doesn't depend on threads. */
+    private static final Comparator<Candidate> BEST_FIRST = Comparator
+        .comparingDouble((Candidate c) -> -c.myScore)
+        .thenComparingInt(c -> c.myParent)
+        .thenComparingInt(c -> c.myPlacement)
+        .thenComparing(c -> c.myHolding);
+
+    /** The pool that expands the beam. */
+    private final ForkJoinPool myPool;
+
+    /** The move generator, evaluator, and scratch board of each worker thread. */
+    private final ThreadLocal<Worker> myWorkers;
+
+    /** The scores of the boards evaluated by earlier plans and tasks. */
+    private final TranspositionTable myTable;
+
+    /** The age of the current plan in the transposition table. */
+    private int myAge;
+
+    /** The maximum number of boards kept at each depth. */
+    private final int myWidth;
+
+    /** The maximum number of pieces placed along each path. */
+    private final int myDepth;
+
+    /** The time after which no deeper search is started in nanoseconds, 0 for no limit. */
+    private long myBudget;
+
+    /** The game space being planned for. */
+    private GameSpace mySpace;
+
+    /** The current piece followed by the preview, packed by {@link PieceGenerator#pack(int, int)}. */
+    private int[] mySequence;
+
+    /** Whether the current piece can be held. */
+    private boolean myRootCanHold;
+
+    /** The boards at the current depth. */
+    private Node[] myBeam;
+
+    /** The boards at the next depth. */
+    private Node[] myNext;
+
+    /** The number of boards evaluated by the last plan. */
+    private long myLastNodes;
+
+    /** The number of boards whose score was found in the transposition table by the last plan. */
+    private long myLastHits;
+
+    /** The time the last plan took in nanoseconds. */
+    private long myLastElapsed;
+
+    /** The depth the last plan reached. */
+    private int myLastDepth;
+
+    /**
+     * Create a planner that uses the common fork/join pool and the default {@link LinearEvaluator}.
+     * 
+     * @param theWidth The maximum number of boards kept at each depth.
+     * @param theDepth The maximum number of pieces placed along each path.
+     */
+    public BeamSearchPlanner(final int theWidth, final int theDepth) {
+        this(ForkJoinPool.commonPool(), LinearEvaluator::new, theWidth, theDepth);
+    }
+
+    /**
+     * Create a planner with a transposition table of the default size.
+     * 
+     * @param thePool The pool that expands the beam.
+     * @param theEvaluators Create an evaluator for each worker thread, which all score a board the same.
+     * @param theWidth The maximum number of boards kept at each depth.
+     * @param theDepth The maximum number of pieces placed along each path.
+     */
+    public BeamSearchPlanner(final ForkJoinPool thePool, final Supplier<? extends Evaluator> theEvaluators,
+                             final int theWidth, final int theDepth) {
+        this(thePool, theEvaluators, theWidth, theDepth, new TranspositionTable(TABLE_BITS));
+    }
+
+    /**
+     * Create a planner.
+     * 
+     * @param thePool The pool that expands the beam.
+     * @param theEvaluators Create an evaluator for each worker thread, which all score a board the same.
+     * @param theWidth The maximum number of boards kept at each depth.
+     * @param theDepth The maximum number of pieces placed along each path.
+     * @param theTable The transposition table, used by one planner only.
+     */
+    public BeamSearchPlanner(final ForkJoinPool thePool, final Supplier<? extends Evaluator> theEvaluators,
+                             final int theWidth, final int theDepth, final TranspositionTable theTable) {
+        super();
+        if (theWidth < 1 || theDepth < 1 || theDepth > TranspositionTable.MAX_DEPTH) {
+            throw new IllegalArgumentException("The width must be at least 1 and the depth between 1 and "
+                                               + TranspositionTable.MAX_DEPTH);
+        }
+        myPool = thePool;
+        myTable = theTable;
+        myAge = 0;
+        myWorkers = ThreadLocal.withInitial(() -> new Worker(theEvaluators.get()));
+        myWidth = theWidth;
+        myDepth = theDepth;
+        myBudget = 0;
+        mySequence = new int[0];
+        myBeam = new Node[theWidth];
+        myNext = new Node[theWidth];
+        for (int i = 0; i < theWidth; i++) {
+            myBeam[i] = new Node();
+            myNext[i] = new Node();
+        }
+    }
+
+    /**
+     * Set the time after which no deeper search is started. The depth being searched is always finished.
+     * 
+     * @param theBudget The time in nanoseconds, 0 for no limit.
+     */
+    public void setBudget(final long theBudget) {
+        myBudget = theBudget;
+    }
+
+    /**
+     * Find the placement of the current piece that leads to the best board after placing the current piece
+     * and as many pieces in the preview as the depth allows, holding wherever it helps.
+     * 
+     * @param theSpace The game space.
+     * @return The placement in the format of {@link MoveGenerator} with the {@link #HOLD} flag set
+     *         if the current piece is held first, -1 if no piece can be placed.
+     */
+    public int plan(final GameSpace theSpace) {
+        final long start = System.nanoTime();
+        final int length = theSpace.getPreviewLength() + 1;
+        if (mySequence.length != length) {
+            mySequence = new int[length];
+        }
+        mySequence[0] = theSpace.getCurrentSpawn();
+        for (int i = 1; i < length; i++) {
+            mySequence[i] = theSpace.getPreview(i - 1);
+        }
+        mySpace = theSpace;
+        myRootCanHold = theSpace.canHold();
+        final int depth = Math.min(myDepth, length);
+        myBeam[0].myBoard.copyFrom(theSpace.getBoard());
+        myBeam[0].myLines = 0;
+        myBeam[0].myTSpin = 0;
+        myBeam[0].myHold = theSpace.getHold();
+        myBeam[0].myQueue = 0;
+        myBeam[0].myRoot = -1;
+        myAge = TranspositionTable.nextAge(myAge);
+        int size = 1;
+        long nodes = 0;
+        long hits = 0;
+        int best = -1;
+        int d = 0;
+        myLastDepth = 0;
+        while (d < depth && size > 0 && (d == 0 || myBudget == 0 || System.nanoTime() - start < myBudget)) {
+            final Expansion expansion = myPool.invoke(new ExpandTask(d, 0, size));
+            nodes += expansion.myNodes;
+            hits += expansion.myHits;
+            final List<Candidate> children = expansion.myBest;
+            for (int i = 0; i < children.size(); i++) {
+                final Candidate child = children.get(i);
+                final Node parent = myBeam[child.myParent];
+                final Node node = myNext[i];
+                node.myBoard.copyFrom(parent.myBoard);
+                if (child.myPlacement == PASS) {
+                    node.myTSpin = parent.myTSpin;
+                    node.myLines = parent.myLines;
+                    node.myHold = parent.myHold;
+                    node.myQueue = parent.myQueue;
+                } else {
+                    final int source = getSource(parent, child.myHolding);
+                    final Piece piece = mySpace.getPiece(PieceGenerator.getType(getPiece(parent, source)));
+                    node.myTSpin = parent.myTSpin + AutoPlayer.getTSpin(node.myBoard, piece, child.myPlacement);
+                    node.myLines = parent.myLines + AutoPlayer.place(node.myBoard, piece, child.myPlacement);
+                    node.myHold = child.myHolding ? mySequence[parent.myQueue] : parent.myHold;
+                    node.myQueue = source == HELD ? parent.myQueue + 1 : source + 1;
+                }
+                node.myScore = child.myScore;
+                node.myKey = child.myKey;
+                node.myRoot = d > 0 ? parent.myRoot : child.myPlacement | (child.myHolding ? HOLD : 0);
+            }
+            size = children.size();
+            if (size > 0) {
+                best = myNext[0].myRoot;
+                myLastDepth = d + 1;
+            }
+            final Node[] beam = myBeam;
+            myBeam = myNext;
+            myNext = beam;
+            d++;
+        }
+        mySpace = null;
+        myLastNodes = nodes;
+        myLastHits = hits;
+        myLastElapsed = System.nanoTime() - start;
+        return best;
+    }
+
+    /**
+     * Find which piece a board places next, with or without holding.
+     * 
+     * @param theParent The board.
+     * @param theHolding Whether the piece to place is held first.
+     * @return The index of the piece in the sequence of the current piece and the preview,
+     *         {@link #HELD} for the held piece, or {@link #NONE} if there's no such piece.
+     */
+    private int getSource(final Node theParent, final boolean theHolding) {
+        final int queue = theParent.myQueue;
+        int source = NONE;
+        if (queue < mySequence.length && !theHolding) {
+            source = queue;
+        } else if (queue < mySequence.length && (queue > 0 || myRootCanHold)) {
+            if (theParent.myHold != GameSpace.NO_HOLD) {
+                source = HELD;
+            } else if (queue + 1 < mySequence.length) {
+                source = queue + 1;
+            }
+        }
+        return source;
+    }
+
+    /**
+     * Get the piece a board places from its source.
+     * 
+     * @param theParent The board.
+     * @param theSource The source found by {@link #getSource(Node, boolean)}.
+     * @return The type and shape the piece starts with, packed by {@link PieceGenerator#pack(int, int)}.
+     */
+    private int getPiece(final Node theParent, final int theSource) {
+        return theSource == HELD ? theParent.myHold : mySequence[theSource];
+    }
+
+    /**
+     * Get the number of boards evaluated by the last plan.
+     * 
+     * @return The number of boards.
+     */
+    public long getLastNodes() {
+        return myLastNodes;
+    }
+
+    /**
+     * Get the number of boards whose score was found in the transposition table by the last plan,
+     * instead of being evaluated again.
+     * 
+     * @return The number of boards.
+     */
+    public long getLastHits() {
+        return myLastHits;
+    }
+
+    /**
+     * Get the time the last plan took.
+     * 
+     * @return The time in nanoseconds.
+     */
+    public long getLastElapsed() {
+        return myLastElapsed;
+    }
+
+    /**
+     * Get the number of pieces placed along the paths of the last plan.
+     * 
+     * @return The depth the last plan reached, 0 if the current piece couldn't be placed.
+     */
+    public int getLastDepth() {
+        return myLastDepth;
+    }
+
+    /**
+     * Get the number of boards evaluated per second by the last plan.
+     * 
+     * @return The number of boards per second.
+     */
+    public double getNodesPerSecond() {
+        return myLastElapsed == 0 ? 0 : myLastNodes * 1e9 / myLastElapsed;
+    }
+
+    /**
+     * A board in the beam and the path that leads to it.
+     */
+    private static final class Node {
+
+        /** The board after placing the pieces along the path. */
+        private final Board myBoard = new Board();
+
+        /** The number of lines cleared along the path. */
+        private int myLines;
+
+        /** The sum of the types of T-spins made along the path. */
+        private int myTSpin;
+
+        /** The held piece, or {@link GameSpace#NO_HOLD}. */
+        private int myHold;
+
+        /** The index of the next piece to take from the sequence of the current piece and the preview. */
+        private int myQueue;
+
+        /** The placement of the current piece at the start of the path, with the {@link #HOLD} flag. */
+        private int myRoot;
+
+        /** The score of the board. */
+        private double myScore;
+
+        /** The Zobrist hash of the board with the lines and T-spins along the path, the hold and queue. */
+        private long myKey;
+
+    }
+
+    /**
+     * A child of a board in the beam that has been scored but not copied into the beam.
+     */
+    private static final class Candidate {
+
+        /** The score of the board after the placement. */
+        private final double myScore;
+
+        /** The index of the parent in the beam. */
+        private final int myParent;
+
+        /** The placement in the format of {@link MoveGenerator}. */
+        private final int myPlacement;
+
+        /** Whether the piece is held first. */
+        private final boolean myHolding;
+
+        /** The Zobrist hash of the board with the lines and T-spins along the path, the hold and the queue. */
+        private final long myKey;
+
+        /**
+         * Create a child.
+         * 
+         * @param theScore The score of the board after the placement.
+         * @param theParent The index of the parent in the beam.
+         * @param thePlacement The placement in the format of {@link MoveGenerator}.
+         * @param theHolding Whether the piece is held first.
+         * @param theKey The Zobrist hash of the board with the lines and T-spins along the path, the hold and queue.
+         */
+        Candidate(final double theScore, final int theParent, final int thePlacement, final boolean theHolding,
+                  final long theKey) {
+            super();
+            myScore = theScore;
+            myParent = theParent;
+            myPlacement = thePlacement;
+            myHolding = theHolding;
+            myKey = theKey;
+        }
+
+    }
+
+    /**
+     * The best children found by a task, and the number of boards it evaluated.
+     */
+    private static final class Expansion {
+
+        /** The best children, best first and no more than the width of the beam. */
+        private final List<Candidate> myBest;
+
+        /** The number of boards evaluated. */
+        private final long myNodes;
+
+        /** The number of boards whose score was found in the transposition table. */
+        private final long myHits;
+
+        /**
+         * Create the result of a task.
+         * 
+         * @param theBest The best children, best first.
+         * @param theNodes The number of boards evaluated.
+         * @param theHits The number of boards whose score was found in the transposition table.
+         */
+        Expansion(final List<Candidate> theBest, final long theNodes, final long theHits) {
+            super();
+            myBest = theBest;
+            myNodes = theNodes;
+            myHits = theHits;
+        }
+
+    }
+
+    /**
+     * The objects a worker thread reuses in every task.
+     */
+    private static final class Worker {
+
+        /** The move generator. */
+        private final MoveGenerator myGenerator = new MoveGenerator();
+
+        /** The board each placement is tried on. */
+        private final Board myScratch = new Board();
+
+        /** The evaluator. */
+        private final Evaluator myEvaluator;
+
+        /**
+         * Create a worker.
+         * 
+         * @param theEvaluator The evaluator.
+         */
+        Worker(final Evaluator theEvaluator) {
+            super();
+            myEvaluator = theEvaluator;
+        }
+
+    }
+
+    /**
+     * Task that expands a range of the beam, splitting the range when it is large.
+     */
+    private class ExpandTask extends RecursiveTask<Expansion> {
+
+        /** The serial version UID. */
+        private static final long serialVersionUID = 1L;
+
+        /** The depth being expanded, 0 for the current piece. */
+        private final int myDepthIndex;
+
+        /** The first board of the range, inclusive. */
+        private final int myFrom;
+
+        /** The last board of the range, exclusive. */
+        private final int myTo;
+
+        /**
+         * Create a task that expands a range of the beam.
+         * 
+         * @param theDepth The depth being expanded, 0 for the current piece.
+         * @param theFrom The first board of the range, inclusive.
+         * @param theTo The last board of the range, exclusive.
+         */
+        ExpandTask(final int theDepth, final int theFrom, final int theTo) {
+            super();
+            myDepthIndex = theDepth;
+            myFrom = theFrom;
+            myTo = theTo;
+        }
+
+        /**
+         * {@inheritDoc}
+         * Expand the boards directly or split the range in half and merge the best children of both halves.
+         */
+        @Override
+        protected Expansion compute() {
+            final Expansion result;
+            if (myTo - myFrom <= NODES_PER_TASK) {
+                result = expand();
+            } else {
+                final int mid = (myFrom + myTo) >>> 1;
+                final ExpandTask left = new ExpandTask(myDepthIndex, myFrom, mid);
+                left.fork();
+                final Expansion right = new ExpandTask(myDepthIndex, mid, myTo).compute();
+                final Expansion first = left.join();
+                final List<Candidate> best = new ArrayList<>(first.myBest.size() + right.myBest.size());
+                best.addAll(first.myBest);
+                best.addAll(right.myBest);
+                best.sort(BEST_FIRST);
+                result = new Expansion(unique(best), first.myNodes + right.myNodes, first.myHits + right.myHits);
+            }
+            return result;
+        }
+
+        /**
+         * Try every placement of the next piece, and of the piece after holding, on every board in the range
+         * and keep the best children.
+         * 
+         * @return The best children and the number of boards evaluated.
+         */
+        private Expansion expand() {
+            final Worker worker = myWorkers.get();
+            final PriorityQueue<Candidate> best = new PriorityQueue<>(myWidth + 1, BEST_FIRST.reversed());
+            long nodes = 0;
+            long hits = 0;
+            for (int p = myFrom; p < myTo; p++) {
+                final Node parent = myBeam[p];
+                // A path that held into an empty hold uses up the preview a piece early and keeps its board
+                if (parent.myQueue >= mySequence.length
+                    && (best.size() < myWidth || parent.myScore > best.peek().myScore)
+                    && !contains(best, parent.myKey)) {
+                    best.add(new Candidate(parent.myScore, p, PASS, false, parent.myKey));
+                    if (best.size() > myWidth) {
+                        best.poll();
+                    }
+                }
+                for (int h = 0; h < 2; h++) {
+                    final boolean holding = h == 1;
+                    final int source = getSource(parent, holding);
+                    if (source != NONE) {
+                        final int packed = getPiece(parent, source);
+                        final Piece piece = mySpace.getPiece(PieceGenerator.getType(packed));
+                        final int count;
+                        if (source == 0) {
+                            count = worker.myGenerator.generate(parent.myBoard, piece,
+                                                                mySpace.getCurrentShape(),
+                                                                mySpace.getCurrentRow(), mySpace.getCurrentColumn());
+                        } else {
+                            count = worker.myGenerator.generate(parent.myBoard, piece, PieceGenerator.getShape(packed),
+                                                                GameSpace.START_ROW, GameSpace.START_COLUMN);
+                        }
+                        final int hold = holding ? mySequence[parent.myQueue] : parent.myHold;
+                        final int queue = source == HELD ? parent.myQueue + 1 : source + 1;
+                        final long state = Zobrist.hold(hold, false) ^ Zobrist.counter(QUEUE, queue);
+                        for (int i = 0; i < count; i++) {
+                            final int placement = worker.myGenerator.getPlacement(i);
+                            worker.myScratch.copyFrom(parent.myBoard);
+                            final int spin = AutoPlayer.getTSpin(worker.myScratch, piece, placement);
+                            final int lines = AutoPlayer.place(worker.myScratch, piece, placement);
+                            if (lines >= 0) {
+                                nodes++;
+                                final long key = worker.myScratch.getHash() ^ state
+                                                 ^ Zobrist.counter(LINES, parent.myLines + lines)
+                                                 ^ Zobrist.counter(T_SPINS, parent.myTSpin + spin);
+                                final long cached = myTable.probe(key);
+                                // Scores are kept as floats, so a cached score equals one evaluated again
+                                final float score;
+                                if (cached == TranspositionTable.MISS) {
+                                    score = (float) worker.myEvaluator.evaluate(worker.myScratch,
+                                                                                parent.myLines + lines,
+                                                                                parent.myTSpin + spin);
+                                } else {
+                                    score = TranspositionTable.getScore(cached);
+                                    hits++;
+                                }
+                                myTable.store(key, TranspositionTable.pack(score, myDepthIndex, myAge));
+                                if ((best.size() < myWidth || score > best.peek().myScore) && !contains(best, key)) {
+                                    best.add(new Candidate(score, p, placement, holding, key));
+                                    if (best.size() > myWidth) {
+                                        best.poll();
+                                    }
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+            final List<Candidate> sorted = new ArrayList<>(best);
+            sorted.sort(BEST_FIRST);
+            return new Expansion(sorted, nodes, hits);
+        }
+
+        /**
+         * Check whether the given children contain a board with the given key.
+         * 
+         * @param theChildren The children.
+         * @param theKey The key of the board.
+         * @return Whether a child has the key.
+         */
+        private boolean contains(final Iterable<Candidate> theChildren, final long theKey) {
+            boolean found = false;
+            for (Candidate child : theChildren) {
+                found |= child.myKey == theKey;
+            }
+            return found;
+        }
+
+        /**
+         * Keep the first of the children with the same board and the best children up to the width of the beam.
+         * Children with the same board have the same score, so they are next to each other among equal scores.
+         * 
+         * @param theSorted The children, best first.
+         * @return The best unique children, best first.
+         */
+        private List<Candidate> unique(final List<Candidate> theSorted) {
+            final List<Candidate> unique = new ArrayList<>(Math.min(theSorted.size(), myWidth));
+            for (int i = 0; i < theSorted.size() && unique.size() < myWidth; i++) {
+                final Candidate child = theSorted.get(i);
+                boolean duplicate = false;
+                for (int j = unique.size() - 1; j > -1 && unique.get(j).myScore == child.myScore; j--) {
+                    duplicate |= unique.get(j).myKey == child.myKey;
+                }
+                if (!duplicate) {
+                    unique.add(child);
+                }
+            }
+            return unique;
+        }
+
+    }
+
+}
@@ -0,0 +1,55 @@
+package com.tetris.bot;
+
+import com.tetris.model.GameSpace;
+
+/**
+ * A player that moves the current piece to the placement planned by a {@link BeamSearchPlanner},
+ * which looks ahead at the pieces in the preview. Not thread-safe, use one player per game.
+ * 
+ * @author Jiameng Li
+ * @version 1.0
+ */
+public class BeamSearchPlayer extends AutoPlayer {
+
+    /** The planner that looks ahead at the preview. */
+    private final BeamSearchPlanner myPlanner;
+
+    /**
+     * Create a player that uses the given planner.
+     * 
+     * @param thePlanner The planner that looks ahead at the preview.
+     */
+    public BeamSearchPlayer(final BeamSearchPlanner thePlanner) {
+        super();
+        myPlanner = thePlanner;
+    }
+
+    /**
+     * {@inheritDoc}
+     * The placement is the one planned by the beam search, which decides whether to hold.
+     */
+    @Override
+    public int choose(final GameSpace theSpace) {
+        final int plan = myPlanner.plan(theSpace);
+        setHolding(plan >= 0 && (plan & BeamSearchPlanner.HOLD) != 0);
+        final int count = isHolding() ? generateHold(theSpace) : getGenerator().generate(theSpace);
+        final int placement = plan & ~BeamSearchPlanner.HOLD;
+        int best = -1;
+        for (int i = 0; i < count && plan >= 0 && best < 0; i++) {
+            if (getGenerator().getPlacement(i) == placement) {
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Get the planner.
+     * 
+     * @return The planner that looks ahead at the preview.
+     */
+    public BeamSearchPlanner getPlanner() {
+        return myPlanner;
+    }
+
+}
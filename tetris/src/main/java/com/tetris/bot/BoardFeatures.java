@@ -0,0 +1,134 @@
+package com.tetris.bot;
+
+import com.tetris.model.Board;
+
+/**
+ * Features of a board used to evaluate placements. Every feature is computed in a single pass
+ * from the top row down using the row masks of the board and bit counts, without looking at single cells.
+ * 
+ * @author Jiameng Li
+ * @version 1.0
+ */
+public final class BoardFeatures {
+
+    /** Index of the sum of the heights of all columns. */
+    public static final int AGGREGATE_HEIGHT = 0;
+
+    /** Index of the height of the highest column. */
+    public static final int MAX_HEIGHT = 1;
+
+    /** Index of the number of empty cells with an occupied cell somewhere above them. */
+    public static final int HOLES = 2;
+
+    /** Index of the sum of the height differences between neighbouring columns. */
+    public static final int BUMPINESS = 3;
+
+    /** Index of the number of changes between empty and occupied cells along each row, walls count as occupied. */
+    public static final int ROW_TRANSITIONS = 4;
+
+    /** Index of the number of changes between empty and occupied cells down each column, the floor counts. */
+    public static final int COLUMN_TRANSITIONS = 5;
+
+    /** Index of the sum of the depths of wells, open cells whose both neighbours are occupied, up to 4 rows deep. */
+    public static final int WELLS = 6;
+
+    /** Index of the number of slots where a T-piece pointing down would make a full T-spin. */
+    public static final int T_SLOTS = 7;
+
+    /** The number of features. */
+    public static final int COUNT = 8;
+
+    /** The columns inside the walls. */
+    private static final int INSIDE = ~Board.WALL_ROW;
+
+    /** The columns inside the walls that have a column inside the walls on their right. */
+    private static final int PAIRS = INSIDE & INSIDE >>> 1;
+
+    /** The columns from the left wall to the last column inside the walls, each compared to its right side. */
+    private static final int EDGES = INSIDE | 1 << Board.LEFT - 1;
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private BoardFeatures() {
+        super();
+    }
+
+    /**
+     * Compute every feature of the board.
+     * 
+     * @param theBoard The board.
+     * @param theFeatures The array the features are written to, indexed by the constants of this class.
+     */
+    public static void compute(final Board theBoard, final int[] theFeatures) {
+        int aggregate = 0;
+        int maxHeight = 0;
+        int holes = 0;
+        int bumpiness = 0;
+        int rowTransitions = 0;
+        int columnTransitions = 0;
+        int wells = 0;
+        int slots = 0;
+        // Columns with an occupied cell in this row or above
+        int covered = 0;
+        // Wells that have continued for at least 1, 2, 3 and 4 rows
+        int well1 = 0;
+        int well2 = 0;
+        int well3 = 0;
+        int well4 = 0;
+        int above = Board.WALL_ROW;
+        int twoAbove = Board.WALL_ROW;
+        for (int r = 0; r < Board.FLOOR; r++) {
+            final int row = theBoard.getRow(r);
+            holes += Integer.bitCount(~row & covered & INSIDE);
+            covered |= row & INSIDE;
+            if (covered != 0 && maxHeight == 0) {
+                maxHeight = Board.FLOOR - r;
+            }
+            // Every covered column adds one to its height for each row down to the floor
+            aggregate += Integer.bitCount(covered);
+            bumpiness += Integer.bitCount((covered ^ covered >>> 1) & PAIRS);
+            rowTransitions += Integer.bitCount((row ^ row >>> 1) & EDGES);
+            columnTransitions += Integer.bitCount((row ^ above) & INSIDE);
+            // An open well cell adds one for each row the well has continued
+            final int well = ~row & row << 1 & row >>> 1 & ~covered & INSIDE;
+            well4 = well & (well3 | well4);
+            well3 = well & well2;
+            well2 = well & well1;
+            well1 = well;
+            wells += Integer.bitCount(well1) + Integer.bitCount(well2) + Integer.bitCount(well3) 
+                     + Integer.bitCount(well4);
+            slots += Integer.bitCount(tSlots(twoAbove, above, row));
+            twoAbove = above;
+            above = row;
+        }
+        columnTransitions += Integer.bitCount(~above & INSIDE);
+        theFeatures[AGGREGATE_HEIGHT] = aggregate;
+        theFeatures[MAX_HEIGHT] = maxHeight;
+        theFeatures[HOLES] = holes;
+        theFeatures[BUMPINESS] = bumpiness;
+        theFeatures[ROW_TRANSITIONS] = rowTransitions;
+        theFeatures[COLUMN_TRANSITIONS] = columnTransitions;
+        theFeatures[WELLS] = wells;
+        theFeatures[T_SLOTS] = slots;
+    }
+
+    /**
+     * Find the slots where a T-piece pointing down fits in the given three rows and makes a full T-spin.
+     * This is the corner rule of {@link com.tetris.model.TPiece#isTSpin(Board, int, int, int)} for the shape pointing 
+     * down: both bottom corners are occupied, which are the corners it faces, and at least one top corner is too.
+     * The cell above the stem is empty so the piece can be rotated in.
+     * 
+     * @param theTop The top row of the slot.
+     * @param theMiddle The middle row, where the flat side of the piece goes.
+     * @param theBottom The bottom row, where the stem of the piece goes.
+     * @return The mask where bit n is set when the slot starts at column n.
+     */
+    private static int tSlots(final int theTop, final int theMiddle, final int theBottom) {
+        final int bottom = theBottom & theBottom >>> 2 & ~(theBottom >>> 1);
+        final int middle = ~theMiddle & ~(theMiddle >>> 1) & ~(theMiddle >>> 2);
+        final int top = (theTop | theTop >>> 2) & ~(theTop >>> 1);
+        return bottom & middle & top & INSIDE;
+    }
+
+}
@@ -0,0 +1,25 @@
+package com.tetris.bot;
+
+import com.tetris.model.Board;
+
+/**
+ * Score how good a board is after a piece is placed, higher is better.
+ * Implementations are used by {@link AutoPlayer} to choose among every reachable placement,
+ * so they should be fast and must not change the board.
+ * 
+ * @author Jiameng Li
+ * @version 1.0
+ */
+public interface Evaluator {
+
+    /**
+     * Score the board after a piece is placed and full rows are removed.
+     * 
+     * @param theBoard The board.
+     * @param theLines The number of lines cleared by the placement.
+     * @param theTSpin The type of T-spin of the placement, 0 if none, see {@link com.tetris.model.TPiece}.
+     * @return The score of the board, higher is better.
+     */
+    public double evaluate(Board theBoard, int theLines, int theTSpin);
+
+}
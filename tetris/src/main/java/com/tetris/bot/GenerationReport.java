@@ -0,0 +1,152 @@
+package com.tetris.bot;
+
+/**
+ * The result of one generation of a {@link WeightTuner}: how fit the candidates were and how fast
+ * their games were played.
+ * 
+ * @author Jiameng Li
+ * @version 1.0
+ */
+public class GenerationReport {
+
+    /** The index of the generation, starting from 0. */
+    private final int myGeneration;
+
+    /** The fitness of each candidate, in the order of the population. */
+    private final double[] myFitness;
+
+    /** The weights of the fittest candidate. */
+    private final double[] myBest;
+
+    /** The number of games played. */
+    private final int myGames;
+
+    /** The number of pieces placed in all games. */
+    private final long myPieces;
+
+    /** The time the generation took in nanoseconds. */
+    private final long myElapsed;
+
+    /**
+     * Create a report of a generation.
+     * 
+     * @param theGeneration The index of the generation, starting from 0.
+     * @param theFitness The fitness of each candidate, in the order of the population.
+     * @param theBest The weights of the fittest candidate.
+     * @param theGames The number of games played.
+     * @param thePieces The number of pieces placed in all games.
+     * @param theElapsed The time the generation took in nanoseconds.
+     */
+    public GenerationReport(final int theGeneration, final double[] theFitness, final double[] theBest,
+                            final int theGames, final long thePieces, final long theElapsed) {
+        super();
+        myGeneration = theGeneration;
+        myFitness = theFitness.clone();
+        myBest = theBest.clone();
+        myGames = theGames;
+        myPieces = thePieces;
+        myElapsed = theElapsed;
+    }
+
+    /**
+     * Get the index of the generation.
+     * 
+     * @return The index of the generation, starting from 0.
+     */
+    public int getGeneration() {
+        return myGeneration;
+    }
+
+    /**
+     * Get the weights of the fittest candidate.
+     * 
+     * @return A copy of the weights.
+     */
+    public double[] getBestWeights() {
+        return myBest.clone();
+    }
+
+    /**
+     * Get the fitness of the fittest candidate.
+     * 
+     * @return The best fitness.
+     */
+    public double getBestFitness() {
+        double best = Double.NEGATIVE_INFINITY;
+        for (double f : myFitness) {
+            best = Math.max(best, f);
+        }
+        return best;
+    }
+
+    /**
+     * Get the mean fitness of all candidates.
+     * 
+     * @return The mean fitness.
+     */
+    public double getMeanFitness() {
+        double sum = 0;
+        for (double f : myFitness) {
+            sum += f;
+        }
+        return myFitness.length == 0 ? 0 : sum / myFitness.length;
+    }
+
+    /**
+     * Get the number of games played.
+     * 
+     * @return The number of games.
+     */
+    public int getGames() {
+        return myGames;
+    }
+
+    /**
+     * Get the time the generation took.
+     * 
+     * @return The time in nanoseconds.
+     */
+    public long getElapsedNanos() {
+        return myElapsed;
+    }
+
+    /**
+     * Get the number of games played per second.
+     * 
+     * @return The number of games per second.
+     */
+    public double getGamesPerSecond() {
+        return myElapsed == 0 ? 0 : myGames * 1e9 / myElapsed;
+    }
+
+    /**
+     * Get the number of pieces placed per second.
+     * 
+     * @return The number of pieces per second.
+     */
+    public double getPiecesPerSecond() {
+        return myElapsed == 0 ? 0 : myPieces * 1e9 / myElapsed;
+    }
+
+    /**
+     * Get the number of generations per hour at the speed of this generation.
+     * 
+     * @return The number of generations per hour.
+     */
+    public double getGenerationsPerHour() {
+        return myElapsed == 0 ? 0 : 3600e9 / myElapsed;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Summarize the fitness and throughput.
+     */
+    @Override
+    public String toString() {
+        return String.format("generation %d: best %.2f, mean %.2f; %d games, %d pieces in %.3f s "
+                             + "(%.1f games/s, %.1f pieces/s, %.1f generations/h)",
+                             myGeneration, getBestFitness(), getMeanFitness(), myGames, myPieces, myElapsed / 1e9,
+                             getGamesPerSecond(), getPiecesPerSecond(), getGenerationsPerHour());
+    }
+
+}
@@ -0,0 +1,96 @@
+package com.tetris.bot;
+
+import com.tetris.model.Board;
+
+/**
+ * Evaluator that scores a board by a weighted sum of the lines cleared, the T-spin
+ * and the {@link BoardFeatures} of the board.
+ * 
+ * @author Jiameng Li
+ * @version 1.0
+ */
+public class LinearEvaluator implements Evaluator {
+
+    /** Index of the weight of the number of lines cleared. */
+    public static final int LINES = BoardFeatures.COUNT;
+
+    /** Index of the weight of the type of T-spin. */
+    public static final int T_SPIN = BoardFeatures.COUNT + 1;
+
+    /** The number of weights. */
+    public static final int WEIGHTS = BoardFeatures.COUNT + 2;
+
+    /** The default weights, indexed by the constants of {@link BoardFeatures} and this class. */
+    private static final double[] DEFAULT_WEIGHTS = {
+        -0.5,   // Aggregate height
+        -1.0,   // Max height
+        -7.9,   // Holes
+        -0.2,   // Bumpiness
+        -3.2,   // Row transitions
+        -9.3,   // Column transitions
+        -3.4,   // Wells
+        1.0,    // T slots
+        3.4,    // Lines
+        4.0     // T-spin
+    };
+
+    /** The weights, indexed by the constants of {@link BoardFeatures} and this class. */
+    private final double[] myWeights;
+
+    /** The features of the board being evaluated. */
+    private final int[] myFeatures;
+
+    /**
+     * Create an evaluator with the default weights.
+     */
+    public LinearEvaluator() {
+        this(DEFAULT_WEIGHTS);
+    }
+
+    /**
+     * Create an evaluator with the given weights.
+     * 
+     * @param theWeights The weights, indexed by the constants of {@link BoardFeatures} and this class.
+     */
+    public LinearEvaluator(final double[] theWeights) {
+        super();
+        if (theWeights.length != WEIGHTS) {
+            throw new IllegalArgumentException("Expected " + WEIGHTS + " weights but got " + theWeights.length);
+        }
+        myWeights = theWeights.clone();
+        myFeatures = new int[BoardFeatures.COUNT];
+    }
+
+    /**
+     * Get a copy of the default weights.
+     * 
+     * @return The default weights.
+     */
+    public static double[] getDefaultWeights() {
+        return DEFAULT_WEIGHTS.clone();
+    }
+
+    /**
+     * Get a copy of the weights.
+     * 
+     * @return The weights.
+     */
+    public double[] getWeights() {
+        return myWeights.clone();
+    }
+
+    /**
+     * {@inheritDoc}
+     * Not thread-safe, the features are computed into a buffer owned by the evaluator.
+     */
+    @Override
+    public double evaluate(final Board theBoard, final int theLines, final int theTSpin) {
+        BoardFeatures.compute(theBoard, myFeatures);
+        double score = myWeights[LINES] * theLines + myWeights[T_SPIN] * theTSpin;
+        for (int i = 0; i < BoardFeatures.COUNT; i++) {
+            score += myWeights[i] * myFeatures[i];
+        }
+        return score;
+    }
+
+}
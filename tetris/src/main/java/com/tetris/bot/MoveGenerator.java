@@ -0,0 +1,382 @@
+package com.tetris.bot;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.tetris.engine.Input;
+import com.tetris.model.Board;
+import com.tetris.model.GameSpace;
+import com.tetris.model.Piece;
+import com.tetris.model.TPiece;
+
+/**
+ * Find every placement of a piece that can be reached from where it is by shifting, 
+ * soft dropping and rotating with wall kicks, including tucks and T-spin insertions.
+ * 
+ * <p>The search is a breadth-first search over (shape, row, column, whether the last move was a rotation),
+ * where the last move is only tracked for the T-piece since it only matters for T-spins.
+ * All buffers are kept between calls, so searching does not create any object once the generator is warmed up.
+ * Placements that occupy exactly the same cells as an earlier one, such as the two horizontal shapes of the
+ * S-piece, are only reported once. Not thread-safe, use one generator per thread.
+ * 
+ * @author Jiameng Li
+ * @version 1.0
+ */
+public class MoveGenerator {
+
+    /** The lowest row of a piece the search considers. */
+    private static final int MIN_ROW = -4;
+
+    /** The number of rows of a piece the search considers, the empty bottom rows of a shape may be below the floor. */
+    private static final int ROWS = Board.FLOOR + 4 - MIN_ROW;
+
+    /** The lowest column of a piece the search considers. */
+    private static final int MIN_COL = -2;
+
+    /** The number of columns of a piece the search considers. */
+    private static final int COLUMNS = Board.COLUMNS - MIN_COL;
+
+    /** The maximum number of shapes of a piece. */
+    private static final int SHAPES = 4;
+
+    /** The number of positions of a piece, each with and without a rotation as the last move. */
+    private static final int STATES = SHAPES * ROWS * COLUMNS * 2;
+
+    /** The moves recorded in paths, SOFT_DROP stands for moving down by one row. */
+    private static final Input[] MOVES = {Input.SHIFT_LEFT, Input.SHIFT_RIGHT, Input.SOFT_DROP, 
+                                          Input.ROTATE_CLOCKWISE, Input.ROTATE_COUNTERCLOCKWISE};
+
+    /** The states visited by the current search. */
+    private final long[] myVisited;
+
+    /** The placements reported by the current search, indexed by the cells they occupy. */
+    private final long[] myReported;
+
+    /** The queue of the breadth-first search, every state is added at most once. */
+    private final int[] myQueue;
+
+    /** The state each visited state is reached from, -1 for the start. */
+    private final int[] myParents;
+
+    /** The index in {@link #MOVES} of the move that reaches each visited state. */
+    private final byte[] myMoves;
+
+    /** The placements found by the last search. */
+    private final int[] myPlacements;
+
+    /** The number of placements found by the last search. */
+    private int myCount;
+
+    /** The symmetry of the shapes of each piece seen so far, see {@link #createSymmetry(Piece)}. */
+    private final Map<Piece, int[]> mySymmetries;
+
+    /**
+     * Create a move generator.
+     */
+    public MoveGenerator() {
+        super();
+        myVisited = new long[(STATES + 63) / 64];
+        myReported = new long[(STATES + 63) / 64];
+        myQueue = new int[STATES];
+        myParents = new int[STATES];
+        myMoves = new byte[STATES];
+        myPlacements = new int[STATES];
+        mySymmetries = new IdentityHashMap<>();
+    }
+
+    /**
+     * Find every placement of the current piece of the given game space.
+     * 
+     * @param theSpace The game space.
+     * @return The number of placements found.
+     */
+    public int generate(final GameSpace theSpace) {
+        final Piece piece = theSpace.getCurrentPiece();
+        return generate(theSpace.getBoard(), piece, theSpace.getCurrentShape(), 
+                        theSpace.getCurrentRow(), theSpace.getCurrentColumn());
+    }
+
+    /**
+     * Find every placement of the given piece on the given board, starting from the given shape and position.
+     * 
+     * @param theBoard The board.
+     * @param thePiece The piece.
+     * @param theShape The index of the shape to start from.
+     * @param theRow The row of the bottom left corner of the piece to start from.
+     * @param theCol The column of the bottom left corner of the piece to start from.
+     * @return The number of placements found, 0 if the piece doesn't fit where it starts.
+     */
+    public int generate(final Board theBoard, final Piece thePiece, final int theShape, 
+                        final int theRow, final int theCol) {
+        Arrays.fill(myVisited, 0);
+        Arrays.fill(myReported, 0);
+        myCount = 0;
+        final int[] symmetry = mySymmetries.computeIfAbsent(thePiece, MoveGenerator::createSymmetry);
+        final boolean keepRotated = thePiece instanceof TPiece;
+        int head = 0;
+        int tail = 0;
+        if (inRange(theRow, theCol) && thePiece.fits(theBoard, theShape, theRow, theCol)) {
+            final int start = pack(theShape, theRow, theCol, false);
+            visit(start, -1, 0);
+            myQueue[tail++] = start;
+        }
+        while (head < tail) {
+            final int state = myQueue[head++];
+            final int shape = getShape(state);
+            final int row = getRow(state);
+            final int col = getColumn(state);
+            // Shift left and right
+            tail = tryMove(theBoard, thePiece, state, shape, row, col - 1, 0, tail);
+            tail = tryMove(theBoard, thePiece, state, shape, row, col + 1, 1, tail);
+            // Soft drop, or rest here when the piece can't move down
+            if (thePiece.fits(theBoard, shape, row + 1, col)) {
+                final int below = pack(shape, row + 1, col, false);
+                if (!isVisited(below)) {
+                    visit(below, state, 2);
+                    myQueue[tail++] = below;
+                }
+            } else {
+                report(state, symmetry);
+            }
+            // Rotate both ways with wall kicks
+            for (int m = 3; m < MOVES.length; m++) {
+                final int rotation = thePiece.findRotation(theBoard, shape, row, col, m == 3);
+                if (rotation != Piece.ROTATION_FAILED) {
+                    final int targetRow = row + Piece.getRotationRow(rotation);
+                    final int targetCol = col + Piece.getRotationColumn(rotation);
+                    if (inRange(targetRow, targetCol)) {
+                        final int target = pack(Piece.getRotationShape(rotation), targetRow, targetCol, keepRotated);
+                        if (!isVisited(target)) {
+                            visit(target, state, m);
+                            myQueue[tail++] = target;
+                        }
+                    }
+                }
+            }
+        }
+        return myCount;
+    }
+
+    /**
+     * Get the number of placements found by the last search.
+     * 
+     * @return The number of placements.
+     */
+    public int getCount() {
+        return myCount;
+    }
+
+    /**
+     * Get a placement found by the last search.
+     * 
+     * @param theIndex The index of the placement.
+     * @return The placement, read with {@link #getShape(int)}, {@link #getRow(int)}, {@link #getColumn(int)} 
+     *         and {@link #isRotated(int)}.
+     */
+    public int getPlacement(final int theIndex) {
+        return myPlacements[theIndex];
+    }
+
+    /**
+     * Get the moves that bring the piece from where the last search started to the given placement.
+     * {@link Input#SOFT_DROP} stands for moving down by one row.
+     * 
+     * @param theIndex The index of the placement.
+     * @return The moves in order.
+     */
+    public List<Input> getPath(final int theIndex) {
+        final List<Input> path = new ArrayList<>();
+        for (int s = myPlacements[theIndex]; myParents[s] != -1; s = myParents[s]) {
+            path.add(MOVES[myMoves[s]]);
+        }
+        Collections.reverse(path);
+        return path;
+    }
+
+    /**
+     * Get the index of the shape of a placement.
+     * 
+     * @param thePlacement The placement.
+     * @return The index of the shape.
+     */
+    public static int getShape(final int thePlacement) {
+        return thePlacement >>> 1 & (SHAPES - 1);
+    }
+
+    /**
+     * Get the row of the bottom left corner of a placement.
+     * 
+     * @param thePlacement The placement.
+     * @return The row.
+     */
+    public static int getRow(final int thePlacement) {
+        return (thePlacement >>> 3) / COLUMNS + MIN_ROW;
+    }
+
+    /**
+     * Get the column of the bottom left corner of a placement.
+     * 
+     * @param thePlacement The placement.
+     * @return The column.
+     */
+    public static int getColumn(final int thePlacement) {
+        return (thePlacement >>> 3) % COLUMNS + MIN_COL;
+    }
+
+    /**
+     * Check whether the last move to a placement is a rotation, which matters for T-spins.
+     * Only tracked for the T-piece, placements of other pieces are never marked as rotated.
+     * 
+     * @param thePlacement The placement.
+     * @return Whether the last move is a rotation.
+     */
+    public static boolean isRotated(final int thePlacement) {
+        return (thePlacement & 1) != 0;
+    }
+
+    /**
+     * Pack a state of the search into an int that is also its index in the buffers.
+     * 
+     * @param theShape The index of the shape.
+     * @param theRow The row of the bottom left corner of the piece.
+     * @param theCol The column of the bottom left corner of the piece.
+     * @param theRotated Whether the last move is a rotation.
+     * @return The packed state.
+     */
+    private static int pack(final int theShape, final int theRow, final int theCol, final boolean theRotated) {
+        return ((theRow - MIN_ROW) * COLUMNS + theCol - MIN_COL) << 3 | theShape << 1 | (theRotated ? 1 : 0);
+    }
+
+    /**
+     * Check whether a position is inside the area the search considers.
+     * 
+     * @param theRow The row of the bottom left corner of the piece.
+     * @param theCol The column of the bottom left corner of the piece.
+     * @return Whether the position is inside the area.
+     */
+    private static boolean inRange(final int theRow, final int theCol) {
+        return theRow >= MIN_ROW && theRow < MIN_ROW + ROWS && theCol >= MIN_COL && theCol < MIN_COL + COLUMNS;
+    }
+
+    /**
+     * Add the state reached by a shift to the queue if the piece fits and it's not visited.
+     * 
+     * @param theBoard The board.
+     * @param thePiece The piece.
+     * @param theFrom The state the move starts from.
+     * @param theShape The index of the shape.
+     * @param theRow The row after the move.
+     * @param theCol The column after the move.
+     * @param theMove The index of the move in {@link #MOVES}.
+     * @param theTail The end of the queue.
+     * @return The new end of the queue.
+     */
+    private int tryMove(final Board theBoard, final Piece thePiece, final int theFrom, final int theShape, 
+                        final int theRow, final int theCol, final int theMove, final int theTail) {
+        int tail = theTail;
+        if (inRange(theRow, theCol)) {
+            final int state = pack(theShape, theRow, theCol, false);
+            if (!isVisited(state) && thePiece.fits(theBoard, theShape, theRow, theCol)) {
+                visit(state, theFrom, theMove);
+                myQueue[tail++] = state;
+            }
+        }
+        return tail;
+    }
+
+    /**
+     * Check whether a state is visited by the current search.
+     * 
+     * @param theState The state.
+     * @return Whether the state is visited.
+     */
+    private boolean isVisited(final int theState) {
+        return (myVisited[theState >>> 6] & 1L << theState) != 0;
+    }
+
+    /**
+     * Mark a state as visited and remember how it's reached.
+     * 
+     * @param theState The state.
+     * @param theParent The state it's reached from.
+     * @param theMove The index of the move in {@link #MOVES}.
+     */
+    private void visit(final int theState, final int theParent, final int theMove) {
+        myVisited[theState >>> 6] |= 1L << theState;
+        myParents[theState] = theParent;
+        myMoves[theState] = (byte) theMove;
+    }
+
+    /**
+     * Report a placement unless another placement that occupies the same cells is already reported.
+     * 
+     * @param theState The state where the piece rests.
+     * @param theSymmetry The symmetry of the shapes of the piece.
+     */
+    private void report(final int theState, final int[] theSymmetry) {
+        final int shape = getShape(theState);
+        final int canonical = theSymmetry[shape];
+        final int row = getRow(theState) + (byte) (canonical >> 8);
+        final int col = getColumn(theState) + (byte) (canonical >> 16);
+        final int key = pack(canonical & 0xFF, row, col, isRotated(theState));
+        if (inRange(row, col) && (myReported[key >>> 6] & 1L << key) == 0) {
+            myReported[key >>> 6] |= 1L << key;
+            myPlacements[myCount++] = theState;
+        }
+    }
+
+    /**
+     * Find, for every shape of the piece, the first shape that occupies the same cells when moved,
+     * packed as the index of that shape, then the rows and columns to move as signed bytes.
+     * 
+     * @param thePiece The piece.
+     * @return The symmetry of the shapes indexed by shape.
+     */
+    private static int[] createSymmetry(final Piece thePiece) {
+        final int[] symmetry = new int[SHAPES];
+        final int size = thePiece.getSize();
+        for (int s = 0; s < thePiece.getShapeCount(); s++) {
+            symmetry[s] = s;
+            boolean found = false;
+            for (int t = 0; t < s && !found; t++) {
+                for (int dr = -size; dr <= size && !found; dr++) {
+                    for (int dc = -size; dc <= size && !found; dc++) {
+                        if (sameCells(thePiece, s, t, dr, dc)) {
+                            symmetry[s] = t | (dr & 0xFF) << 8 | (dc & 0xFF) << 16;
+                            found = true;
+                        }
+                    }
+                }
+            }
+        }
+        return symmetry;
+    }
+
+    /**
+     * Check whether shape s at some position occupies the same cells as shape t moved by the given rows and columns.
+     * 
+     * @param thePiece The piece.
+     * @param theS The index of the first shape.
+     * @param theT The index of the second shape.
+     * @param theRow The number of rows shape t is moved.
+     * @param theCol The number of columns shape t is moved.
+     * @return Whether they occupy the same cells.
+     */
+    private static boolean sameCells(final Piece thePiece, final int theS, final int theT, 
+                                     final int theRow, final int theCol) {
+        final int size = thePiece.getSize();
+        boolean same = true;
+        for (int r = -size; r < 2 * size && same; r++) {
+            final int maskS = r >= 0 && r < size ? thePiece.getMask(theS, r) << size : 0;
+            final int rowT = r - theRow;
+            final int maskT = rowT >= 0 && rowT < size ? thePiece.getMask(theT, rowT) << size + theCol : 0;
+            same = maskS == maskT;
+        }
+        return same;
+    }
+
+}
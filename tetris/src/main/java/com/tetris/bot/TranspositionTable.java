@@ -0,0 +1,151 @@
+package com.tetris.bot;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+
+/**
+ * A fixed-size table that remembers what a search found about a state, keyed by the Zobrist hash of the state.
+ * Each key maps to a single slot. A slot is two longs, the key xor the value and the value itself,
+ * so any number of threads can probe and store without locks: a slot torn by two threads storing at
+ * the same time no longer matches either key and reads as a miss.
+ * Values pack a score with the depth it was found at and the age of the search that found it.
+ * An entry from an older search is always replaced, and an entry from the same search is replaced
+ * by an entry at least as deep.
+ * 
+ * @author Jiameng Li
+ * @version 1.0
+ */
+public class TranspositionTable {
+
+    /** The value of a probe that doesn't find the key. No stored value is 0 because ages start from 1. */
+    public static final long MISS = 0;
+
+    /** The oldest age before ages start from 1 again. */
+    public static final int MAX_AGE = 0xFF;
+
+    /** The maximum depth of an entry. */
+    public static final int MAX_DEPTH = 0xFF;
+
+    /** Access to the slots that never tears a long. */
+    private static final VarHandle SLOTS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    /** The slots, two longs for each entry. */
+    private final long[] mySlots;
+
+    /** The mask that turns a key into the index of an entry. */
+    private final int myMask;
+
+    /**
+     * Create a table with the given number of entries.
+     * 
+     * @param theBits The number of entries as a power of 2.
+     */
+    public TranspositionTable(final int theBits) {
+        super();
+        if (theBits < 0 || theBits > 28) {
+            throw new IllegalArgumentException("The table must have between 2^0 and 2^28 entries");
+        }
+        mySlots = new long[2 << theBits];
+        myMask = (1 << theBits) - 1;
+    }
+
+    /**
+     * Pack a score, a depth, and an age into a value.
+     * 
+     * @param theScore The score.
+     * @param theDepth The depth the score was found at, between 0 and {@link #MAX_DEPTH}.
+     * @param theAge The age of the search, between 1 and {@link #MAX_AGE}.
+     * @return The packed value.
+     */
+    public static long pack(final float theScore, final int theDepth, final int theAge) {
+        return Float.floatToRawIntBits(theScore) & 0xFFFFFFFFL | (long) theDepth << 32 | (long) theAge << 40;
+    }
+
+    /**
+     * Get the score from a packed value.
+     * 
+     * @param theValue The packed value.
+     * @return The score.
+     */
+    public static float getScore(final long theValue) {
+        return Float.intBitsToFloat((int) theValue);
+    }
+
+    /**
+     * Get the depth from a packed value.
+     * 
+     * @param theValue The packed value.
+     * @return The depth.
+     */
+    public static int getDepth(final long theValue) {
+        return (int) (theValue >>> 32) & MAX_DEPTH;
+    }
+
+    /**
+     * Get the age from a packed value.
+     * 
+     * @param theValue The packed value.
+     * @return The age.
+     */
+    public static int getAge(final long theValue) {
+        return (int) (theValue >>> 40) & MAX_AGE;
+    }
+
+    /**
+     * Get the age that follows the given age, wrapping from {@link #MAX_AGE} back to 1.
+     * 
+     * @param theAge The age, 0 for the first search.
+     * @return The next age.
+     */
+    public static int nextAge(final int theAge) {
+        return theAge % MAX_AGE + 1;
+    }
+
+    /**
+     * Get the number of entries.
+     * 
+     * @return The number of entries.
+     */
+    public int getCapacity() {
+        return myMask + 1;
+    }
+
+    /**
+     * Find the value stored for the given key.
+     * 
+     * @param theKey The key.
+     * @return The packed value, or {@link #MISS} if the key is not in the table.
+     */
+    public long probe(final long theKey) {
+        final int slot = ((int) theKey & myMask) << 1;
+        final long check = (long) SLOTS.getOpaque(mySlots, slot);
+        final long value = (long) SLOTS.getOpaque(mySlots, slot + 1);
+        return (check ^ value) == theKey ? value : MISS;
+    }
+
+    /**
+     * Store the value for the given key unless the entry in its slot should be kept.
+     * 
+     * @param theKey The key.
+     * @param theValue The value packed by {@link #pack(float, int, int)}.
+     */
+    public void store(final long theKey, final long theValue) {
+        final int slot = ((int) theKey & myMask) << 1;
+        final long check = (long) SLOTS.getOpaque(mySlots, slot);
+        final long old = (long) SLOTS.getOpaque(mySlots, slot + 1);
+        if (old == MISS || (check ^ old) == theKey || getAge(old) != getAge(theValue)
+            || getDepth(old) <= getDepth(theValue)) {
+            SLOTS.setOpaque(mySlots, slot, theKey ^ theValue);
+            SLOTS.setOpaque(mySlots, slot + 1, theValue);
+        }
+    }
+
+    /**
+     * Remove every entry. Must not be called while other threads use the table.
+     */
+    public void clear() {
+        Arrays.fill(mySlots, 0);
+    }
+
+}
@@ -0,0 +1,362 @@
+package com.tetris.bot;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import com.tetris.engine.BatchSimulator;
+import com.tetris.engine.SimulationReport;
+import com.tetris.model.Randomizer;
+import com.tetris.model.SplitMix64;
+
+/**
+ * Evolve the weights of a {@link LinearEvaluator} with a genetic algorithm.
+ * Every candidate of a generation plays the same seeded headless games with an {@link AutoPlayer},
+ * and its fitness is the mean number of lines cleared. The fittest candidates are kept,
+ * and the rest of the next generation are blends of candidates picked by tournaments, with Gaussian mutations.
+ * Every candidate plays its games with its own {@link BatchSimulator}, and the simulators of a generation
+ * run at once on one fork/join pool, so workers share nothing but the read-only weights.
+ * Each game has its own seeded piece generator, and only the tuner itself, on the calling thread,
+ * draws random numbers for the evolution.
+ * The population and the state of the random numbers can be written to a checkpoint after every generation,
+ * with the settings of the games, so a long run can be resumed exactly where it stopped.
+ * 
+ * @author Jiameng Li
+ * @version 1.0
+ */
+public class WeightTuner {
+
+    /** The first int of a checkpoint file. */
+    private static final int MAGIC = 0x54554E45;
+
+    /** The version of the checkpoint format, the second int of a checkpoint file. */
+    private static final int VERSION = 2;
+
+    /** Number of candidates in a tournament. */
+    private static final int TOURNAMENT = 3;
+
+    /** How far a blend can reach beyond either parent, as a fraction of the distance between them. */
+    private static final double BLEND = 0.25;
+
+    /** The probability that a weight of a new candidate is mutated. */
+    private static final double MUTATION_RATE = 0.3;
+
+    /** The standard deviation of a mutation relative to the size of the weight. */
+    private static final double MUTATION_SIZE = 0.2;
+
+    /** The standard deviation of a mutation of a weight close to 0. */
+    private static final double MUTATION_MIN = 0.05;
+
+    /** The pool that plays the games. */
+    private final ForkJoinPool myPool;
+
+    /** The candidates of the current generation, each a set of weights. */
+    private final double[][] myPopulation;
+
+    /** The number of games each candidate plays. */
+    private final int myGames;
+
+    /** The maximum number of pieces in a game. */
+    private final int myMaxPieces;
+
+    /** The seed of the first game of the first generation. */
+    private final long mySeed;
+
+    /** The random numbers used to evolve the population. */
+    private final SplitMix64 myRandom;
+
+    /** The way pieces are generated in each game. */
+    private Randomizer myRandomizer;
+
+    /** The index of the current generation. */
+    private int myGeneration;
+
+    /** The fittest weights found so far. */
+    private double[] myBest;
+
+    /** The fitness of the fittest weights found so far. */
+    private double myBestFitness;
+
+    /** The file the state is written to after every generation, null for none. */
+    private Path myCheckpoint;
+
+    /**
+     * Create a tuner whose first generation is the default weights and mutations of them.
+     * 
+     * @param thePool The pool that plays the games.
+     * @param thePopulation The number of candidates in each generation, at least 2.
+     * @param theGames The number of games each candidate plays.
+     * @param theMaxPieces The maximum number of pieces in a game.
+     * @param theSeed The seed of the games and the evolution.
+     */
+    public WeightTuner(final ForkJoinPool thePool, final int thePopulation, final int theGames,
+                       final int theMaxPieces, final long theSeed) {
+        super();
+        if (thePopulation < 2 || theGames < 1) {
+            throw new IllegalArgumentException("The population must be at least 2 and the games at least 1");
+        }
+        myPool = thePool;
+        myGames = theGames;
+        myMaxPieces = theMaxPieces;
+        mySeed = theSeed;
+        myRandom = new SplitMix64(theSeed);
+        myRandomizer = Randomizer.RANDOM;
+        myGeneration = 0;
+        myBest = LinearEvaluator.getDefaultWeights();
+        myBestFitness = Double.NEGATIVE_INFINITY;
+        myPopulation = new double[thePopulation][];
+        myPopulation[0] = LinearEvaluator.getDefaultWeights();
+        for (int i = 1; i < thePopulation; i++) {
+            myPopulation[i] = LinearEvaluator.getDefaultWeights();
+            mutate(myPopulation[i]);
+        }
+    }
+
+    /**
+     * Change the way pieces are generated in each game.
+     * 
+     * @param theRandomizer The way pieces are generated.
+     */
+    public void setRandomizer(final Randomizer theRandomizer) {
+        myRandomizer = theRandomizer;
+    }
+
+    /**
+     * Set the file the state is written to after every generation.
+     * 
+     * @param theCheckpoint The file, null for none.
+     */
+    public void setCheckpoint(final Path theCheckpoint) {
+        myCheckpoint = theCheckpoint;
+    }
+
+    /**
+     * Get the index of the generation that is played next.
+     * 
+     * @return The index of the generation, starting from 0.
+     */
+    public int getGeneration() {
+        return myGeneration;
+    }
+
+    /**
+     * Get the fittest weights found so far.
+     * 
+     * @return A copy of the weights.
+     */
+    public double[] getBestWeights() {
+        return myBest.clone();
+    }
+
+    /**
+     * Get the fitness of the fittest weights found so far.
+     * 
+     * @return The mean number of lines cleared, negative infinity before the first generation.
+     */
+    public double getBestFitness() {
+        return myBestFitness;
+    }
+
+    /**
+     * Play the games of the current generation, evolve the next generation, and write the checkpoint if any.
+     * 
+     * @return The report of the generation.
+     * @throws IOException If the checkpoint can't be written.
+     */
+    public GenerationReport step() throws IOException {
+        final int size = myPopulation.length;
+        final BatchSimulator[] simulators = new BatchSimulator[size];
+        for (int i = 0; i < size; i++) {
+            final double[] weights = myPopulation[i];
+            simulators[i] = new BatchSimulator(myPool, () -> new AutoPlayer(new LinearEvaluator(weights)),
+                                               myMaxPieces);
+            simulators[i].setRandomizer(myRandomizer);
+        }
+        final SimulationReport[] reports = new SimulationReport[size];
+        final ForkJoinTask<?>[] tasks = new ForkJoinTask<?>[size];
+        final long seed = mySeed + (long) myGeneration * myGames;
+        for (int i = 0; i < size; i++) {
+            final int candidate = i;
+            tasks[i] = ForkJoinTask.adapt(() -> {
+                reports[candidate] = simulators[candidate].run(myGames, seed);
+            });
+        }
+        final long start = System.nanoTime();
+        myPool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(tasks)));
+        final long elapsed = System.nanoTime() - start;
+
+        final double[] fitness = new double[size];
+        long total = 0;
+        for (int i = 0; i < size; i++) {
+            fitness[i] = reports[i].getMeanLines();
+            total += reports[i].getPieces();
+        }
+        final Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(fitness[b], fitness[a]));
+        final double[] best = myPopulation[order[0]];
+        if (fitness[order[0]] > myBestFitness) {
+            myBestFitness = fitness[order[0]];
+            myBest = best.clone();
+        }
+        final GenerationReport report = new GenerationReport(myGeneration, fitness, best, size * myGames, total,
+                                                             elapsed);
+        evolve(fitness, order);
+        myGeneration++;
+        if (myCheckpoint != null) {
+            save(myCheckpoint);
+        }
+        return report;
+    }
+
+    /**
+     * Replace the state with the one written to the given checkpoint by a tuner with the same population,
+     * number of games, way pieces are generated, maximum number of pieces, and seed.
+     * 
+     * @param theCheckpoint The file.
+     * @throws IOException If the file can't be read, is truncated, or doesn't match this tuner.
+     *                     The state is left unchanged.
+     */
+    public void load(final Path theCheckpoint) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(theCheckpoint));
+        if (buffer.remaining() < Integer.BYTES * 7 + Long.BYTES || buffer.getInt() != MAGIC
+            || buffer.getInt() != VERSION) {
+            throw new IOException(theCheckpoint + " is not a checkpoint");
+        }
+        final int size = buffer.getInt();
+        final int weights = buffer.getInt();
+        final int games = buffer.getInt();
+        if (size != myPopulation.length || weights != LinearEvaluator.WEIGHTS || games != myGames) {
+            throw new IOException(theCheckpoint + " has a population of " + size + " with " + weights
+                                  + " weights and " + games + " games");
+        }
+        final int randomizer = buffer.getInt();
+        final int maxPieces = buffer.getInt();
+        final long seed = buffer.getLong();
+        if (randomizer != myRandomizer.ordinal() || maxPieces != myMaxPieces || seed != mySeed) {
+            throw new IOException(theCheckpoint + " has games of randomizer " + randomizer + " with at most "
+                                  + maxPieces + " pieces and seed " + seed);
+        }
+        if (buffer.capacity() < checkpointSize(size, weights)) {
+            throw new IOException(theCheckpoint + " is truncated");
+        }
+        myGeneration = buffer.getInt();
+        myRandom.setState(buffer.getLong());
+        myBestFitness = buffer.getDouble();
+        myBest = new double[weights];
+        for (int w = 0; w < weights; w++) {
+            myBest[w] = buffer.getDouble();
+        }
+        for (int i = 0; i < size; i++) {
+            myPopulation[i] = new double[weights];
+            for (int w = 0; w < weights; w++) {
+                myPopulation[i][w] = buffer.getDouble();
+            }
+        }
+    }
+
+    /**
+     * Write the state to the given file. The state is written to a temporary file first and moved over the file,
+     * so a run stopped while writing leaves the previous checkpoint intact.
+     * 
+     * @param theCheckpoint The file.
+     * @throws IOException If the file can't be written.
+     */
+    public void save(final Path theCheckpoint) throws IOException {
+        final int weights = LinearEvaluator.WEIGHTS;
+        final ByteBuffer buffer = ByteBuffer.allocate(checkpointSize(myPopulation.length, weights));
+        buffer.putInt(MAGIC).putInt(VERSION).putInt(myPopulation.length).putInt(weights).putInt(myGames);
+        buffer.putInt(myRandomizer.ordinal()).putInt(myMaxPieces).putLong(mySeed);
+        buffer.putInt(myGeneration);
+        buffer.putLong(myRandom.getState());
+        buffer.putDouble(myBestFitness);
+        for (double w : myBest) {
+            buffer.putDouble(w);
+        }
+        for (double[] candidate : myPopulation) {
+            for (double w : candidate) {
+                buffer.putDouble(w);
+            }
+        }
+        final Path temp = theCheckpoint.resolveSibling(theCheckpoint.getFileName() + ".tmp");
+        Files.write(temp, buffer.array());
+        Files.move(temp, theCheckpoint, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Get the size of a checkpoint in bytes.
+     * 
+     * @param thePopulation The number of candidates.
+     * @param theWeights The number of weights of each candidate.
+     * @return The size of the header, the best weights, and the weights of every candidate.
+     */
+    private static int checkpointSize(final int thePopulation, final int theWeights) {
+        return Integer.BYTES * 8 + Long.BYTES * 2 + Double.BYTES + (thePopulation + 1) * theWeights * Double.BYTES;
+    }
+
+    /**
+     * Replace the population with the next generation.
+     * 
+     * @param theFitness The fitness of each candidate.
+     * @param theOrder The indices of the candidates, fittest first.
+     */
+    private void evolve(final double[] theFitness, final Integer[] theOrder) {
+        final int size = myPopulation.length;
+        final int elite = Math.max(1, size / 10);
+        final double[][] next = new double[size][];
+        for (int i = 0; i < elite; i++) {
+            next[i] = myPopulation[theOrder[i]];
+        }
+        for (int i = elite; i < size; i++) {
+            final double[] first = myPopulation[select(theFitness)];
+            final double[] second = myPopulation[select(theFitness)];
+            final double[] child = new double[first.length];
+            for (int w = 0; w < child.length; w++) {
+                final double blend = -BLEND + myRandom.nextDouble() * (1 + 2 * BLEND);
+                child[w] = first[w] + blend * (second[w] - first[w]);
+            }
+            mutate(child);
+            next[i] = child;
+        }
+        System.arraycopy(next, 0, myPopulation, 0, size);
+    }
+
+    /**
+     * Pick the fittest of a few random candidates.
+     * 
+     * @param theFitness The fitness of each candidate.
+     * @return The index of the picked candidate.
+     */
+    private int select(final double[] theFitness) {
+        int best = myRandom.nextInt(theFitness.length);
+        for (int i = 1; i < TOURNAMENT; i++) {
+            final int other = myRandom.nextInt(theFitness.length);
+            if (theFitness[other] > theFitness[best]) {
+                best = other;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Add Gaussian noise to some of the given weights, in proportion to their size.
+     * 
+     * @param theWeights The weights.
+     */
+    private void mutate(final double[] theWeights) {
+        for (int w = 0; w < theWeights.length; w++) {
+            if (myRandom.nextDouble() < MUTATION_RATE) {
+                final double deviation = Math.max(MUTATION_MIN, Math.abs(theWeights[w]) * MUTATION_SIZE);
+                theWeights[w] += myRandom.nextGaussian() * deviation;
+            }
+        }
+    }
+
+}
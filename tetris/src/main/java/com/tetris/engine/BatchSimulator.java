@@ -0,0 +1,198 @@
+package com.tetris.engine;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Supplier;
+
+import com.tetris.model.Randomizer;
+import com.tetris.model.Setting;
+
+/**
+ * Simulate a batch of independent seeded games on all cores without any display.
+ * Games are split into tasks of a work-stealing fork/join pool. Every game has its own
+ * engine, game space, and player, and writes its result to its own slot, so workers share nothing.
+ * 
+ * @author Jiameng Li
+ * @version 1.0
+ */
+public class BatchSimulator {
+
+    /** Number of games simulated by a task without splitting further. */
+    private static final int GAMES_PER_TASK = 4;
+
+    /** The pool that runs the games. */
+    private final ForkJoinPool myPool;
+
+    /** Create a new player for each game. */
+    private final Supplier<? extends Player> myPlayers;
+
+    /** The maximum number of pieces in a game, so a strong player can't play forever. */
+    private final int myMaxPieces;
+
+    /** The way pieces are generated in each game. */
+    private Randomizer myRandomizer;
+
+    /** The number of pieces in the preview of each game. */
+    private int myPreviewLength;
+
+    /**
+     * Create a batch simulator that uses the common fork/join pool.
+     * 
+     * @param thePlayers Create a new player for each game.
+     * @param theMaxPieces The maximum number of pieces in a game.
+     */
+    public BatchSimulator(final Supplier<? extends Player> thePlayers, final int theMaxPieces) {
+        this(ForkJoinPool.commonPool(), thePlayers, theMaxPieces);
+    }
+
+    /**
+     * Create a batch simulator that uses the given fork/join pool.
+     * 
+     * @param thePool The pool that runs the games.
+     * @param thePlayers Create a new player for each game.
+     * @param theMaxPieces The maximum number of pieces in a game.
+     */
+    public BatchSimulator(final ForkJoinPool thePool, final Supplier<? extends Player> thePlayers, 
+                          final int theMaxPieces) {
+        super();
+        myPool = thePool;
+        myPlayers = thePlayers;
+        myMaxPieces = theMaxPieces;
+        myRandomizer = Randomizer.RANDOM;
+        myPreviewLength = 1;
+    }
+
+    /**
+     * Change the way pieces are generated in each game.
+     * 
+     * @param theRandomizer The way pieces are generated.
+     */
+    public void setRandomizer(final Randomizer theRandomizer) {
+        myRandomizer = theRandomizer;
+    }
+
+    /**
+     * Change the number of pieces in the preview of each game.
+     * 
+     * @param theLength The number of pieces in the preview, at least 1.
+     */
+    public void setPreviewLength(final int theLength) {
+        myPreviewLength = theLength;
+    }
+
+    /**
+     * Simulate the given number of games. Game i uses the seed theSeed + i,
+     * so the same seed always produces the same games.
+     * May also be called from a task of the pool, such as to run several simulators at once.
+     * 
+     * @param theGames The number of games.
+     * @param theSeed The seed of the first game.
+     * @return The report of all games.
+     */
+    public SimulationReport run(final int theGames, final long theSeed) {
+        final long[] scores = new long[theGames];
+        final int[] lines = new int[theGames];
+        final int[] pieces = new int[theGames];
+        final long start = System.nanoTime();
+        myPool.invoke(new GameTask(scores, lines, pieces, theSeed, 0, theGames));
+        final long elapsed = System.nanoTime() - start;
+        long totalLines = 0;
+        long totalPieces = 0;
+        for (int i = 0; i < theGames; i++) {
+            totalLines += lines[i];
+            totalPieces += pieces[i];
+        }
+        return new SimulationReport(scores, totalLines, totalPieces, elapsed);
+    }
+
+    /**
+     * Play a single game until it is over or reaches the maximum number of pieces.
+     * 
+     * @param theSeed The seed of the game.
+     * @return The engine after the game ends.
+     */
+    public GameEngine play(final long theSeed) {
+        final GameEngine engine = new GameEngine(Setting.HEADLESS, myRandomizer);
+        final Player player = myPlayers.get();
+        engine.getGameSpace().setPreviewLength(myPreviewLength);
+        engine.newGame(theSeed);
+        while (engine.isPlaying() && engine.getPieceCount() < myMaxPieces) {
+            player.play(engine);
+            engine.step(Input.HARD_DROP);
+            while (engine.isPlaying() && !engine.tick()) {
+                // The piece is placed once it can't move down, unless the player has already ended the game
+            }
+        }
+        return engine;
+    }
+
+    /**
+     * Task that simulates a range of games, splitting the range when it is large.
+     */
+    private class GameTask extends RecursiveAction {
+
+        /** The serial version UID. */
+        private static final long serialVersionUID = 1L;
+
+        /** The final score of each game. */
+        private final long[] myScores;
+
+        /** The number of lines cleared in each game. */
+        private final int[] myLines;
+
+        /** The number of pieces placed in each game. */
+        private final int[] myPieces;
+
+        /** The seed of the first game in the batch. */
+        private final long mySeed;
+
+        /** The first game of the range, inclusive. */
+        private final int myFrom;
+
+        /** The last game of the range, exclusive. */
+        private final int myTo;
+
+        /**
+         * Create a task that simulates a range of games.
+         * 
+         * @param theScores The final score of each game.
+         * @param theLines The number of lines cleared in each game.
+         * @param thePieces The number of pieces placed in each game.
+         * @param theSeed The seed of the first game in the batch.
+         * @param theFrom The first game of the range, inclusive.
+         * @param theTo The last game of the range, exclusive.
+         */
+        GameTask(final long[] theScores, final int[] theLines, final int[] thePieces, final long theSeed,
+                 final int theFrom, final int theTo) {
+            super();
+            myScores = theScores;
+            myLines = theLines;
+            myPieces = thePieces;
+            mySeed = theSeed;
+            myFrom = theFrom;
+            myTo = theTo;
+        }
+
+        /**
+         * {@inheritDoc}
+         * Simulate the games directly or split the range in half.
+         */
+        @Override
+        protected void compute() {
+            if (myTo - myFrom <= GAMES_PER_TASK) {
+                for (int i = myFrom; i < myTo; i++) {
+                    final GameEngine engine = play(mySeed + i);
+                    myScores[i] = engine.getScoreCounter().getScore();
+                    myLines[i] = engine.getScoreCounter().getLine();
+                    myPieces[i] = engine.getPieceCount();
+                }
+            } else {
+                final int mid = (myFrom + myTo) >>> 1;
+                invokeAll(new GameTask(myScores, myLines, myPieces, mySeed, myFrom, mid),
+                          new GameTask(myScores, myLines, myPieces, mySeed, mid, myTo));
+            }
+        }
+
+    }
+
+}
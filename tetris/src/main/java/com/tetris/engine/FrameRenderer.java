@@ -0,0 +1,20 @@
+package com.tetris.engine;
+
+/**
+ * Draw a frame of the game for a {@link GameLoop}, on the thread of the loop.
+ * 
+ * @author Jiameng Li
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface FrameRenderer {
+
+    /**
+     * Draw the current state of the game.
+     * 
+     * @param theProgress How far the current piece is from the next fall, from 0 to 1,
+     *                    so it can be drawn between its row and the next one.
+     */
+    public void render(double theProgress);
+
+}
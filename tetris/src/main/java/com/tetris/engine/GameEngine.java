@@ -0,0 +1,442 @@
+package com.tetris.engine;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.tetris.model.ClearType;
+import com.tetris.model.GameEventListener;
+import com.tetris.model.GameSpace;
+import com.tetris.model.Piece;
+import com.tetris.model.Randomizer;
+import com.tetris.model.ScoreCounter;
+import com.tetris.model.Setting;
+
+/**
+ * The engine that runs the rules of the game without any display or timer.
+ * The player's operations are applied by {@link #step(Input)} and the piece falls by one row
+ * on each {@link #tick()}, so the game can be driven by a UI timer or as fast as possible.
+ * Every game starts from a seed, so a game can be played again from its seed and its operations.
+ * What happens in the game is reported to {@link GameEventListener}s through primitive callbacks.
+ * 
+ * @author Jiameng Li
+ * @version 1.0
+ */
+public class GameEngine {
+
+    /** The game space. */
+    private final GameSpace myGameSpace;
+
+    /** The score counter. */
+    private final ScoreCounter myScoreCounter;
+
+    /** Whether the current piece is soft dropping. */
+    private boolean mySoftDropping;
+
+    /** Whether the game is over. */
+    private boolean myGameOver;
+
+    /** The number of pieces placed in the current game. */
+    private int myPieceCount;
+
+    /** The number of ticks since the current game started. */
+    private long myFrame;
+
+    /** The way pieces are generated in each game. */
+    private final Randomizer myRandomizer;
+
+    /** The seed of the current game. */
+    private long mySeed;
+
+    /** Listeners notified of new games and operations. */
+    private final List<InputListener> myInputListeners;
+
+    /** Listeners notified of what happens in the game. */
+    private final List<GameEventListener> myEventListeners;
+
+    /** Forward the events of the game to every event listener. */
+    private final GameEventListener myEvents;
+
+    /**
+     * Create a game engine that picks pieces uniformly at random.
+     * 
+     * @param theSetting The general setting of the game.
+     */
+    public GameEngine(final Setting theSetting) {
+        this(theSetting, Randomizer.RANDOM);
+    }
+
+    /**
+     * Create a game engine with a new game space and score counter.
+     * 
+     * @param theSetting The general setting of the game.
+     * @param theRandomizer The way pieces are generated in each game.
+     */
+    public GameEngine(final Setting theSetting, final Randomizer theRandomizer) {
+        super();
+        myRandomizer = theRandomizer;
+        myGameSpace = new GameSpace(theSetting, theRandomizer.create(0));
+        myScoreCounter = new ScoreCounter();
+        myInputListeners = new ArrayList<>();
+        myEventListeners = new ArrayList<>();
+        myEvents = new EventDispatcher();
+        myScoreCounter.setGameEventListener(myEvents);
+        mySoftDropping = false;
+        myGameOver = false;
+        myPieceCount = 0;
+        myFrame = 0;
+    }
+
+    /**
+     * Add a listener that is notified of new games and operations.
+     * 
+     * @param theListener The listener.
+     */
+    public void addInputListener(final InputListener theListener) {
+        myInputListeners.add(theListener);
+    }
+
+    /**
+     * Remove a listener that is notified of new games and operations.
+     * 
+     * @param theListener The listener.
+     */
+    public void removeInputListener(final InputListener theListener) {
+        myInputListeners.remove(theListener);
+    }
+
+    /**
+     * Add a listener that is notified of what happens in the game.
+     * 
+     * @param theListener The listener.
+     */
+    public void addGameEventListener(final GameEventListener theListener) {
+        myEventListeners.add(theListener);
+    }
+
+    /**
+     * Remove a listener that is notified of what happens in the game.
+     * 
+     * @param theListener The listener.
+     */
+    public void removeGameEventListener(final GameEventListener theListener) {
+        myEventListeners.remove(theListener);
+    }
+
+    /**
+     * Get the game space.
+     * 
+     * @return The game space.
+     */
+    public GameSpace getGameSpace() {
+        return myGameSpace;
+    }
+
+    /**
+     * Get the score counter.
+     * 
+     * @return The score counter.
+     */
+    public ScoreCounter getScoreCounter() {
+        return myScoreCounter;
+    }
+
+    /**
+     * Check whether the game is being played, that is, a game is started and not over yet.
+     * 
+     * @return Whether the game is being played.
+     */
+    public boolean isPlaying() {
+        return !myGameOver && myGameSpace.getCurrentPiece() != null;
+    }
+
+    /**
+     * Check whether the game is over, which means a piece has reached the top.
+     * 
+     * @return Whether the game is over.
+     */
+    public boolean isGameOver() {
+        return myGameOver;
+    }
+
+    /**
+     * Check whether the current piece is soft dropping.
+     * 
+     * @return Whether the current piece is soft dropping.
+     */
+    public boolean isSoftDropping() {
+        return mySoftDropping;
+    }
+
+    /**
+     * Get the number of pieces placed in the current game.
+     * 
+     * @return The number of pieces placed.
+     */
+    public int getPieceCount() {
+        return myPieceCount;
+    }
+
+    /**
+     * Get the number of ticks since the current game started.
+     * 
+     * @return The number of ticks.
+     */
+    public long getFrame() {
+        return myFrame;
+    }
+
+    /**
+     * Get the way pieces are generated in each game.
+     * 
+     * @return The way pieces are generated.
+     */
+    public Randomizer getRandomizer() {
+        return myRandomizer;
+    }
+
+    /**
+     * Get the seed of the current game.
+     * 
+     * @return The seed of the current game.
+     */
+    public long getSeed() {
+        return mySeed;
+    }
+
+    /**
+     * Get the delay between each tick in milliseconds, which is shorter while soft dropping.
+     * 
+     * @return The delay between each tick in milliseconds.
+     */
+    public int getDelay() {
+        return mySoftDropping ? myScoreCounter.getSpeed() / 3 : myScoreCounter.getSpeed();
+    }
+
+    /**
+     * Start a new game with a seed based on the current time. Anything left from the previous game is cleared.
+     */
+    public void newGame() {
+        newGame(System.nanoTime());
+    }
+
+    /**
+     * Start a new game with the given seed. Anything left from the previous game is cleared.
+     * 
+     * @param theSeed The seed that decides the order of pieces.
+     */
+    public void newGame(final long theSeed) {
+        end();
+        mySeed = theSeed;
+        myGameSpace.setGenerator(myRandomizer.create(theSeed));
+        myGameSpace.newGame();
+        for (int i = 0; i < myInputListeners.size(); i++) {
+            myInputListeners.get(i).gameStarted(myRandomizer, theSeed);
+        }
+    }
+
+    /**
+     * End the game and clear the game space and scores.
+     */
+    public void end() {
+        myScoreCounter.reset();
+        myGameSpace.clear();
+        mySoftDropping = false;
+        myGameOver = false;
+        myPieceCount = 0;
+        myFrame = 0;
+    }
+
+    /**
+     * Perform the given operation on the current piece.
+     * Input listeners are notified only if the operation changes the game.
+     * 
+     * @param theInput The operation.
+     * @return Whether the current piece is moved or rotated.
+     */
+    public boolean step(final Input theInput) {
+        if (!isPlaying()) { return false; }
+        boolean moved = false;
+        boolean changed = false;
+        int rotation = Piece.ROTATION_FAILED;
+        final int row = myGameSpace.getCurrentRow();
+        final int col = myGameSpace.getCurrentColumn();
+        switch (theInput) {
+            case SHIFT_LEFT:
+                if (myGameSpace.canMove(row, col - 1)) {
+                    myGameSpace.shiftCurrentLeft(1);
+                    moved = true;
+                }
+                break;
+            case SHIFT_RIGHT:
+                if (myGameSpace.canMove(row, col + 1)) {
+                    myGameSpace.shiftCurrentRight(1);
+                    moved = true;
+                }
+                break;
+            case ROTATE_CLOCKWISE:
+                rotation = myGameSpace.rotate(true);
+                break;
+            case ROTATE_COUNTERCLOCKWISE:
+                rotation = myGameSpace.rotate(false);
+                break;
+            case SOFT_DROP:
+                changed = !mySoftDropping;
+                mySoftDropping = true;
+                break;
+            case SOFT_DROP_RELEASE:
+                changed = mySoftDropping;
+                mySoftDropping = false;
+                break;
+            case HARD_DROP:
+                final int drop = myGameSpace.hardDrop();
+                myScoreCounter.addScore(drop * 2);
+                moved = drop > 0;
+                changed = true;
+                break;
+            case HOLD:
+                moved = myGameSpace.hold();
+                break;
+            default:
+                break;
+        }
+        if (rotation != Piece.ROTATION_FAILED) {
+            // For wall kick, the game space has already moved the piece
+            if (Piece.getRotationRow(rotation) != 0 || Piece.getRotationColumn(rotation) != 0) {
+                myGameSpace.setHasKick(true);
+            }
+            // For T-spin and mini T-spin
+            myGameSpace.checkTSpin();
+            moved = true;
+        }
+        // A shift, rotation, or hold that fails changes nothing, so it isn't reported
+        if (moved || changed) {
+            for (int i = 0; i < myInputListeners.size(); i++) {
+                myInputListeners.get(i).inputPerformed(myFrame, theInput);
+            }
+        }
+        return moved;
+    }
+
+    /**
+     * Move the current piece to the next row, or place it and get the next piece
+     * if it can't move any further.
+     * 
+     * @return Whether the current piece is placed and replaced by the next piece.
+     */
+    public boolean tick() {
+        if (!isPlaying()) { return false; }
+        myFrame++;
+        boolean placed = false;
+        // Get next piece
+        if (!myGameSpace.canMove(myGameSpace.getCurrentRow() + 1, myGameSpace.getCurrentColumn())) {
+            myPieceCount++;
+            myEvents.onPieceLocked(myGameSpace.getCurrentState());
+            if (myGameSpace.placeCurrent()) {
+                myGameOver = true;
+                myEvents.onGameOver();
+                return true;
+            }
+            myGameSpace.clearLine(myScoreCounter);
+            myGameSpace.nextPiece();
+            placed = true;
+        // Or drop the current piece
+        } else {
+            myGameSpace.dropCurrent(1);
+            if (mySoftDropping) { myScoreCounter.addScore(1); }
+        }
+        myGameSpace.setHasKick(false);
+        myGameSpace.setTSpin(0);
+        return placed;
+    }
+
+    /**
+     * Write the whole state of the current game to the given buffer.
+     * 
+     * @param theBuffer The buffer.
+     */
+    public void save(final ByteBuffer theBuffer) {
+        theBuffer.putLong(mySeed);
+        theBuffer.putLong(myFrame);
+        theBuffer.putInt(myPieceCount);
+        theBuffer.put((byte) ((mySoftDropping ? 1 : 0) | (myGameOver ? 2 : 0)));
+        myGameSpace.save(theBuffer);
+        myScoreCounter.save(theBuffer);
+    }
+
+    /**
+     * Replace the current game with the state written by {@link #save(ByteBuffer)}
+     * on an engine with the same randomizer. Input and event listeners are not notified.
+     * 
+     * @param theBuffer The buffer.
+     */
+    public void load(final ByteBuffer theBuffer) {
+        mySeed = theBuffer.getLong();
+        myFrame = theBuffer.getLong();
+        myPieceCount = theBuffer.getInt();
+        final byte flags = theBuffer.get();
+        mySoftDropping = (flags & 1) != 0;
+        myGameOver = (flags & 2) != 0;
+        myGameSpace.setGenerator(myRandomizer.create(mySeed));
+        myGameSpace.load(theBuffer);
+        myScoreCounter.load(theBuffer);
+    }
+
+    /**
+     * Forward every event to the event listeners with an indexed loop, so no iterator is allocated.
+     */
+    private class EventDispatcher implements GameEventListener {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void onScore(final long theScore) {
+            for (int i = 0; i < myEventListeners.size(); i++) {
+                myEventListeners.get(i).onScore(theScore);
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void onLevel(final int theLevel) {
+            for (int i = 0; i < myEventListeners.size(); i++) {
+                myEventListeners.get(i).onLevel(theLevel);
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void onLinesCleared(final int theLines, final ClearType theType) {
+            for (int i = 0; i < myEventListeners.size(); i++) {
+                myEventListeners.get(i).onLinesCleared(theLines, theType);
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void onPieceLocked(final int theState) {
+            for (int i = 0; i < myEventListeners.size(); i++) {
+                myEventListeners.get(i).onPieceLocked(theState);
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void onGameOver() {
+            for (int i = 0; i < myEventListeners.size(); i++) {
+                myEventListeners.get(i).onGameOver();
+            }
+        }
+
+    }
+
+}
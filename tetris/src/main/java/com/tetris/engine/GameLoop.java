@@ -0,0 +1,249 @@
+package com.tetris.engine;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Run a game engine on its own thread with a fixed timestep instead of a UI timer.
+ * The simulation advances in steps of the same length measured with {@link System#nanoTime()},
+ * and gravity is counted in those steps, so the piece falls evenly however late a frame is.
+ * After each batch of steps a frame is drawn by the renderer, with how far the piece is
+ * from its next fall so it can be drawn between two rows.
+ * Keys are captured by an {@link InputHandler} and applied in order at the start of the next step,
+ * which is given the time of the step so held shifts repeat on time.
+ * 
+ * @author Jiameng Li
+ * @version 1.0
+ */
+public class GameLoop implements Runnable {
+
+    /** Nanoseconds in a millisecond. */
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+
+    /** Nanoseconds in a second. */
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    /** The longest time simulated for a single frame, so a long pause doesn't freeze the game to catch up. */
+    private static final long MAX_FRAME = 250 * NANOS_PER_MILLI;
+
+    /** The engine that runs the game. */
+    private final GameEngine myEngine;
+
+    /** Draw each frame. */
+    private final FrameRenderer myRenderer;
+
+    /** The length of a step in nanoseconds. */
+    private final long myStep;
+
+    /** Apply the keys pressed and released and repeat held shifts. */
+    private final InputHandler myInput;
+
+    /** Time not simulated yet, less than a step after each frame. */
+    private long myAccumulator;
+
+    /** Time simulated since the piece last fell. */
+    private long myGravity;
+
+    /** The time simulated up to, following {@link System#nanoTime()} less the time not simulated yet. */
+    private long myClock;
+
+    /** The thread that runs the loop, or null if it is stopped. */
+    private Thread myThread;
+
+    /** Whether the loop should keep running. */
+    private volatile boolean myRunning;
+
+    /** The number of frames rendered. */
+    private volatile long myFrames;
+
+    /** The number of steps simulated. */
+    private volatile long myUpdates;
+
+    /** The number of frames that were longer than the longest time simulated for a frame. */
+    private volatile long mySkippedFrames;
+
+    /** The total time between frames in nanoseconds. */
+    private volatile long myFrameNanos;
+
+    /** The longest time between two frames in nanoseconds. */
+    private volatile long myMaxFrameNanos;
+
+    /** The total time spent simulating steps in nanoseconds. */
+    private volatile long myUpdateNanos;
+
+    /** The total time spent rendering in nanoseconds. */
+    private volatile long myRenderNanos;
+
+    /**
+     * Create a loop for the given engine.
+     * 
+     * @param theEngine The engine that runs the game.
+     * @param theRate The number of steps per second, such as 60 or 120.
+     * @param theRenderer Draw each frame.
+     */
+    public GameLoop(final GameEngine theEngine, final int theRate, final FrameRenderer theRenderer) {
+        super();
+        if (theRate <= 0) {
+            throw new IllegalArgumentException("The rate must be positive");
+        }
+        myEngine = theEngine;
+        myRenderer = theRenderer;
+        myStep = NANOS_PER_SECOND / theRate;
+        myInput = new InputHandler();
+        myClock = System.nanoTime();
+    }
+
+    /**
+     * Check whether the loop is running.
+     * 
+     * @return Whether the loop is running.
+     */
+    public boolean isRunning() {
+        return myRunning;
+    }
+
+    /**
+     * Get the handler that captures keys for the loop. Its edges are applied by the thread of the loop.
+     * 
+     * @return The input handler.
+     */
+    public InputHandler getInputHandler() {
+        return myInput;
+    }
+
+    /**
+     * Forget the keys not applied yet and the time since the piece last fell, for a new game.
+     * Must not be called while the loop is running.
+     */
+    public void reset() {
+        myInput.reset();
+        myAccumulator = 0;
+        myGravity = 0;
+    }
+
+    /**
+     * Start running the loop on a new thread. Nothing happens if it is already running.
+     */
+    public void start() {
+        if (myRunning) { return; }
+        myRunning = true;
+        myThread = new Thread(this, "Game loop");
+        myThread.setDaemon(true);
+        myThread.start();
+    }
+
+    /**
+     * Stop the loop and wait for the current frame to finish. Must not be called from the loop itself.
+     */
+    public void stop() {
+        if (!myRunning) { return; }
+        myRunning = false;
+        LockSupport.unpark(myThread);
+        boolean interrupted = false;
+        while (myThread.isAlive()) {
+            try {
+                myThread.join();
+            } catch (final InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        myThread = null;
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * Simulate and render frames until the loop is stopped, sleeping until the next step is due.
+     */
+    @Override
+    public void run() {
+        long last = System.nanoTime();
+        myClock = last - myAccumulator;
+        while (myRunning) {
+            final long start = System.nanoTime();
+            advance(start - last);
+            final long updated = System.nanoTime();
+            myRenderer.render(getProgress());
+            final long rendered = System.nanoTime();
+            final long frame = start - last;
+            myFrames++;
+            myFrameNanos += frame;
+            myMaxFrameNanos = Math.max(myMaxFrameNanos, frame);
+            myUpdateNanos += updated - start;
+            myRenderNanos += rendered - updated;
+            last = start;
+            final long wait = myStep - myAccumulator - (rendered - start);
+            if (wait > 0) {
+                LockSupport.parkNanos(this, wait);
+            }
+        }
+    }
+
+    /**
+     * Simulate as many steps as fit in the time elapsed and the time left from the previous frame.
+     * 
+     * @param theElapsed The time since the previous frame in nanoseconds.
+     * @return The number of steps simulated.
+     */
+    int advance(final long theElapsed) {
+        if (theElapsed > MAX_FRAME) {
+            myAccumulator += MAX_FRAME;
+            // The time skipped isn't simulated, but the clock keeps following real time
+            myClock += theElapsed - MAX_FRAME;
+            mySkippedFrames++;
+        } else {
+            myAccumulator += theElapsed;
+        }
+        int updates = 0;
+        while (myAccumulator >= myStep) {
+            update();
+            myAccumulator -= myStep;
+            updates++;
+        }
+        myUpdates += updates;
+        return updates;
+    }
+
+    /**
+     * Apply the keys pressed and released and move the piece down once the delay of the engine has passed.
+     */
+    private void update() {
+        myClock += myStep;
+        myInput.update(myEngine, myClock);
+        if (myEngine.isPlaying()) {
+            myGravity += myStep;
+            long delay = myEngine.getDelay() * NANOS_PER_MILLI;
+            while (myGravity >= delay && myEngine.isPlaying()) {
+                myGravity -= delay;
+                myEngine.tick();
+                delay = myEngine.getDelay() * NANOS_PER_MILLI;
+            }
+        }
+    }
+
+    /**
+     * Get how far the current piece is from its next fall, including the time not simulated yet.
+     * 
+     * @return The progress from 0 to 1.
+     */
+    public double getProgress() {
+        final long delay = myEngine.getDelay() * NANOS_PER_MILLI;
+        return Math.min(1.0, (double) (myGravity + myAccumulator) / delay);
+    }
+
+    /**
+     * Get the frame pacing and the time spent updating and rendering since the loop was created.
+     * 
+     * @return The metrics of the loop.
+     */
+    public LoopMetrics getMetrics() {
+        final long frames = Math.max(1, myFrames);
+        return new LoopMetrics(myFrames, myUpdates, mySkippedFrames,
+                               (double) myFrameNanos / frames / NANOS_PER_MILLI,
+                               (double) myMaxFrameNanos / NANOS_PER_MILLI,
+                               (double) myUpdateNanos / frames / NANOS_PER_MILLI,
+                               (double) myRenderNanos / frames / NANOS_PER_MILLI);
+    }
+
+}
@@ -0,0 +1,35 @@
+package com.tetris.engine;
+
+/**
+ * The operations a player can perform on the current piece.
+ * 
+ * @author Jiameng Li
+ * @version 1.0
+ */
+public enum Input {
+
+    /** Shift the current piece to the left by one column. */
+    SHIFT_LEFT,
+
+    /** Shift the current piece to the right by one column. */
+    SHIFT_RIGHT,
+
+    /** Rotate the current piece clockwise. */
+    ROTATE_CLOCKWISE,
+
+    /** Rotate the current piece counterclockwise. */
+    ROTATE_COUNTERCLOCKWISE,
+
+    /** Start soft dropping the current piece. */
+    SOFT_DROP,
+
+    /** Stop soft dropping the current piece. */
+    SOFT_DROP_RELEASE,
+
+    /** Drop the current piece to the lowest position it can reach. */
+    HARD_DROP,
+
+    /** Swap the current piece with the held piece, or hold it and take the next piece if nothing is held. */
+    HOLD
+
+}
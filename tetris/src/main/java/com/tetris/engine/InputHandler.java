@@ -0,0 +1,265 @@
+package com.tetris.engine;
+
+/**
+ * Turn the presses and releases of keys into operations on a game engine, with Delayed Auto Shift
+ * and Auto Repeat Rate for shifting instead of the key repeat of the operating system.
+ * Edges are captured by one thread into a lock-free queue with the time of the edge, and applied
+ * in order by the thread that runs the game on each {@link #update(GameEngine, long)}, which also
+ * repeats the shift of a held key: once the key has been held for the delay, the piece shifts once
+ * and then once for every repeat interval, or all the way to the wall if the interval is 0.
+ * The delay is counted from the time of the press rather than from the update that applies it,
+ * so the shift repeats on time wherever the press lands within a frame.
+ * Once a shift fails, the shift isn't repeated again until the current piece moves or is replaced,
+ * so holding a key against the wall doesn't keep stepping the engine.
+ * 
+ * @author Jiameng Li
+ * @version 1.0
+ */
+public class InputHandler {
+
+    /** The default delay before a held shift repeats in milliseconds. */
+    public static final int DEFAULT_DELAY = 167;
+
+    /** The default interval between repeated shifts in milliseconds. */
+    public static final int DEFAULT_RATE = 33;
+
+    /** The maximum number of edges waiting to be applied. */
+    private static final int CAPACITY = 256;
+
+    /** Nanoseconds in a millisecond. */
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+
+    /** Every operation, indexed by its ordinal. */
+    private static final Input[] INPUTS = Input.values();
+
+    /** Edges not applied yet, each the ordinal of the operation shifted left by one and 1 if pressed. */
+    private final InputQueue myEdges;
+
+    /** The operations whose key is held, one bit for each ordinal. */
+    private int myHeld;
+
+    /** The direction of the shift being repeated, or null if no shift key is held. */
+    private Input myShift;
+
+    /** The time the held shift is due to shift next, from {@link System#nanoTime()}. */
+    private long myNextShift;
+
+    /** Whether the delay has passed and the shift is repeating. */
+    private boolean myRepeating;
+
+    /** Whether the last shift failed and the shift waits for the current piece to change. */
+    private boolean myBlocked;
+
+    /** The state of the current piece when the last shift failed. */
+    private int myBlockedState;
+
+    /** The number of pieces placed when the last shift failed. */
+    private int myBlockedPiece;
+
+    /** The delay before a held shift repeats in nanoseconds. */
+    private long myDelay;
+
+    /** The interval between repeated shifts in nanoseconds. */
+    private long myRate;
+
+    /**
+     * Create an input handler with the default delay and interval.
+     */
+    public InputHandler() {
+        super();
+        myEdges = new InputQueue(CAPACITY);
+        setAutoShift(DEFAULT_DELAY, DEFAULT_RATE);
+    }
+
+    /**
+     * Change the delay and the interval of repeated shifts.
+     * Must only be called by the thread that runs the game.
+     * 
+     * @param theDelay The delay before a held shift repeats in milliseconds.
+     * @param theRate The interval between repeated shifts in milliseconds, 0 to shift to the wall at once.
+     */
+    public void setAutoShift(final int theDelay, final int theRate) {
+        if (theDelay < 0 || theRate < 0) {
+            throw new IllegalArgumentException("The delay and the interval can't be negative");
+        }
+        myDelay = theDelay * NANOS_PER_MILLI;
+        myRate = theRate * NANOS_PER_MILLI;
+    }
+
+    /**
+     * Capture the press of the key of an operation now. Must only be called by the thread that captures keys.
+     * 
+     * @param theInput The operation, one that is not a release.
+     * @return Whether the edge is captured, false if too many edges are waiting.
+     */
+    public boolean press(final Input theInput) {
+        return press(theInput, System.nanoTime());
+    }
+
+    /**
+     * Capture the press of the key of an operation. Must only be called by the thread that captures keys.
+     * 
+     * @param theInput The operation, one that is not a release.
+     * @param theTime The time of the press, from {@link System#nanoTime()}.
+     * @return Whether the edge is captured, false if too many edges are waiting.
+     */
+    public boolean press(final Input theInput, final long theTime) {
+        return myEdges.offer(theInput.ordinal() << 1 | 1, theTime);
+    }
+
+    /**
+     * Capture the release of the key of an operation now. Must only be called by the thread that captures keys.
+     * 
+     * @param theInput The operation, one that is not a release.
+     * @return Whether the edge is captured, false if too many edges are waiting.
+     */
+    public boolean release(final Input theInput) {
+        return release(theInput, System.nanoTime());
+    }
+
+    /**
+     * Capture the release of the key of an operation. Must only be called by the thread that captures keys.
+     * 
+     * @param theInput The operation, one that is not a release.
+     * @param theTime The time of the release, from {@link System#nanoTime()}.
+     * @return Whether the edge is captured, false if too many edges are waiting.
+     */
+    public boolean release(final Input theInput, final long theTime) {
+        return myEdges.offer(theInput.ordinal() << 1, theTime);
+    }
+
+    /**
+     * Forget the edges not applied yet and the keys held, for a new game.
+     * Must only be called by the thread that runs the game.
+     */
+    public void reset() {
+        myEdges.clear();
+        myHeld = 0;
+        myShift = null;
+        myNextShift = 0;
+        myRepeating = false;
+        myBlocked = false;
+    }
+
+    /**
+     * Apply every captured edge in order, then repeat the shift of a held key up to the given time.
+     * Must only be called by the thread that runs the game.
+     * 
+     * @param theEngine The engine to apply operations to.
+     * @param theNow The time of the update, from {@link System#nanoTime()} or a clock that follows it.
+     * @return Whether the current piece is moved, rotated, or held.
+     */
+    public boolean update(final GameEngine theEngine, final long theNow) {
+        boolean moved = false;
+        int edge = myEdges.poll();
+        while (edge != InputQueue.EMPTY) {
+            moved |= apply(theEngine, INPUTS[edge >>> 1], (edge & 1) != 0, myEdges.getTime());
+            edge = myEdges.poll();
+        }
+        if (myShift != null) {
+            moved |= repeat(theEngine, theNow);
+        }
+        return moved;
+    }
+
+    /**
+     * Apply a single edge. A press of a key that is already held, such as a key repeat
+     * of the operating system, is ignored.
+     * 
+     * @param theEngine The engine to apply operations to.
+     * @param theInput The operation.
+     * @param thePressed Whether the key is pressed, or released.
+     * @param theTime The time of the edge.
+     * @return Whether the current piece is moved, rotated, or held.
+     */
+    private boolean apply(final GameEngine theEngine, final Input theInput, final boolean thePressed,
+                          final long theTime) {
+        final int bit = 1 << theInput.ordinal();
+        boolean moved = false;
+        if (thePressed && (myHeld & bit) == 0) {
+            myHeld |= bit;
+            if (theInput == Input.SHIFT_LEFT || theInput == Input.SHIFT_RIGHT) {
+                startShift(theInput, theTime);
+                moved = shift(theEngine);
+            } else {
+                moved = theEngine.step(theInput);
+            }
+        } else if (!thePressed && (myHeld & bit) != 0) {
+            myHeld &= ~bit;
+            if (theInput == Input.SOFT_DROP) {
+                theEngine.step(Input.SOFT_DROP_RELEASE);
+            } else if (theInput == myShift) {
+                // Go back to the other direction if its key is still held, which charges again
+                final Input other = theInput == Input.SHIFT_LEFT ? Input.SHIFT_RIGHT : Input.SHIFT_LEFT;
+                startShift((myHeld & 1 << other.ordinal()) != 0 ? other : null, theTime);
+            }
+        }
+        return moved;
+    }
+
+    /**
+     * Start charging the delay of a shift.
+     * 
+     * @param theShift The direction of the shift, or null for none.
+     * @param theTime The time the delay starts.
+     */
+    private void startShift(final Input theShift, final long theTime) {
+        myShift = theShift;
+        myNextShift = theTime + myDelay;
+        myRepeating = false;
+        myBlocked = false;
+    }
+
+    /**
+     * Shift the current piece once in the direction being repeated, unless a previous shift failed
+     * and the piece hasn't changed since. A failed shift blocks the shift until the piece changes.
+     * 
+     * @param theEngine The engine to apply operations to.
+     * @return Whether the current piece is moved.
+     */
+    private boolean shift(final GameEngine theEngine) {
+        final int state = theEngine.getGameSpace().getCurrentState();
+        final int piece = theEngine.getPieceCount();
+        if (myBlocked && (state != myBlockedState || piece != myBlockedPiece)) {
+            myBlocked = false;
+        }
+        boolean moved = false;
+        if (!myBlocked) {
+            moved = theEngine.step(myShift);
+            if (!moved) {
+                myBlocked = true;
+                myBlockedState = state;
+                myBlockedPiece = piece;
+            }
+        }
+        return moved;
+    }
+
+    /**
+     * Repeat the shift of the held key for every time it was due up to the given time.
+     * 
+     * @param theEngine The engine to apply operations to.
+     * @param theNow The time of the update.
+     * @return Whether the current piece is moved.
+     */
+    private boolean repeat(final GameEngine theEngine, final long theNow) {
+        boolean moved = false;
+        if (!myRepeating && theNow - myNextShift >= 0) {
+            myRepeating = true;
+            moved = shift(theEngine);
+            myNextShift += myRate;
+        }
+        if (myRepeating && myRate == 0) {
+            while (shift(theEngine)) {
+                moved = true;
+            }
+        } else if (myRepeating) {
+            while (theNow - myNextShift >= 0) {
+                moved |= shift(theEngine);
+                myNextShift += myRate;
+            }
+        }
+        return moved;
+    }
+
+}
@@ -0,0 +1,31 @@
+package com.tetris.engine;
+
+import com.tetris.model.Randomizer;
+
+/**
+ * Listener that is notified of every new game and every operation that changes the game,
+ * such as a replay recorder.
+ * 
+ * @author Jiameng Li
+ * @version 1.0
+ */
+public interface InputListener {
+
+    /**
+     * Called when a new game starts.
+     * 
+     * @param theRandomizer The way pieces are generated in the game.
+     * @param theSeed The seed of the game.
+     */
+    public void gameStarted(Randomizer theRandomizer, long theSeed);
+
+    /**
+     * Called when an operation that changes the game is applied to it.
+     * A shift, rotation, or hold that fails is not reported.
+     * 
+     * @param theFrame The number of ticks since the game started.
+     * @param theInput The operation.
+     */
+    public void inputPerformed(long theFrame, Input theInput);
+
+}
@@ -0,0 +1,112 @@
+package com.tetris.engine;
+
+/**
+ * A lock-free queue of int values for one producer thread and one consumer thread,
+ * such as the key edges captured by the event dispatch thread and applied by the game loop.
+ * The values are kept in a ring buffer with the time each was added, so nothing is allocated
+ * once the queue is created.
+ *
+ * @author Jiameng Li
+ * @version 1.0
+ */
+public class InputQueue {
+
+    /** The value returned by {@link #poll()} when the queue is empty. */
+    public static final int EMPTY = -1;
+
+    /** The ring buffer of values. */
+    private final int[] myBuffer;
+
+    /** The time each value in the ring buffer was added, in the same slot as the value. */
+    private final long[] myTimes;
+
+    /** The mask of an index in the ring buffer. */
+    private final int myMask;
+
+    /** The number of values taken so far, only written by the consumer. */
+    private volatile long myHead;
+
+    /** The number of values added so far, only written by the producer. */
+    private volatile long myTail;
+
+    /** The time the value last taken was added, only used by the consumer. */
+    private long myTime;
+
+    /**
+     * Create a queue.
+     *
+     * @param theCapacity The maximum number of values in the queue, a power of 2.
+     */
+    public InputQueue(final int theCapacity) {
+        super();
+        if (theCapacity <= 0 || Integer.bitCount(theCapacity) != 1) {
+            throw new IllegalArgumentException("The capacity must be a power of 2");
+        }
+        myBuffer = new int[theCapacity];
+        myTimes = new long[theCapacity];
+        myMask = theCapacity - 1;
+    }
+
+    /**
+     * Add a value at the end of the queue. Must only be called by the producer.
+     *
+     * @param theValue The value, not negative.
+     * @param theTime The time the value is added, such as from {@link System#nanoTime()}.
+     * @return Whether the value is added, false if the queue is full.
+     */
+    public boolean offer(final int theValue, final long theTime) {
+        final long tail = myTail;
+        boolean added = false;
+        if (tail - myHead < myBuffer.length) {
+            myBuffer[(int) tail & myMask] = theValue;
+            myTimes[(int) tail & myMask] = theTime;
+            // Publishing the tail after the value makes the value and its time visible to the consumer
+            myTail = tail + 1;
+            added = true;
+        }
+        return added;
+    }
+
+    /**
+     * Take the value at the front of the queue. Its time is kept for {@link #getTime()}.
+     * Must only be called by the consumer.
+     *
+     * @return The value, or {@link #EMPTY} if the queue is empty.
+     */
+    public int poll() {
+        final long head = myHead;
+        int value = EMPTY;
+        if (head != myTail) {
+            value = myBuffer[(int) head & myMask];
+            myTime = myTimes[(int) head & myMask];
+            myHead = head + 1;
+        }
+        return value;
+    }
+
+    /**
+     * Get the time the value last taken by {@link #poll()} was added. Must only be called by the consumer.
+     * 
+     * @return The time of the value.
+     */
+    public long getTime() {
+        return myTime;
+    }
+
+    /**
+     * Drop every value in the queue. Must only be called by the consumer.
+     */
+    public void clear() {
+        myHead = myTail;
+    }
+
+    /**
+     * Get the number of values in the queue.
+     *
+     * @return The number of values.
+     */
+    public int size() {
+        return (int) (myTail - myHead);
+    }
+
+}
@@ -0,0 +1,20 @@
+package com.tetris.engine;
+
+/**
+ * The frame pacing of a {@link GameLoop} and the time it spends updating and rendering,
+ * since the loop was created.
+ * 
+ * @param frames The number of frames rendered.
+ * @param updates The number of fixed steps simulated.
+ * @param skippedFrames The number of frames that took so long that the simulation dropped time to catch up.
+ * @param frameMillis The average time between two frames in milliseconds.
+ * @param maxFrameMillis The longest time between two frames in milliseconds.
+ * @param updateMillis The average time spent simulating the steps of a frame in milliseconds.
+ * @param renderMillis The average time spent rendering a frame in milliseconds.
+ * @author Jiameng Li
+ * @version 1.0
+ */
+public record LoopMetrics(long frames, long updates, long skippedFrames, double frameMillis, double maxFrameMillis,
+                          double updateMillis, double renderMillis) {
+
+}
@@ -0,0 +1,19 @@
+package com.tetris.engine;
+
+/**
+ * A player that decides how to move each piece, such as a bot being evaluated.
+ * 
+ * @author Jiameng Li
+ * @version 1.0
+ */
+public interface Player {
+
+    /**
+     * Move the current piece of the engine to where it should be placed.
+     * Called once for every new piece. The piece is hard dropped and placed afterward.
+     * 
+     * @param theEngine The engine of the game being played.
+     */
+    public void play(GameEngine theEngine);
+
+}
@@ -0,0 +1,165 @@
+package com.tetris.engine;
+
+import java.util.Arrays;
+
+/**
+ * The result of a batch of simulated games, including throughput, score distribution, and lines cleared.
+ * 
+ * @author Jiameng Li
+ * @version 1.0
+ */
+public class SimulationReport {
+
+    /** The final score of each game, sorted in ascending order. */
+    private final long[] myScores;
+
+    /** The total number of lines cleared in all games. */
+    private final long myLines;
+
+    /** The total number of pieces placed in all games. */
+    private final long myPieces;
+
+    /** The time spent on all games in nanoseconds. */
+    private final long myElapsed;
+
+    /**
+     * Create a report of simulated games.
+     * 
+     * @param theScores The final score of each game.
+     * @param theLines The total number of lines cleared in all games.
+     * @param thePieces The total number of pieces placed in all games.
+     * @param theElapsed The time spent on all games in nanoseconds.
+     */
+    public SimulationReport(final long[] theScores, final long theLines, final long thePieces,
+                            final long theElapsed) {
+        super();
+        myScores = theScores.clone();
+        Arrays.sort(myScores);
+        myLines = theLines;
+        myPieces = thePieces;
+        myElapsed = Math.max(1, theElapsed);
+    }
+
+    /**
+     * Get the number of games simulated.
+     * 
+     * @return The number of games.
+     */
+    public int getGames() {
+        return myScores.length;
+    }
+
+    /**
+     * Get the total number of lines cleared in all games.
+     * 
+     * @return The total number of lines.
+     */
+    public long getLines() {
+        return myLines;
+    }
+
+    /**
+     * Get the mean number of lines cleared in a game.
+     * 
+     * @return The mean number of lines, 0 if no game is simulated.
+     */
+    public double getMeanLines() {
+        return myScores.length == 0 ? 0 : (double) myLines / myScores.length;
+    }
+
+    /**
+     * Get the total number of pieces placed in all games.
+     * 
+     * @return The total number of pieces.
+     */
+    public long getPieces() {
+        return myPieces;
+    }
+
+    /**
+     * Get the time spent on all games in nanoseconds.
+     * 
+     * @return The time spent in nanoseconds.
+     */
+    public long getElapsedNanos() {
+        return myElapsed;
+    }
+
+    /**
+     * Get the number of games finished per second.
+     * 
+     * @return Games per second.
+     */
+    public double getGamesPerSecond() {
+        return myScores.length * 1e9 / myElapsed;
+    }
+
+    /**
+     * Get the number of pieces placed per second.
+     * 
+     * @return Pieces per second.
+     */
+    public double getPiecesPerSecond() {
+        return myPieces * 1e9 / myElapsed;
+    }
+
+    /**
+     * Get the mean of the final scores.
+     * 
+     * @return The mean score, 0 if no game is simulated.
+     */
+    public double getMeanScore() {
+        double sum = 0;
+        for (long s : myScores) {
+            sum += s;
+        }
+        return myScores.length == 0 ? 0 : sum / myScores.length;
+    }
+
+    /**
+     * Get the final score at the given percentile using the nearest-rank method.
+     * 
+     * @param thePercentile The percentile between 0 and 100.
+     * @return The score at the percentile, 0 if no game is simulated.
+     */
+    public long getScorePercentile(final double thePercentile) {
+        long score = 0;
+        if (myScores.length > 0) {
+            final int rank = (int) Math.ceil(thePercentile / 100 * myScores.length);
+            score = myScores[Math.min(myScores.length - 1, Math.max(0, rank - 1))];
+        }
+        return score;
+    }
+
+    /**
+     * Get the lowest final score.
+     * 
+     * @return The lowest score.
+     */
+    public long getMinScore() {
+        return getScorePercentile(0);
+    }
+
+    /**
+     * Get the highest final score.
+     * 
+     * @return The highest score.
+     */
+    public long getMaxScore() {
+        return getScorePercentile(100);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Summarize the throughput and score distribution.
+     */
+    @Override
+    public String toString() {
+        return String.format("%d games, %d pieces in %.3f s (%.1f games/s, %.1f pieces/s); "
+                             + "score min %d, p50 %d, p90 %d, max %d, mean %.1f",
+                             getGames(), myPieces, myElapsed / 1e9, getGamesPerSecond(), getPiecesPerSecond(),
+                             getMinScore(), getScorePercentile(50), getScorePercentile(90), getMaxScore(),
+                             getMeanScore());
+    }
+
+}
@@ -0,0 +1,118 @@
+package com.tetris.gui_scene;
+
+import java.awt.Canvas;
+import java.awt.Dimension;
+import java.awt.Graphics2D;
+import java.awt.Toolkit;
+import java.awt.image.BufferStrategy;
+
+import com.tetris.engine.FrameRenderer;
+import com.tetris.model.GameSpace;
+import com.tetris.model.PieceUnit;
+import com.tetris.model.Setting;
+
+/**
+ * The canvas that displays pieces when the game is run by a game loop instead of a timer.
+ * Frames are drawn by the thread of the loop to a buffer strategy and shown right away,
+ * without waiting for Swing to repaint, and the falling piece moves smoothly between rows.
+ * 
+ * @author Jiameng Li
+ * @version 1.0
+ */
+public class GameCanvas extends Canvas implements FrameRenderer {
+
+    /** The number of buffers to draw frames to. */
+    private static final int BUFFERS = 2;
+
+    /** The game space. */
+    private final GameSpace myGameSpace;
+
+    /** The general setting of the game. */
+    private final Setting mySetting;
+
+    /** Paint the game space. */
+    private final GameSpacePainter myPainter;
+
+    /**
+     * Create a canvas that display pieces.
+     * 
+     * @param theSpace The game space.
+     * @param theSetting The general setting of the game.
+     */
+    public GameCanvas(final GameSpace theSpace, final Setting theSetting) {
+        super();
+        myGameSpace = theSpace;
+        mySetting = theSetting;
+        myPainter = new GameSpacePainter(theSpace, theSetting);
+        setup();
+    }
+
+    /**
+     * Set up the canvas.
+     */
+    private void setup() {
+        setPreferredSize(new Dimension(GameSpacePainter.WIDTH, GameSpacePainter.HEIGHT));
+        setMinimumSize(getPreferredSize());
+        setMaximumSize(getPreferredSize());
+        setIgnoreRepaint(true);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Create the buffers once the canvas can be displayed.
+     */
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        createBufferStrategy(BUFFERS);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Draw the game space to the next buffer and show it, drawing again if the buffer was lost.
+     */
+    @Override
+    public void render(final double theProgress) {
+        final BufferStrategy strategy = getBufferStrategy();
+        if (strategy == null || !isShowing()) { return; }
+        // The piece only falls between rows if there is room below it
+        final boolean falling = myGameSpace.getCurrentPiece() != null
+                                && myGameSpace.canMove(myGameSpace.getCurrentRow() + 1,
+                                                       myGameSpace.getCurrentColumn());
+        final int offset = falling ? (int) (theProgress * PieceUnit.SIZE) : 0;
+        do {
+            do {
+                final Graphics2D graphics = (Graphics2D) strategy.getDrawGraphics();
+                try {
+                    paintFrame(graphics, offset);
+                } finally {
+                    graphics.dispose();
+                }
+            } while (strategy.contentsRestored());
+            strategy.show();
+        } while (strategy.contentsLost());
+        Toolkit.getDefaultToolkit().sync();
+    }
+
+    /**
+     * Paint the background, the game space, and the border around it.
+     * 
+     * @param theGraphics The graphics to paint on.
+     * @param theOffset The number of pixels the current piece is drawn below its row.
+     */
+    private void paintFrame(final Graphics2D theGraphics, final int theOffset) {
+        final int border = GameSpacePainter.BORDER;
+        final int width = GameSpacePainter.WIDTH;
+        final int height = GameSpacePainter.HEIGHT;
+        theGraphics.setColor(mySetting.getBackground());
+        theGraphics.fillRect(0, 0, width, height);
+        myPainter.paint(theGraphics, theOffset);
+        // The border is painted last so it covers a piece above the top
+        theGraphics.setColor(mySetting.getForeground());
+        theGraphics.fillRect(0, 0, width, border);
+        theGraphics.fillRect(0, height - border, width, border);
+        theGraphics.fillRect(0, 0, border, height);
+        theGraphics.fillRect(width - border, 0, border, height);
+    }
+
+}
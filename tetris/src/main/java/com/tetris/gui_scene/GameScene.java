@@ -11,16 +11,21 @@ import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.awt.event.KeyAdapter;
 import java.awt.event.KeyEvent;
-import java.beans.PropertyChangeEvent;
-import java.beans.PropertyChangeListener;
 
 import javax.swing.BorderFactory;
 import javax.swing.JLabel;
 import javax.swing.JPanel;
+import javax.swing.SwingUtilities;
 import javax.swing.Timer;
 
+import com.tetris.engine.GameEngine;
+import com.tetris.engine.GameLoop;
+import com.tetris.engine.Input;
+import com.tetris.engine.InputHandler;
 import com.tetris.gui_button.CommonButton;
+import com.tetris.model.GameEventListener;
 import com.tetris.model.GameSpace;
+import com.tetris.model.KeyAction;
 import com.tetris.model.ScoreCounter;
 import com.tetris.model.Setting;
 
@@ -32,6 +37,15 @@ import com.tetris.model.Setting;
  */
 public class GameScene extends JPanel{
 
+    /** The operation of the engine for each bindable operation, indexed by the ordinal of the {@link KeyAction}. */
+    private static final Input[] KEY_INPUTS = new Input[KeyAction.values().length];
+
+    static {
+        for (final KeyAction action : KeyAction.values()) {
+            KEY_INPUTS[action.ordinal()] = Input.valueOf(action.name());
+        }
+    }
+
     /** The general setting of the game. */
     private final Setting mySetting;
 
@@ -44,6 +58,9 @@ public class GameScene extends JPanel{
     /** The panel that displays next piece. */
     private final NextBlockPanel myNextBlockPanel;
 
+    /** The panel that displays the held piece. */
+    private final HoldBlockPanel myHoldBlockPanel;
+
     /** The button used to start the game. */
     private final CommonButton myNewGameBtn;
 
@@ -56,16 +73,35 @@ public class GameScene extends JPanel{
     /** The label for level. */
     private final JLabel myLevel;
 
+    /** Update the labels for score and level once per frame. */
+    private final HudUpdater myHud;
+
     /** Timer used to move the piece in a cartain rate. */
     private final Timer myTimer;
 
-    /** The score counter. */
-    private final ScoreCounter myScoreCounter;
+    /** The canvas that displays pieces drawn by the game loop, or null if the game is run by the timer. */
+    private final GameCanvas myCanvas;
 
-    private final GameSpace myGameSpace;
+    /** The loop that runs the game instead of the timer when the setting has a frame rate, or null. */
+    private final GameLoop myLoop;
+
+    /** Apply the keys pressed and released, on the thread that runs the game. */
+    private final InputHandler myInput;
+
+    /** Timer used to repeat held shifts when the game is run by the timer. */
+    private final Timer myInputTimer;
 
-    /** Whether the current piece is soft dropping. */
-    private boolean mySoftDropping;
+    /** The next piece last drawn, only used by the thread that runs the game. */
+    private int myShownNext;
+
+    /** The held piece last drawn, only used by the thread that runs the game. */
+    private int myShownHold;
+
+    /** The engine that runs the game. */
+    private final GameEngine myEngine;
+
+    /** The game space. */
+    private final GameSpace myGameSpace;
 
     /**
      * Create a game scene.
@@ -77,15 +113,28 @@ public class GameScene extends JPanel{
         super(new GridBagLayout());
         mySetting = theSetting;
         myFrame = theFrame;
-        myGameSpace = new GameSpace(theSetting);
+        myEngine = new GameEngine(theSetting);
+        myGameSpace = myEngine.getGameSpace();
         myGameSpacePanel = new GameSpacePanel(myGameSpace, theSetting);
         myNextBlockPanel = new NextBlockPanel(myGameSpace, theSetting);
+        myHoldBlockPanel = new HoldBlockPanel(myGameSpace, theSetting);
         myNewGameBtn = new CommonButton("NEW GAME", theSetting);
         myPauseBtn = new CommonButton("PAUSE", theSetting);
         myScore = new JLabel("0");
         myLevel = new JLabel("0");
+        myHud = new HudUpdater(myScore, myLevel);
         myTimer = new Timer(ScoreCounter.INIT_SPEED, new DropBlockAction());
-        myScoreCounter = new ScoreCounter();
+        if (theSetting.getFrameRate() > 0) {
+            myCanvas = new GameCanvas(myGameSpace, theSetting);
+            myLoop = new GameLoop(myEngine, theSetting.getFrameRate(), this::renderFrame);
+        } else {
+            myCanvas = null;
+            myLoop = null;
+        }
+        myInput = myLoop == null ? new InputHandler() : myLoop.getInputHandler();
+        myInputTimer = new Timer(HudUpdater.FRAME_DELAY, new InputAction());
+        myShownNext = GameSpace.NO_HOLD;
+        myShownHold = GameSpace.NO_HOLD;
         setup();
     }
 
@@ -98,19 +147,34 @@ public class GameScene extends JPanel{
         setForeground(mySetting.getForeground());
         mySetting.addPropertyChangeListener(new SettingChangeListener(this, mySetting));
         addKeyListener(new GameSceneKeyAdapter());
-        myScoreCounter.addPropertyChangeListener(new ScoreChangeListener());
+        myEngine.addGameEventListener(myHud);
+        myEngine.addGameEventListener(new LevelChangeListener());
+        myEngine.addGameEventListener(new GameOverListener());
         myTimer.setInitialDelay(0); 
 
         Font labelFont = new Font("Helvetica", Font.BOLD , 20);
         GridBagConstraints gbc = new GridBagConstraints();
         gbc.insets = new Insets(5, 10, 5, 10);
 
+        // Label and panel for the held piece, on the left of the game space
+        gbc.anchor = GridBagConstraints.SOUTHWEST;
+        gbc.gridx = 0;
+        gbc.gridy = 0;
+        add(createLabel("HOLD", labelFont), gbc);
+        gbc.gridy++;
+        add(myHoldBlockPanel, gbc);
+
         // Panel that display pieces
+        gbc.anchor = GridBagConstraints.CENTER;
         gbc.gridheight = 7;
         gbc.fill = GridBagConstraints.VERTICAL;
-        gbc.gridx = 0;
+        gbc.gridx++;
         gbc.gridy = 0;
-        add(myGameSpacePanel, gbc);
+        if (myLoop == null) {
+            add(myGameSpacePanel, gbc);
+        } else {
+            add(myCanvas, gbc);
+        }
 
         // Label for the next piece
         gbc.gridheight = 1;
@@ -190,16 +254,89 @@ public class GameScene extends JPanel{
      */
     protected void resume() {
         requestFocusInWindow();
-        myTimer.start();
+        start();
+    }
+
+    /**
+     * Start moving the piece, by the timer or by the game loop, and updating the labels.
+     */
+    private void start() {
+        if (myLoop == null) {
+            myTimer.start();
+            myInputTimer.start();
+        } else {
+            myLoop.start();
+        }
+        myHud.start();
+    }
+
+    /**
+     * Stop moving the piece and updating the labels.
+     */
+    private void stop() {
+        myTimer.stop();
+        myInputTimer.stop();
+        if (myLoop != null) {
+            myLoop.stop();
+        }
+        myHud.stop();
+    }
+
+    /**
+     * Check whether the piece is moving, that is, the game is neither paused nor over.
+     * 
+     * @return Whether the piece is moving.
+     */
+    private boolean isRunning() {
+        return myLoop == null ? myTimer.isRunning() : myLoop.isRunning();
+    }
+
+    /**
+     * Apply the keys pressed and released since the last time and repeat held shifts that are due,
+     * when the game is run by the timer.
+     */
+    private void updateInput() {
+        if (myInput.update(myEngine, System.nanoTime())) {
+            myGameSpacePanel.repaintPiece();
+            repaintPreview();
+        }
+        if (myTimer.getDelay() != myEngine.getDelay()) {
+            myTimer.setDelay(myEngine.getDelay());
+        }
+    }
+
+    /**
+     * Draw a frame on the thread of the game loop, and repaint the next and held pieces if they have changed.
+     * 
+     * @param theProgress How far the current piece is from the next fall, from 0 to 1.
+     */
+    private void renderFrame(final double theProgress) {
+        myCanvas.render(theProgress);
+        repaintPreview();
+    }
+
+    /**
+     * Repaint the next and held pieces if they have changed since they were last repainted.
+     */
+    private void repaintPreview() {
+        final int next = myNextBlockPanel.getPiece();
+        if (next != myShownNext) {
+            myShownNext = next;
+            myNextBlockPanel.repaint();
+        }
+        final int hold = myHoldBlockPanel.getPiece();
+        if (hold != myShownHold) {
+            myShownHold = hold;
+            myHoldBlockPanel.repaint();
+        }
     }
 
     /**
      * End the game.
      */
     private void gameOver() {
-        myTimer.stop();
-        myScoreCounter.reset();
-        myGameSpace.clear();
+        stop();
+        myEngine.end();
         myPauseBtn.setEnabled(false);
     }
 
@@ -214,7 +351,7 @@ public class GameScene extends JPanel{
         @Override
         public void actionPerformed(ActionEvent e) {
             myFrame.toScene("Pause");
-            myTimer.stop();
+            stop();
         }
     }
 
@@ -233,15 +370,21 @@ public class GameScene extends JPanel{
                 gameOver();
             }
             requestFocusInWindow();
-            myGameSpace.newGame();
-            mySoftDropping = false;
-            myScore.setText("0");
-            myLevel.setText("0");
+            myEngine.newGame();
+            myHud.reset();
             myGameSpacePanel.repaint();
             myNextBlockPanel.repaint();
+            myHoldBlockPanel.repaint();
             myPauseBtn.setEnabled(true);
-            myTimer.setDelay(myScoreCounter.getSpeed());
-            myTimer.restart();
+            myTimer.setDelay(myEngine.getDelay());
+            myInput.setAutoShift(mySetting.getAutoShiftDelay(), mySetting.getAutoRepeatRate());
+            myInput.reset();
+            if (myLoop == null) {
+                myTimer.restart();
+            } else {
+                myLoop.reset();
+            }
+            start();
         }
     }
 
@@ -256,111 +399,119 @@ public class GameScene extends JPanel{
          */
         @Override
         public void actionPerformed(final ActionEvent e) {
-            // Get next piece
-            if(!myGameSpace.canMove(myGameSpace.getCurrentRow() + 1, myGameSpace.getCurrentColumn())) {
-                if (myGameSpace.placeCurrent()) { 
-                    gameOver(); 
+            if (myEngine.tick()) {
+                if (myEngine.isGameOver()) {
+                    gameOver();
                     return;
                 }
-                myGameSpace.clearLine(myScoreCounter);
-                myGameSpace.nextPiece();
                 myNextBlockPanel.repaint();
-            // Or drop the current piece
-            } else {
-                myGameSpace.dropCurrent(1);
-                if (mySoftDropping) { myScoreCounter.addScore(1); }
             }
-            myGameSpace.setHasKick(false);
-            myGameSpace.setTSpin(0);
-            myGameSpacePanel.repaint();
+            myGameSpacePanel.repaintPiece();
+        }
+    }
+
+    /**
+     * Listener for changes in level. The labels are updated by the {@link HudUpdater}.
+     */
+    private class LevelChangeListener implements GameEventListener {
+        /**
+         * {@inheritDoc}
+         * Adjust the speed of the timer. The game loop reads the delay from the engine itself,
+         * and calls this on its own thread, where the timer must not be touched.
+         */
+        @Override
+        public void onLevel(final int theLevel) {
+            if (myLoop == null) {
+                myTimer.setDelay(myEngine.getDelay());
+            }
         }
     }
 
     /**
-     * Listener for changes in score and level.
+     * Listener for the end of the game when it is run by the game loop.
      */
-    private class ScoreChangeListener implements PropertyChangeListener {
+    private class GameOverListener implements GameEventListener {
         /**
          * {@inheritDoc}
-         * Change the label for score and level, and adjust speed.
+         * End the game on the event dispatch thread, unless a new game has started by then.
          */
-        public void propertyChange(final PropertyChangeEvent e) {
-            if (e.getPropertyName().equals("score")) {
-                myScore.setText(Integer.toString(myScoreCounter.getScore()));
-            } else if (e.getPropertyName().equals("level")) {
-                myLevel.setText(Integer.toString(myScoreCounter.getLevel()));
-                myTimer.setDelay(myScoreCounter.getSpeed());
+        @Override
+        public void onGameOver() {
+            if (myLoop != null) {
+                SwingUtilities.invokeLater(() -> {
+                    if (myEngine.isGameOver()) {
+                        gameOver();
+                    }
+                });
             }
         }
     }
 
     /**
-     * Key sdapter used to move and rotate the current piece.
+     * Action listener for the timer that repeats held shifts when the game is run by the timer.
+     */
+    private class InputAction implements ActionListener {
+        /**
+         * {@inheritDoc}
+         * Apply the keys and repeat held shifts.
+         */
+        @Override
+        public void actionPerformed(final ActionEvent e) {
+            updateInput();
+        }
+    }
+
+    /**
+     * Key sdapter used to capture the presses and releases of the keys of operations.
+     * The keys are applied by the thread that runs the game, and held shifts are repeated
+     * by the input handler instead of the key repeat of the operating system.
      */
     private class GameSceneKeyAdapter extends KeyAdapter {
 
         /**
          * {@inheritDoc}
-         * Perform one of the following operations on the current piece based on the key pressed: 
+         * Capture the press of one of the following operations on the current piece: 
          * 1. Shift left
          * 2. Shift right
          * 3. Rotate clockwise
          * 4. Rotate counterclockwise
          * 5. Soft drop
+         * 6. Hard drop
+         * 7. Hold
          */
         @Override
         public void keyPressed(final KeyEvent e) {
-            if (!myTimer.isRunning() || myGameSpace.getCurrentPiece() == null) { return; }
-            final int keycode = e.getKeyCode();
-            int[] move = null;
-            final int row = myGameSpace.getCurrentRow();
-            final int col = myGameSpace.getCurrentColumn();
-            if (keycode == mySetting.getKey("Shift Left") && myGameSpace.canMove(row, col - 1)) {
-                myGameSpace.shiftCurrentLeft(1);
-            } else if (keycode == mySetting.getKey("Shift Right") && myGameSpace.canMove(row, col + 1)) {
-                myGameSpace.shiftCurrentRight(1);
-            } else if (keycode == mySetting.getKey("Rotate Clockwise")) {
-                move = myGameSpace.getCurrentPiece().rotateClockwise(myGameSpace);
-            } else if (keycode == mySetting.getKey("Rotate Counterclockwise")) {
-                move = myGameSpace.getCurrentPiece().rotateCounterclockwise(myGameSpace);
-            } else if (keycode == mySetting.getKey("Soft Drop")) {
-                mySoftDropping = true;
-                myTimer.setDelay(myScoreCounter.getSpeed() / 3);
-            }
-            if (keycode != mySetting.getKey("Soft Drop")) {
-                myGameSpacePanel.repaint();
-            }
-            // For wall kick
-            if (move != null && (move[0] != 0 || move[1] != 0)) {
-                myGameSpace.dropCurrent(move[0]);
-                myGameSpace.shiftCurrentRight(move[1]);
-                myGameSpace.setHasKick(true);
-            }
-            // For T-spin and mini T-spin
-            if (move != null) {
-                myGameSpace.checkTSpin();
+            if (!isRunning() || myGameSpace.getCurrentPiece() == null) { return; }
+            final Input input = getInput(e.getKeyCode());
+            if (input != null && myInput.press(input) && myLoop == null) {
+                updateInput();
             }
         }
 
         /**
          * {@inheritDoc}
-         * Perform one of the following operations on the current piece based on the key released: 
-         * 1. Resume to regular speed if released from soft drop.
-         * 2. Perform a hard drop.
+         * Capture the release of the key of an operation, even while the game is paused
+         * so the key isn't held when the game resumes.
          */
         @Override
         public void keyReleased(final KeyEvent e) {
-            if (!myTimer.isRunning() || myGameSpace.getCurrentPiece() == null) { return; }
-            final int keycode = e.getKeyCode();
-            if (keycode == mySetting.getKey("Soft Drop")) {
-                myTimer.setDelay(myScoreCounter.getSpeed());
-                mySoftDropping = false;
-            } else if (keycode == mySetting.getKey("Hard Drop")) {
-                myScoreCounter.addScore(myGameSpace.hardDrop() * 2);
-                repaint();
+            final Input input = getInput(e.getKeyCode());
+            if (input != null && myInput.release(input) && myLoop == null && isRunning()) {
+                updateInput();
             }
         }
 
+        /**
+         * Get the operation of the given key.
+         * 
+         * @param theKeycode The key code.
+         * @return The operation, or null if the key has no operation.
+         */
+        private Input getInput(final int theKeycode) {
+            final int action = mySetting.getAction(theKeycode);
+            return action == Setting.NO_ACTION ? null : KEY_INPUTS[action];
+        }
+
     }
     
 }
@@ -0,0 +1,188 @@
+package com.tetris.gui_scene;
+
+import java.awt.AlphaComposite;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+
+import com.tetris.model.GameSpace;
+import com.tetris.model.Piece;
+import com.tetris.model.PieceUnit;
+import com.tetris.model.Setting;
+
+/**
+ * Paint the 10 units wide and 20 units high grid of a game space inside a border of 10 pixels,
+ * for both the panel repainted by Swing and the canvas rendered by a game loop.
+ * 
+ * @author Jiameng Li
+ * @version 1.0
+ */
+public class GameSpacePainter {
+
+    /** The width of the border around the grid in pixels. */
+    public static final int BORDER = 10;
+
+    /** The width of the grid and its border in pixels. */
+    public static final int WIDTH = 2 * BORDER + 10 * PieceUnit.SIZE;
+
+    /** The height of the grid and its border in pixels. */
+    public static final int HEIGHT = 2 * BORDER + 20 * PieceUnit.SIZE;
+
+    /** The game space. */
+    private final GameSpace myGameSpace;
+
+    /** The general setting of the game. */
+    private final Setting mySetting;
+
+    /** The image of the placed pieces, drawn over the background. */
+    private final BufferedImage myStack;
+
+    /** The version of the board drawn on the image of placed pieces. */
+    private int myStackVersion;
+
+    /** The background the image of placed pieces is drawn for. */
+    private Color myStackBackground;
+
+    /** The area covered by the current piece when it was last painted. */
+    private final Rectangle myPieceBounds;
+
+    /** The area covered by the line that assists the user when it was last painted. */
+    private final Rectangle myGuideBounds;
+
+    /**
+     * Create a painter for a game space.
+     * 
+     * @param theSpace The game space.
+     * @param theSetting The general setting of the game.
+     */
+    public GameSpacePainter(final GameSpace theSpace, final Setting theSetting) {
+        super();
+        myGameSpace = theSpace;
+        mySetting = theSetting;
+        myStack = new BufferedImage(10 * PieceUnit.SIZE, 20 * PieceUnit.SIZE, BufferedImage.TYPE_INT_ARGB);
+        myStackVersion = -1;
+        myPieceBounds = new Rectangle();
+        myGuideBounds = new Rectangle();
+    }
+
+    /**
+     * Check whether the image of placed pieces is out of date, because the board or the background has changed.
+     * 
+     * @return Whether the image of placed pieces must be painted again.
+     */
+    public boolean isStackChanged() {
+        return myGameSpace.getBoard().getVersion() != myStackVersion
+               || mySetting.getBackground() != myStackBackground;
+    }
+
+    /**
+     * Get the area covered by the current piece when it was last painted.
+     * 
+     * @return The area covered by the current piece.
+     */
+    public Rectangle getPieceBounds() {
+        return myPieceBounds;
+    }
+
+    /**
+     * Get the area covered by the line that assists the user when it was last painted.
+     * 
+     * @return The area covered by the line.
+     */
+    public Rectangle getGuideBounds() {
+        return myGuideBounds;
+    }
+
+    /**
+     * Update the areas covered by the current piece and the line that assists the user.
+     */
+    public void updateBounds() {
+        final Piece current = myGameSpace.getCurrentPiece();
+        if (current == null) {
+            myPieceBounds.setBounds(0, 0, 0, 0);
+            myGuideBounds.setBounds(0, 0, 0, 0);
+        } else {
+            final int shapeSize = current.getSize();
+            int columns = 0;
+            for (int r = 0; r < shapeSize; r++) {
+                columns |= current.getMask(myGameSpace.getCurrentShape(), r);
+            }
+            final int left = BORDER + (myGameSpace.getCurrentColumn() - 2) * PieceUnit.SIZE;
+            final int top = BORDER + (myGameSpace.getCurrentRow() - shapeSize + 1) * PieceUnit.SIZE;
+            myPieceBounds.setBounds(left, top, shapeSize * PieceUnit.SIZE, shapeSize * PieceUnit.SIZE);
+            myGuideBounds.setBounds(left + Integer.numberOfTrailingZeros(columns) * PieceUnit.SIZE, BORDER,
+                                    Integer.bitCount(columns) * PieceUnit.SIZE, 20 * PieceUnit.SIZE);
+        }
+    }
+
+    /**
+     * Paint the placed pieces on the image of placed pieces again.
+     */
+    private void updateStack() {
+        final Graphics2D graphics = myStack.createGraphics();
+        graphics.setComposite(AlphaComposite.Clear);
+        graphics.fillRect(0, 0, myStack.getWidth(), myStack.getHeight());
+        graphics.setComposite(AlphaComposite.SrcOver);
+        int y = 19 * PieceUnit.SIZE;
+        for (int r = 19; r > -1; r--) {
+            int x = 0;
+            for (int c = 2; c < 12; c++) {
+                final PieceUnit unit = myGameSpace.getUnit(r, c);
+                if (unit != null) {
+                    unit.paintUnit(graphics, x, y, PieceUnit.SUB_SIZE);
+                }
+                x += PieceUnit.SIZE;
+            }
+            y -= PieceUnit.SIZE;
+        }
+        graphics.dispose();
+        myStackVersion = myGameSpace.getBoard().getVersion();
+        myStackBackground = mySetting.getBackground();
+    }
+
+    /**
+     * Paint the line that assists the user, the placed pieces, and the current piece inside the border.
+     * Placed pieces are drawn from an image that is only painted again when the board changes.
+     * The background and the border are left to the caller.
+     * 
+     * @param theGraphics The graphics to paint on.
+     * @param theOffset The number of pixels the current piece is drawn below its row,
+     *                  so it can fall smoothly between two rows.
+     */
+    public void paint(final Graphics2D theGraphics, final int theOffset) {
+        updateBounds();
+        final Piece current = myGameSpace.getCurrentPiece();
+        if (current == null) { return; }
+        final int shapeSize = current.getSize();
+
+        // Draw a line to assist the user
+        if (mySetting.getBackground() == Color.BLACK) {
+            theGraphics.setColor(Color.DARK_GRAY);
+        } else {
+            theGraphics.setColor(Color.LIGHT_GRAY);
+        }
+        theGraphics.fillRect(myGuideBounds.x, BORDER, myGuideBounds.width, HEIGHT);
+
+        // Paint placed pieces
+        if (isStackChanged()) {
+            updateStack();
+        }
+        theGraphics.drawImage(myStack, BORDER, BORDER, null);
+
+        // Paint current piece
+        int y = BORDER + myGameSpace.getCurrentRow() * PieceUnit.SIZE;
+        for (int r = shapeSize - 1; r > -1 && y > 0; r--) {
+            final int mask = current.getMask(myGameSpace.getCurrentShape(), r);
+            int x = BORDER + (myGameSpace.getCurrentColumn() + shapeSize - 3) * PieceUnit.SIZE;
+            for (int c = shapeSize - 1; c > -1 && x > 0; c--) {
+                if ((mask >>> c & 1) != 0) {
+                    current.getUnit().paintUnit(theGraphics, x, y + theOffset, PieceUnit.SUB_SIZE);
+                }
+                x -= PieceUnit.SIZE;
+            }
+            y -= PieceUnit.SIZE;
+        }
+    }
+
+}
@@ -1,6 +1,5 @@
 package com.tetris.gui_scene;
 
-import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
@@ -9,8 +8,6 @@ import javax.swing.BorderFactory;
 import javax.swing.JPanel;
 
 import com.tetris.model.GameSpace;
-import com.tetris.model.Piece;
-import com.tetris.model.PieceUnit;
 import com.tetris.model.Setting;
 
 /**
@@ -21,12 +18,12 @@ import com.tetris.model.Setting;
  */
 public class GameSpacePanel extends JPanel {
 
-    /** The game space. */
-    private final GameSpace myGameSpace;
-
     /** The general setting of the game. */
     private final Setting mySetting;
 
+    /** Paint the game space. */
+    private final GameSpacePainter myPainter;
+
     /**
      * Create a panel that display pieces.
      * 
@@ -35,8 +32,8 @@ public class GameSpacePanel extends JPanel {
      */
     public GameSpacePanel(final GameSpace theSpace, final Setting theSetting) {
         super();
-        myGameSpace = theSpace;
         mySetting = theSetting;
+        myPainter = new GameSpacePainter(theSpace, theSetting);
         setup();
     }
 
@@ -44,13 +41,29 @@ public class GameSpacePanel extends JPanel {
      * Set up the panel.
      */
     private void setup() {
-        setPreferredSize(new Dimension(20 + 10 * PieceUnit.SIZE, 20 + 20 * PieceUnit.SIZE));
+        setPreferredSize(new Dimension(GameSpacePainter.WIDTH, GameSpacePainter.HEIGHT));
         setMinimumSize(getPreferredSize());
         setMaximumSize(getPreferredSize());
-        setBorder(BorderFactory.createLineBorder(mySetting.getForeground(), 10));
+        setBorder(BorderFactory.createLineBorder(mySetting.getForeground(), GameSpacePainter.BORDER));
         setBackground(mySetting.getBackground());
     }
-    
+
+    /**
+     * Repaint only the area covered by the current piece and the line that assists the user,
+     * before and after it moved. The whole panel is repainted when the placed pieces have changed.
+     */
+    public void repaintPiece() {
+        if (myPainter.isStackChanged()) {
+            repaint();
+        } else {
+            repaint(myPainter.getPieceBounds());
+            repaint(myPainter.getGuideBounds());
+            myPainter.updateBounds();
+            repaint(myPainter.getPieceBounds());
+            repaint(myPainter.getGuideBounds());
+        }
+    }
+
     /**
      * {@inheritDoc}
      * Paint each piece unit on the panel.
@@ -58,60 +71,7 @@ public class GameSpacePanel extends JPanel {
     @Override
     public void paintComponent(final Graphics g) {
         super.paintComponent(g);
-        if (myGameSpace.getCurrentPiece() == null) { return; }
-        final Graphics2D graphics = (Graphics2D) g;
-        final PieceUnit[][] units = myGameSpace.getPieces();
-        final Piece current = myGameSpace.getCurrentPiece();
-        final int[][] shape = current.getCurrentShape();
-
-        // Draw a line to assist the user
-        int hasUnit = -1;
-        int size = 0;
-        for (int c = 0; c < shape[0].length; c++) {
-            for (int r = 0; r < shape.length; r++) {
-                if (shape[r][c] == 1) {
-                    if (hasUnit == -1) {
-                        hasUnit = c;
-                    }
-                    size++;
-                    break;
-                }
-            }
-        }
-        int y = 10;
-        int x = 10 + (myGameSpace.getCurrentColumn() - 2 + hasUnit) * PieceUnit.SIZE;
-        if (mySetting.getBackground() == Color.BLACK) {
-            graphics.setColor(Color.DARK_GRAY);
-        } else {
-            graphics.setColor(Color.LIGHT_GRAY);
-        }
-        graphics.fillRect(x, y, PieceUnit.SIZE * size, getPreferredSize().height);
-        
-        // Paint placed pieces
-        y = 10 + 19 * PieceUnit.SIZE;
-        for (int r = 19; r > -1; r--) {
-            x = 10;
-            for (int c = 2; c < 12; c++) {
-                if (units[r][c] != null) {
-                    units[r][c].paintUnit(graphics, x, y, PieceUnit.SUB_SIZE);
-                }
-                x += PieceUnit.SIZE;
-            }
-            y -= PieceUnit.SIZE;
-        }
-
-        // Paint current piece
-        y = 10 + myGameSpace.getCurrentRow() * PieceUnit.SIZE;
-        for (int r = shape.length - 1; r > -1 && y > 0; r--) {
-            x = 10 + (myGameSpace.getCurrentColumn() + shape[0].length - 3) * PieceUnit.SIZE;
-            for (int c = shape[0].length - 1; c > -1 && x > 0; c--) {
-                if (shape[r][c] == 1) {
-                    current.getUnit().paintUnit(graphics, x, y, PieceUnit.SUB_SIZE);
-                }
-                x -= PieceUnit.SIZE;
-            }
-            y -= PieceUnit.SIZE;
-        }
+        myPainter.paint((Graphics2D) g, 0);
     }
-    
+
 }
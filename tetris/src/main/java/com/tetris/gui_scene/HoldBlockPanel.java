@@ -0,0 +1,34 @@
+package com.tetris.gui_scene;
+
+import com.tetris.model.GameSpace;
+import com.tetris.model.Setting;
+
+/**
+ * The panel that display the held block.
+ * The panel has the same size and layout as {@link NextBlockPanel}.
+ * 
+ * @author Jiameng Li
+ * @version 1.0
+ */
+public class HoldBlockPanel extends NextBlockPanel {
+
+    /**
+     * Create a panel that display the held block.
+     * 
+     * @param theSpace The game space.
+     * @param theSetting The general setting of the game.
+     */
+    public HoldBlockPanel(final GameSpace theSpace, final Setting theSetting) {
+        super(theSpace, theSetting);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The held piece is displayed.
+     */
+    @Override
+    protected int getPiece() {
+        return getGameSpace().getHold();
+    }
+
+}
@@ -0,0 +1,141 @@
+package com.tetris.gui_scene;
+
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+
+import javax.swing.JLabel;
+import javax.swing.Timer;
+
+import com.tetris.model.GameEventListener;
+
+/**
+ * Keep the labels for score and level up to date without setting their text on every event.
+ * Events only record the latest values and mark them dirty, and the labels are updated
+ * at most once per display frame, and only those whose value has actually changed,
+ * so a soft drop doesn't lay out the whole scene again for every row.
+ * Events may come from any thread, the labels are only changed on the event dispatch thread.
+ *
+ * @author Jiameng Li
+ * @version 1.0
+ */
+public class HudUpdater implements GameEventListener, ActionListener {
+
+    /** Delay between each update of the labels in milliseconds, about 60 frames per second. */
+    public static final int FRAME_DELAY = 16;
+
+    /** The label for score. */
+    private final JLabel myScoreLabel;
+
+    /** The label for level. */
+    private final JLabel myLevelLabel;
+
+    /** Timer that updates the labels once per frame while the game is played. */
+    private final Timer myTimer;
+
+    /** The latest score. */
+    private volatile long myScore;
+
+    /** The latest level. */
+    private volatile int myLevel;
+
+    /** Whether the score or level has changed since the labels were last updated. */
+    private volatile boolean myDirty;
+
+    /** The score shown on the label. */
+    private long myShownScore;
+
+    /** The level shown on the label. */
+    private int myShownLevel;
+
+    /**
+     * Create an updater for the labels for score and level.
+     *
+     * @param theScoreLabel The label for score.
+     * @param theLevelLabel The label for level.
+     */
+    public HudUpdater(final JLabel theScoreLabel, final JLabel theLevelLabel) {
+        super();
+        myScoreLabel = theScoreLabel;
+        myLevelLabel = theLevelLabel;
+        myTimer = new Timer(FRAME_DELAY, this);
+        reset();
+    }
+
+    /**
+     * {@inheritDoc}
+     * Record the score to show on the next frame.
+     */
+    @Override
+    public void onScore(final long theScore) {
+        myScore = theScore;
+        myDirty = true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Record the level to show on the next frame.
+     */
+    @Override
+    public void onLevel(final int theLevel) {
+        myLevel = theLevel;
+        myDirty = true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Update the labels once per frame.
+     */
+    @Override
+    public void actionPerformed(final ActionEvent e) {
+        flush();
+    }
+
+    /**
+     * Update the labels whose value has changed since they were last updated.
+     * Must be called on the event dispatch thread.
+     */
+    public void flush() {
+        if (!myDirty) { return; }
+        myDirty = false;
+        final long score = myScore;
+        final int level = myLevel;
+        if (score != myShownScore) {
+            myScoreLabel.setText(Long.toString(score));
+            myShownScore = score;
+        }
+        if (level != myShownLevel) {
+            myLevelLabel.setText(Integer.toString(level));
+            myShownLevel = level;
+        }
+    }
+
+    /**
+     * Show a score and level of 0 right away, for a new game.
+     * Must be called on the event dispatch thread.
+     */
+    public void reset() {
+        myScore = 0;
+        myLevel = 0;
+        myShownScore = 0;
+        myShownLevel = 0;
+        myDirty = false;
+        myScoreLabel.setText("0");
+        myLevelLabel.setText("0");
+    }
+
+    /**
+     * Start updating the labels once per frame.
+     */
+    public void start() {
+        myTimer.start();
+    }
+
+    /**
+     * Stop updating the labels, after showing the latest values.
+     */
+    public void stop() {
+        myTimer.stop();
+        flush();
+    }
+
+}
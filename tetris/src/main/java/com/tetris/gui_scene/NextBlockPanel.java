@@ -10,6 +10,7 @@ import javax.swing.JPanel;
 
 import com.tetris.model.GameSpace;
 import com.tetris.model.Piece;
+import com.tetris.model.PieceGenerator;
 import com.tetris.model.Setting;
 
 /**
@@ -51,6 +52,24 @@ public class NextBlockPanel extends JPanel {
         setBackground(mySetting.getBackground());
     }
 
+    /**
+     * Get the game space.
+     * 
+     * @return The game space.
+     */
+    protected GameSpace getGameSpace() {
+        return myGameSpace;
+    }
+
+    /**
+     * Get the piece displayed on the panel.
+     * 
+     * @return The piece packed by {@link PieceGenerator#pack(int, int)}, or {@link GameSpace#NO_HOLD} for none.
+     */
+    protected int getPiece() {
+        return myGameSpace.getNextPiece() == null ? GameSpace.NO_HOLD : myGameSpace.getPreview(0);
+    }
+
     /**
      * {@inheritDoc}
      * Draw the next shape on the panel.
@@ -58,17 +77,20 @@ public class NextBlockPanel extends JPanel {
     @Override
     public void paintComponent(final Graphics g) {
         super.paintComponent(g);
-        if (myGameSpace.getNextPiece() == null) { return; }
+        final int packed = getPiece();
+        if (packed == GameSpace.NO_HOLD) { return; }
         Graphics2D graphics = (Graphics2D) g;
-        final Piece myNext = myGameSpace.getNextPiece();
-        final int[][] shape = myNext.getNextShape();
-        int start = 144 / 2 - shape.length * 24 / 2;
+        final Piece myNext = myGameSpace.getPiece(PieceGenerator.getType(packed));
+        final int shape = PieceGenerator.getShape(packed);
+        final int size = myNext.getSize();
+        int start = 144 / 2 - size * 24 / 2;
         int y = start;
         graphics.setColor(myNext.getUnit().getOuterColor());
-        for (int r = 0; r < shape.length; r++) {
+        for (int r = 0; r < size; r++) {
+            final int mask = myNext.getMask(shape, r);
             int x = start;
-            for (int c = 0; c < shape.length; c++) {
-                if (shape[r][c] == 1) {
+            for (int c = 0; c < size; c++) {
+                if ((mask >>> c & 1) != 0) {
                     myNext.getUnit().paintUnit(graphics, x, y, 3);
                 }
                 x += 24;
@@ -55,16 +55,19 @@ public class SettingChangeListener implements PropertyChangeListener{
      * @param theComponent The component to be changed.
      */
     private void changeRecursive(final Component theComponent) {
-        final JComponent component = (JComponent) theComponent;
-        component.setBackground(mySetting.getBackground());
-        component.setForeground(mySetting.getForeground());
-        final Border b = component.getBorder();
-        if (b != null && b instanceof LineBorder) {
-            component.setBorder(BorderFactory.createLineBorder(mySetting.getForeground(), 
-                                ((LineBorder) b).getThickness()));
-        }
-        for (Component c : component.getComponents()) {
-            changeRecursive(c);
+        theComponent.setBackground(mySetting.getBackground());
+        theComponent.setForeground(mySetting.getForeground());
+        // A canvas has no border or children and reads its colors from the setting
+        if (theComponent instanceof JComponent) {
+            final JComponent component = (JComponent) theComponent;
+            final Border b = component.getBorder();
+            if (b != null && b instanceof LineBorder) {
+                component.setBorder(BorderFactory.createLineBorder(mySetting.getForeground(), 
+                                    ((LineBorder) b).getThickness()));
+            }
+            for (Component c : component.getComponents()) {
+                changeRecursive(c);
+            }
         }
     }
     
@@ -117,7 +117,7 @@ public class SettingScene extends JPanel {
 
         // Label for hint to the user
         theGBC.gridx = 0;
-        theGBC.gridy = 13;
+        theGBC.gridy = getFooterRow();
         theGBC.gridwidth = 3;
         add(myHint, theGBC);
     }
@@ -274,13 +274,22 @@ public class SettingScene extends JPanel {
             }
         });
         theGBC.gridx = 3;
-        theGBC.gridy = 13;
+        theGBC.gridy = getFooterRow();
         theGBC.gridheight = 1;
         theGBC.anchor = GridBagConstraints.EAST;
         theGBC.fill = GridBagConstraints.NONE;
         add(backBtn, theGBC);
     }
 
+    /**
+     * Get the row below the buttons used to select keys, which has a label and a button for each operation.
+     * 
+     * @return The row of the hint and the back button.
+     */
+    private int getFooterRow() {
+        return 2 * mySetting.getAllOperations().size() + 1;
+    }
+
     /**
      * Create a label for a category of setting.
      * 
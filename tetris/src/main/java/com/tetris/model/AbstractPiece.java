@@ -1,10 +1,10 @@
 package com.tetris.model;
 
-import java.util.Random;
 import java.awt.Color;
 
 /**
- * Abstract game piece.
+ * Abstract game piece. The shapes, masks, colors, and wall kicks of a type are shared by every game,
+ * so the piece has no state of its own while playing.
  * 
  * @author Jiameng Li
  * @version 1.0
@@ -26,17 +26,11 @@ public class AbstractPiece implements Piece {
         {{0, 0}, {0, -1}, {1, -1}, {-2, 0}, {-2, -1}}
     };
 
-    /** Used to select random shape from the piece. */
-    private static Random myRand = new Random();
-
     /** All possible shape for the piece. */
     private int[][][] myAllShapes;
 
-    /** The current shape of the piece. */
-    private int myCurrentShape;
-
-    /** The next random shape. */
-    private int myNextShape;
+    /** The row masks of all possible shapes, indexed by shape and then row. */
+    private final int[][] myShapeMasks;
 
     /** The brighter color of the piece. */
     private Color myBrightColor;
@@ -54,16 +48,16 @@ public class AbstractPiece implements Piece {
      * Constructor of abstract piece with given shapes and colors.
      * 
      * @param theShapes All possible shapes of the piece.
+     * @param theMasks The row masks of all possible shapes, see {@link #createMasks(int[][][])}.
      * @param theBright The brighter color.
      * @param theDark The darker color.
      * @param theWallKick Wall kick data of this piece.
      */
-    protected AbstractPiece(final int[][][] theShapes, final Color theBright, final Color theDark, 
-                            final int[][][] theWallKick) {
+    protected AbstractPiece(final int[][][] theShapes, final int[][] theMasks, final Color theBright, 
+                            final Color theDark, final int[][][] theWallKick) {
         super();
         myAllShapes = theShapes;
-        myCurrentShape = myRand.nextInt(theShapes.length);
-        myNextShape = myRand.nextInt(theShapes.length);
+        myShapeMasks = theMasks;
         myBrightColor = theBright;
         myDarkColor = theDark;
         myUnit = new PieceUnit(theBright, theDark);
@@ -75,39 +69,44 @@ public class AbstractPiece implements Piece {
     }
 
     /**
-     * Set the current shape to the corresponding shape of the given index.
-     * 
-     * @param theIdx Index of the shape.
-     */
-    protected void setCurrentShapeIdx(final int theIdx) {
-        myCurrentShape = theIdx;
-    }
-
-    /**
-     * Get the index of the current shape.
+     * Create the row masks of the given shapes. In the mask of each row,
+     * bit n is set when the nth column of the row is filled.
      * 
-     * @return The index of the current shape.
+     * @param theShapes All possible shapes of a piece.
+     * @return The row masks indexed by shape and then row.
      */
-    protected int getCurrentShapeIdx() {
-        return myCurrentShape;
+    protected static int[][] createMasks(final int[][][] theShapes) {
+        final int[][] masks = new int[theShapes.length][];
+        for (int s = 0; s < theShapes.length; s++) {
+            masks[s] = new int[theShapes[s].length];
+            for (int r = 0; r < theShapes[s].length; r++) {
+                for (int c = 0; c < theShapes[s][r].length; c++) {
+                    masks[s][r] |= theShapes[s][r][c] << c;
+                }
+            }
+        }
+        return masks;
     }
 
     /**
-     * Get the current shape of the piece.
+     * Get the shape with the given index.
      * 
-     * @return The current shape of the piece.
+     * @param theShape The index of the shape.
+     * @return A copy of the shape.
      */
-    public int[][] getCurrentShape() {
-        return myAllShapes[myCurrentShape].clone();
+    public int[][] getShape(final int theShape) {
+        return myAllShapes[theShape].clone();
     }
 
     /**
-     * Get the next random shape of the piece.
+     * Get the row mask of the given row in the given shape.
      * 
-     * @return The next random shape of the piece.
+     * @param theShape The index of the shape.
+     * @param theRow The row in the shape, 0 is the top row.
+     * @return The row mask where bit n is set when the nth column is filled.
      */
-    public int[][] getNextShape() {
-        return myAllShapes[myNextShape].clone();
+    public int getMask(final int theShape, final int theRow) {
+        return myShapeMasks[theShape][theRow];
     }
 
     /**
@@ -129,16 +128,16 @@ public class AbstractPiece implements Piece {
     }
 
     /**
-     * Replace the current shape with the next random shape
-     * and set a new next random shape.
+     * Get the number of possible shapes of the piece.
+     * 
+     * @return The number of possible shapes.
      */
-    public void setRandomShape() {
-        myCurrentShape = myNextShape;
-        myNextShape = myRand.nextInt(myAllShapes.length);
+    public int getShapeCount() {
+        return myAllShapes.length;
     }
 
     /**
-     * Rotate the piece clockwise by 90 degrees.
+     * Find how the current piece of the given game space moves when it rotates clockwise by 90 degrees.
      * This checks possible wall kicks when a rugular rotation fails. The order of wall kick is fixed, 
      * which means it should only perform a wall kick when all previous wall kick fail. 
      * If all wall kick failed, the rotation fails.
@@ -148,24 +147,12 @@ public class AbstractPiece implements Piece {
      *         If the rotation fails, return null.
      */
     public int[] rotateClockwise(final GameSpace theSpace) {
-        int[] move = null;
-        int target = myCurrentShape + 1;
-        if (target == myAllShapes.length) {
-            target = 0;
-        }
-        for (int[] wk : myWalkKick[myCurrentShape]) {
-            final PieceUnit[][] surrounding = theSpace.getSurrounding(wk[0], wk[1]);
-            if (isValidRotate(surrounding, target)) {
-                myCurrentShape = target;
-                move = new int[]{wk[0], wk[1]};
-                break;
-            }
-        }
-        return move;
+        return toMove(findRotation(theSpace.getBoard(), theSpace.getCurrentShape(), theSpace.getCurrentRow(),
+                                   theSpace.getCurrentColumn(), true));
     }
 
     /**
-     * Rotate the piece counterclockwise by 90 degrees.
+     * Find how the current piece of the given game space moves when it rotates counterclockwise by 90 degrees.
      * This checks possible wall kicks when a rugular rotation fails. The order of wall kick is fixed, 
      * which means it should only perform a wall kick when all previous wall kick fail. 
      * If all wall kick failed, the rotation fails.
@@ -175,41 +162,65 @@ public class AbstractPiece implements Piece {
      *         If the rotation fails, return null.
      */
     public int[] rotateCounterclockwise(final GameSpace theSpace) {
-        int[] move = null;
-        int target = myCurrentShape - 1;
-        if (target == -1) {
-            target = myAllShapes.length - 1;
+        return toMove(findRotation(theSpace.getBoard(), theSpace.getCurrentShape(), theSpace.getCurrentRow(),
+                                   theSpace.getCurrentColumn(), false));
+    }
+
+    /**
+     * {@inheritDoc}
+     * Wall kicks are tested in their fixed order against the board using the row masks of the target shape.
+     */
+    @Override
+    public int findRotation(final Board theBoard, final int theShape, final int theRow, final int theCol, 
+                            final boolean theClockwise) {
+        int rotation = ROTATION_FAILED;
+        final int target;
+        final int[][] kicks;
+        final int sign;
+        if (theClockwise) {
+            target = theShape + 1 == myAllShapes.length ? 0 : theShape + 1;
+            kicks = myWalkKick[theShape];
+            sign = 1;
+        } else {
+            target = theShape == 0 ? myAllShapes.length - 1 : theShape - 1;
+            kicks = myWalkKick[target];
+            sign = -1;
         }
-        for (int[] wk : myWalkKick[target]) {
-            final PieceUnit[][] surrounding = theSpace.getSurrounding(-wk[0], -wk[1]);
-            if (isValidRotate(surrounding, target)) {
-                myCurrentShape = target;
-                move = new int[]{-wk[0], -wk[1]};
-                break;
+        for (int k = 0; k < kicks.length && rotation == ROTATION_FAILED; k++) {
+            final int row = sign * kicks[k][0];
+            final int col = sign * kicks[k][1];
+            if (fits(theBoard, target, theRow + row, theCol + col)) {
+                rotation = Piece.packRotation(target, row, col);
             }
         }
-        return move;
+        return rotation;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean fits(final Board theBoard, final int theShape, final int theRow, final int theCol) {
+        final int[] masks = myShapeMasks[theShape];
+        boolean fits = true;
+        for (int r = masks.length - 1, i = 0; r > -1 && fits; r--, i++) {
+            fits = !theBoard.collides(masks[r], theRow - i, theCol);
+        }
+        return fits;
     }
 
     /**
-     * Check whether the piece can be rotated in the given surrounding.
+     * Convert a packed rotation to the array returned by {@link #rotateClockwise(GameSpace)}.
      * 
-     * @param theSurrounding The area the piece may touch as it rotate.
-     * @param theTarget The index of the shape the piece is about to rotate to.
-     * @return Whether the piece can be rotated.
+     * @param theRotation The packed rotation.
+     * @return An array [row, column], or null if the rotation failed.
      */
-    public boolean isValidRotate(PieceUnit[][] theSurrounding, int theTarget) {
-        boolean valid = true;
-        outerLoop:
-        for (int i = 0; i < theSurrounding.length; i++) {
-            for (int j = 0; j < theSurrounding[0].length; j++) {
-                if (theSurrounding[i][j] != null && myAllShapes[theTarget][i][j] == 1) {
-                    valid = false;
-                    break outerLoop;
-                }
-            }
+    private static int[] toMove(final int theRotation) {
+        int[] move = null;
+        if (theRotation != ROTATION_FAILED) {
+            move = new int[]{Piece.getRotationRow(theRotation), Piece.getRotationColumn(theRotation)};
         }
-        return valid;
+        return move;
     }
 
     /**
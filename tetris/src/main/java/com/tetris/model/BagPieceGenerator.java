@@ -0,0 +1,110 @@
+package com.tetris.model;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Piece generator that puts a number of copies of every piece type into a bag,
+ * shuffles it, and deals the pieces until the bag is empty.
+ * With one copy this is the 7-bag, and with two copies the 14-bag.
+ * 
+ * @author Jiameng Li
+ * @version 1.0
+ */
+public class BagPieceGenerator implements PieceGenerator {
+
+    /** The random number generator. */
+    private final SplitMix64 myRand;
+
+    /** The piece types in the bag. */
+    private final int[] myBag;
+
+    /** Index of the next piece type to deal from the bag. */
+    private int myIndex;
+
+    /**
+     * Create a bag piece generator with the given seed.
+     * 
+     * @param theCopies Number of copies of every piece type in a bag.
+     * @param theSeed The seed.
+     */
+    public BagPieceGenerator(final int theCopies, final long theSeed) {
+        super();
+        myRand = new SplitMix64(theSeed);
+        myBag = new int[TYPES * theCopies];
+        for (int i = 0; i < myBag.length; i++) {
+            myBag[i] = i % TYPES;
+        }
+        myIndex = myBag.length;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Refill and shuffle the bag when it is empty.
+     */
+    @Override
+    public int next() {
+        if (myIndex == myBag.length) {
+            // Fisher-Yates shuffle
+            for (int i = myBag.length - 1; i > 0; i--) {
+                final int j = myRand.nextInt(i + 1);
+                final int temp = myBag[i];
+                myBag[i] = myBag[j];
+                myBag[j] = temp;
+            }
+            myIndex = 0;
+        }
+        return PieceGenerator.pack(myBag[myIndex++], myRand.nextInt(SHAPES));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void save(final ByteBuffer theBuffer) {
+        theBuffer.putLong(myRand.getState());
+        theBuffer.put((byte) myIndex);
+        for (int type : myBag) {
+            theBuffer.put((byte) type);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void load(final ByteBuffer theBuffer) {
+        myRand.setState(theBuffer.getLong());
+        myIndex = theBuffer.get();
+        for (int i = 0; i < myBag.length; i++) {
+            myBag[i] = theBuffer.get();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PieceGenerator copy() {
+        final BagPieceGenerator copy = new BagPieceGenerator(myBag.length / TYPES, 0);
+        copy.copyFrom(this);
+        return copy;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Bags with a different number of copies are of a different kind.
+     */
+    @Override
+    public boolean copyFrom(final PieceGenerator theGenerator) {
+        final boolean same = theGenerator instanceof BagPieceGenerator
+                             && ((BagPieceGenerator) theGenerator).myBag.length == myBag.length;
+        if (same) {
+            final BagPieceGenerator other = (BagPieceGenerator) theGenerator;
+            myRand.setState(other.myRand.getState());
+            System.arraycopy(other.myBag, 0, myBag, 0, myBag.length);
+            myIndex = other.myIndex;
+        }
+        return same;
+    }
+
+}
@@ -0,0 +1,267 @@
+package com.tetris.model;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * The board that keeps track of occupied cells in the game space.
+ * Each row is stored as a bitmask where bit n is set when column n is occupied.
+ * The walls are stored as pre-set bits, so a row is full when its mask equals {@link #FULL_ROW}.
+ * The color of each cell is kept separately as a byte, 0 means no color.
+ *
+ * @author Jiameng Li
+ * @version 1.0
+ */
+public class Board {
+
+    /** Number of rows in the board, including the floor. */
+    public static final int ROWS = 21;
+
+    /** Number of columns in the board, including the walls. */
+    public static final int COLUMNS = 14;
+
+    /** The first column inside the walls. */
+    public static final int LEFT = 2;
+
+    /** The last column inside the walls. */
+    public static final int RIGHT = 11;
+
+    /** The row acts as the floor of the board. */
+    public static final int FLOOR = ROWS - 1;
+
+    /** Mask of a row that only contains the walls. Every column outside the walls counts as wall. */
+    public static final int WALL_ROW = ~(((1 << (RIGHT + 1)) - 1) ^ ((1 << LEFT) - 1));
+
+    /** Mask of a row that is completely filled. */
+    public static final int FULL_ROW = -1;
+
+    /** The occupancy of each row. */
+    private final int[] myRows;
+
+    /** The color of each cell, indexed by row * COLUMNS + column. */
+    private final byte[] myColors;
+
+    /** The number of times the board has changed. */
+    private int myVersion;
+
+    /** The Zobrist hash of the occupied cells, updated as cells change. */
+    private long myHash;
+
+    /**
+     * Create an empty board surrounded by walls.
+     */
+    public Board() {
+        super();
+        myRows = new int[ROWS];
+        myColors = new byte[ROWS * COLUMNS];
+        clear();
+    }
+
+    /**
+     * Shift a row mask of a piece to the given column.
+     * Units that fall outside the left side of the board are moved onto the wall.
+     *
+     * @param theMask The row mask of the piece where bit n represents the nth column of the piece.
+     * @param theCol The column of the left side of the piece.
+     * @return The row mask aligned with the board.
+     */
+    public static int shift(final int theMask, final int theCol) {
+        int mask;
+        if (theCol >= 0) {
+            mask = theMask << theCol;
+        } else {
+            mask = theMask >>> -theCol;
+            if ((theMask & ((1 << -theCol) - 1)) != 0) {
+                mask |= 1;
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Get the number of times the board has changed, so views can tell whether what they drew is still valid.
+     *
+     * @return The number of times the board has changed.
+     */
+    public int getVersion() {
+        return myVersion;
+    }
+
+    /**
+     * Get the Zobrist hash of the occupied cells, see {@link Zobrist}. Boards with the same occupied cells
+     * have the same hash no matter how the cells were filled.
+     *
+     * @return The hash of the board.
+     */
+    public long getHash() {
+        return myHash;
+    }
+
+    /**
+     * Get the occupancy of the given row. Rows above the board only contain the walls
+     * and rows below the floor are full.
+     *
+     * @param theRow The row.
+     * @return The occupancy of the row.
+     */
+    public int getRow(final int theRow) {
+        int mask;
+        if (theRow < 0) {
+            mask = WALL_ROW;
+        } else if (theRow > FLOOR) {
+            mask = FULL_ROW;
+        } else {
+            mask = myRows[theRow];
+        }
+        return mask;
+    }
+
+    /**
+     * Check whether the cell at the given row and column is occupied.
+     *
+     * @param theRow The row.
+     * @param theCol The column.
+     * @return Whether the cell is occupied.
+     */
+    public boolean isOccupied(final int theRow, final int theCol) {
+        return theCol < 0 || theCol >= COLUMNS || (getRow(theRow) >>> theCol & 1) != 0;
+    }
+
+    /**
+     * Get the color of the cell at the given row and column.
+     *
+     * @param theRow The row.
+     * @param theCol The column.
+     * @return The color of the cell, 0 if the cell has no color.
+     */
+    public byte getColor(final int theRow, final int theCol) {
+        byte color = 0;
+        if (theRow >= 0 && theRow < ROWS && theCol >= 0 && theCol < COLUMNS) {
+            color = myColors[theRow * COLUMNS + theCol];
+        }
+        return color;
+    }
+
+    /**
+     * Check whether a row of a piece overlaps any occupied cell when placed at the given row and column.
+     *
+     * @param theMask The row mask of the piece where bit n represents the nth column of the piece.
+     * @param theRow The row to place the piece row.
+     * @param theCol The column of the left side of the piece.
+     * @return Whether the piece row overlaps any occupied cell.
+     */
+    public boolean collides(final int theMask, final int theRow, final int theCol) {
+        return theMask != 0 && (getRow(theRow) & shift(theMask, theCol)) != 0;
+    }
+
+    /**
+     * Check whether the given row is full.
+     *
+     * @param theRow The row.
+     * @return Whether the row is full.
+     */
+    public boolean isFull(final int theRow) {
+        return getRow(theRow) == FULL_ROW;
+    }
+
+    /**
+     * Fill the cell at the given row and column with the given color.
+     *
+     * @param theRow The row inside the board.
+     * @param theCol The column inside the walls.
+     * @param theColor The color of the cell.
+     */
+    public void fill(final int theRow, final int theCol, final byte theColor) {
+        if ((myRows[theRow] >>> theCol & 1) == 0) {
+            myHash ^= Zobrist.cell(theRow, theCol);
+        }
+        myRows[theRow] |= 1 << theCol;
+        myColors[theRow * COLUMNS + theCol] = theColor;
+        myVersion++;
+    }
+
+    /**
+     * Empty the cell at the given row and column.
+     *
+     * @param theRow The row inside the board.
+     * @param theCol The column inside the walls.
+     */
+    public void empty(final int theRow, final int theCol) {
+        if ((myRows[theRow] >>> theCol & 1) != 0) {
+            myHash ^= Zobrist.cell(theRow, theCol);
+        }
+        myRows[theRow] &= ~(1 << theCol);
+        myColors[theRow * COLUMNS + theCol] = 0;
+        myVersion++;
+    }
+
+    /**
+     * Remove the given row and move all rows above it down by one row.
+     *
+     * @param theRow The row to remove.
+     */
+    public void removeRow(final int theRow) {
+        // Only the rows that move change the hash
+        myHash ^= Zobrist.row(theRow, myRows[theRow]);
+        for (int r = theRow - 1; r > -1; r--) {
+            if (myRows[r] != WALL_ROW) {
+                myHash ^= Zobrist.row(r, myRows[r]) ^ Zobrist.row(r + 1, myRows[r]);
+            }
+        }
+        System.arraycopy(myRows, 0, myRows, 1, theRow);
+        System.arraycopy(myColors, 0, myColors, COLUMNS, theRow * COLUMNS);
+        myRows[0] = WALL_ROW;
+        Arrays.fill(myColors, 0, COLUMNS, (byte) 0);
+        myVersion++;
+    }
+
+    /**
+     * Replace the occupancy and colors with those of the given board.
+     * 
+     * @param theBoard The board to copy.
+     */
+    public void copyFrom(final Board theBoard) {
+        System.arraycopy(theBoard.myRows, 0, myRows, 0, ROWS);
+        System.arraycopy(theBoard.myColors, 0, myColors, 0, myColors.length);
+        myHash = theBoard.myHash;
+        myVersion++;
+    }
+
+    /**
+     * Write the occupancy and colors of every row above the floor to the given buffer.
+     * 
+     * @param theBuffer The buffer.
+     */
+    public void save(final ByteBuffer theBuffer) {
+        for (int r = 0; r < FLOOR; r++) {
+            theBuffer.putInt(myRows[r]);
+        }
+        theBuffer.put(myColors, 0, FLOOR * COLUMNS);
+    }
+
+    /**
+     * Replace the occupancy and colors with those written by {@link #save(ByteBuffer)}.
+     * 
+     * @param theBuffer The buffer.
+     */
+    public void load(final ByteBuffer theBuffer) {
+        for (int r = 0; r < FLOOR; r++) {
+            myRows[r] = theBuffer.getInt();
+        }
+        theBuffer.get(myColors, 0, FLOOR * COLUMNS);
+        myHash = Zobrist.hash(this);
+        myVersion++;
+    }
+
+    /**
+     * Empty every cell inside the walls.
+     */
+    public void clear() {
+        Arrays.fill(myRows, 0, FLOOR, WALL_ROW);
+        myRows[FLOOR] = FULL_ROW;
+        Arrays.fill(myColors, (byte) 0);
+        myHash = 0;
+        myVersion++;
+    }
+
+}
@@ -0,0 +1,114 @@
+package com.tetris.model;
+
+/**
+ * The type of a line clear, decided by the number of lines and the kind of T-spin.
+ *
+ * @author Jiameng Li
+ * @version 1.0
+ */
+public enum ClearType {
+
+    /** A full T-spin that clears no lines. */
+    T_SPIN(TPiece.FULL_T_SPIN, 0),
+
+    /** One line without a T-spin. */
+    SINGLE(0, 1),
+
+    /** Two lines without a T-spin. */
+    DOUBLE(0, 2),
+
+    /** Three lines without a T-spin. */
+    TRIPLE(0, 3),
+
+    /** Four lines. */
+    TETRIS(0, 4),
+
+    /** A mini T-spin that clears one line. */
+    MINI_T_SPIN_SINGLE(TPiece.MINI_T_SPIN, 1),
+
+    /** A mini T-spin that clears two lines. */
+    MINI_T_SPIN_DOUBLE(TPiece.MINI_T_SPIN, 2),
+
+    /** A full T-spin that clears one line. */
+    T_SPIN_SINGLE(TPiece.FULL_T_SPIN, 1),
+
+    /** A full T-spin that clears two lines. */
+    T_SPIN_DOUBLE(TPiece.FULL_T_SPIN, 2),
+
+    /** A full T-spin that clears three lines. */
+    T_SPIN_TRIPLE(TPiece.FULL_T_SPIN, 3);
+
+    /** Number of possible line counts of a clear, from 0 to 4. */
+    private static final int LINE_COUNTS = 5;
+
+    /** The type of every line clear, indexed by the kind of T-spin and then the number of lines. */
+    private static final ClearType[] TYPES = new ClearType[(TPiece.FULL_T_SPIN + 1) * LINE_COUNTS];
+
+    static {
+        // A clear that has no type of its own, such as a mini T-spin triple, counts as a regular clear,
+        // which relies on the regular clears following T_SPIN in the order of their lines
+        final ClearType[] types = values();
+        for (int i = 0; i < TYPES.length; i++) {
+            TYPES[i] = types[i % LINE_COUNTS];
+        }
+        for (ClearType type : types) {
+            TYPES[type.myTSpin * LINE_COUNTS + type.myLines] = type;
+        }
+    }
+
+    /** The kind of T-spin: 0, {@link TPiece#MINI_T_SPIN}, or {@link TPiece#FULL_T_SPIN}. */
+    private final int myTSpin;
+
+    /** Number of lines cleared. */
+    private final int myLines;
+
+    /**
+     * Create a type of line clear.
+     *
+     * @param theTSpin The kind of T-spin.
+     * @param theLines Number of lines cleared.
+     */
+    ClearType(final int theTSpin, final int theLines) {
+        myTSpin = theTSpin;
+        myLines = theLines;
+    }
+
+    /**
+     * Get the type of a line clear without allocating.
+     *
+     * @param theTSpin The kind of T-spin: 0, {@link TPiece#MINI_T_SPIN}, or {@link TPiece#FULL_T_SPIN}.
+     * @param theLines Number of lines cleared, from 0 to 4.
+     * @return The type of line clear.
+     */
+    public static ClearType of(final int theTSpin, final int theLines) {
+        return TYPES[theTSpin * LINE_COUNTS + theLines];
+    }
+
+    /**
+     * Get the kind of T-spin.
+     *
+     * @return 0 if not T-spin, {@link TPiece#MINI_T_SPIN} if mini T-spin, {@link TPiece#FULL_T_SPIN} if full T-spin.
+     */
+    public int getTSpin() {
+        return myTSpin;
+    }
+
+    /**
+     * Get the number of lines cleared.
+     *
+     * @return Number of lines cleared.
+     */
+    public int getLines() {
+        return myLines;
+    }
+
+    /**
+     * Check whether the clear is difficult, that is, a T-spin or a Tetris.
+     *
+     * @return Whether the clear is difficult.
+     */
+    public boolean isDifficult() {
+        return myTSpin != 0 || myLines == 4;
+    }
+
+}
@@ -0,0 +1,61 @@
+package com.tetris.model;
+
+/**
+ * Listener that is notified of what happens in a game, such as the display of the score.
+ * Every event is a direct call with primitive arguments, so nothing is allocated or boxed
+ * even for the point added on every row of a soft drop. Every method does nothing by default,
+ * so a listener only overrides the events it needs.
+ *
+ * @author Jiameng Li
+ * @version 1.0
+ */
+public interface GameEventListener {
+
+    /** Listener that ignores every event. */
+    GameEventListener NONE = new GameEventListener() { };
+
+    /**
+     * Called when points are added to the score.
+     *
+     * @param theScore The total score.
+     */
+    default void onScore(final long theScore) {
+        // Ignored by default
+    }
+
+    /**
+     * Called when a new level is reached.
+     *
+     * @param theLevel The level reached.
+     */
+    default void onLevel(final int theLevel) {
+        // Ignored by default
+    }
+
+    /**
+     * Called when a line clear is scored, including a full T-spin that clears no lines.
+     *
+     * @param theLines Number of lines cleared.
+     * @param theType The type of line clear.
+     */
+    default void onLinesCleared(final int theLines, final ClearType theType) {
+        // Ignored by default
+    }
+
+    /**
+     * Called when the current piece is placed on the board.
+     *
+     * @param theState The packed state of the piece when it is placed, see {@link PieceState}.
+     */
+    default void onPieceLocked(final int theState) {
+        // Ignored by default
+    }
+
+    /**
+     * Called when the game is over because a piece has reached the top.
+     */
+    default void onGameOver() {
+        // Ignored by default
+    }
+
+}
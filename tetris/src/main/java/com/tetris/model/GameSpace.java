@@ -3,10 +3,12 @@ package com.tetris.model;
 import java.awt.Color;
 import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeListener;
-import java.util.Random;
+import java.nio.ByteBuffer;
 
 /**
  * The game space contains all the pieces used in the game.
+ * The current piece is kept as a {@link PieceState} packed into an int and the preview and hold as packed pieces,
+ * so the pieces themselves are shared and never changed by a game.
  * 
  * @author Jiameng Li
  * @version 1.0
@@ -23,22 +25,43 @@ public class GameSpace {
     private final Piece[] myAllPieces;
     
     /** The pieces placed in the game space. */
-    private final PieceUnit[][] myPieces;
+    private final Board myBoard;
 
-    /** Used to select a random piece. */
-    private static Random myRand;
+    /** The row where every piece starts. */
+    public static final int START_ROW = 0;
 
-    /** The row where the bottom-left corner of the piece is placed. */
-    private int myRow;
+    /** The column where every piece starts. */
+    public static final int START_COLUMN = 5;
 
-    /** The column where the bottom-left corner of the piece is placed. */
-    private int myColumn;
+    /** The value of the hold when no piece is held. */
+    public static final int NO_HOLD = -1;
 
-    /** The current piece. */
-    private Piece myCurrentPiece;
+    /** Decide the order of pieces. Each game space has its own so games don't affect each other. */
+    private PieceGenerator myGenerator;
 
-    /** The next piece. */
-    private Piece myNextPiece;
+    /** The current piece packed by {@link PieceState#pack(int, int, int, int)}, or {@link PieceState#NONE}. */
+    private int myCurrent;
+
+    /** The type and shape the current piece started with, packed by {@link PieceGenerator#pack(int, int)}. */
+    private int myCurrentSpawn;
+
+    /** The held piece packed by {@link PieceGenerator#pack(int, int)}, or {@link #NO_HOLD}. */
+    private int myHold;
+
+    /** Whether the current piece came from a hold, so it can't be held again until it is placed. */
+    private boolean myHoldUsed;
+
+    /** The pieces in the preview packed by {@link PieceGenerator#pack(int, int)}, a ring buffer. */
+    private int[] myPreviews;
+
+    /** The index of the first piece of the preview in the ring buffer. */
+    private int myPreviewHead;
+
+    /** The number of pieces in the preview from the next game on. */
+    private int myPreviewLength;
+
+    /** The Zobrist hash of the preview, updated whenever the preview changes. */
+    private long myPreviewHash;
 
     /** Whether a wall kick is performed. */
     private boolean myHasKick;
@@ -49,34 +72,67 @@ public class GameSpace {
     /**
      * Create a game space.
      * 
-     * @param theSetting
+     * @param theSetting The general setting of the game.
      */
     public GameSpace(final Setting theSetting) {
+        this(theSetting, System.nanoTime());
+    }
+
+    /**
+     * Create a game space that selects random pieces in the order given by the seed.
+     * 
+     * @param theSetting The general setting of the game.
+     * @param theSeed The seed used to select random pieces.
+     */
+    public GameSpace(final Setting theSetting, final long theSeed) {
+        this(theSetting, Randomizer.RANDOM.create(theSeed));
+    }
+
+    /**
+     * Create a game space that selects pieces with the given piece generator.
+     * 
+     * @param theSetting The general setting of the game.
+     * @param theGenerator The piece generator that decides the order of pieces.
+     */
+    public GameSpace(final Setting theSetting, final PieceGenerator theGenerator) {
         super();
         mySetting = theSetting;
-        myPieces = new PieceUnit[21][14];
+        myBoard = new Board();
         myAllPieces = new Piece[]{new IPiece(), new JPiece(), new LPiece(), new OPiece(), 
                       new SPiece(), new TPiece(), new ZPiece()};
-        myRand = new Random();
+        myGenerator = theGenerator;
+        myPreviewLength = 1;
+        myPreviews = new int[myPreviewLength];
+        myCurrent = PieceState.NONE;
+        myHold = NO_HOLD;
         myHasKick = false;
         myTSpin = 0;
         setup();
     }
 
+    /**
+     * Create a game space with the same setting and pieces as the given game space, with an empty board.
+     * The pieces never change while playing, so they are shared and only the original listens to the setting.
+     * 
+     * @param theSpace The game space to share the setting and pieces with.
+     */
+    private GameSpace(final GameSpace theSpace) {
+        super();
+        mySetting = theSpace.mySetting;
+        myBoard = new Board();
+        myAllPieces = theSpace.myAllPieces;
+        myGenerator = theSpace.myGenerator.copy();
+        myPreviewLength = theSpace.myPreviewLength;
+        myPreviews = new int[theSpace.myPreviews.length];
+        myCurrent = PieceState.NONE;
+        myHold = NO_HOLD;
+    }
+
     /**
      * Set up the game space.
      */
     private void setup() {
         mySetting.addPropertyChangeListener(new PieceChangeListener());
-        // Fill the wall around the game space
-        for (int i = 0; i < 20; i++) {
-            myPieces[i][0] = WALL;
-            myPieces[i][1] = WALL;
-            myPieces[i][12] = WALL;
-        }
-        for (int i = 0; i < 14; i++) {
-            myPieces[20][i] = WALL;
-        }
     }
 
     /**
@@ -85,7 +141,7 @@ public class GameSpace {
      * @return The row of the bottom left corner of the current piece.
      */
     public int getCurrentRow() {
-        return myRow;
+        return PieceState.getRow(myCurrent);
     }
 
     /**
@@ -94,34 +150,202 @@ public class GameSpace {
      * @return The column of the bottom left corner of the current piece.
      */
     public int getCurrentColumn() {
-        return myColumn;
+        return PieceState.getColumn(myCurrent);
+    }
+
+    /**
+     * Get the index of the current shape of the current piece.
+     * 
+     * @return The index of the current shape.
+     */
+    public int getCurrentShape() {
+        return PieceState.getRotation(myCurrent);
+    }
+
+    /**
+     * Get the state of the current piece.
+     * 
+     * @return The state packed by {@link PieceState#pack(int, int, int, int)}, or {@link PieceState#NONE}.
+     */
+    public int getCurrentState() {
+        return myCurrent;
     }
 
     /**
      * Get the current piece.
      * 
-     * @return The current piece.
+     * @return The current piece, or null if the game hasn't started.
      */
     public Piece getCurrentPiece() {
-        return myCurrentPiece;
+        return myCurrent == PieceState.NONE ? null : myAllPieces[PieceState.getType(myCurrent)];
     }
 
     /**
-     * Get the next piece.
+     * Get the next piece, whose shape is in {@link #getPreview(int)}.
      * 
-     * @return The next piece.
+     * @return The next piece, or null if the game hasn't started.
      */
     public Piece getNextPiece() {
-        return myNextPiece;
+        return myCurrent == PieceState.NONE ? null : myAllPieces[PieceGenerator.getType(getPreview(0))];
+    }
+
+    /**
+     * Get the held piece, which is only its type and the shape it started with.
+     * 
+     * @return The held piece packed by {@link PieceGenerator#pack(int, int)}, or {@link #NO_HOLD}.
+     */
+    public int getHold() {
+        return myHold;
+    }
+
+    /**
+     * Get the type and shape the current piece started with.
+     * 
+     * @return The current piece packed by {@link PieceGenerator#pack(int, int)}.
+     */
+    public int getCurrentSpawn() {
+        return myCurrentSpawn;
+    }
+
+    /**
+     * Check whether the current piece can be held, which is once for each piece taken from the preview.
+     * 
+     * @return Whether the current piece can be held.
+     */
+    public boolean canHold() {
+        return myCurrent != PieceState.NONE && !myHoldUsed;
+    }
+
+    /**
+     * Hold the current piece. The held piece becomes the current piece, or the next piece if nothing is held,
+     * and starts from the top with the shape it started with before.
+     * 
+     * @return Whether the current piece is held.
+     */
+    public boolean hold() {
+        final boolean held = canHold();
+        if (held) {
+            final int previous = myHold;
+            myHold = myCurrentSpawn;
+            if (previous == NO_HOLD) {
+                takeNext();
+            } else {
+                useCurrent(previous);
+            }
+            myHoldUsed = true;
+            myHasKick = false;
+            myTSpin = 0;
+        }
+        return held;
+    }
+
+    /**
+     * Get the number of pieces in the preview.
+     * 
+     * @return The number of pieces in the preview.
+     */
+    public int getPreviewLength() {
+        return myPreviews.length;
+    }
+
+    /**
+     * Set the number of pieces in the preview, which takes effect when the next game starts.
+     * 
+     * @param theLength The number of pieces in the preview, at least 1 and at most {@link Byte#MAX_VALUE}
+     *                  since {@link #save(ByteBuffer)} writes it in a byte.
+     */
+    public void setPreviewLength(final int theLength) {
+        if (theLength < 1 || theLength > Byte.MAX_VALUE) {
+            throw new IllegalArgumentException("The preview must contain between 1 and " + Byte.MAX_VALUE + " pieces");
+        }
+        myPreviewLength = theLength;
+    }
+
+    /**
+     * Get a piece in the preview.
+     * 
+     * @param theIndex The index in the preview, 0 is the next piece.
+     * @return The type and shape of the piece packed by {@link PieceGenerator#pack(int, int)}.
+     */
+    public int getPreview(final int theIndex) {
+        return myPreviews[(myPreviewHead + theIndex) % myPreviews.length];
+    }
+
+    /**
+     * Get the piece of the given type. The same instance is used every time the type appears in the game.
+     * 
+     * @param theType The type of the piece, see {@link PieceGenerator#getType(int)}.
+     * @return The piece.
+     */
+    public Piece getPiece(final int theType) {
+        return myAllPieces[theType];
+    }
+
+    /**
+     * Get the Zobrist hash of the occupied cells, the current piece with its shape and position, the hold,
+     * and the preview.
+     * The hash of the cells is kept by the board as pieces are placed and lines are cleared,
+     * so this only adds the keys of the pieces.
+     * 
+     * @return The hash of the game space.
+     */
+    public long getHash() {
+        long hash = myBoard.getHash() ^ myPreviewHash ^ Zobrist.hold(myHold, myHoldUsed);
+        if (myCurrent != PieceState.NONE) {
+            hash ^= Zobrist.piece(PieceState.getType(myCurrent), PieceState.getRotation(myCurrent),
+                                  PieceState.getRow(myCurrent), PieceState.getColumn(myCurrent));
+        }
+        return hash;
+    }
+
+    /**
+     * Get the board that keeps track of the pieces placed in the game space.
+     * 
+     * @return The board of the game space.
+     */
+    public Board getBoard() {
+        return myBoard;
     }
 
     /**
-     * Get pieces currently placed in the game space.
+     * Get the piece unit placed at the given row and column.
      * 
-     * @return Pieces currently placed in the game space.
+     * @param theRow The row.
+     * @param theCol The column.
+     * @return The piece unit at the given position, the wall if the position is part of the wall,
+     *         or null if the position is empty.
      */
-    public PieceUnit[][] getPieces() {
-        return myPieces;
+    public PieceUnit getUnit(final int theRow, final int theCol) {
+        PieceUnit unit = null;
+        if (myBoard.isOccupied(theRow, theCol)) {
+            final byte color = myBoard.getColor(theRow, theCol);
+            unit = color == 0 ? WALL : myAllPieces[color - 1].getUnit();
+        }
+        return unit;
+    }
+
+    /**
+     * Fill or empty the given position without any color. Used to set up scenarios.
+     * 
+     * @param theRow The row inside the game space.
+     * @param theCol The column inside the walls.
+     * @param theFilled Whether the position is filled.
+     */
+    protected void setFilled(final int theRow, final int theCol, final boolean theFilled) {
+        if (theFilled) {
+            myBoard.fill(theRow, theCol, (byte) 0);
+        } else {
+            myBoard.empty(theRow, theCol);
+        }
+    }
+
+    /**
+     * Replace the piece generator, usually before a new game starts.
+     * 
+     * @param theGenerator The new piece generator.
+     */
+    public void setGenerator(final PieceGenerator theGenerator) {
+        myGenerator = theGenerator;
     }
 
     /**
@@ -143,12 +367,38 @@ public class GameSpace {
     }
 
     /**
-     * Change the current piece to the given piece.
+     * Change the current piece to the given piece in its first shape without moving it. Used to set up scenarios.
      * 
-     * @param thePiece The new current piece.
+     * @param thePiece The new current piece, one of the available pieces.
      */
     protected void setCurrentPiece(final Piece thePiece) {
-        myCurrentPiece = thePiece;
+        myCurrent = PieceState.pack(colorOf(thePiece) - 1, 0, getCurrentRow(), getCurrentColumn());
+    }
+
+    /**
+     * Change the shape of the current piece without moving it. Used to set up scenarios.
+     * 
+     * @param theShape The index of the shape.
+     */
+    protected void setCurrentShape(final int theShape) {
+        myCurrent = PieceState.rotate(myCurrent, theShape);
+    }
+
+    /**
+     * Rotate the current piece by 90 degrees, moving it by the first wall kick that fits.
+     * 
+     * @param theClockwise Whether to rotate clockwise.
+     * @return The rotation packed by {@link Piece#packRotation(int, int, int)}, or {@link Piece#ROTATION_FAILED}.
+     */
+    public int rotate(final boolean theClockwise) {
+        final int rotation = getCurrentPiece().findRotation(myBoard, getCurrentShape(), getCurrentRow(),
+                                                            getCurrentColumn(), theClockwise);
+        if (rotation != Piece.ROTATION_FAILED) {
+            myCurrent = PieceState.rotate(PieceState.move(myCurrent, Piece.getRotationRow(rotation),
+                                                          Piece.getRotationColumn(rotation)),
+                                          Piece.getRotationShape(rotation));
+        }
+        return rotation;
     }
 
     /**
@@ -158,68 +408,32 @@ public class GameSpace {
      */
     public int hardDrop() {
         int moves = 0;
-        while (canMove(myRow + 1, myColumn)) {
-            myRow++;
+        while (canMove(getCurrentRow() + moves + 1, getCurrentColumn())) {
             moves++;
         }
+        myCurrent = PieceState.move(myCurrent, moves, 0);
         return moves;
     }
 
      /**
      * Check whether the current piece can move to given row and column.
      * The row and column indicate the destination position of the bottom left corner of the piece.
-     * Search from the bottom left corner to top right until there's overlapping piece units.
+     * Search from the bottom row to the top row until a row of the piece overlaps the board.
      * 
      * @param theRow The row of the the destination position of the bottom left corner of the piece.
      * @param theCol The column of the the destination position of the bottom left corner of the piece.
      * @return Whether the current piece can move to given row and column.
      */
     public boolean canMove(final int theRow, final int theCol) {
-        boolean move = true;
-        final int[][] shape = myCurrentPiece.getCurrentShape();
-        outerLoop:
-        for (int r = shape.length - 1, i = 0; r > -1; r--, i++) {
-            for (int c = 0; c < shape[0].length; c++) {
-                if (shape[r][c] == 1 && (theRow - i > 19 || theCol + c < 2 || theCol + c > 11 ||
-                    (theRow - i > -1 && myPieces[theRow - i][theCol + c] != null))) {
-                    move = false;
-                    break outerLoop;
-                }
-            }
-        }
-        return move;
-    }
-
-    /**
-     * Get the surrounding of the current piece, that is, the piece units the current piece
-     * may touch as it rotate.
-     * 
-     * @param theDown Get the surrounding n rows below the current piece.
-     * @param theRight Get the surrounding n columns on the right of the current piece.
-     * @return The surrounding of the current piece.
-     */
-    public PieceUnit[][] getSurrounding(final int theDown, final int theRight) {
-        PieceUnit[][] surrounding = new PieceUnit[myCurrentPiece.getSize()][myCurrentPiece.getSize()];
-        for (int r = surrounding.length - 1, i = 0; r > -1 && myRow - i > -1; r--, i++) {
-            for (int c = 0; c < surrounding[0].length; c++) {
-                final int row = myRow - i + theDown;
-                final int col = myColumn + c + theRight;
-                if (row > 20 || row < 0 || col > 13 || col < 0) {
-                    surrounding[r][c] = WALL;
-                } else {
-                    surrounding[r][c] = myPieces[row][col];
-                }
-            }
-        }
-        return surrounding;
+        return getCurrentPiece().fits(myBoard, getCurrentShape(), theRow, theCol);
     }
 
     /**
      * Check whether there's a T-spin. Only called after a rotation.
      */
     public void checkTSpin() {
-        if (myCurrentPiece instanceof TPiece) {
-            myTSpin = ((TPiece) myCurrentPiece).isTSpin(getSurrounding(0, 0));
+        if (getCurrentPiece() instanceof TPiece) {
+            myTSpin = TPiece.isTSpin(myBoard, getCurrentShape(), getCurrentRow(), getCurrentColumn());
         }
     }
 
@@ -231,38 +445,22 @@ public class GameSpace {
      */
     public void clearLine(final ScoreCounter theCounter) {
         int cleared = 0;
-        int r = myRow < 20 ? myRow : 19;
-        for (; r > myRow - myCurrentPiece.getSize() && r > -1; r--) {
-            boolean fill = true;
-            int lines = 0;
-            while (fill) {
-                // Clear the filled row
-                if (cleared > 0 && r - cleared > -1) {
-                    for (int c = 2; c < 12; c++) {
-                        myPieces[r][c] = myPieces[r - cleared][c];
-                    }
-                }
-                // Find a filled row
-                for (int c = 2; c < 12; c++) {
-                    if (myPieces[r][c] == null) {
-                        fill = false;
-                        break;
-                    }
-                }
-                // Count the filled row
-                if (fill) {
-                    cleared++;
-                    lines++;
-                }
-            }
-            // Add score
-            if (lines > 0) {
-                theCounter.addLine(lines, myTSpin == TPiece.MINI_T_SPIN, myTSpin == TPiece.FULL_T_SPIN, myHasKick); 
+        final int row = getCurrentRow();
+        int r = row < 20 ? row : 19;
+        int top = row - getCurrentPiece().getSize();
+        while (r > top && r > -1) {
+            // Remove the filled row, rows above it move down so the same row is checked again
+            if (myBoard.isFull(r)) {
+                myBoard.removeRow(r);
+                cleared++;
+                top++;
+            } else {
+                r--;
             }
         }
-        // Add score for full T-spin no line
-        if (cleared == 0 && myTSpin == TPiece.FULL_T_SPIN) {
-            theCounter.addLine(0, false, true, myHasKick);
+        // Add score, including full T-spin no line
+        if (cleared > 0 || myTSpin == TPiece.FULL_T_SPIN) {
+            theCounter.addLine(cleared, myTSpin == TPiece.MINI_T_SPIN, myTSpin == TPiece.FULL_T_SPIN, myHasKick);
         }
     }
 
@@ -272,32 +470,91 @@ public class GameSpace {
      * @return Whether the game is over, which means the piece has reached the top.
      */
     public boolean placeCurrent() {
-        final int[][] shape = myCurrentPiece.getCurrentShape();
+        final Piece piece = getCurrentPiece();
+        final int size = piece.getSize();
+        final int shape = getCurrentShape();
+        final byte color = (byte) (PieceState.getType(myCurrent) + 1);
         boolean over = false;
         outerLoop:
-        for (int r = myRow, i = shape.length - 1; i > -1; r--, i--) {
-            for (int c = myColumn, j = 0; j < shape[0].length; c++, j++) {
-                if (shape[i][j] == 1) {
+        for (int r = getCurrentRow(), i = size - 1; i > -1; r--, i--) {
+            final int mask = piece.getMask(shape, i);
+            for (int c = getCurrentColumn(), j = 0; j < size; c++, j++) {
+                if ((mask >>> j & 1) != 0) {
                     if (r < 0) {    // Reach the top, end the game
                         over = true;
                         break outerLoop;
                     }
-                    myPieces[r][c] = myCurrentPiece.getUnit();
+                    myBoard.fill(r, c, color);
                 }
             }
         }
         return over;
     }
 
+    /**
+     * Get the color used on the board for the given piece, which is its index in all pieces plus one.
+     * 
+     * @param thePiece The piece.
+     * @return The color of the piece, 0 if it is not one of the available pieces.
+     */
+    private byte colorOf(final Piece thePiece) {
+        byte color = 0;
+        for (int i = 0; i < myAllPieces.length && color == 0; i++) {
+            if (myAllPieces[i].getClass() == thePiece.getClass()) {
+                color = (byte) (i + 1);
+            }
+        }
+        return color;
+    }
+
+    /**
+     * Get a piece from the piece generator, with a shape the piece has.
+     * 
+     * @return The type and shape of the piece packed by {@link PieceGenerator#pack(int, int)}.
+     */
+    private int generatePiece() {
+        final int next = myGenerator.next();
+        final int type = PieceGenerator.getType(next);
+        return PieceGenerator.pack(type, PieceGenerator.getShape(next) % myAllPieces[type].getShapeCount());
+    }
+
+    /**
+     * Make the given piece the current piece with its packed shape at the start position.
+     * 
+     * @param thePacked The type and shape of the piece packed by {@link PieceGenerator#pack(int, int)}.
+     */
+    private void useCurrent(final int thePacked) {
+        myCurrentSpawn = thePacked;
+        myCurrent = PieceState.pack(PieceGenerator.getType(thePacked), PieceGenerator.getShape(thePacked),
+                                    START_ROW, START_COLUMN);
+    }
+
+    /**
+     * Hash the preview again after it changes.
+     */
+    private void updatePreviewHash() {
+        myPreviewHash = 0;
+        for (int i = 0; i < myPreviews.length; i++) {
+            myPreviewHash ^= Zobrist.preview(i, getPreview(i));
+        }
+    }
+
+    /**
+     * Make the first piece in the preview the current piece and add a new piece to the end of the preview.
+     */
+    private void takeNext() {
+        useCurrent(myPreviews[myPreviewHead]);
+        myPreviews[myPreviewHead] = generatePiece();
+        myPreviewHead = (myPreviewHead + 1) % myPreviews.length;
+        updatePreviewHash();
+    }
+
     /**
      * Get next piece.
      */
     public void nextPiece() {
-        myCurrentPiece = myNextPiece;
-        myNextPiece = myAllPieces[myRand.nextInt(myAllPieces.length)];
-        myCurrentPiece.setRandomShape();
-        myRow = 0;
-        myColumn = 5;
+        takeNext();
+        myHoldUsed = false;
     }
 
     /**
@@ -306,7 +563,7 @@ public class GameSpace {
      * @param theDrop The number of rows to drop.
      */
     public void dropCurrent(final int theDrop) {
-        myRow += theDrop;
+        myCurrent = PieceState.move(myCurrent, theDrop, 0);
     }
 
     /**
@@ -315,7 +572,7 @@ public class GameSpace {
      * @param theShift The number of columns to shift.
      */
     public void shiftCurrentLeft(final int theShift) {
-        myColumn -= theShift;
+        myCurrent = PieceState.move(myCurrent, 0, -theShift);
     }
 
     /**
@@ -324,17 +581,24 @@ public class GameSpace {
      * @param theShift The number of columns to shift.
      */
     public void shiftCurrentRight(final int theShift) {
-        myColumn += theShift;
+        myCurrent = PieceState.move(myCurrent, 0, theShift);
     }
 
     /**
      * Set the game space to the starting setup.
      */
     public void newGame() {
-        myCurrentPiece = myAllPieces[myRand.nextInt(myAllPieces.length)];
-        myNextPiece = myAllPieces[myRand.nextInt(myAllPieces.length)];
-        myRow = 0;
-        myColumn = 5;
+        if (myPreviews.length != myPreviewLength) {
+            myPreviews = new int[myPreviewLength];
+        }
+        useCurrent(generatePiece());
+        for (int i = 0; i < myPreviews.length; i++) {
+            myPreviews[i] = generatePiece();
+        }
+        myPreviewHead = 0;
+        updatePreviewHash();
+        myHold = NO_HOLD;
+        myHoldUsed = false;
         myHasKick = false;
         myTSpin = 0;
     }
@@ -343,15 +607,209 @@ public class GameSpace {
      * Clear the game space.
      */
     public void clear() {
-        myCurrentPiece = null;
-        myNextPiece = null;
-        for (int i = 0; i < 20; i++) {
-            for (int j = 2; j < 12; j++) {
-                myPieces[i][j] = null;
+        myCurrent = PieceState.NONE;
+        myPreviewHash = 0;
+        myHold = NO_HOLD;
+        myHoldUsed = false;
+        myBoard.clear();
+    }
+
+    /**
+     * Write the pieces, the current piece, the preview, the hold, the position, and the state of the piece generator
+     * to the given buffer.
+     * 
+     * @param theBuffer The buffer.
+     */
+    public void save(final ByteBuffer theBuffer) {
+        myBoard.save(theBuffer);
+        final boolean playing = myCurrent != PieceState.NONE;
+        theBuffer.put((byte) (playing ? PieceState.getType(myCurrent) : -1));
+        theBuffer.put((byte) (playing ? getCurrentShape() : 0));
+        theBuffer.put((byte) (playing ? myPreviews.length : 0));
+        for (int i = 0; playing && i < myPreviews.length; i++) {
+            theBuffer.put((byte) getPreview(i));
+        }
+        theBuffer.put((byte) myHold);
+        theBuffer.put((byte) (myHoldUsed ? 1 : 0));
+        theBuffer.put((byte) PieceGenerator.getShape(myCurrentSpawn));
+        theBuffer.putInt(getCurrentRow());
+        theBuffer.putInt(getCurrentColumn());
+        theBuffer.put((byte) (myHasKick ? 1 : 0));
+        theBuffer.put((byte) myTSpin);
+        myGenerator.save(theBuffer);
+    }
+
+    /**
+     * Replace the state of the game space with the state written by {@link #save(ByteBuffer)}.
+     * The piece generator must be of the same kind as the one saved.
+     * 
+     * @param theBuffer The buffer.
+     */
+    public void load(final ByteBuffer theBuffer) {
+        myBoard.load(theBuffer);
+        final int current = theBuffer.get();
+        final int currentShape = theBuffer.get();
+        final int previews = theBuffer.get();
+        myCurrent = PieceState.NONE;
+        myPreviewHash = 0;
+        if (previews > 0) {
+            myPreviewLength = previews;
+            myPreviews = new int[previews];
+            for (int i = 0; i < previews; i++) {
+                myPreviews[i] = theBuffer.get();
             }
+            myPreviewHead = 0;
+            updatePreviewHash();
         }
+        myHold = theBuffer.get();
+        myHoldUsed = theBuffer.get() != 0;
+        myCurrentSpawn = PieceGenerator.pack(Math.max(current, 0), theBuffer.get());
+        final int row = theBuffer.getInt();
+        final int col = theBuffer.getInt();
+        if (current >= 0) {
+            myCurrent = PieceState.pack(current, currentShape, row, col);
+        }
+        myHasKick = theBuffer.get() != 0;
+        myTSpin = theBuffer.get();
+        myGenerator.load(theBuffer);
+    }
+
+
+    /**
+     * Capture the state of the game in a new snapshot.
+     * 
+     * @return The snapshot.
+     * @see #snapshot(Snapshot)
+     */
+    public Snapshot snapshot() {
+        final Snapshot snapshot = new Snapshot();
+        snapshot(snapshot);
+        return snapshot;
     }
 
+    /**
+     * Capture the state of the game in the given snapshot, replacing what it held.
+     * The board is copied row by row and everything else is a primitive,
+     * so reusing a snapshot allocates nothing once it has held a game of the same kind.
+     * 
+     * @param theSnapshot The snapshot to write to.
+     */
+    public void snapshot(final Snapshot theSnapshot) {
+        theSnapshot.myBoard.copyFrom(myBoard);
+        theSnapshot.myCurrent = myCurrent;
+        theSnapshot.myCurrentSpawn = myCurrentSpawn;
+        theSnapshot.myHold = myHold;
+        theSnapshot.myHoldUsed = myHoldUsed;
+        if (theSnapshot.myPreviews.length != myPreviews.length) {
+            theSnapshot.myPreviews = new int[myPreviews.length];
+        }
+        System.arraycopy(myPreviews, 0, theSnapshot.myPreviews, 0, myPreviews.length);
+        theSnapshot.myPreviewHead = myPreviewHead;
+        theSnapshot.myPreviewHash = myPreviewHash;
+        theSnapshot.myHasKick = myHasKick;
+        theSnapshot.myTSpin = myTSpin;
+        if (theSnapshot.myGenerator == null || !theSnapshot.myGenerator.copyFrom(myGenerator)) {
+            theSnapshot.myGenerator = myGenerator.copy();
+        }
+    }
+
+    /**
+     * Replace the state of the game with the state captured in the given snapshot.
+     * The same snapshot can be restored any number of times.
+     * 
+     * @param theSnapshot The snapshot written by {@link #snapshot(Snapshot)}.
+     */
+    public void restore(final Snapshot theSnapshot) {
+        if (theSnapshot.myGenerator == null) {
+            throw new IllegalArgumentException("The snapshot is empty");
+        }
+        myBoard.copyFrom(theSnapshot.myBoard);
+        myCurrent = theSnapshot.myCurrent;
+        myCurrentSpawn = theSnapshot.myCurrentSpawn;
+        myHold = theSnapshot.myHold;
+        myHoldUsed = theSnapshot.myHoldUsed;
+        if (myPreviews.length != theSnapshot.myPreviews.length) {
+            myPreviews = new int[theSnapshot.myPreviews.length];
+        }
+        System.arraycopy(theSnapshot.myPreviews, 0, myPreviews, 0, myPreviews.length);
+        myPreviewHead = theSnapshot.myPreviewHead;
+        myPreviewHash = theSnapshot.myPreviewHash;
+        myHasKick = theSnapshot.myHasKick;
+        myTSpin = theSnapshot.myTSpin;
+        if (!myGenerator.copyFrom(theSnapshot.myGenerator)) {
+            myGenerator = theSnapshot.myGenerator.copy();
+        }
+    }
+
+    /**
+     * Create a game space that continues this game independently, with the same board, pieces,
+     * and piece generator state. The fork shares the setting and the piece instances, which never change.
+     * 
+     * @return The fork.
+     */
+    public GameSpace fork() {
+        final GameSpace fork = new GameSpace(this);
+        fork.myBoard.copyFrom(myBoard);
+        fork.myCurrent = myCurrent;
+        fork.myCurrentSpawn = myCurrentSpawn;
+        fork.myHold = myHold;
+        fork.myHoldUsed = myHoldUsed;
+        System.arraycopy(myPreviews, 0, fork.myPreviews, 0, myPreviews.length);
+        fork.myPreviewHead = myPreviewHead;
+        fork.myPreviewHash = myPreviewHash;
+        fork.myHasKick = myHasKick;
+        fork.myTSpin = myTSpin;
+        return fork;
+    }
+
+    /**
+     * The state of a game captured by {@link GameSpace#snapshot(Snapshot)}: the board, the current piece
+     * with its position, the preview, the hold, the wall kick and T-spin flags, and the state of the piece generator.
+     * A snapshot can be restored into the game space it came from or any game space with the same setting.
+     */
+    public static final class Snapshot {
+
+        /** The pieces placed in the game space. */
+        private final Board myBoard = new Board();
+
+        /** The current piece packed by {@link PieceState#pack(int, int, int, int)}. */
+        private int myCurrent = PieceState.NONE;
+
+        /** The type and shape the current piece started with. */
+        private int myCurrentSpawn;
+
+        /** The held piece, or {@link #NO_HOLD}. */
+        private int myHold = NO_HOLD;
+
+        /** Whether the hold can't be used until the current piece is placed. */
+        private boolean myHoldUsed;
+
+        /** The ring buffer of the preview. */
+        private int[] myPreviews = new int[0];
+
+        /** The index of the first piece of the preview in the ring buffer. */
+        private int myPreviewHead;
+
+        /** The Zobrist hash of the preview. */
+        private long myPreviewHash;
+
+        /** Whether a wall kick is performed. */
+        private boolean myHasKick;
+
+        /** The type of T-spin performed. */
+        private int myTSpin;
+
+        /** A copy of the piece generator, null until something is captured. */
+        private PieceGenerator myGenerator;
+
+        /**
+         * Create an empty snapshot to capture a game in with {@link GameSpace#snapshot(Snapshot)}.
+         */
+        public Snapshot() {
+            super();
+        }
+
+    }
 
     /**
      * Property change listener that listen to the change in background.
@@ -39,6 +39,9 @@ public class IPiece extends AbstractPiece {
         }
     };
 
+    /** The row masks of all possible shapes, computed once from the shapes. */
+    private static final int[][] SHAPE_MASKS = createMasks(ALL_SHAPES);
+
     /** The wall kick data that specify the number of rows and columns to move */
     private static final int[][][] WALL_KICK = {
         {{0, 0}, {0, -2}, {0, 1}, {1, -2}, {-2, 1}}, 
@@ -51,7 +54,7 @@ public class IPiece extends AbstractPiece {
      * Create a I-Piece.
      */
     public IPiece() {
-        super(ALL_SHAPES, new Color(16, 187, 229), new Color(7, 82, 100), WALL_KICK);
+        super(ALL_SHAPES, SHAPE_MASKS, new Color(16, 187, 229), new Color(7, 82, 100), WALL_KICK);
     }
     
 }
@@ -35,11 +35,14 @@ public class JPiece extends AbstractPiece {
         }
     };
 
+    /** The row masks of all possible shapes, computed once from the shapes. */
+    private static final int[][] SHAPE_MASKS = createMasks(ALL_SHAPES);
+
     /**
      * Create a J-Piece.
      */
     public JPiece() {
-        super(ALL_SHAPES, new Color(93, 214, 244), new Color(13, 152, 186), null);
+        super(ALL_SHAPES, SHAPE_MASKS, new Color(93, 214, 244), new Color(13, 152, 186), null);
     }
     
 }
@@ -0,0 +1,69 @@
+package com.tetris.model;
+
+import java.awt.event.KeyEvent;
+
+/**
+ * The operations that can be bound to keys in the setting, in the order they are listed.
+ * 
+ * @author Jiameng Li
+ * @version 1.0
+ */
+public enum KeyAction {
+
+    /** Shift the current piece to the left. */
+    SHIFT_LEFT("Shift Left", KeyEvent.VK_A),
+
+    /** Shift the current piece to the right. */
+    SHIFT_RIGHT("Shift Right", KeyEvent.VK_D),
+
+    /** Soft drop the current piece while the key is held. */
+    SOFT_DROP("Soft Drop", KeyEvent.VK_S),
+
+    /** Hard drop the current piece. */
+    HARD_DROP("Hard Drop", KeyEvent.VK_SPACE),
+
+    /** Rotate the current piece counterclockwise. */
+    ROTATE_COUNTERCLOCKWISE("Rotate Counterclockwise", KeyEvent.VK_J),
+
+    /** Rotate the current piece clockwise. */
+    ROTATE_CLOCKWISE("Rotate Clockwise", KeyEvent.VK_K),
+
+    /** Hold the current piece. */
+    HOLD("Hold", KeyEvent.VK_L);
+
+    /** The name of the operation shown in the setting. */
+    private final String myName;
+
+    /** The key code of the key bound to the operation by default. */
+    private final int myDefaultKey;
+
+    /**
+     * Create an operation that can be bound to keys.
+     * 
+     * @param theName The name of the operation shown in the setting.
+     * @param theDefaultKey The key code of the key bound to the operation by default.
+     */
+    KeyAction(final String theName, final int theDefaultKey) {
+        myName = theName;
+        myDefaultKey = theDefaultKey;
+    }
+
+    /**
+     * Get the name of the operation shown in the setting.
+     * 
+     * @return The name of the operation.
+     */
+    public String getName() {
+        return myName;
+    }
+
+    /**
+     * Get the key code of the key bound to the operation by default.
+     * 
+     * @return The key code of the default key.
+     */
+    public int getDefaultKey() {
+        return myDefaultKey;
+    }
+
+}
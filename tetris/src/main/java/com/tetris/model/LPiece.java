@@ -35,11 +35,14 @@ public class LPiece extends AbstractPiece {
         }
     };
 
+    /** The row masks of all possible shapes, computed once from the shapes. */
+    private static final int[][] SHAPE_MASKS = createMasks(ALL_SHAPES);
+
     /**
      * Create a L-Piece.
      */
     public LPiece() {
-        super(ALL_SHAPES, new Color(255, 233, 204), new Color(255, 174, 66), null);
+        super(ALL_SHAPES, SHAPE_MASKS, new Color(255, 233, 204), new Color(255, 174, 66), null);
     }
     
 }
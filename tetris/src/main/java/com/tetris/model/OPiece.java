@@ -21,6 +21,9 @@ public class OPiece extends AbstractPiece {
         }
     };
 
+    /** The row masks of all possible shapes, computed once from the shapes. */
+    private static final int[][] SHAPE_MASKS = createMasks(ALL_SHAPES);
+
     /** The wall kick data that specify the number of rows and columns to move */
     private static final int[][][] WALL_KICK = {
         {{0, 0}}, 
@@ -33,7 +36,7 @@ public class OPiece extends AbstractPiece {
      * Create a O-Piece.
      */
     public OPiece() {
-        super(ALL_SHAPES, new Color(122, 232, 70), new Color(43, 105, 13), WALL_KICK);
+        super(ALL_SHAPES, SHAPE_MASKS, new Color(122, 232, 70), new Color(43, 105, 13), WALL_KICK);
     }   
 
 }
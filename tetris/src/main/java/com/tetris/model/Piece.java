@@ -4,25 +4,33 @@ import java.awt.Color;
 
 /**
  * Interface that represents all types of pieces in tetris.
+ * A piece only describes the shapes of its type and never changes while playing,
+ * the rotation and position of a piece in a game are kept by a {@link PieceState}.
  * 
  * @author Jiameng Li
  * @version 1.0
  */
 public interface Piece {
 
+    /** The result of a rotation when every wall kick fails. */
+    public static final int ROTATION_FAILED = -1;
+
     /**
-     * Get the current shape of the piece.
+     * Get the shape with the given index.
      * 
-     * @return The current shape of the piece.
+     * @param theShape The index of the shape.
+     * @return A copy of the shape.
      */
-    public int[][] getCurrentShape();
+    public int[][] getShape(int theShape);
 
     /**
-     * Get the next random shape of the piece.
+     * Get the row mask of the given row in the given shape without creating a new array.
      * 
-     * @return The next random shape of the piece.
+     * @param theShape The index of the shape.
+     * @param theRow The row in the shape, 0 is the top row.
+     * @return The row mask where bit n is set when the nth column is filled.
      */
-    public int[][] getNextShape();
+    public int getMask(int theShape, int theRow);
 
     /**
      * Get the piece unit that made up the piece.
@@ -32,10 +40,11 @@ public interface Piece {
     public PieceUnit getUnit();
 
     /**
-     * Replace the current shape with the next random shape
-     * and set a new next random shape.
+     * Get the number of possible shapes of the piece.
+     * 
+     * @return The number of possible shapes.
      */
-    public void setRandomShape();
+    public int getShapeCount();
 
     /**
      * Get get size of the piece (the number of units at each side).
@@ -45,7 +54,8 @@ public interface Piece {
     public int getSize();
     
     /**
-     * Rotate the piece clockwise by 90 degrees.
+     * Find how the current piece of the given game space moves when it rotates clockwise by 90 degrees.
+     * Neither the piece nor the game space is changed.
      * 
      * @param theSpace The game space.
      * @return An array [row, column] that represent how many rows and columns to move when rotating.
@@ -53,7 +63,8 @@ public interface Piece {
     public int[] rotateClockwise(GameSpace theSpace);
 
     /**
-     * Rotate the piececounterclockwise by 90 degrees.
+     * Find how the current piece of the given game space moves when it rotates counterclockwise by 90 degrees.
+     * Neither the piece nor the game space is changed.
      * 
      * @param theSpace The game space.
      * @return An array [row, column] that represent how many rows and columns to move when rotating.
@@ -61,13 +72,70 @@ public interface Piece {
     public int[] rotateCounterclockwise(GameSpace theSpace);
 
     /**
-     * Check whether the piece can be rotated in the given surrounding.
+     * Find the first wall kick that lets the piece rotate from the given shape and position on the given board.
+     * The piece itself is not changed.
+     * 
+     * @param theBoard The board.
+     * @param theShape The index of the shape before the rotation.
+     * @param theRow The row of the bottom left corner of the piece.
+     * @param theCol The column of the bottom left corner of the piece.
+     * @param theClockwise Whether to rotate clockwise.
+     * @return The rotation packed by {@link #packRotation(int, int, int)}, or {@link #ROTATION_FAILED}.
+     */
+    public int findRotation(Board theBoard, int theShape, int theRow, int theCol, boolean theClockwise);
+
+    /**
+     * Pack the result of a rotation into an int.
+     * 
+     * @param theShape The index of the shape after the rotation.
+     * @param theRow The number of rows to move, positive is down.
+     * @param theCol The number of columns to move, positive is right.
+     * @return The packed rotation.
+     */
+    public static int packRotation(final int theShape, final int theRow, final int theCol) {
+        return theShape | (theRow & 0xFF) << 8 | (theCol & 0xFF) << 16;
+    }
+
+    /**
+     * Get the index of the shape after the rotation from a packed rotation.
+     * 
+     * @param theRotation The packed rotation.
+     * @return The index of the shape.
+     */
+    public static int getRotationShape(final int theRotation) {
+        return theRotation & 0xFF;
+    }
+
+    /**
+     * Get the number of rows to move from a packed rotation.
+     * 
+     * @param theRotation The packed rotation.
+     * @return The number of rows to move, positive is down.
+     */
+    public static int getRotationRow(final int theRotation) {
+        return (byte) (theRotation >> 8);
+    }
+
+    /**
+     * Get the number of columns to move from a packed rotation.
+     * 
+     * @param theRotation The packed rotation.
+     * @return The number of columns to move, positive is right.
+     */
+    public static int getRotationColumn(final int theRotation) {
+        return (byte) (theRotation >> 16);
+    }
+
+    /**
+     * Check whether the given shape fits on the given board at the given position.
      * 
-     * @param theSurrounding The area the piece may touch as it rotate.
-     * @param theTarget The index of the shape the piece is about to rotate to.
-     * @return Whether the piece can be rotated.
+     * @param theBoard The board.
+     * @param theShape The index of the shape.
+     * @param theRow The row of the bottom left corner of the piece.
+     * @param theCol The column of the bottom left corner of the piece.
+     * @return Whether the shape overlaps no occupied cell.
      */
-    public boolean isValidRotate(PieceUnit[][] theSurrounding, int theTarget);
+    public boolean fits(Board theBoard, int theShape, int theRow, int theCol);
 
      /**
      * Change the color of the unit when the background color changed.
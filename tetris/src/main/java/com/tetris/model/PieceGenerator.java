@@ -0,0 +1,87 @@
+package com.tetris.model;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Decide the order of pieces and their starting shapes.
+ * Each piece is returned as an int that packs the index of the piece type and the index of the shape.
+ * 
+ * @author Jiameng Li
+ * @version 1.0
+ */
+public interface PieceGenerator {
+
+    /** Number of piece types. */
+    public static final int TYPES = 7;
+
+    /** Number of possible starting shapes. Pieces with fewer shapes use the index modulo their count. */
+    public static final int SHAPES = 4;
+
+    /**
+     * Get the next piece.
+     * 
+     * @return The next piece, see {@link #getType(int)} and {@link #getShape(int)}.
+     */
+    public int next();
+
+    /**
+     * Write the state of the generator to the given buffer, so the same sequence can be continued later.
+     * 
+     * @param theBuffer The buffer.
+     */
+    public void save(ByteBuffer theBuffer);
+
+    /**
+     * Replace the state of the generator with the state written by {@link #save(ByteBuffer)}.
+     * 
+     * @param theBuffer The buffer.
+     */
+    public void load(ByteBuffer theBuffer);
+
+    /**
+     * Create a generator of the same kind that continues the same sequence independently from this one.
+     * 
+     * @return The copy.
+     */
+    public PieceGenerator copy();
+
+    /**
+     * Replace the state of this generator with the state of the given generator without allocating anything.
+     * 
+     * @param theGenerator The generator to copy.
+     * @return Whether the state is copied, false if the given generator is of a different kind.
+     */
+    public boolean copyFrom(PieceGenerator theGenerator);
+
+    /**
+     * Pack a piece type and a shape into an int.
+     * 
+     * @param theType The index of the piece type.
+     * @param theShape The index of the shape.
+     * @return The packed piece.
+     */
+    public static int pack(final int theType, final int theShape) {
+        return theType * SHAPES + theShape;
+    }
+
+    /**
+     * Get the index of the piece type from a packed piece.
+     * 
+     * @param thePiece The packed piece.
+     * @return The index of the piece type.
+     */
+    public static int getType(final int thePiece) {
+        return thePiece / SHAPES;
+    }
+
+    /**
+     * Get the index of the starting shape from a packed piece.
+     * 
+     * @param thePiece The packed piece.
+     * @return The index of the shape.
+     */
+    public static int getShape(final int thePiece) {
+        return thePiece % SHAPES;
+    }
+
+}
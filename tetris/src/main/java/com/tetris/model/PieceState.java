@@ -0,0 +1,133 @@
+package com.tetris.model;
+
+/**
+ * The state of a piece in the game: its type, its rotation, and the position of its bottom left corner.
+ * A state is immutable and fits in a single int, so a game space keeps its current piece as an int
+ * and copying a game is a copy of a few primitives. The piece instances only describe the shapes
+ * of each type and are never changed while playing.
+ * 
+ * @param type The type of the piece, see {@link PieceGenerator#getType(int)}.
+ * @param rotation The index of the shape.
+ * @param row The row of the bottom left corner of the piece.
+ * @param column The column of the bottom left corner of the piece.
+ * @author Jiameng Li
+ * @version 1.0
+ */
+public record PieceState(int type, int rotation, int row, int column) {
+
+    /** The packed state when there's no piece. No packed piece is negative. */
+    public static final int NONE = -1;
+
+    /**
+     * Create the state of a piece.
+     * 
+     * @param type The type of the piece, see {@link PieceGenerator#getType(int)}.
+     * @param rotation The index of the shape.
+     * @param row The row of the bottom left corner of the piece, between -128 and 127.
+     * @param column The column of the bottom left corner of the piece, between -128 and 127.
+     */
+    public PieceState {
+        if (type < 0 || type >= PieceGenerator.TYPES || rotation < 0 || rotation >= PieceGenerator.SHAPES
+            || row != (byte) row || column != (byte) column) {
+            throw new IllegalArgumentException("The state doesn't fit in an int");
+        }
+    }
+
+    /**
+     * Pack the state of a piece into an int.
+     * The type takes the lowest 3 bits, then the rotation 2 bits, then a byte each for the row and the column.
+     * 
+     * @param theType The type of the piece.
+     * @param theRotation The index of the shape.
+     * @param theRow The row of the bottom left corner of the piece.
+     * @param theCol The column of the bottom left corner of the piece.
+     * @return The packed state.
+     */
+    public static int pack(final int theType, final int theRotation, final int theRow, final int theCol) {
+        return theType | theRotation << 3 | (theRow & 0xFF) << 8 | (theCol & 0xFF) << 16;
+    }
+
+    /**
+     * Create the state from a packed state.
+     * 
+     * @param theState The state packed by {@link #pack(int, int, int, int)}.
+     * @return The state.
+     */
+    public static PieceState unpack(final int theState) {
+        return new PieceState(getType(theState), getRotation(theState), getRow(theState), getColumn(theState));
+    }
+
+    /**
+     * Get the type from a packed state.
+     * 
+     * @param theState The packed state.
+     * @return The type of the piece.
+     */
+    public static int getType(final int theState) {
+        return theState & 0x7;
+    }
+
+    /**
+     * Get the rotation from a packed state.
+     * 
+     * @param theState The packed state.
+     * @return The index of the shape.
+     */
+    public static int getRotation(final int theState) {
+        return theState >> 3 & 0x3;
+    }
+
+    /**
+     * Get the row from a packed state.
+     * 
+     * @param theState The packed state.
+     * @return The row of the bottom left corner of the piece.
+     */
+    public static int getRow(final int theState) {
+        return (byte) (theState >> 8);
+    }
+
+    /**
+     * Get the column from a packed state.
+     * 
+     * @param theState The packed state.
+     * @return The column of the bottom left corner of the piece.
+     */
+    public static int getColumn(final int theState) {
+        return (byte) (theState >> 16);
+    }
+
+    /**
+     * Get a packed state moved by the given number of rows and columns.
+     * 
+     * @param theState The packed state.
+     * @param theRows The number of rows to move, positive is down.
+     * @param theCols The number of columns to move, positive is right.
+     * @return The moved state.
+     */
+    public static int move(final int theState, final int theRows, final int theCols) {
+        return pack(getType(theState), getRotation(theState), getRow(theState) + theRows,
+                    getColumn(theState) + theCols);
+    }
+
+    /**
+     * Get a packed state with the given rotation.
+     * 
+     * @param theState The packed state.
+     * @param theRotation The index of the new shape.
+     * @return The rotated state.
+     */
+    public static int rotate(final int theState, final int theRotation) {
+        return theState & ~(0x3 << 3) | theRotation << 3;
+    }
+
+    /**
+     * Pack this state into an int.
+     * 
+     * @return The packed state.
+     */
+    public int pack() {
+        return pack(type, rotation, row, column);
+    }
+
+}
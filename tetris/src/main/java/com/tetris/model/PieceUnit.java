@@ -2,6 +2,9 @@ package com.tetris.model;
 
 import java.awt.Color;
 import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 /**
  * Represent a unit of a piece.
@@ -30,11 +33,24 @@ public class PieceUnit {
     /** The length of each side of the sub unit in the whole unit. */
     public static final int SUB_SIZE = SIZE / DESIGN[0].length;
 
+    /** Replace the pre-rendered units only if they haven't been discarded in the meantime. */
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<PieceUnit, AtomicReferenceArray> SPRITES =
+        AtomicReferenceFieldUpdater.newUpdater(PieceUnit.class, AtomicReferenceArray.class, "mySprites");
+
     /** The color used in the outer side of the unit. */
-    private Color myOuterColor;
+    private volatile Color myOuterColor;
 
     /** The color used in the inner side of the unit. */
-    private Color myInnerColor;
+    private volatile Color myInnerColor;
+
+    /**
+     * The pre-rendered unit indexed by sub size, null until it's painted in that size.
+     * Units may be painted by the game loop and the event dispatch thread while the colors are changed
+     * on the event dispatch thread, so the units are published through an atomic array, which is replaced
+     * rather than cleared when the colors change, and a unit painted into a replaced array is never used.
+     */
+    private volatile AtomicReferenceArray<BufferedImage> mySprites = new AtomicReferenceArray<>(SUB_SIZE + 1);
 
     /**
      * Constructor used to create placeholder used as wall.
@@ -80,6 +96,7 @@ public class PieceUnit {
      */
     public void setOuterColor(final Color theOuter) {
         myOuterColor = theOuter;
+        invalidate();
     }
 
     /**
@@ -89,6 +106,7 @@ public class PieceUnit {
      */
     public void setInnerColor(final Color theInner) {
         myInnerColor = theInner;
+        invalidate();
     }
 
     /**
@@ -100,9 +118,37 @@ public class PieceUnit {
      * @param theSubSize Sub size of each small unit in the whole unit.
      */
     public void paintUnit(final Graphics2D theGraphics, final int theX, final int theY, final int theSubSize) {
-        int y = theY;
+        AtomicReferenceArray<BufferedImage> sprites = mySprites;
+        if (theSubSize >= sprites.length()) {
+            final AtomicReferenceArray<BufferedImage> grown = new AtomicReferenceArray<>(theSubSize + 1);
+            for (int i = 0; i < sprites.length(); i++) {
+                grown.set(i, sprites.get(i));
+            }
+            // If the colors changed in the meantime, paint this once without keeping it
+            sprites = SPRITES.compareAndSet(this, sprites, grown) ? grown : new AtomicReferenceArray<>(theSubSize + 1);
+        }
+        BufferedImage sprite = sprites.get(theSubSize);
+        if (sprite == null) {
+            final int size = theSubSize * DESIGN.length;
+            sprite = theGraphics.getDeviceConfiguration().createCompatibleImage(size, size);
+            final Graphics2D graphics = sprite.createGraphics();
+            paintDesign(graphics, theSubSize);
+            graphics.dispose();
+            sprites.set(theSubSize, sprite);
+        }
+        theGraphics.drawImage(sprite, theX, theY, null);
+    }
+
+    /**
+     * Paint the design of the unit at the top left corner using the given graphics.
+     * 
+     * @param theGraphics The graphics used to paint the unit.
+     * @param theSubSize Sub size of each small unit in the whole unit.
+     */
+    private void paintDesign(final Graphics2D theGraphics, final int theSubSize) {
+        int y = 0;
         for (int i = 0; i < DESIGN.length; i++) {
-            int x = theX;
+            int x = 0;
             for (int j = 0; j < DESIGN[0].length; j++) {
                 Color color = DESIGN[i][j] == 0 ? myOuterColor : myInnerColor;
                 theGraphics.setColor(color);
@@ -112,5 +158,13 @@ public class PieceUnit {
             y += theSubSize;
         }
     }
+
+    /**
+     * Discard the pre-rendered units so they are painted again with the current colors.
+     * The colors are written before the new array is published, so units painted into it use them.
+     */
+    private void invalidate() {
+        mySprites = new AtomicReferenceArray<>(mySprites.length());
+    }
     
-}
+}
\ No newline at end of file
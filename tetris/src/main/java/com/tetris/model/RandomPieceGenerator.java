@@ -0,0 +1,70 @@
+package com.tetris.model;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Piece generator that picks every piece and shape uniformly at random.
+ * 
+ * @author Jiameng Li
+ * @version 1.0
+ */
+public class RandomPieceGenerator implements PieceGenerator {
+
+    /** The random number generator. */
+    private final SplitMix64 myRand;
+
+    /**
+     * Create a random piece generator with the given seed.
+     * 
+     * @param theSeed The seed.
+     */
+    public RandomPieceGenerator(final long theSeed) {
+        super();
+        myRand = new SplitMix64(theSeed);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int next() {
+        return PieceGenerator.pack(myRand.nextInt(TYPES), myRand.nextInt(SHAPES));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void save(final ByteBuffer theBuffer) {
+        theBuffer.putLong(myRand.getState());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void load(final ByteBuffer theBuffer) {
+        myRand.setState(theBuffer.getLong());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PieceGenerator copy() {
+        return new RandomPieceGenerator(myRand.getState());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean copyFrom(final PieceGenerator theGenerator) {
+        final boolean same = theGenerator instanceof RandomPieceGenerator;
+        if (same) {
+            myRand.setState(((RandomPieceGenerator) theGenerator).myRand.getState());
+        }
+        return same;
+    }
+
+}
@@ -0,0 +1,42 @@
+package com.tetris.model;
+
+/**
+ * The available ways to generate pieces.
+ * 
+ * @author Jiameng Li
+ * @version 1.0
+ */
+public enum Randomizer {
+
+    /** Every piece is picked uniformly at random. */
+    RANDOM,
+
+    /** Every 7 pieces contain one of each piece type. */
+    BAG_7,
+
+    /** Every 14 pieces contain two of each piece type. */
+    BAG_14;
+
+    /**
+     * Create a piece generator of this kind with the given seed.
+     * 
+     * @param theSeed The seed.
+     * @return The piece generator.
+     */
+    public PieceGenerator create(final long theSeed) {
+        PieceGenerator generator;
+        switch (this) {
+            case BAG_7:
+                generator = new BagPieceGenerator(1, theSeed);
+                break;
+            case BAG_14:
+                generator = new BagPieceGenerator(2, theSeed);
+                break;
+            default:
+                generator = new RandomPieceGenerator(theSeed);
+                break;
+        }
+        return generator;
+    }
+
+}
@@ -35,11 +35,14 @@ public class SPiece extends AbstractPiece {
         }
     };
 
+    /** The row masks of all possible shapes, computed once from the shapes. */
+    private static final int[][] SHAPE_MASKS = createMasks(ALL_SHAPES);
+
     /**
      * Create a S-Piece.
      */
     public SPiece() {
-        super(ALL_SHAPES, new Color(50, 203, 241), new Color(10, 117, 143), null);
+        super(ALL_SHAPES, SHAPE_MASKS, new Color(50, 203, 241), new Color(10, 117, 143), null);
     }
     
 }
\ No newline at end of file
@@ -1,12 +1,13 @@
 package com.tetris.model;
 
-import java.beans.PropertyChangeListener;
-import java.beans.PropertyChangeSupport;
-import java.util.Arrays;
+import java.nio.ByteBuffer;
 
 /**
  * The score counter used to keep track of the total score, current level,
  * number of line cleared, and current speed.
+ * Every line clear is scored by a single lookup in a table built once from the scoring rules,
+ * indexed by the type of clear, the number of lines, the back-to-back record, and the wall kick.
+ * Changes are reported to a single {@link GameEventListener} with primitive arguments, so scoring never allocates.
  * 
  * @author Jiameng Li
  * @version 1.0
@@ -19,8 +20,41 @@ public class ScoreCounter {
     /** The initial speed of the game. */
     public static final int INIT_SPEED = 790;
 
+    /** Number of possible line counts of a clear, from 0 to 4. */
+    private static final int LINE_COUNTS = 5;
+
+    /** Number of possible records of a line clear, see {@link #record(int, boolean, boolean)}. */
+    private static final int RECORDS = (TETRIS + 1) * LINE_COUNTS;
+
+    /** The points of a regular clear at level 0, indexed by the number of lines. */
+    private static final int[] REGULAR_POINTS = {0, 100, 300, 500, 800};
+
+    /** The points of a T-spin at level 0, indexed by the number of lines and then whether a wall kick is performed. */
+    private static final int[][] T_SPIN_POINTS = {{400, 100}, {800, 200}, {1200, 1200}, {1600, 1600}, {0, 0}};
+
+    /** The points of a mini T-spin double at level 0. */
+    private static final int MINI_T_SPIN_DOUBLE_POINTS = 400;
+
+    /** The mask of the points that don't depend on the level in an entry of {@link #POINTS}. */
+    private static final long FIXED_MASK = 0xFFFFFFFFL;
+
+    /**
+     * The score of every line clear, indexed by {@link #index(int, int, boolean)}.
+     * The low half of an entry is the points at level 0 and the high half the points added for each level.
+     */
+    private static final long[] POINTS = new long[RECORDS * RECORDS * 2];
+
+    static {
+        for (int record = 0; record < RECORDS; record++) {
+            for (int previous = 0; previous < RECORDS; previous++) {
+                POINTS[index(record, previous, false)] = rule(record, previous, false);
+                POINTS[index(record, previous, true)] = rule(record, previous, true);
+            }
+        }
+    }
+
     /** The total score. */
-    private int myScore;
+    private long myScore;
 
     /** The current level. */
     private int myLevel;
@@ -31,15 +65,11 @@ public class ScoreCounter {
     /** Delay between each drop of the piece in milliseconds. */
     private int mySpeed;
 
-    /** 
-     * The record for back-to-back. 
-     * The first index keep the previous type of line clear, such as mini T-spin, full T-spin, and Tetris.
-     * The second index keep how many line cleared in previous line clear.
-     * */
-    private int[] myBackToBack;
+    /** The record of the previous line clear for back-to-back, see {@link #record(int, boolean, boolean)}. */
+    private int myBackToBack;
 
-    /** Property change support for setting changes. */
-    private final PropertyChangeSupport myPCS;
+    /** The listener notified of changes in score and level and of line clears. */
+    private GameEventListener myListener;
 
     /**
      * Create a score counter.
@@ -50,8 +80,8 @@ public class ScoreCounter {
         myLevel = 0;
         myLine = 0;
         mySpeed = INIT_SPEED;
-        myBackToBack = new int[2];
-        myPCS = new PropertyChangeSupport(this);
+        myBackToBack = 0;
+        myListener = GameEventListener.NONE;
     }
 
     /**
@@ -59,7 +89,7 @@ public class ScoreCounter {
      * 
      * @return The total score.
      */
-    public int getScore() {
+    public long getScore() {
         return myScore;
     }
 
@@ -95,14 +125,14 @@ public class ScoreCounter {
      * 
      * @param theScore The scores to add.
      */
-    public void addScore(final int theScore) {
+    public void addScore(final long theScore) {
         myScore += theScore;
-        myPCS.firePropertyChange("score", myScore - theScore, myScore);
+        myListener.onScore(myScore);
     }
 
     /**
      * Add a number of lines cleared and update the score and level.
-     * Decide the type of current line clear and call the corresponding methods to get the score to update.
+     * The score is looked up from the type of the current line clear and the previous one.
      * 
      * @param theLine Number of lines cleared.
      * @param theMiniT Whether a mini T-spin is performed.
@@ -111,18 +141,12 @@ public class ScoreCounter {
      */
     public void addLine(final int theLine, final boolean theMiniT, final boolean theFullT, final boolean theKick) {
         if (theLine == 0 && !theFullT) { return; }
-        int[] record = recordType(theLine, theMiniT, theFullT);
-        // Back to back
-        if (record[0] != 0 && myBackToBack[0] != 0) {
-            addScore(scoreBackToBack(record, theKick));
-        // Mini or full T-spin
-        } else if (record[0] == TPiece.MINI_T_SPIN || record[0] == TPiece.FULL_T_SPIN) {
-            addScore(scoreTSpin(record, theKick));
-        // Regular line clear or Tetris
-        } else if (record[0] == 0 || record[0] == TETRIS) {
-            addScore(scoreRegular(theLine));
-        }
-        myBackToBack = record.clone();
+        final int record = record(theLine, theMiniT, theFullT);
+        final long points = POINTS[index(record, myBackToBack, theKick)];
+        addScore((points & FIXED_MASK) + (points >>> Integer.SIZE) * myLevel);
+        myBackToBack = record;
+        final int tSpin = theMiniT ? TPiece.MINI_T_SPIN : theFullT ? TPiece.FULL_T_SPIN : 0;
+        myListener.onLinesCleared(theLine, ClearType.of(tSpin, theLine));
         // Increment level
         if (myLine / 10 < (myLine + theLine) / 10) {
             incrementLevel();
@@ -131,128 +155,82 @@ public class ScoreCounter {
     }
 
     /**
-     * Record the type of line clear.
+     * Record the type of line clear and the number of lines in an int.
      * 
      * @param theLine Number of lines cleared.
      * @param theMiniT Whether a mini T-spin is performed.
      * @param theFullT Whether a full T-spin is performed.
      * @return The record for the type of line clear.
      */
-    private int[] recordType(final int theLine, final boolean theMiniT, final boolean theFullT) {
-        int[] record = new int[2];
+    private static int record(final int theLine, final boolean theMiniT, final boolean theFullT) {
+        int type = 0;
         if (theMiniT) {                 // Mini T-spin
-            record[0] = TPiece.MINI_T_SPIN;
+            type = TPiece.MINI_T_SPIN;
         } else if (theFullT) {          // Full T-spin
-            record[0] = TPiece.FULL_T_SPIN;
+            type = TPiece.FULL_T_SPIN;
         } else if (theLine == 4) {      // Tetris
-            record[0] = TETRIS;
+            type = TETRIS;
         }
-        record[1] = theLine;
-        return record;
+        return type * LINE_COUNTS + theLine;
     }
 
     /**
-     * Get the score for regular line clear.
+     * Get the index of a line clear in the table of points.
      * 
-     * @param theLine Number of lines cleared.
-     * @return The score to add after cleared given number of lines.
-     */
-    private int scoreRegular(final int theLine) {
-        int score = 0;
-        switch (theLine) {
-            case 1:     // Single
-                score = (myLevel + 1) * 100;
-                break;
-            case 2:     // Double
-                score = (myLevel + 1) * 300;
-                break;
-            case 3:     // Triple
-                score = (myLevel + 1) * 500;
-                break;
-            case 4:     // Tetris
-                score = (myLevel + 1) * 800;
-                break;
-            default:
-                break;
-        }
-        return score;
-    }
-
-    /**
-     * Get the score for T-spin (both mini and full).
-     * 
-     * @param theRecord The record for current line clear.
+     * @param theRecord The record of the line clear.
+     * @param thePrevious The record of the previous line clear.
      * @param theKick Whether a wall kick is performed.
-     * @return The score for T-spin.
+     * @return The index in {@link #POINTS}.
      */
-    private int scoreTSpin(final int[] theRecord, final boolean theKick) {
-        int score = 0;
-        if (theRecord[0] == TPiece.MINI_T_SPIN && theRecord[1] == 2) {
-            score = (myLevel + 1) * 400;    // Mini T-spin Double
-        } else {    // Full T-spin
-            switch (theRecord[1]) {
-                case 0:
-                    if (theKick) {
-                        score = (myLevel + 1) * 100;    // No line and kick
-                    } else {
-                        score = (myLevel + 1) * 400;    // No line and no kick
-                    }
-                    break;
-                case 1:
-                    if (theKick) {
-                        score = (myLevel + 1) * 200;    // Single and kick
-                    } else {
-                        score = (myLevel + 1) * 800;    // Single and no kick
-                    }
-                    break;
-                case 2:
-                    score = (myLevel + 1) * 1200;       // Double
-                    break;
-                case 3:
-                    score = (myLevel + 1) * 1600;       // Triple
-                    break;
-                default:
-                    break;
-            }
-        }
-        return score;
+    private static int index(final int theRecord, final int thePrevious, final boolean theKick) {
+        return (theRecord * RECORDS + thePrevious) << 1 | (theKick ? 1 : 0);
     }
 
     /**
-     * Get the score for back-to-back.
+     * Apply the scoring rules to a line clear to build its entry in the table of points.
+     * A difficult clear (T-spin or Tetris) right after another difficult clear is back-to-back:
+     * the same clear again gets a fixed bonus that doesn't depend on the level,
+     * and a different one gets half as many points again as usual.
+     * Except for a mini T-spin double, a mini T-spin is scored as a full T-spin, or as a regular clear
+     * when it is back-to-back.
      * 
-     * @param theRecord The record for current line clear.
+     * @param theRecord The record of the line clear.
+     * @param thePrevious The record of the previous line clear.
      * @param theKick Whether a wall kick is performed.
-     * @return The score for back-to-back.
+     * @return The entry, see {@link #POINTS}.
      */
-    private int scoreBackToBack(final int[] theRecord, final boolean theKick) {
-        int score = 0;
-        // Same type as previous line clear
-        if (Arrays.equals(theRecord, myBackToBack)) {
-            switch (theRecord[0]) {
-                case TPiece.MINI_T_SPIN:     // Mini T-spin
-                    score = 300 * theRecord[1];
-                    break;
-                case TPiece.FULL_T_SPIN:     // Full T-spin
-                    score = 1200 + 600 * (theRecord[1] - 1);
+    private static long rule(final int theRecord, final int thePrevious, final boolean theKick) {
+        final int type = theRecord / LINE_COUNTS;
+        final int line = theRecord % LINE_COUNTS;
+        final boolean tSpin = type == TPiece.MINI_T_SPIN && line == 2 || type == TPiece.FULL_T_SPIN;
+        final int points;
+        if (type == TPiece.MINI_T_SPIN && line == 2) {
+            points = MINI_T_SPIN_DOUBLE_POINTS;
+        } else if (type == TPiece.MINI_T_SPIN || type == TPiece.FULL_T_SPIN) {
+            points = T_SPIN_POINTS[line][theKick ? 1 : 0];
+        } else {
+            points = REGULAR_POINTS[line];
+        }
+        long entry = (long) points << Integer.SIZE | points;
+        if (type != 0 && thePrevious / LINE_COUNTS != 0 && theRecord == thePrevious) {
+            // Same type as previous line clear
+            switch (type) {
+                case TPiece.MINI_T_SPIN:
+                    entry = 300 * line;
                     break;
-                case TETRIS:     // Tetris
-                    score = 1200;
+                case TPiece.FULL_T_SPIN:
+                    entry = 1200 + 600 * (line - 1);
                     break;
                 default:
+                    entry = 1200;
                     break;
             }
-        // Not same type
-        } else {
-            // Full and mini T-spin
-            if ((theRecord[0] == TPiece.MINI_T_SPIN && theRecord[1] == 2) || theRecord[0] == TPiece.FULL_T_SPIN) {
-                score = (int) (scoreTSpin(theRecord, theKick) * 1.5);
-            // Tetris
-            } else {
-                score = (int) (scoreRegular(theRecord[1]) * 1.5);
-            }
+        } else if (type != 0 && thePrevious / LINE_COUNTS != 0) {
+            // Not same type, a mini T-spin other than a double counts as a regular clear
+            final long bonus = (tSpin ? points : REGULAR_POINTS[line]) * 3L / 2;
+            entry = bonus << Integer.SIZE | bonus;
         }
-        return score;
+        return entry;
     }
 
     /**
@@ -267,36 +245,57 @@ public class ScoreCounter {
         } else if (myLevel == 10 || myLevel == 13 || myLevel == 16 || myLevel == 19 || myLevel == 29) {
             mySpeed -= 20;
         }
-        myPCS.firePropertyChange("level", myLevel - 1, myLevel);
+        myListener.onLevel(myLevel);
     }
 
     /**
-     * Reset the setting.
+     * Reset the setting, including the back-to-back record, so a new game starts as on a new counter.
      */
     public void reset() {
         myLevel = 0;
         myLine = 0;
         myScore = 0;
         mySpeed = INIT_SPEED;
+        myBackToBack = 0;
     }
 
+    /**
+     * Write the score, level, lines, speed, and back-to-back record to the given buffer.
+     * 
+     * @param theBuffer The buffer.
+     */
+    public void save(final ByteBuffer theBuffer) {
+        theBuffer.putLong(myScore);
+        theBuffer.putInt(myLevel);
+        theBuffer.putInt(myLine);
+        theBuffer.putInt(mySpeed);
+        theBuffer.putInt(myBackToBack / LINE_COUNTS);
+        theBuffer.putInt(myBackToBack % LINE_COUNTS);
+    }
 
     /**
-     * Add property change listener to the property change support.
+     * Replace the state of the counter with the state written by {@link #save(ByteBuffer)}.
+     * No event is fired.
      * 
-     * @param theListener The property change listener for setting
+     * @param theBuffer The buffer.
      */
-    public void addPropertyChangeListener(final PropertyChangeListener theListener) {
-        myPCS.addPropertyChangeListener(theListener);
+    public void load(final ByteBuffer theBuffer) {
+        myScore = theBuffer.getLong();
+        myLevel = theBuffer.getInt();
+        myLine = theBuffer.getInt();
+        mySpeed = theBuffer.getInt();
+        final int type = theBuffer.getInt();
+        myBackToBack = type * LINE_COUNTS + theBuffer.getInt();
     }
 
+
     /**
-     * Remove property change listener to the property change support.
+     * Set the listener notified of changes in score and level and of line clears.
      * 
-     * @param theListener The property change listener for setting
+     * @param theListener The listener, or {@link GameEventListener#NONE} to ignore every event.
      */
-    public void removePropertyChangeListener(final PropertyChangeListener theListener) {
-        myPCS.removePropertyChangeListener(theListener);
+    public void setGameEventListener(final GameEventListener theListener) {
+        myListener = theListener;
     }
     
 }
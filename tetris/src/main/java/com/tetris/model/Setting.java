@@ -1,10 +1,13 @@
 package com.tetris.model;
 
-import java.awt.event.KeyEvent;
 import java.beans.PropertyChangeListener;
 import java.beans.PropertyChangeSupport;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -18,6 +21,18 @@ import java.awt.Color;
  */
 public class Setting {
 
+    /** The action of a key code that isn't bound to any operation. */
+    public static final int NO_ACTION = -1;
+
+    /** Every operation that can be bound to keys, indexed by its ordinal. */
+    private static final KeyAction[] ACTIONS = KeyAction.values();
+
+    /**
+     * A read-only setting with the default values, shared by the games that are never shown,
+     * such as simulated games and replays, so they don't each create a setting.
+     */
+    public static final Setting HEADLESS = new Setting(true);
+
     /** The background color of the game. */
     private Color myBackground;
 
@@ -27,8 +42,30 @@ public class Setting {
     /** The volume of the sound. Min 0, max 100. */
     private int myVolume;
 
-    /** Map that contains all operations can be used on block and their corresponding keys. */
-    private final Map<String, Integer> myKeys;
+    /**
+     * The number of steps per second of the game loop that runs the game and draws each frame,
+     * or 0 to run the game by a timer and let Swing repaint. Can be set by the system property tetris.frameRate.
+     */
+    private int myFrameRate;
+
+    /** The delay before a held shift key repeats in milliseconds (DAS). */
+    private int myAutoShiftDelay;
+
+    /** The interval between repeated shifts of a held key in milliseconds (ARR), 0 to shift to the wall at once. */
+    private int myAutoRepeatRate;
+
+    /**
+     * Map that contains all operations can be used on block and their corresponding keys.
+     * The first key of each operation is the one shown in the setting.
+     */
+    private final Map<String, List<Integer>> myKeys;
+
+    /**
+     * The ordinal of the operation bound to each key code, or {@link #NO_ACTION}.
+     * Compiled from the keys whenever they change, so a key is dispatched with a single array read.
+     * Only as long as the largest key code bound, and grown when a larger one is bound.
+     */
+    private byte[] myActions;
 
     /** All available background colors. The background color is always in index 0 and foreground in index 1/ */
     private final Map<String, Color[]> myColors;
@@ -36,15 +73,32 @@ public class Setting {
     /** Property change support for setting changes. */
     private final PropertyChangeSupport myPCS;
 
+    /** Whether the setting can't be changed. */
+    private final boolean myReadOnly;
+
     /**
      * Create a general setting.
      */
     public Setting() {
+        this(false);
+    }
+
+    /**
+     * Create a general setting with the default values.
+     * 
+     * @param theReadOnly Whether the setting can't be changed.
+     */
+    private Setting(final boolean theReadOnly) {
         super();
+        myReadOnly = theReadOnly;
         myBackground = Color.BLACK;
         myForeground = Color.WHITE;
         myVolume = 80;
+        myFrameRate = Integer.getInteger("tetris.frameRate", 0);
+        myAutoShiftDelay = 167;
+        myAutoRepeatRate = 33;
         myKeys = new LinkedHashMap<>();
+        myActions = new byte[0];
         myColors = new LinkedHashMap<>();
         myPCS = new PropertyChangeSupport(this);
         setup();
@@ -54,12 +108,12 @@ public class Setting {
      * Set up initial corresponding keys for each operations and all available colors.
      */
     private void setup() {
-        myKeys.put("Shift Left", KeyEvent.VK_A);
-        myKeys.put("Shift Right", KeyEvent.VK_D);
-        myKeys.put("Soft Drop", KeyEvent.VK_S);
-        myKeys.put("Hard Drop", KeyEvent.VK_SPACE);
-        myKeys.put("Rotate Counterclockwise", KeyEvent.VK_J);
-        myKeys.put("Rotate Clockwise", KeyEvent.VK_K);
+        for (final KeyAction action : ACTIONS) {
+            final List<Integer> keys = new ArrayList<>();
+            keys.add(action.getDefaultKey());
+            myKeys.put(action.getName(), keys);
+        }
+        compileKeys();
 
         myColors.put("White", new Color[]{Color.WHITE, Color.BLACK});
         myColors.put("Black", new Color[]{Color.BLACK, Color.WHITE});
@@ -80,17 +134,45 @@ public class Setting {
      * @return All keys for operations.
      */
     public Collection<Integer> getAllKeys() {
-        return myKeys.values();
+        final List<Integer> keys = new ArrayList<>();
+        for (final List<Integer> operationKeys : myKeys.values()) {
+            keys.addAll(operationKeys);
+        }
+        return keys;
     }
 
     /**
-     * Get the key code of corresponding key for the given operation.
+     * Get the key code of corresponding key for the given operation, the first if it has several.
      * 
      * @param theOperation The operation.
      * @return The key code of corresponding key.
      */
     public int getKey(final String theOperation) {
-        return myKeys.get(theOperation);
+        return myKeys.get(theOperation).get(0);
+    }
+
+    /**
+     * Get the key codes of all keys bound to the given operation.
+     * 
+     * @param theOperation The operation.
+     * @return The key codes, the first being the one shown in the setting.
+     */
+    public List<Integer> getKeys(final String theOperation) {
+        return Collections.unmodifiableList(myKeys.get(theOperation));
+    }
+
+    /**
+     * Get the operation bound to the given key code.
+     * 
+     * @param theKey The key code.
+     * @return The ordinal of the {@link KeyAction} bound to the key, or {@link #NO_ACTION} if there is none.
+     */
+    public int getAction(final int theKey) {
+        int action = NO_ACTION;
+        if (theKey >= 0 && theKey < myActions.length) {
+            action = myActions[theKey];
+        }
+        return action;
     }
 
     /**
@@ -135,18 +217,170 @@ public class Setting {
      * @param theVolume The new volume of the sound.
      */
     public void setVolume(final int theVolume) {
+        checkWritable();
         myVolume = theVolume;
     }
 
     /**
-     * Change the corresponding key for the given operation.
+     * Get the number of steps per second of the game loop.
+     * 
+     * @return The number of steps per second, or 0 if the game is run by a timer.
+     */
+    public int getFrameRate() {
+        return myFrameRate;
+    }
+
+    /**
+     * Change the number of steps per second of the game loop, which is used by game scenes created afterwards.
+     * 
+     * @param theFrameRate The number of steps per second, such as 60 or 120, or 0 to run the game by a timer.
+     */
+    public void setFrameRate(final int theFrameRate) {
+        checkWritable();
+        myFrameRate = theFrameRate;
+    }
+
+    /**
+     * Get the delay before a held shift key repeats.
+     * 
+     * @return The delay in milliseconds.
+     */
+    public int getAutoShiftDelay() {
+        return myAutoShiftDelay;
+    }
+
+    /**
+     * Get the interval between repeated shifts of a held key.
+     * 
+     * @return The interval in milliseconds, 0 if the piece shifts to the wall at once.
+     */
+    public int getAutoRepeatRate() {
+        return myAutoRepeatRate;
+    }
+
+    /**
+     * Change the delay and interval of repeated shifts, which are used from the next game.
+     * 
+     * @param theDelay The delay before a held shift key repeats in milliseconds.
+     * @param theRate The interval between repeated shifts in milliseconds, 0 to shift to the wall at once.
+     */
+    public void setAutoShift(final int theDelay, final int theRate) {
+        checkWritable();
+        myAutoShiftDelay = theDelay;
+        myAutoRepeatRate = theRate;
+    }
+
+    /**
+     * Change the corresponding key for the given operation, replacing its first key,
+     * and take the key from any other operation it is bound to.
+     * Nothing changes if the key is the only key of another operation.
      * 
      * @param theOperation The operation.
      * @param theKey The key code for new corresponding key.
+     * @return Whether the key is now the first key of the operation.
+     */
+    public boolean setKey(final String theOperation, final int theKey) {
+        checkWritable();
+        final Integer key = theKey;
+        final List<Integer> operationKeys = myKeys.get(theOperation);
+        final boolean changed = operationKeys != null && canTake(operationKeys, key);
+        if (changed) {
+            operationKeys.remove(0);
+            for (final List<Integer> keys : myKeys.values()) {
+                keys.remove(key);
+            }
+            operationKeys.add(0, key);
+            compileKeys();
+        }
+        return changed;
+    }
+
+    /**
+     * Bind another key to the given operation, taking it from any other operation it is bound to.
+     * Nothing changes if the key is the only key of another operation.
+     * 
+     * @param theOperation The operation.
+     * @param theKey The key code of the key to add.
+     * @return Whether the key is bound to the operation.
      */
-    public void setKey(final String theOperation, final int theKey) {
-        if (myKeys.containsKey(theOperation)) {
-            myKeys.replace(theOperation, theKey);
+    public boolean addKey(final String theOperation, final int theKey) {
+        checkWritable();
+        final Integer key = theKey;
+        final List<Integer> operationKeys = myKeys.get(theOperation);
+        final boolean added = operationKeys != null && canTake(operationKeys, key);
+        if (added && !operationKeys.contains(key)) {
+            for (final List<Integer> keys : myKeys.values()) {
+                keys.remove(key);
+            }
+            operationKeys.add(key);
+            compileKeys();
+        }
+        return added;
+    }
+
+    /**
+     * Check whether a key can be taken by an operation, that is, it isn't the only key of another operation.
+     * 
+     * @param theKeys The keys of the operation that takes the key.
+     * @param theKey The key code.
+     * @return Whether the key can be taken.
+     */
+    private boolean canTake(final List<Integer> theKeys, final Integer theKey) {
+        boolean free = true;
+        for (final List<Integer> keys : myKeys.values()) {
+            if (keys != theKeys && keys.size() == 1 && keys.contains(theKey)) {
+                free = false;
+            }
+        }
+        return free;
+    }
+
+    /**
+     * Unbind a key from the given operation. The last key of an operation is never removed.
+     * 
+     * @param theOperation The operation.
+     * @param theKey The key code of the key to remove.
+     */
+    public void removeKey(final String theOperation, final int theKey) {
+        checkWritable();
+        final List<Integer> keys = myKeys.get(theOperation);
+        if (keys != null && keys.size() > 1 && keys.remove(Integer.valueOf(theKey))) {
+            compileKeys();
+        }
+    }
+
+    /**
+     * Rebuild the table of the operation bound to each key code from the keys of every operation.
+     * When a key is bound to several operations, the one listed last wins.
+     */
+    private void compileKeys() {
+        int length = 0;
+        for (final List<Integer> keys : myKeys.values()) {
+            for (final int key : keys) {
+                length = Math.max(length, key + 1);
+            }
+        }
+        if (length > myActions.length) {
+            myActions = new byte[length];
+        }
+        Arrays.fill(myActions, (byte) NO_ACTION);
+        for (final KeyAction action : ACTIONS) {
+            for (final int key : myKeys.get(action.getName())) {
+                if (key >= 0) {
+                    myActions[key] = (byte) action.ordinal();
+                }
+            }
+        }
+    }
+
+    /**
+     * Check that the setting can be changed.
+     * 
+     * @throws UnsupportedOperationException If the setting is read-only.
+     */
+    private void checkWritable() {
+        if (myReadOnly) {
+            throw new UnsupportedOperationException("The setting is read-only");
         }
     }
 
@@ -156,6 +390,7 @@ public class Setting {
      * @param theColor The new background color.
      */
     public void setColor(final String theColor) {
+        checkWritable();
         final Color oldBG = myBackground;
         final Color[] colors = myColors.get(theColor);
         myBackground = colors[0];
@@ -166,11 +401,14 @@ public class Setting {
 
     /**
      * Add property change listener to the property change support.
+     * A read-only setting never changes, so it doesn't keep the listener.
      * 
      * @param theListener The property change listener for setting
      */
     public void addPropertyChangeListener(final PropertyChangeListener theListener) {
-        myPCS.addPropertyChangeListener(theListener);
+        if (!myReadOnly) {
+            myPCS.addPropertyChangeListener(theListener);
+        }
     }
 
     /**
@@ -0,0 +1,111 @@
+package com.tetris.model;
+
+/**
+ * A small, fast, splittable pseudo-random number generator (SplitMix64).
+ * The whole state is a single long, so a sequence can be saved, restored, and
+ * regenerated bit-for-bit from its seed without allocating anything.
+ * 
+ * @author Jiameng Li
+ * @version 1.0
+ */
+public class SplitMix64 {
+
+    /** The increment added to the state on each step (the golden ratio). */
+    private static final long GAMMA = 0x9E3779B97F4A7C15L;
+
+    /** The current state. */
+    private long myState;
+
+    /**
+     * Create a generator with the given seed.
+     * 
+     * @param theSeed The seed.
+     */
+    public SplitMix64(final long theSeed) {
+        super();
+        myState = theSeed;
+    }
+
+    /**
+     * Get the current state, which can be used as a seed to continue the same sequence.
+     * 
+     * @return The current state.
+     */
+    public long getState() {
+        return myState;
+    }
+
+    /**
+     * Replace the current state.
+     * 
+     * @param theState The new state.
+     */
+    public void setState(final long theState) {
+        myState = theState;
+    }
+
+    /**
+     * Get the next random long.
+     * 
+     * @return The next random long.
+     */
+    public long nextLong() {
+        myState += GAMMA;
+        return mix(myState);
+    }
+
+    /**
+     * Get the next random int between 0 (inclusive) and the given bound (exclusive).
+     * 
+     * @param theBound The upper bound, must be positive.
+     * @return The next random int in the range.
+     */
+    public int nextInt(final int theBound) {
+        // Multiply the high 32 bits by the bound and keep the high half of the product
+        return (int) (((nextLong() >>> 32) * theBound) >>> 32);
+    }
+
+    /**
+     * Get the next random double between 0 (inclusive) and 1 (exclusive).
+     * 
+     * @return The next random double.
+     */
+    public double nextDouble() {
+        return (nextLong() >>> 11) * 0x1.0p-53;
+    }
+
+    /**
+     * Get the next random double from the standard normal distribution.
+     * Nothing is cached between calls, so the whole state is still the single long.
+     * 
+     * @return The next normally distributed double with mean 0 and standard deviation 1.
+     */
+    public double nextGaussian() {
+        // Box-Muller transform, the first uniform must not be 0
+        final double radius = Math.sqrt(-2 * Math.log(1 - nextDouble()));
+        return radius * Math.cos(2 * Math.PI * nextDouble());
+    }
+
+    /**
+     * Create a new generator whose sequence is independent from this one.
+     * 
+     * @return The new generator.
+     */
+    public SplitMix64 split() {
+        return new SplitMix64(nextLong());
+    }
+
+    /**
+     * Mix the bits of the given value.
+     * 
+     * @param theValue The value.
+     * @return The mixed value.
+     */
+    private static long mix(final long theValue) {
+        long z = theValue;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+}
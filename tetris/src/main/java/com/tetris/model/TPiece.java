@@ -17,6 +17,18 @@ public class TPiece extends AbstractPiece {
     /** Number that represent full T-spin. */
     public static final int FULL_T_SPIN = 2;
 
+    /** The bit of the top left corner around the piece, corners go clockwise from here. */
+    private static final int TOP_LEFT = 1;
+
+    /** The bit of the top right corner around the piece. */
+    private static final int TOP_RIGHT = 1 << 1;
+
+    /** The bit of the bottom right corner around the piece. */
+    private static final int BOTTOM_RIGHT = 1 << 2;
+
+    /** The bit of the bottom left corner around the piece. */
+    private static final int BOTTOM_LEFT = 1 << 3;
+
     /** All possible shapes of the piece. */
     private static final int[][][] ALL_SHAPES = {
         {
@@ -41,59 +53,50 @@ public class TPiece extends AbstractPiece {
         }
     };
 
+    /** The row masks of all possible shapes, computed once from the shapes. */
+    private static final int[][] SHAPE_MASKS = createMasks(ALL_SHAPES);
+
     /**
      * Create a T-Piece.
      */
     public TPiece() {
-        super(ALL_SHAPES, new Color(255, 194, 112), new Color(229, 131, 0), null);
+        super(ALL_SHAPES, SHAPE_MASKS, new Color(255, 194, 112), new Color(229, 131, 0), null);
+    }
+
+    /**
+     * Determine whether or not a full T-spin or mini T-spin is done by a T-piece with the given shape 
+     * at the given position on the board, so placements can be checked without changing any piece.
+     * 
+     * @param theBoard The board.
+     * @param theShape The index of the shape of the T-piece.
+     * @param theRow The row of the bottom left corner of the piece.
+     * @param theCol The column of the bottom left corner of the piece.
+     * @return 0 if not T-spin, MINI_T_SPIN if mini T-spin, FULL_T_SPIN if full T-spin.
+     */
+    public static int isTSpin(final Board theBoard, final int theShape, final int theRow, final int theCol) {
+        int corners = 0;
+        corners |= theBoard.isOccupied(theRow - 2, theCol) ? TOP_LEFT : 0;
+        corners |= theBoard.isOccupied(theRow - 2, theCol + 2) ? TOP_RIGHT : 0;
+        corners |= theBoard.isOccupied(theRow, theCol + 2) ? BOTTOM_RIGHT : 0;
+        corners |= theBoard.isOccupied(theRow, theCol) ? BOTTOM_LEFT : 0;
+        return isTSpin(theShape, corners);
     }
 
     /**
-     * Determine whether or not a full T-spin or mini T-spin has been done.
-     * Assume the rotation is done before this method is called.
-     * Both full and mini T-spin have three surronding pieces at the corner.
-     * In a full T-spin, the piece face two surrounding pieces after the rotation
-     * while mini T-spin faces one.
+     * Determine the type of T-spin from the occupied corners around the piece.
+     * Both full and mini T-spin have at least three occupied corners.
+     * The two corners the piece faces are the bits of the current shape index and the next one,
+     * a full T-spin has both of them occupied while mini T-spin has one.
      * 
+     * @param theShape The index of the shape of the T-piece.
+     * @param theCorners The occupied corners, see {@link #TOP_LEFT}.
      * @return 0 if not T-spin, MINI_T_SPIN if mini T-spin, FULL_T_SPIN if full T-spin.
      */
-    public int isTSpin(final PieceUnit[][] theSurrounding) {
+    private static int isTSpin(final int theShape, final int theCorners) {
         int spin = 0;
-        int count = 0;
-        // Count how many units in the corner
-        count += theSurrounding[0][0] != null ? 1 : 0;
-        count += theSurrounding[0][2] != null ? 1 : 0;
-        count += theSurrounding[2][0] != null ? 1 : 0;
-        count += theSurrounding[2][2] != null ? 1 : 0;
-        if (count > 2) {
-            PieceUnit u1 = null, u2 = null;
-            switch (super.getCurrentShapeIdx()) {
-                case 0:
-                    u1 = theSurrounding[0][0];
-                    u2 = theSurrounding[0][2];
-                    break;
-                case 1:
-                    u1 = theSurrounding[0][2];
-                    u2 = theSurrounding[2][2];
-                    break;
-                case 2:
-                    u1 = theSurrounding[2][2];
-                    u2 = theSurrounding[2][0];
-                    break;
-                case 3:
-                    u1 = theSurrounding[2][0];
-                    u2 = theSurrounding[0][0];
-                    break;
-                default:
-                    break;
-            }
-            // Full T-spin
-            if (u1 != null && u2 != null) {
-                spin = FULL_T_SPIN;
-            // Mini T-spin
-            } else if (u1 == null ^ u2 == null) {
-                spin = MINI_T_SPIN;
-            }
+        if (Integer.bitCount(theCorners) > 2) {
+            final int facing = (1 << theShape | 1 << (theShape + 1) % 4) & theCorners;
+            spin = Integer.bitCount(facing) == 2 ? FULL_T_SPIN : MINI_T_SPIN;
         }
         return spin;
     }
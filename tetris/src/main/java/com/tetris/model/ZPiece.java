@@ -35,11 +35,14 @@ public class ZPiece extends AbstractPiece {
         }
     };
 
+    /** The row masks of all possible shapes, computed once from the shapes. */
+    private static final int[][] SHAPE_MASKS = createMasks(ALL_SHAPES);
+
     /**
      * Create a Z-Piece.
      */
     public ZPiece() {
-        super(ALL_SHAPES, new Color(255, 213, 158), new Color(255, 154, 20), null);
+        super(ALL_SHAPES, SHAPE_MASKS, new Color(255, 213, 158), new Color(255, 154, 20), null);
     }
     
 }
\ No newline at end of file
@@ -0,0 +1,180 @@
+package com.tetris.model;
+
+/**
+ * Zobrist keys of the state of a game. Every occupied cell, the current piece and its shape and position,
+ * the held piece, and every piece in the preview has its own random key, and the hash of a state is the xor of its keys,
+ * so the hash can be updated by an xor whenever a single part of the state changes.
+ * The cells of a row are looked up five columns at a time, so a whole row is hashed with two lookups.
+ * Keys are generated from a fixed seed, so the same state has the same hash in every run.
+ * 
+ * @author Jiameng Li
+ * @version 1.0
+ */
+public final class Zobrist {
+
+    /** The seed the keys are generated from. */
+    private static final long SEED = 0x5A0B815EL;
+
+    /** Number of columns looked up at a time. */
+    private static final int CHUNK = 5;
+
+    /** Number of rows that can be moved to on each side of the board, as rows above the top. */
+    private static final int MARGIN = 4;
+
+    /** The keys of every combination of the left five columns of each row inside the board. */
+    private static final long[][] LOW = new long[Board.FLOOR][1 << CHUNK];
+
+    /** The keys of every combination of the right five columns of each row inside the board. */
+    private static final long[][] HIGH = new long[Board.FLOOR][1 << CHUNK];
+
+    /** The keys of the current piece and shape, indexed by {@link PieceGenerator#pack(int, int)}. */
+    private static final long[] PIECES = new long[PieceGenerator.TYPES * PieceGenerator.SHAPES];
+
+    /** The keys of the held piece, indexed by {@link PieceGenerator#pack(int, int)}. */
+    private static final long[] HOLDS = new long[PieceGenerator.TYPES * PieceGenerator.SHAPES];
+
+    /** The key of a hold that can't be used until the current piece is placed. */
+    private static final long HOLD_USED;
+
+    /** The keys of the row of the current piece. */
+    private static final long[] ROWS = new long[Board.ROWS + 2 * MARGIN];
+
+    /** The keys of the column of the current piece. */
+    private static final long[] COLUMNS = new long[Board.COLUMNS + 2 * MARGIN];
+
+    /** The salt mixed into the keys that have no table, such as the keys of the preview. */
+    private static final long SALT;
+
+    static {
+        final SplitMix64 random = new SplitMix64(SEED);
+        for (int r = 0; r < Board.FLOOR; r++) {
+            final long[] cells = new long[2 * CHUNK];
+            for (int c = 0; c < cells.length; c++) {
+                cells[c] = random.nextLong();
+            }
+            for (int m = 1; m < 1 << CHUNK; m++) {
+                final int low = Integer.numberOfTrailingZeros(m);
+                LOW[r][m] = LOW[r][m & m - 1] ^ cells[low];
+                HIGH[r][m] = HIGH[r][m & m - 1] ^ cells[CHUNK + low];
+            }
+        }
+        for (int i = 0; i < PIECES.length; i++) {
+            PIECES[i] = random.nextLong();
+        }
+        for (int i = 0; i < HOLDS.length; i++) {
+            HOLDS[i] = random.nextLong();
+        }
+        HOLD_USED = random.nextLong();
+        for (int i = 0; i < ROWS.length; i++) {
+            ROWS[i] = random.nextLong();
+        }
+        for (int i = 0; i < COLUMNS.length; i++) {
+            COLUMNS[i] = random.nextLong();
+        }
+        SALT = random.nextLong();
+    }
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private Zobrist() {
+        super();
+    }
+
+    /**
+     * Get the key of the occupied cells of a row inside the board, which is 0 when the row is empty.
+     * 
+     * @param theRow The row above the floor.
+     * @param theMask The occupancy of the row, see {@link Board#getRow(int)}.
+     * @return The key of the row.
+     */
+    public static long row(final int theRow, final int theMask) {
+        final int cells = theMask >>> Board.LEFT;
+        return LOW[theRow][cells & (1 << CHUNK) - 1] ^ HIGH[theRow][cells >>> CHUNK & (1 << CHUNK) - 1];
+    }
+
+    /**
+     * Get the key of a single cell inside the board.
+     * 
+     * @param theRow The row above the floor.
+     * @param theCol The column inside the walls.
+     * @return The key of the cell.
+     */
+    public static long cell(final int theRow, final int theCol) {
+        return row(theRow, 1 << theCol);
+    }
+
+    /**
+     * Hash the occupied cells of the given board from scratch.
+     * 
+     * @param theBoard The board.
+     * @return The hash of the board.
+     */
+    public static long hash(final Board theBoard) {
+        long hash = 0;
+        for (int r = 0; r < Board.FLOOR; r++) {
+            hash ^= row(r, theBoard.getRow(r));
+        }
+        return hash;
+    }
+
+    /**
+     * Get the key of the current piece, its shape, and its position.
+     * 
+     * @param theType The type of the piece, see {@link PieceGenerator#getType(int)}.
+     * @param theShape The index of the shape.
+     * @param theRow The row of the bottom left corner of the piece.
+     * @param theCol The column of the bottom left corner of the piece.
+     * @return The key of the piece.
+     */
+    public static long piece(final int theType, final int theShape, final int theRow, final int theCol) {
+        return PIECES[PieceGenerator.pack(theType, theShape)] ^ ROWS[theRow + MARGIN] ^ COLUMNS[theCol + MARGIN];
+    }
+
+    /**
+     * Get the key of the hold.
+     * 
+     * @param theHold The held piece packed by {@link PieceGenerator#pack(int, int)}, or {@link GameSpace#NO_HOLD}.
+     * @param theUsed Whether the hold can't be used until the current piece is placed.
+     * @return The key of the hold.
+     */
+    public static long hold(final int theHold, final boolean theUsed) {
+        return (theHold == GameSpace.NO_HOLD ? 0 : HOLDS[theHold]) ^ (theUsed ? HOLD_USED : 0);
+    }
+
+    /**
+     * Get the key of a piece in the preview.
+     * 
+     * @param theIndex The index in the preview, 0 is the next piece.
+     * @param thePiece The type and shape of the piece packed by {@link PieceGenerator#pack(int, int)}.
+     * @return The key of the piece in the preview.
+     */
+    public static long preview(final int theIndex, final int thePiece) {
+        return mix(SALT + (long) theIndex * PIECES.length + thePiece);
+    }
+
+    /**
+     * Get a key for a small counter that is part of the state of a search, such as the lines cleared so far.
+     * 
+     * @param theKind What the counter counts, so different counters with the same value have different keys.
+     * @param theValue The value of the counter.
+     * @return The key of the counter, 0 when the value is 0.
+     */
+    public static long counter(final int theKind, final int theValue) {
+        return theValue == 0 ? 0 : mix(~SALT ^ ((long) theKind << 32 | theValue & 0xFFFFFFFFL));
+    }
+
+    /**
+     * Mix the bits of the given value, the same way {@link SplitMix64} does.
+     * 
+     * @param theValue The value.
+     * @return The mixed value.
+     */
+    private static long mix(final long theValue) {
+        long z = theValue;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+}
@@ -0,0 +1,132 @@
+package com.tetris.replay;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A snapshot of a replay being played, taken after a number of pieces are placed.
+ * Playing can continue from a keyframe without simulating the game from the start.
+ * 
+ * @author Jiameng Li
+ * @version 1.0
+ */
+public class Keyframe {
+
+    /** The number of pieces placed when the keyframe is taken. */
+    private final int myPiece;
+
+    /** The position of the next operation in the encoded operations. */
+    private final int myInputPosition;
+
+    /** The number of operations not played yet. */
+    private final int myRemaining;
+
+    /** The tick of the last operation played. */
+    private final long myLastFrame;
+
+    /** The state of the game engine, see {@link com.tetris.engine.GameEngine#save(ByteBuffer)}. */
+    private final byte[] myState;
+
+    /**
+     * Create a keyframe.
+     * 
+     * @param thePiece The number of pieces placed when the keyframe is taken.
+     * @param theInputPosition The position of the next operation in the encoded operations.
+     * @param theRemaining The number of operations not played yet.
+     * @param theLastFrame The tick of the last operation played.
+     * @param theState The state of the game engine.
+     */
+    public Keyframe(final int thePiece, final int theInputPosition, final int theRemaining, 
+                    final long theLastFrame, final byte[] theState) {
+        super();
+        myPiece = thePiece;
+        myInputPosition = theInputPosition;
+        myRemaining = theRemaining;
+        myLastFrame = theLastFrame;
+        myState = theState;
+    }
+
+    /**
+     * Get the number of pieces placed when the keyframe is taken.
+     * 
+     * @return The number of pieces placed.
+     */
+    public int getPiece() {
+        return myPiece;
+    }
+
+    /**
+     * Get the position of the next operation in the encoded operations.
+     * 
+     * @return The position of the next operation.
+     */
+    public int getInputPosition() {
+        return myInputPosition;
+    }
+
+    /**
+     * Get the number of operations not played yet.
+     * 
+     * @return The number of operations not played yet.
+     */
+    public int getRemaining() {
+        return myRemaining;
+    }
+
+    /**
+     * Get the tick of the last operation played.
+     * 
+     * @return The tick of the last operation played.
+     */
+    public long getLastFrame() {
+        return myLastFrame;
+    }
+
+    /**
+     * Get the state of the game engine without copying it. The array must not be modified.
+     * 
+     * @return The state of the game engine.
+     */
+    protected byte[] getState() {
+        return myState;
+    }
+
+    /**
+     * Get the number of bytes needed by {@link #write(ByteBuffer)}.
+     * 
+     * @return The number of bytes.
+     */
+    public int getEncodedSize() {
+        return Integer.BYTES * 4 + Long.BYTES + myState.length;
+    }
+
+    /**
+     * Write the keyframe to the given buffer.
+     * 
+     * @param theBuffer The buffer with at least {@link #getEncodedSize()} bytes remaining.
+     */
+    public void write(final ByteBuffer theBuffer) {
+        theBuffer.putInt(myPiece);
+        theBuffer.putInt(myInputPosition);
+        theBuffer.putInt(myRemaining);
+        theBuffer.putLong(myLastFrame);
+        theBuffer.putInt(myState.length);
+        theBuffer.put(myState);
+    }
+
+    /**
+     * Read a keyframe written by {@link #write(ByteBuffer)}.
+     * 
+     * @param theBuffer The buffer positioned at the start of the keyframe.
+     * @return The keyframe.
+     */
+    public static Keyframe read(final ByteBuffer theBuffer) {
+        final int piece = theBuffer.getInt();
+        final int position = theBuffer.getInt();
+        final int remaining = theBuffer.getInt();
+        final long lastFrame = theBuffer.getLong();
+        final byte[] state = new byte[theBuffer.getInt()];
+        theBuffer.get(state);
+        return new Keyframe(piece, position, remaining, lastFrame, state);
+    }
+
+}
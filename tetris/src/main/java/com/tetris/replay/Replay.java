@@ -0,0 +1,258 @@
+package com.tetris.replay;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+import com.tetris.engine.Input;
+import com.tetris.model.Randomizer;
+
+/**
+ * A recorded game: the seed that decides the pieces and every operation performed.
+ * Each operation is stored as one varint that packs the number of ticks since the previous
+ * operation and the operation itself, so most operations take a single byte.
+ * 
+ * @author Jiameng Li
+ * @version 1.0
+ */
+public class Replay {
+
+    /** Number of bits used by the operation in a record. */
+    protected static final int INPUT_BITS = 3;
+
+    /** All operations, indexed by their ordinal. */
+    private static final Input[] INPUTS = Input.values();
+
+    /** The way pieces are generated in the game. */
+    private final Randomizer myRandomizer;
+
+    /** The seed of the game. */
+    private final long mySeed;
+
+    /** The number of ticks in the game. */
+    private final long myFrames;
+
+    /** The number of operations performed in the game. */
+    private final int myInputCount;
+
+    /** The encoded operations. */
+    private final byte[] myInputs;
+
+    /**
+     * Create a replay.
+     * 
+     * @param theRandomizer The way pieces are generated in the game.
+     * @param theSeed The seed of the game.
+     * @param theFrames The number of ticks in the game.
+     * @param theInputCount The number of operations performed in the game.
+     * @param theInputs The encoded operations.
+     */
+    public Replay(final Randomizer theRandomizer, final long theSeed, final long theFrames, 
+                  final int theInputCount, final byte[] theInputs) {
+        super();
+        myRandomizer = theRandomizer;
+        mySeed = theSeed;
+        myFrames = theFrames;
+        myInputCount = theInputCount;
+        myInputs = theInputs;
+    }
+
+    /**
+     * Get the way pieces are generated in the game.
+     * 
+     * @return The way pieces are generated.
+     */
+    public Randomizer getRandomizer() {
+        return myRandomizer;
+    }
+
+    /**
+     * Get the seed of the game.
+     * 
+     * @return The seed of the game.
+     */
+    public long getSeed() {
+        return mySeed;
+    }
+
+    /**
+     * Get the number of ticks in the game.
+     * 
+     * @return The number of ticks.
+     */
+    public long getFrames() {
+        return myFrames;
+    }
+
+    /**
+     * Get the number of operations performed in the game.
+     * 
+     * @return The number of operations.
+     */
+    public int getInputCount() {
+        return myInputCount;
+    }
+
+    /**
+     * Get the number of bytes used by the encoded operations.
+     * 
+     * @return The number of bytes.
+     */
+    public int getInputSize() {
+        return myInputs.length;
+    }
+
+    /**
+     * Get the encoded operations without copying them. The array must not be modified.
+     * 
+     * @return The encoded operations.
+     */
+    protected byte[] getInputs() {
+        return myInputs;
+    }
+
+    /**
+     * Get the number of bytes needed by {@link #write(ByteBuffer)}.
+     * 
+     * @return The number of bytes.
+     */
+    public int getEncodedSize() {
+        return varintSize(myRandomizer.ordinal()) + Long.BYTES + varintSize(myFrames) 
+               + varintSize(myInputCount) + varintSize(myInputs.length) + myInputs.length;
+    }
+
+    /**
+     * Write the replay to the given buffer.
+     * 
+     * @param theBuffer The buffer with at least {@link #getEncodedSize()} bytes remaining.
+     */
+    public void write(final ByteBuffer theBuffer) {
+        writeVarint(theBuffer, myRandomizer.ordinal());
+        theBuffer.putLong(mySeed);
+        writeVarint(theBuffer, myFrames);
+        writeVarint(theBuffer, myInputCount);
+        writeVarint(theBuffer, myInputs.length);
+        theBuffer.put(myInputs);
+    }
+
+    /**
+     * Encode the replay into a byte array.
+     * 
+     * @return The encoded replay.
+     */
+    public byte[] toBytes() {
+        final ByteBuffer buffer = ByteBuffer.allocate(getEncodedSize());
+        write(buffer);
+        return buffer.array();
+    }
+
+    /**
+     * Read a replay written by {@link #write(ByteBuffer)}.
+     * 
+     * @param theBuffer The buffer positioned at the start of the replay.
+     * @return The replay.
+     * @throws IllegalArgumentException If the buffer doesn't contain a valid replay.
+     */
+    public static Replay read(final ByteBuffer theBuffer) {
+        try {
+            final Randomizer randomizer = Randomizer.values()[(int) readVarint(theBuffer)];
+            final long seed = theBuffer.getLong();
+            final long frames = readVarint(theBuffer);
+            final int count = (int) readVarint(theBuffer);
+            final byte[] inputs = new byte[(int) readVarint(theBuffer)];
+            theBuffer.get(inputs);
+            return new Replay(randomizer, seed, frames, count, inputs);
+        } catch (final BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Invalid replay", e);
+        }
+    }
+
+    /**
+     * Decode a replay from a byte array.
+     * 
+     * @param theBytes The encoded replay.
+     * @return The replay.
+     * @throws IllegalArgumentException If the bytes don't contain a valid replay.
+     */
+    public static Replay fromBytes(final byte[] theBytes) {
+        return read(ByteBuffer.wrap(theBytes));
+    }
+
+    /**
+     * Pack the number of ticks since the previous operation and the operation into a record.
+     * 
+     * @param theDelta The number of ticks since the previous operation.
+     * @param theInput The operation.
+     * @return The record.
+     */
+    protected static long toRecord(final long theDelta, final Input theInput) {
+        return theDelta << INPUT_BITS | theInput.ordinal();
+    }
+
+    /**
+     * Get the number of ticks since the previous operation from a record.
+     * 
+     * @param theRecord The record.
+     * @return The number of ticks.
+     */
+    protected static long getDelta(final long theRecord) {
+        return theRecord >>> INPUT_BITS;
+    }
+
+    /**
+     * Get the operation from a record.
+     * 
+     * @param theRecord The record.
+     * @return The operation.
+     */
+    protected static Input getInput(final long theRecord) {
+        return INPUTS[(int) (theRecord & ((1 << INPUT_BITS) - 1))];
+    }
+
+    /**
+     * Get the number of bytes used by the given value as a varint.
+     * 
+     * @param theValue The non-negative value.
+     * @return The number of bytes.
+     */
+    protected static int varintSize(final long theValue) {
+        int size = 1;
+        for (long v = theValue >>> 7; v != 0; v >>>= 7) {
+            size++;
+        }
+        return size;
+    }
+
+    /**
+     * Write the given value as a varint, 7 bits per byte with the highest bit set on all but the last byte.
+     * 
+     * @param theBuffer The buffer.
+     * @param theValue The non-negative value.
+     */
+    protected static void writeVarint(final ByteBuffer theBuffer, final long theValue) {
+        long v = theValue;
+        while ((v & ~0x7FL) != 0) {
+            theBuffer.put((byte) ((v & 0x7F) | 0x80));
+            v >>>= 7;
+        }
+        theBuffer.put((byte) v);
+    }
+
+    /**
+     * Read a varint written by {@link #writeVarint(ByteBuffer, long)}.
+     * 
+     * @param theBuffer The buffer.
+     * @return The value.
+     */
+    protected static long readVarint(final ByteBuffer theBuffer) {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = theBuffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while (b < 0);
+        return value;
+    }
+
+}
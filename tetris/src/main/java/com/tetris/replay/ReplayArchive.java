@@ -0,0 +1,347 @@
+package com.tetris.replay;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * An archive that appends replays to large segment files and reads them back through memory-mapped buffers.
+ * When a replay is appended, it is played once and a keyframe is stored every few pieces,
+ * so a viewer can jump to any piece of a long game without simulating it from the start.
+ * 
+ * <p>Each segment is a sequence of entries: the length of the entry body (int), the kind of entry (byte),
+ * the id of the replay (long), and the body, which is either a {@link Replay} or a {@link Keyframe}.
+ * 
+ * @author Jiameng Li
+ * @version 1.0
+ */
+public class ReplayArchive implements Closeable {
+
+    /** The default maximum size of a segment file in bytes. */
+    public static final long DEFAULT_SEGMENT_SIZE = 64L << 20;
+
+    /** The default number of pieces between keyframes. */
+    public static final int DEFAULT_KEYFRAME_INTERVAL = 500;
+
+    /** The kind of entry that contains a replay. */
+    private static final byte REPLAY = 1;
+
+    /** The kind of entry that contains a keyframe. */
+    private static final byte KEYFRAME = 2;
+
+    /** The number of bytes before the body of an entry. */
+    private static final int HEADER_SIZE = Integer.BYTES + 1 + Long.BYTES;
+
+    /** The prefix of the name of segment files. */
+    private static final String PREFIX = "replays-";
+
+    /** The suffix of the name of segment files. */
+    private static final String SUFFIX = ".seg";
+
+    /** The directory that contains the segment files. */
+    private final Path myDirectory;
+
+    /** The maximum size of a segment file in bytes. */
+    private final long mySegmentSize;
+
+    /** The number of pieces between keyframes. */
+    private final int myKeyframeInterval;
+
+    /** The channel of each segment file. */
+    private final List<FileChannel> mySegments;
+
+    /** The memory-mapped buffer of each segment, null until it's read. */
+    private final List<MappedByteBuffer> myMaps;
+
+    /** The location of each replay, packed by {@link #location(int, long)}. */
+    private final Map<Long, Long> myReplays;
+
+    /** The location of the keyframes of each replay, indexed by the number of pieces placed. */
+    private final Map<Long, TreeMap<Integer, Long>> myKeyframes;
+
+    /** The position where the next entry is written in the last segment. */
+    private long myWritePosition;
+
+    /** The id of the next replay appended. */
+    private long myNextId;
+
+    /**
+     * Open an archive in the given directory with default segment size and keyframe interval.
+     * 
+     * @param theDirectory The directory that contains the segment files.
+     * @throws IOException If the segment files can't be created or read.
+     */
+    public ReplayArchive(final Path theDirectory) throws IOException {
+        this(theDirectory, DEFAULT_SEGMENT_SIZE, DEFAULT_KEYFRAME_INTERVAL);
+    }
+
+    /**
+     * Open an archive in the given directory. Existing segment files are scanned to rebuild the index.
+     * 
+     * @param theDirectory The directory that contains the segment files.
+     * @param theSegmentSize The maximum size of a segment file in bytes, at most {@link Integer#MAX_VALUE}
+     *                       so the whole segment can be mapped.
+     * @param theKeyframeInterval The number of pieces between keyframes.
+     * @throws IOException If the segment files can't be created or read.
+     * @throws IllegalArgumentException If the segment size or the keyframe interval isn't positive,
+     *                                  or the segment size is too large to map.
+     */
+    public ReplayArchive(final Path theDirectory, final long theSegmentSize, final int theKeyframeInterval) 
+                         throws IOException {
+        super();
+        if (theSegmentSize <= 0 || theSegmentSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("The segment size must be between 1 and " + Integer.MAX_VALUE);
+        }
+        if (theKeyframeInterval <= 0) {
+            throw new IllegalArgumentException("The keyframe interval must be positive");
+        }
+        myDirectory = theDirectory;
+        mySegmentSize = theSegmentSize;
+        myKeyframeInterval = theKeyframeInterval;
+        mySegments = new ArrayList<>();
+        myMaps = new ArrayList<>();
+        myReplays = new HashMap<>();
+        myKeyframes = new HashMap<>();
+        myNextId = 0;
+        Files.createDirectories(theDirectory);
+        open();
+    }
+
+    /**
+     * Open all existing segment files in order and index their entries.
+     * 
+     * @throws IOException If the segment files can't be read.
+     */
+    private void open() throws IOException {
+        final List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(myDirectory, PREFIX + "*" + SUFFIX)) {
+            for (Path p : stream) {
+                files.add(p);
+            }
+        }
+        files.sort(null);
+        for (Path p : files) {
+            mySegments.add(FileChannel.open(p, StandardOpenOption.READ, StandardOpenOption.WRITE));
+            myMaps.add(null);
+        }
+        if (mySegments.isEmpty()) {
+            newSegment();
+        }
+        for (int s = 0; s < mySegments.size(); s++) {
+            final ByteBuffer map = map(s);
+            long position = 0;
+            while (map.limit() - position >= HEADER_SIZE) {
+                final int length = map.getInt((int) position);
+                final byte kind = map.get((int) position + Integer.BYTES);
+                final long id = map.getLong((int) position + Integer.BYTES + 1);
+                if (length <= 0 || position + HEADER_SIZE + length > map.limit()) {
+                    break;  // Incomplete entry left by an interrupted write
+                }
+                if (kind == REPLAY) {
+                    myReplays.put(id, location(s, position));
+                    myNextId = Math.max(myNextId, id + 1);
+                } else if (kind == KEYFRAME) {
+                    final int piece = map.getInt((int) position + HEADER_SIZE);
+                    myKeyframes.computeIfAbsent(id, k -> new TreeMap<>()).put(piece, location(s, position));
+                }
+                position += HEADER_SIZE + length;
+            }
+            myWritePosition = position;
+        }
+        // Cut off an incomplete entry at the end of the last segment, so a shorter entry appended over it
+        // doesn't leave its stale bytes behind to be read as an entry on the next open
+        final int last = mySegments.size() - 1;
+        final FileChannel channel = mySegments.get(last);
+        if (channel.size() > myWritePosition) {
+            myMaps.set(last, null);
+            channel.truncate(myWritePosition);
+        }
+    }
+
+    /**
+     * Get the number of replays in the archive.
+     * 
+     * @return The number of replays.
+     */
+    public int size() {
+        return myReplays.size();
+    }
+
+    /**
+     * Append a replay to the archive, along with keyframes of the game.
+     * 
+     * @param theReplay The replay.
+     * @return The id of the replay in the archive.
+     * @throws IOException If the replay can't be written.
+     */
+    public long append(final Replay theReplay) throws IOException {
+        final long id = myNextId++;
+        final ByteBuffer entry = ByteBuffer.allocate(theReplay.getEncodedSize());
+        theReplay.write(entry);
+        myReplays.put(id, write(REPLAY, id, entry));
+        // Play the game once and keep a keyframe every few pieces
+        final ReplayPlayer player = new ReplayPlayer(theReplay);
+        final TreeMap<Integer, Long> keyframes = new TreeMap<>();
+        int next = myKeyframeInterval;
+        while (player.playToPiece(next).getPieceCount() >= next) {
+            final Keyframe keyframe = player.createKeyframe();
+            final ByteBuffer body = ByteBuffer.allocate(keyframe.getEncodedSize());
+            keyframe.write(body);
+            keyframes.put(keyframe.getPiece(), write(KEYFRAME, id, body));
+            next = keyframe.getPiece() + myKeyframeInterval;
+        }
+        myKeyframes.put(id, keyframes);
+        return id;
+    }
+
+    /**
+     * Read the replay with the given id.
+     * 
+     * @param theId The id of the replay.
+     * @return The replay.
+     * @throws IOException If the segment can't be mapped.
+     * @throws IllegalArgumentException If the archive doesn't contain the replay.
+     */
+    public Replay read(final long theId) throws IOException {
+        final Long location = myReplays.get(theId);
+        if (location == null) {
+            throw new IllegalArgumentException("No replay with id " + theId);
+        }
+        return Replay.read(body(location));
+    }
+
+    /**
+     * Create a player of the replay with the given id that has placed the given number of pieces,
+     * starting from the closest keyframe before it.
+     * 
+     * @param theId The id of the replay.
+     * @param thePiece The number of pieces placed, the player stops earlier if the game ends.
+     * @return The player.
+     * @throws IOException If the segment can't be mapped.
+     * @throws IllegalArgumentException If the archive doesn't contain the replay.
+     */
+    public ReplayPlayer seek(final long theId, final int thePiece) throws IOException {
+        final Replay replay = read(theId);
+        final TreeMap<Integer, Long> keyframes = myKeyframes.get(theId);
+        final Map.Entry<Integer, Long> closest = keyframes == null ? null : keyframes.floorEntry(thePiece);
+        final ReplayPlayer player;
+        if (closest == null) {
+            player = new ReplayPlayer(replay);
+        } else {
+            player = new ReplayPlayer(replay, Keyframe.read(body(closest.getValue())));
+        }
+        player.playToPiece(thePiece);
+        return player;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Close all segment files.
+     */
+    @Override
+    public void close() throws IOException {
+        for (FileChannel c : mySegments) {
+            c.close();
+        }
+        mySegments.clear();
+        myMaps.clear();
+    }
+
+    /**
+     * Write an entry to the end of the last segment, starting a new segment if it's full.
+     * 
+     * @param theKind The kind of entry.
+     * @param theId The id of the replay.
+     * @param theBody The body of the entry, filled from the start.
+     * @return The location of the entry.
+     * @throws IOException If the entry can't be written.
+     */
+    private long write(final byte theKind, final long theId, final ByteBuffer theBody) throws IOException {
+        theBody.flip();
+        final int length = theBody.remaining();
+        if (myWritePosition > 0 && myWritePosition + HEADER_SIZE + length > mySegmentSize) {
+            newSegment();
+        }
+        final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(length).put(theKind).putLong(theId).flip();
+        final int segment = mySegments.size() - 1;
+        final FileChannel channel = mySegments.get(segment);
+        long position = myWritePosition;
+        while (header.hasRemaining()) {
+            position += channel.write(header, position);
+        }
+        while (theBody.hasRemaining()) {
+            position += channel.write(theBody, position);
+        }
+        final long location = location(segment, myWritePosition);
+        myWritePosition = position;
+        return location;
+    }
+
+    /**
+     * Create a new empty segment file and write to it from now on.
+     * 
+     * @throws IOException If the file can't be created.
+     */
+    private void newSegment() throws IOException {
+        final Path file = myDirectory.resolve(String.format("%s%05d%s", PREFIX, mySegments.size(), SUFFIX));
+        mySegments.add(FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, 
+                                        StandardOpenOption.WRITE));
+        myMaps.add(null);
+        myWritePosition = 0;
+    }
+
+    /**
+     * Get the body of the entry at the given location.
+     * 
+     * @param theLocation The location of the entry.
+     * @return A buffer positioned at the start of the body.
+     * @throws IOException If the segment can't be mapped.
+     */
+    private ByteBuffer body(final long theLocation) throws IOException {
+        final ByteBuffer map = map((int) (theLocation >>> 40)).duplicate();
+        map.position((int) (theLocation & ((1L << 40) - 1)) + HEADER_SIZE);
+        return map;
+    }
+
+    /**
+     * Get the memory-mapped buffer of the given segment, mapping it again if the segment has grown.
+     * 
+     * @param theSegment The index of the segment.
+     * @return The memory-mapped buffer of the whole segment.
+     * @throws IOException If the segment can't be mapped.
+     */
+    private ByteBuffer map(final int theSegment) throws IOException {
+        MappedByteBuffer map = myMaps.get(theSegment);
+        final FileChannel channel = mySegments.get(theSegment);
+        final long size = channel.size();
+        if (map == null || map.capacity() < size) {
+            map = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            myMaps.set(theSegment, map);
+        }
+        return map;
+    }
+
+    /**
+     * Pack the index of a segment and the position in the segment into a location.
+     * 
+     * @param theSegment The index of the segment.
+     * @param thePosition The position in the segment.
+     * @return The location.
+     */
+    private static long location(final int theSegment, final long thePosition) {
+        return (long) theSegment << 40 | thePosition;
+    }
+
+}
@@ -0,0 +1,195 @@
+package com.tetris.replay;
+
+import java.nio.ByteBuffer;
+
+import com.tetris.engine.GameEngine;
+import com.tetris.engine.Input;
+import com.tetris.model.Setting;
+
+/**
+ * Play a recorded game again on a new game engine without any display.
+ * Playing can start from the beginning or from a {@link Keyframe}.
+ * 
+ * @author Jiameng Li
+ * @version 1.0
+ */
+public class ReplayPlayer {
+
+    /** The most bytes a game engine writes in {@link GameEngine#save(ByteBuffer)}. */
+    private static final int STATE_SIZE = 1024;
+
+    /** The replay being played. */
+    private final Replay myReplay;
+
+    /** The engine that plays the game. */
+    private final GameEngine myEngine;
+
+    /** Reads the encoded operations. */
+    private final ByteBuffer myInputs;
+
+    /** The number of operations not played yet. */
+    private int myRemaining;
+
+    /** The tick of the last operation played. */
+    private long myFrame;
+
+    /** The position of the next operation in the encoded operations. */
+    private int myNextPosition;
+
+    /** The next operation, null if every operation is played. */
+    private Input myNextInput;
+
+    /** The tick of the next operation. */
+    private long myNextFrame;
+
+    /**
+     * Create a player for the given replay and start the game.
+     * 
+     * @param theReplay The replay.
+     */
+    public ReplayPlayer(final Replay theReplay) {
+        this(theReplay, new GameEngine(Setting.HEADLESS, theReplay.getRandomizer()));
+    }
+
+    /**
+     * Create a player for the given replay and start the game on the given engine.
+     * 
+     * @param theReplay The replay.
+     * @param theEngine The engine that plays the game, must use the same randomizer as the replay.
+     */
+    public ReplayPlayer(final Replay theReplay, final GameEngine theEngine) {
+        super();
+        myReplay = theReplay;
+        myEngine = theEngine;
+        myInputs = ByteBuffer.wrap(theReplay.getInputs());
+        myRemaining = theReplay.getInputCount();
+        myFrame = 0;
+        theEngine.newGame(theReplay.getSeed());
+        readNext();
+    }
+
+    /**
+     * Create a player for the given replay that continues from the given keyframe.
+     * 
+     * @param theReplay The replay.
+     * @param theKeyframe A keyframe taken while playing the replay.
+     */
+    public ReplayPlayer(final Replay theReplay, final Keyframe theKeyframe) {
+        super();
+        myReplay = theReplay;
+        myEngine = new GameEngine(Setting.HEADLESS, theReplay.getRandomizer());
+        myInputs = ByteBuffer.wrap(theReplay.getInputs());
+        myInputs.position(theKeyframe.getInputPosition());
+        myRemaining = theKeyframe.getRemaining();
+        myFrame = theKeyframe.getLastFrame();
+        myEngine.load(ByteBuffer.wrap(theKeyframe.getState()));
+        readNext();
+    }
+
+    /**
+     * Get the engine that plays the game.
+     * 
+     * @return The engine.
+     */
+    public GameEngine getEngine() {
+        return myEngine;
+    }
+
+    /**
+     * Check whether there are operations not played yet.
+     * 
+     * @return Whether there are operations not played yet.
+     */
+    public boolean hasNext() {
+        return myNextInput != null;
+    }
+
+    /**
+     * Advance the game to the tick of the next operation and perform it.
+     * 
+     * @return The operation performed.
+     */
+    public Input next() {
+        final Input input = myNextInput;
+        final int position = myNextPosition;
+        while (myNextPosition == position && advance()) {
+            // Tick until the operation is performed
+        }
+        return input;
+    }
+
+    /**
+     * Advance the game by either performing the next operation if it is due, or ticking once.
+     * 
+     * @return Whether the game advanced, false once the end of the replay is reached.
+     */
+    public boolean advance() {
+        boolean advanced = true;
+        if (myNextInput != null && myEngine.getFrame() >= myNextFrame) {
+            myEngine.step(myNextInput);
+            myFrame = myNextFrame;
+            readNext();
+        } else if (myEngine.isPlaying() 
+                   && myEngine.getFrame() < (myNextInput != null ? myNextFrame : myReplay.getFrames())) {
+            myEngine.tick();
+        } else {
+            advanced = false;
+        }
+        return advanced;
+    }
+
+    /**
+     * Play every remaining operation and advance the game to the last tick of the replay.
+     * 
+     * @return The engine after the game is played.
+     */
+    public GameEngine play() {
+        while (advance()) {
+            // Play until the end of the replay
+        }
+        return myEngine;
+    }
+
+    /**
+     * Play until the given number of pieces are placed or the end of the replay is reached.
+     * 
+     * @param thePiece The number of pieces.
+     * @return The engine after the pieces are placed.
+     */
+    public GameEngine playToPiece(final int thePiece) {
+        while (myEngine.getPieceCount() < thePiece && advance()) {
+            // Play until the piece is placed
+        }
+        return myEngine;
+    }
+
+    /**
+     * Take a keyframe of the current state so playing can continue from here later.
+     * 
+     * @return The keyframe.
+     */
+    public Keyframe createKeyframe() {
+        final ByteBuffer state = ByteBuffer.allocate(STATE_SIZE);
+        myEngine.save(state);
+        final byte[] bytes = new byte[state.position()];
+        state.flip().get(bytes);
+        final int remaining = myRemaining + (myNextInput == null ? 0 : 1);
+        return new Keyframe(myEngine.getPieceCount(), myNextPosition, remaining, myFrame, bytes);
+    }
+
+    /**
+     * Read the next operation if there is one.
+     */
+    private void readNext() {
+        myNextPosition = myInputs.position();
+        if (myRemaining > 0) {
+            final long record = Replay.readVarint(myInputs);
+            myNextInput = Replay.getInput(record);
+            myNextFrame = myFrame + Replay.getDelta(record);
+            myRemaining--;
+        } else {
+            myNextInput = null;
+        }
+    }
+
+}
@@ -0,0 +1,103 @@
+package com.tetris.replay;
+
+import java.util.Arrays;
+
+import com.tetris.engine.GameEngine;
+import com.tetris.engine.Input;
+import com.tetris.engine.InputListener;
+import com.tetris.model.Randomizer;
+
+/**
+ * Record the games played by a game engine.
+ * The recorder must be created before the game starts so it receives the seed.
+ * 
+ * @author Jiameng Li
+ * @version 1.0
+ */
+public class ReplayRecorder implements InputListener {
+
+    /** The engine being recorded. */
+    private final GameEngine myEngine;
+
+    /** The way pieces are generated in the current game. */
+    private Randomizer myRandomizer;
+
+    /** The seed of the current game. */
+    private long mySeed;
+
+    /** The encoded operations. */
+    private byte[] myInputs;
+
+    /** The number of bytes used in the encoded operations. */
+    private int mySize;
+
+    /** The number of operations recorded. */
+    private int myCount;
+
+    /** The tick of the previous operation. */
+    private long myLastFrame;
+
+    /**
+     * Create a recorder for the given engine.
+     * 
+     * @param theEngine The engine to record.
+     */
+    public ReplayRecorder(final GameEngine theEngine) {
+        super();
+        myEngine = theEngine;
+        myInputs = new byte[256];
+        myRandomizer = theEngine.getRandomizer();
+        mySeed = theEngine.getSeed();
+        theEngine.addInputListener(this);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Start a new recording.
+     */
+    @Override
+    public void gameStarted(final Randomizer theRandomizer, final long theSeed) {
+        myRandomizer = theRandomizer;
+        mySeed = theSeed;
+        mySize = 0;
+        myCount = 0;
+        myLastFrame = 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Append the operation to the recording.
+     */
+    @Override
+    public void inputPerformed(final long theFrame, final Input theInput) {
+        long record = Replay.toRecord(theFrame - myLastFrame, theInput);
+        if (mySize + 10 > myInputs.length) {
+            myInputs = Arrays.copyOf(myInputs, myInputs.length * 2);
+        }
+        // Inline varint so recording doesn't allocate a buffer per operation
+        while ((record & ~0x7FL) != 0) {
+            myInputs[mySize++] = (byte) ((record & 0x7F) | 0x80);
+            record >>>= 7;
+        }
+        myInputs[mySize++] = (byte) record;
+        myLastFrame = theFrame;
+        myCount++;
+    }
+
+    /**
+     * Get the recording of the current game up to the current tick.
+     * 
+     * @return The replay of the current game.
+     */
+    public Replay toReplay() {
+        return new Replay(myRandomizer, mySeed, myEngine.getFrame(), myCount, Arrays.copyOf(myInputs, mySize));
+    }
+
+    /**
+     * Stop recording the engine.
+     */
+    public void detach() {
+        myEngine.removeInputListener(this);
+    }
+
+}
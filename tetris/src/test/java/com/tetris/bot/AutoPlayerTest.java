@@ -0,0 +1,64 @@
+package com.tetris.bot;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import com.tetris.engine.BatchSimulator;
+import com.tetris.engine.GameEngine;
+import com.tetris.engine.Input;
+import com.tetris.model.Randomizer;
+import com.tetris.model.Setting;
+
+/**
+ * Test for {@link AutoPlayer}.
+ * Test whether the player moves pieces to the chosen placement and survives long games.
+ * 
+ * @author Jiameng Li
+ * @version 1.0
+ */
+public class AutoPlayerTest {
+
+    /**
+     * Test for {@link AutoPlayer#play(GameEngine)}.
+     * Test whether the piece ends where the chosen placement is.
+     */
+    @Test
+    public void testPlay() {
+        final GameEngine engine = new GameEngine(new Setting(), Randomizer.BAG_7);
+        engine.newGame(42);
+        final AutoPlayer player = new AutoPlayer();
+        for (int p = 0; p < 30; p++) {
+            final int best = player.choose(engine.getGameSpace());
+            final int placement = player.getGenerator().getPlacement(best);
+            player.play(engine);
+            engine.step(Input.HARD_DROP);
+            assertEquals(MoveGenerator.getShape(placement), engine.getGameSpace().getCurrentShape());
+            assertEquals(MoveGenerator.getRow(placement), engine.getGameSpace().getCurrentRow());
+            assertEquals(MoveGenerator.getColumn(placement), engine.getGameSpace().getCurrentColumn());
+            while (!engine.tick()) {
+                // Place the piece
+            }
+        }
+        assertFalse(engine.isGameOver());
+    }
+
+    /**
+     * Test for {@link AutoPlayer} in a {@link BatchSimulator}.
+     * Test whether the player survives every game and clears lines.
+     */
+    @Test
+    public void testSimulate() {
+        final BatchSimulator simulator = new BatchSimulator(AutoPlayer::new, 300);
+        simulator.setRandomizer(Randomizer.BAG_7);
+        for (int g = 0; g < 4; g++) {
+            final GameEngine engine = simulator.play(g);
+            assertFalse(engine.isGameOver());
+            assertEquals(300, engine.getPieceCount());
+            assertTrue(engine.getScoreCounter().getLine() > 100);
+        }
+    }
+
+}
@@ -0,0 +1,85 @@
+package com.tetris.bot;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+import com.tetris.engine.BatchSimulator;
+import com.tetris.engine.GameEngine;
+import com.tetris.model.Randomizer;
+import com.tetris.model.Setting;
+
+/**
+ * Test for {@link BeamSearchPlanner}.
+ * Test whether the planner looks ahead at the preview and plays the same on any number of threads.
+ * 
+ * @author Jiameng Li
+ * @version 1.0
+ */
+public class BeamSearchPlannerTest {
+
+    /**
+     * Test for {@link BeamSearchPlanner#plan(com.tetris.model.GameSpace)}.
+     * Test whether the depth is limited by the preview and every depth is counted.
+     */
+    @Test
+    public void testPlan() {
+        final GameEngine engine = new GameEngine(new Setting(), Randomizer.BAG_7);
+        engine.getGameSpace().setPreviewLength(2);
+        engine.newGame(7);
+        final BeamSearchPlanner planner = new BeamSearchPlanner(8, 5);
+        final int placement = planner.plan(engine.getGameSpace());
+        assertTrue(placement >= 0);
+        assertEquals(3, planner.getLastDepth());
+        assertTrue(planner.getLastNodes() > 8 * 2);
+        assertTrue(planner.getNodesPerSecond() > 0);
+        // Planning the same game space again finds most boards in the transposition table
+        planner.plan(engine.getGameSpace());
+        assertTrue(planner.getLastHits() > 0);
+    }
+
+    /**
+     * Test for {@link BeamSearchPlanner} on pools of different sizes.
+     * Test whether the plan doesn't depend on how the beam is split between threads.
+     */
+    @Test
+    public void testDeterministic() {
+        final GameEngine engine = new GameEngine(new Setting(), Randomizer.BAG_7);
+        engine.getGameSpace().setPreviewLength(3);
+        engine.newGame(11);
+        final ForkJoinPool single = new ForkJoinPool(1);
+        final ForkJoinPool quad = new ForkJoinPool(4);
+        try {
+            final BeamSearchPlanner first = new BeamSearchPlanner(single, LinearEvaluator::new, 16, 4);
+            final BeamSearchPlanner second = new BeamSearchPlanner(quad, LinearEvaluator::new, 16, 4);
+            assertEquals(first.plan(engine.getGameSpace()), second.plan(engine.getGameSpace()));
+            assertEquals(first.getLastNodes(), second.getLastNodes());
+        } finally {
+            single.shutdown();
+            quad.shutdown();
+        }
+    }
+
+    /**
+     * Test for {@link BeamSearchPlayer} in a {@link BatchSimulator}.
+     * Test whether the player survives every game and clears lines.
+     */
+    @Test
+    public void testSimulate() {
+        final BatchSimulator simulator = new BatchSimulator(() -> new BeamSearchPlayer(new BeamSearchPlanner(4, 3)), 
+                                                            200);
+        simulator.setRandomizer(Randomizer.BAG_7);
+        simulator.setPreviewLength(2);
+        for (int g = 0; g < 2; g++) {
+            final GameEngine engine = simulator.play(g);
+            assertFalse(engine.isGameOver());
+            assertEquals(200, engine.getPieceCount());
+            assertTrue(engine.getScoreCounter().getLine() > 70);
+        }
+    }
+
+}
@@ -0,0 +1,79 @@
+package com.tetris.bot;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import com.tetris.model.Board;
+
+/**
+ * Test for {@link BoardFeatures}.
+ * Test whether every feature matches the value counted by hand.
+ * 
+ * @author Jiameng Li
+ * @version 1.0
+ */
+public class BoardFeaturesTest {
+
+    /** The features computed by each test. */
+    private final int[] myFeatures = new int[BoardFeatures.COUNT];
+
+    /**
+     * Test for {@link BoardFeatures#compute(Board, int[])}.
+     * Test whether the features of an empty board only count the walls and floor.
+     */
+    @Test
+    public void testComputeEmpty() {
+        BoardFeatures.compute(new Board(), myFeatures);
+        assertEquals(0, myFeatures[BoardFeatures.AGGREGATE_HEIGHT]);
+        assertEquals(0, myFeatures[BoardFeatures.MAX_HEIGHT]);
+        assertEquals(0, myFeatures[BoardFeatures.HOLES]);
+        assertEquals(0, myFeatures[BoardFeatures.BUMPINESS]);
+        assertEquals(2 * Board.FLOOR, myFeatures[BoardFeatures.ROW_TRANSITIONS]);
+        assertEquals(10, myFeatures[BoardFeatures.COLUMN_TRANSITIONS]);
+        assertEquals(0, myFeatures[BoardFeatures.WELLS]);
+        assertEquals(0, myFeatures[BoardFeatures.T_SLOTS]);
+    }
+
+    /**
+     * Test for {@link BoardFeatures#compute(Board, int[])}.
+     * Test whether heights, bumpiness, transitions and wells are counted on a low stack.
+     */
+    @Test
+    public void testComputeStack() {
+        final Board board = new Board();
+        TestHelper.fill(board, 18, "X.........");
+        TestHelper.fill(board, 19, "XX.XXXXXXX");
+        BoardFeatures.compute(board, myFeatures);
+        assertEquals(10, myFeatures[BoardFeatures.AGGREGATE_HEIGHT]);
+        assertEquals(2, myFeatures[BoardFeatures.MAX_HEIGHT]);
+        assertEquals(0, myFeatures[BoardFeatures.HOLES]);
+        assertEquals(3, myFeatures[BoardFeatures.BUMPINESS]);
+        assertEquals(2 * Board.FLOOR, myFeatures[BoardFeatures.ROW_TRANSITIONS]);
+        assertEquals(10, myFeatures[BoardFeatures.COLUMN_TRANSITIONS]);
+        assertEquals(1, myFeatures[BoardFeatures.WELLS]);
+        assertEquals(0, myFeatures[BoardFeatures.T_SLOTS]);
+    }
+
+    /**
+     * Test for {@link BoardFeatures#compute(Board, int[])}.
+     * Test whether holes, deep wells and T-spin slots are found.
+     */
+    @Test
+    public void testComputeSlots() {
+        final Board board = new Board();
+        TestHelper.fill(board, 14, "........X.");
+        TestHelper.fill(board, 15, "........X.");
+        TestHelper.fill(board, 16, "........X.");
+        TestHelper.fill(board, 17, "XXXX....X.");
+        TestHelper.fill(board, 18, "XXX...XXX.");
+        TestHelper.fill(board, 19, "XXXX.XXXX.");
+        BoardFeatures.compute(board, myFeatures);
+        assertEquals(1, myFeatures[BoardFeatures.HOLES]);
+        assertEquals(1, myFeatures[BoardFeatures.T_SLOTS]);
+        // The well on the right is 6 rows deep, counted up to 4 rows: 1 + 2 + 3 + 4 + 4 + 4,
+        // and the stem of the slot is a well 1 row deep
+        assertEquals(19, myFeatures[BoardFeatures.WELLS]);
+    }
+
+}
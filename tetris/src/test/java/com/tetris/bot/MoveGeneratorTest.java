@@ -0,0 +1,148 @@
+package com.tetris.bot;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Test;
+
+import com.tetris.engine.Input;
+import com.tetris.model.Board;
+import com.tetris.model.IPiece;
+import com.tetris.model.OPiece;
+import com.tetris.model.Piece;
+import com.tetris.model.SPiece;
+import com.tetris.model.TPiece;
+
+/**
+ * Test for {@link MoveGenerator}.
+ * Test whether every reachable placement is found once and can be reached by its path.
+ * 
+ * @author Jiameng Li
+ * @version 1.0
+ */
+public class MoveGeneratorTest {
+
+    /** The move generator used to test, shared so buffers are reused between searches. */
+    private final MoveGenerator myGenerator = new MoveGenerator();
+
+    /**
+     * Test for {@link MoveGenerator#generate(Board, Piece, int, int, int)}.
+     * Test whether symmetric placements are reported once on an empty board.
+     */
+    @Test
+    public void testGenerateEmpty() {
+        final Board board = new Board();
+        assertEquals(9, myGenerator.generate(board, new OPiece(), 0, 0, 5));
+        assertEquals(17, myGenerator.generate(board, new IPiece(), 0, 0, 5));
+        assertEquals(17, myGenerator.generate(board, new SPiece(), 0, 0, 5));
+        // Every T placement is found, some both with and without a rotation as the last move
+        final TPiece piece = new TPiece();
+        final int count = myGenerator.generate(board, piece, 0, 0, 5);
+        assertEquals(34, countCells(piece, count));
+        assertTrue(count >= 34);
+        for (int i = 0; i < count; i++) {
+            assertPath(board, piece, 0, 0, 5, i);
+        }
+    }
+
+    /**
+     * Test for {@link MoveGenerator#generate(Board, Piece, int, int, int)}.
+     * Test whether a T-spin double slot under an overhang is reached by rotating into it.
+     */
+    @Test
+    public void testGenerateTSpin() {
+        final Board board = new Board();
+        TestHelper.fill(board, 17, "XXXX......");
+        TestHelper.fill(board, 18, "XXX...XXXX");
+        TestHelper.fill(board, 19, "XXXX.XXXXX");
+        final TPiece piece = new TPiece();
+        final int count = myGenerator.generate(board, piece, 0, 0, 5);
+        boolean found = false;
+        for (int i = 0; i < count; i++) {
+            final int placement = myGenerator.getPlacement(i);
+            assertPath(board, piece, 0, 0, 5, i);
+            found |= MoveGenerator.getShape(placement) == 2 && MoveGenerator.getRow(placement) == 19 
+                     && MoveGenerator.getColumn(placement) == 5 && MoveGenerator.isRotated(placement);
+        }
+        assertTrue(found);
+        // Searching again gives the same result
+        assertEquals(count, myGenerator.generate(board, piece, 0, 0, 5));
+    }
+
+    /**
+     * Test for {@link MoveGenerator#generate(Board, Piece, int, int, int)}.
+     * Test whether nothing is found when the piece doesn't fit where it starts.
+     */
+    @Test
+    public void testGenerateBlocked() {
+        final Board board = new Board();
+        for (int r = 0; r < Board.FLOOR; r++) {
+            board.fill(r, 6, (byte) 1);
+        }
+        assertEquals(0, myGenerator.generate(board, new OPiece(), 0, 2, 5));
+        assertEquals(0, myGenerator.getCount());
+    }
+
+    /**
+     * Count the placements of the last search that occupy different cells.
+     * 
+     * @param thePiece The piece.
+     * @param theCount The number of placements.
+     * @return The number of placements that occupy different cells.
+     */
+    private int countCells(final Piece thePiece, final int theCount) {
+        final Set<Integer> cells = new HashSet<>();
+        for (int i = 0; i < theCount; i++) {
+            final int placement = myGenerator.getPlacement(i);
+            cells.add(MoveGenerator.getShape(placement) * 10000 + MoveGenerator.getRow(placement) * 100 
+                      + MoveGenerator.getColumn(placement));
+        }
+        return cells.size();
+    }
+
+    /**
+     * Assert that following the path of a placement ends at the placement, where the piece can't move down.
+     * 
+     * @param theBoard The board.
+     * @param thePiece The piece.
+     * @param theShape The shape the search started from.
+     * @param theRow The row the search started from.
+     * @param theCol The column the search started from.
+     * @param theIndex The index of the placement.
+     */
+    private void assertPath(final Board theBoard, final Piece thePiece, final int theShape, 
+                            final int theRow, final int theCol, final int theIndex) {
+        int shape = theShape;
+        int row = theRow;
+        int col = theCol;
+        boolean rotated = false;
+        for (Input move : myGenerator.getPath(theIndex)) {
+            if (move == Input.ROTATE_CLOCKWISE || move == Input.ROTATE_COUNTERCLOCKWISE) {
+                final int rotation = thePiece.findRotation(theBoard, shape, row, col, 
+                                                           move == Input.ROTATE_CLOCKWISE);
+                assertNotEquals(Piece.ROTATION_FAILED, rotation);
+                shape = Piece.getRotationShape(rotation);
+                row += Piece.getRotationRow(rotation);
+                col += Piece.getRotationColumn(rotation);
+                rotated = true;
+            } else {
+                row += move == Input.SOFT_DROP ? 1 : 0;
+                col += move == Input.SHIFT_LEFT ? -1 : move == Input.SHIFT_RIGHT ? 1 : 0;
+                assertTrue(thePiece.fits(theBoard, shape, row, col));
+                rotated = false;
+            }
+        }
+        final int placement = myGenerator.getPlacement(theIndex);
+        assertEquals(MoveGenerator.getShape(placement), shape);
+        assertEquals(MoveGenerator.getRow(placement), row);
+        assertEquals(MoveGenerator.getColumn(placement), col);
+        assertEquals(MoveGenerator.isRotated(placement), rotated);
+        assertFalse(thePiece.fits(theBoard, shape, row + 1, col));
+    }
+
+}
@@ -0,0 +1,25 @@
+package com.tetris.bot;
+
+import com.tetris.model.Board;
+
+/**
+ * A helper class that contains methods used to test bot classes.
+ */
+public class TestHelper {
+
+    /**
+     * Fill a row of the board, 'X' is an occupied cell.
+     * 
+     * @param theBoard The board.
+     * @param theRow The row.
+     * @param theCells The 10 cells inside the walls.
+     */
+    protected static void fill(final Board theBoard, final int theRow, final String theCells) {
+        for (int c = 0; c < theCells.length(); c++) {
+            if (theCells.charAt(c) == 'X') {
+                theBoard.fill(theRow, Board.LEFT + c, (byte) 1);
+            }
+        }
+    }
+
+}
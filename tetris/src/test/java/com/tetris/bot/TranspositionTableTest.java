@@ -0,0 +1,86 @@
+package com.tetris.bot;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+/**
+ * Test for {@link TranspositionTable}.
+ * Test whether values are packed, found, and replaced by age and depth, also under concurrent use.
+ * 
+ * @author Jiameng Li
+ * @version 1.0
+ */
+public class TranspositionTableTest {
+
+    /**
+     * Test for {@link TranspositionTable#pack(float, int, int)}.
+     * Test whether every part of a value is unpacked as it was packed.
+     */
+    @Test
+    public void testPack() {
+        final long value = TranspositionTable.pack(-12.5f, 7, TranspositionTable.MAX_AGE);
+        assertEquals(-12.5f, TranspositionTable.getScore(value), 0);
+        assertEquals(7, TranspositionTable.getDepth(value));
+        assertEquals(TranspositionTable.MAX_AGE, TranspositionTable.getAge(value));
+        assertEquals(1, TranspositionTable.nextAge(0));
+        assertEquals(1, TranspositionTable.nextAge(TranspositionTable.MAX_AGE));
+    }
+
+    /**
+     * Test for {@link TranspositionTable#store(long, long)}.
+     * Test whether an entry is kept against shallower entries of the same search only.
+     */
+    @Test
+    public void testStore() {
+        final TranspositionTable table = new TranspositionTable(4);
+        final long key = 0x1234_5678_9ABC_DEF0L;
+        // Same slot, different key
+        final long other = key + table.getCapacity();
+        assertEquals(TranspositionTable.MISS, table.probe(key));
+        table.store(key, TranspositionTable.pack(1, 2, 1));
+        assertEquals(1f, TranspositionTable.getScore(table.probe(key)), 0);
+        assertEquals(TranspositionTable.MISS, table.probe(other));
+        table.store(other, TranspositionTable.pack(2, 1, 1));
+        assertEquals(1f, TranspositionTable.getScore(table.probe(key)), 0);
+        table.store(other, TranspositionTable.pack(2, 2, 1));
+        assertEquals(TranspositionTable.MISS, table.probe(key));
+        assertEquals(2f, TranspositionTable.getScore(table.probe(other)), 0);
+        table.store(key, TranspositionTable.pack(3, 0, 2));
+        assertEquals(3f, TranspositionTable.getScore(table.probe(key)), 0);
+        table.clear();
+        assertEquals(TranspositionTable.MISS, table.probe(key));
+    }
+
+    /**
+     * Test for {@link TranspositionTable} used by many threads.
+     * Test whether a probe never returns a value stored for another key.
+     */
+    @Test
+    public void testConcurrent() {
+        final TranspositionTable table = new TranspositionTable(2);
+        final AtomicInteger wrong = new AtomicInteger();
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            pool.submit(() -> IntStream.range(0, 4).parallel().forEach(t -> {
+                for (int i = 0; i < 200_000; i++) {
+                    final long key = i * 0x9E3779B97F4A7C15L;
+                    // The score is derived from the key, so a torn entry would show a different score
+                    table.store(key, TranspositionTable.pack(i % 1000, i % 200, 1 + t));
+                    final long value = table.probe(key);
+                    if (value != TranspositionTable.MISS && TranspositionTable.getScore(value) != i % 1000) {
+                        wrong.incrementAndGet();
+                    }
+                }
+            })).join();
+        } finally {
+            pool.shutdown();
+        }
+        assertEquals(0, wrong.get());
+    }
+
+}
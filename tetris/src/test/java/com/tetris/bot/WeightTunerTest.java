@@ -0,0 +1,151 @@
+package com.tetris.bot;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.tetris.model.Randomizer;
+
+/**
+ * Test for {@link WeightTuner}.
+ * Test whether generations are played on the pool and a run resumed from a checkpoint continues exactly.
+ * 
+ * @author Jiameng Li
+ * @version 1.0
+ */
+public class WeightTunerTest {
+
+    /** The folder the checkpoint is written to. */
+    @Rule
+    public TemporaryFolder myFolder = new TemporaryFolder();
+
+    /** The pool that plays the games. */
+    private final ForkJoinPool myPool = new ForkJoinPool(2);
+
+    /**
+     * Shut down the pool after each test.
+     */
+    @After
+    public void tearDown() {
+        myPool.shutdown();
+    }
+
+    /**
+     * Create a small tuner.
+     * 
+     * @return The tuner.
+     */
+    private WeightTuner create() {
+        final WeightTuner tuner = new WeightTuner(myPool, 4, 2, 40, 3);
+        tuner.setRandomizer(Randomizer.BAG_7);
+        return tuner;
+    }
+
+    /**
+     * Test for {@link WeightTuner#step()}.
+     * Test whether every candidate plays every game and the best weights are kept.
+     */
+    @Test
+    public void testStep() throws IOException {
+        final WeightTuner tuner = create();
+        final GenerationReport report = tuner.step();
+        assertEquals(0, report.getGeneration());
+        assertEquals(8, report.getGames());
+        assertTrue(report.getBestFitness() > 0);
+        assertTrue(report.getBestFitness() >= report.getMeanFitness());
+        assertTrue(report.getGamesPerSecond() > 0);
+        assertEquals(1, tuner.getGeneration());
+        assertEquals(report.getBestFitness(), tuner.getBestFitness(), 0);
+        assertArrayEquals(report.getBestWeights(), tuner.getBestWeights(), 0);
+    }
+
+    /**
+     * Test for {@link WeightTuner#load(Path)}.
+     * Test whether a run resumed from a checkpoint plays the same generation as a run that never stopped.
+     */
+    @Test
+    public void testCheckpoint() throws IOException {
+        final WeightTuner straight = create();
+        straight.step();
+        final GenerationReport expected = straight.step();
+
+        final Path checkpoint = myFolder.getRoot().toPath().resolve("tuner.ckpt");
+        final WeightTuner stopped = create();
+        stopped.setCheckpoint(checkpoint);
+        stopped.step();
+        final WeightTuner resumed = create();
+        resumed.load(checkpoint);
+        assertEquals(1, resumed.getGeneration());
+        final GenerationReport actual = resumed.step();
+        assertEquals(expected.getBestFitness(), actual.getBestFitness(), 0);
+        assertEquals(expected.getMeanFitness(), actual.getMeanFitness(), 0);
+        assertArrayEquals(straight.getBestWeights(), resumed.getBestWeights(), 0);
+    }
+
+    /**
+     * Test for {@link WeightTuner#load(Path)} with a checkpoint of another tuner.
+     * Test whether a checkpoint of a different population is rejected.
+     */
+    @Test(expected = IOException.class)
+    public void testLoadMismatch() throws IOException {
+        final Path checkpoint = myFolder.getRoot().toPath().resolve("tuner.ckpt");
+        create().save(checkpoint);
+        new WeightTuner(myPool, 6, 2, 40, 3).load(checkpoint);
+    }
+
+    /**
+     * Test for {@link WeightTuner#load(Path)} with a checkpoint of games with other settings.
+     * Test whether a checkpoint of games with another maximum number of pieces, seed, or randomizer is rejected.
+     */
+    @Test
+    public void testLoadOtherGames() throws IOException {
+        final Path checkpoint = myFolder.getRoot().toPath().resolve("tuner.ckpt");
+        create().save(checkpoint);
+        final WeightTuner[] others = {new WeightTuner(myPool, 4, 2, 50, 3), new WeightTuner(myPool, 4, 2, 40, 4),
+                                      new WeightTuner(myPool, 4, 2, 40, 3)};
+        for (WeightTuner other : others) {
+            boolean rejected = false;
+            try {
+                other.load(checkpoint);
+            } catch (final IOException e) {
+                rejected = true;
+            }
+            assertTrue(rejected);
+        }
+    }
+
+    /**
+     * Test for {@link WeightTuner#load(Path)} with a truncated checkpoint.
+     * Test whether the checkpoint is rejected before the state of the tuner changes.
+     */
+    @Test
+    public void testLoadTruncated() throws IOException {
+        final Path checkpoint = myFolder.getRoot().toPath().resolve("tuner.ckpt");
+        final WeightTuner stopped = create();
+        stopped.step();
+        stopped.save(checkpoint);
+        final byte[] bytes = Files.readAllBytes(checkpoint);
+        Files.write(checkpoint, Arrays.copyOf(bytes, bytes.length - Double.BYTES));
+        final WeightTuner tuner = create();
+        boolean rejected = false;
+        try {
+            tuner.load(checkpoint);
+        } catch (final IOException e) {
+            rejected = true;
+        }
+        assertTrue(rejected);
+        assertEquals(0, tuner.getGeneration());
+    }
+
+}
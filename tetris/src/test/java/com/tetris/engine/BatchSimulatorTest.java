@@ -0,0 +1,106 @@
+package com.tetris.engine;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+import com.tetris.bot.AutoPlayer;
+import com.tetris.model.Randomizer;
+
+/**
+ * Test for {@link BatchSimulator}.
+ * Test whether all games are simulated and reported.
+ * 
+ * @author Jiameng Li
+ * @version 1.0
+ */
+public class BatchSimulatorTest {
+
+    /**
+     * Test for {@link BatchSimulator#run(int, long)}.
+     * Test whether every game is played until it is over and counted in the report.
+     */
+    @Test
+    public void testRun() {
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            final BatchSimulator sim = new BatchSimulator(pool, () -> e -> { }, 1000);
+            final SimulationReport report = sim.run(50, 7);
+            assertEquals(50, report.getGames());
+            assertTrue(report.getPieces() >= 50 * 2);
+            assertTrue(report.getMinScore() > 0);
+            assertTrue(report.getMinScore() <= report.getScorePercentile(50));
+            assertTrue(report.getScorePercentile(50) <= report.getMaxScore());
+            assertTrue(report.getPiecesPerSecond() > 0);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Test for {@link BatchSimulator#run(int, long)}.
+     * Test whether the same seed produces the same games.
+     */
+    @Test
+    public void testSameSeed() {
+        final BatchSimulator sim = new BatchSimulator(() -> e -> e.step(Input.ROTATE_CLOCKWISE), 1000);
+        sim.setRandomizer(Randomizer.BAG_7);
+        final SimulationReport report1 = sim.run(20, 11);
+        final SimulationReport report2 = sim.run(20, 11);
+        assertEquals(report1.getPieces(), report2.getPieces());
+        for (int p = 0; p <= 100; p += 10) {
+            assertEquals(report1.getScorePercentile(p), report2.getScorePercentile(p));
+        }
+    }
+
+    /**
+     * Test for {@link BatchSimulator#run(int, long)}.
+     * Test whether the lines reported are the lines cleared in each game.
+     */
+    @Test
+    public void testLines() {
+        final BatchSimulator sim = new BatchSimulator(AutoPlayer::new, 60);
+        sim.setRandomizer(Randomizer.BAG_7);
+        final SimulationReport report = sim.run(4, 5);
+        long lines = 0;
+        for (int i = 0; i < 4; i++) {
+            lines += sim.play(5 + i).getScoreCounter().getLine();
+        }
+        assertTrue(lines > 0);
+        assertEquals(lines, report.getLines());
+        assertEquals(lines / 4.0, report.getMeanLines(), 0);
+    }
+
+    /**
+     * Test for {@link BatchSimulator#play(long)}.
+     * Test whether the game stops at the maximum number of pieces.
+     */
+    @Test
+    public void testMaxPieces() {
+        final BatchSimulator sim = new BatchSimulator(() -> e -> { }, 3);
+        final GameEngine engine = sim.play(1);
+        assertEquals(3, engine.getPieceCount());
+        assertTrue(engine.isPlaying());
+    }
+
+    /**
+     * Test for {@link BatchSimulator#play(long)}.
+     * Test whether the game stops when the player itself places pieces until the game is over.
+     */
+    @Test(timeout = 10_000)
+    public void testPlayerTopsOut() {
+        final BatchSimulator sim = new BatchSimulator(() -> e -> {
+            while (e.isPlaying()) {
+                e.step(Input.HARD_DROP);
+                e.tick();
+            }
+        }, 1000);
+        final GameEngine engine = sim.play(1);
+        assertTrue(engine.isGameOver());
+        assertTrue(engine.getPieceCount() < 1000);
+    }
+
+}
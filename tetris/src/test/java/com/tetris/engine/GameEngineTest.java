@@ -0,0 +1,146 @@
+package com.tetris.engine;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.tetris.model.ClearType;
+import com.tetris.model.GameEventListener;
+import com.tetris.model.GameSpace;
+import com.tetris.model.PieceState;
+import com.tetris.model.Setting;
+
+/**
+ * Test for {@link GameEngine}.
+ * Test whether the engine applies operations and progresses the game without a timer.
+ * 
+ * @author Jiameng Li
+ * @version 1.0
+ */
+public class GameEngineTest {
+
+    /** The engine used to test. */
+    private GameEngine myEngine;
+
+    /** The game space of the engine. */
+    private GameSpace myGameSpace;
+
+    /**
+     * Start a new game before each test.
+     */
+    @Before
+    public void setup() {
+        myEngine = new GameEngine(new Setting());
+        myGameSpace = myEngine.getGameSpace();
+        myEngine.newGame();
+    }
+
+    /**
+     * Test for {@link GameEngine#tick()}.
+     * Test whether the current piece falls by one row on each tick.
+     */
+    @Test
+    public void testTick() {
+        assertTrue(myEngine.isPlaying());
+        assertFalse(myEngine.tick());
+        assertEquals(1, myGameSpace.getCurrentRow());
+        assertEquals(0, myEngine.getScoreCounter().getScore());
+    }
+
+    /**
+     * Test for {@link GameEngine#step(Input)}.
+     * Test whether shifting and soft dropping change the position, delay and score.
+     */
+    @Test
+    public void testStep() {
+        final int col = myGameSpace.getCurrentColumn();
+        assertTrue(myEngine.step(Input.SHIFT_LEFT));
+        assertEquals(col - 1, myGameSpace.getCurrentColumn());
+        assertTrue(myEngine.step(Input.SHIFT_RIGHT));
+        assertEquals(col, myGameSpace.getCurrentColumn());
+        // Shift until the wall is reached
+        while (myEngine.step(Input.SHIFT_LEFT)) {
+            assertTrue(myGameSpace.canMove(myGameSpace.getCurrentRow(), myGameSpace.getCurrentColumn()));
+        }
+        assertFalse(myGameSpace.canMove(myGameSpace.getCurrentRow(), myGameSpace.getCurrentColumn() - 1));
+
+        final int delay = myEngine.getDelay();
+        myEngine.step(Input.SOFT_DROP);
+        assertEquals(delay / 3, myEngine.getDelay());
+        myEngine.tick();
+        assertEquals(1, myEngine.getScoreCounter().getScore());
+        myEngine.step(Input.SOFT_DROP_RELEASE);
+        assertEquals(delay, myEngine.getDelay());
+    }
+
+    /**
+     * Test for {@link GameEngine#step(Input)} with hard drop.
+     * Test whether the piece is placed on the next tick and the game ends when the pieces reach the top.
+     */
+    @Test
+    public void testHardDropUntilGameOver() {
+        int placed = 0;
+        while (myEngine.isPlaying()) {
+            myEngine.step(Input.HARD_DROP);
+            assertFalse(myGameSpace.canMove(myGameSpace.getCurrentRow() + 1, myGameSpace.getCurrentColumn()));
+            assertTrue(myEngine.tick());
+            placed++;
+        }
+        assertTrue(myEngine.isGameOver());
+        assertTrue(placed > 1);
+        assertTrue(myEngine.getScoreCounter().getScore() > 0);
+        assertFalse(myEngine.step(Input.SHIFT_LEFT));
+        myEngine.newGame();
+        assertTrue(myEngine.isPlaying());
+        assertEquals(0, myEngine.getScoreCounter().getScore());
+    }
+
+    /**
+     * Test for {@link GameEngine#addGameEventListener(GameEventListener)}.
+     * Test whether every placed piece, score change, and the end of the game are reported to the listener.
+     */
+    @Test
+    public void testGameEventListener() {
+        final int[] counts = new int[3];
+        final long[] score = new long[1];
+        myEngine.addGameEventListener(new GameEventListener() {
+            @Override
+            public void onScore(final long theScore) {
+                score[0] = theScore;
+            }
+
+            @Override
+            public void onPieceLocked(final int theState) {
+                assertEquals(myGameSpace.getCurrentState(), theState);
+                assertTrue(PieceState.getRow(theState) >= 0);
+                counts[0]++;
+            }
+
+            @Override
+            public void onLinesCleared(final int theLines, final ClearType theType) {
+                counts[1]++;
+            }
+
+            @Override
+            public void onGameOver() {
+                counts[2]++;
+            }
+        });
+        while (myEngine.isPlaying()) {
+            myEngine.step(Input.HARD_DROP);
+            myEngine.tick();
+        }
+        assertEquals(myEngine.getPieceCount(), counts[0]);
+        assertEquals(myEngine.getScoreCounter().getScore(), score[0]);
+        assertEquals(1, counts[2]);
+        myEngine.newGame();
+        myEngine.step(Input.SOFT_DROP);
+        myEngine.tick();
+        assertEquals(1, score[0]);
+        assertEquals(1, counts[2]);
+    }
+
+}
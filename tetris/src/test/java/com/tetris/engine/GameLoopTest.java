@@ -0,0 +1,125 @@
+package com.tetris.engine;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.tetris.model.GameSpace;
+import com.tetris.model.ScoreCounter;
+import com.tetris.model.Setting;
+
+/**
+ * Test for {@link GameLoop}.
+ * Test whether the loop simulates fixed steps from the time elapsed, with gravity counted in steps.
+ * 
+ * @author Jiameng Li
+ * @version 1.0
+ */
+public class GameLoopTest {
+
+    /** Nanoseconds in a millisecond. */
+    private static final long MILLI = 1_000_000L;
+
+    /** The engine used to test. */
+    private GameEngine myEngine;
+
+    /** The game space of the engine. */
+    private GameSpace myGameSpace;
+
+    /** The loop used to test, with a step of 10 milliseconds. */
+    private GameLoop myLoop;
+
+    /**
+     * Start a new game before each test.
+     */
+    @Before
+    public void setup() {
+        myEngine = new GameEngine(new Setting());
+        myGameSpace = myEngine.getGameSpace();
+        myEngine.newGame(1);
+        myLoop = new GameLoop(myEngine, 100, theProgress -> { });
+    }
+
+    /**
+     * Test for {@link GameLoop#advance(long)}.
+     * Test whether the piece falls once the delay of the engine has been simulated, however the time is split.
+     */
+    @Test
+    public void testAdvance() {
+        assertEquals(0, myLoop.advance(5 * MILLI));
+        assertEquals(1, myLoop.advance(5 * MILLI));
+        for (int i = 0; i < ScoreCounter.INIT_SPEED / 10 - 2; i++) {
+            myLoop.advance(10 * MILLI);
+        }
+        assertEquals(0, myGameSpace.getCurrentRow());
+        assertEquals((ScoreCounter.INIT_SPEED - 10.0) / ScoreCounter.INIT_SPEED, myLoop.getProgress(), 1e-9);
+        myLoop.advance(10 * MILLI);
+        assertEquals(1, myGameSpace.getCurrentRow());
+        assertEquals(0, myLoop.getProgress(), 1e-9);
+        assertEquals(ScoreCounter.INIT_SPEED / 10, myLoop.getMetrics().updates());
+    }
+
+    /**
+     * Test for {@link GameLoop#getInputHandler()}.
+     * Test whether captured keys are applied on the next step, and soft drop speeds up gravity.
+     */
+    @Test
+    public void testInput() {
+        final int col = myGameSpace.getCurrentColumn();
+        myLoop.getInputHandler().press(Input.SHIFT_LEFT);
+        myLoop.getInputHandler().release(Input.SHIFT_LEFT);
+        assertEquals(col, myGameSpace.getCurrentColumn());
+        myLoop.advance(10 * MILLI);
+        assertEquals(col - 1, myGameSpace.getCurrentColumn());
+        myLoop.getInputHandler().press(Input.SOFT_DROP);
+        for (int i = 0; i < ScoreCounter.INIT_SPEED / 3 / 10; i++) {
+            myLoop.advance(10 * MILLI);
+        }
+        assertEquals(1, myGameSpace.getCurrentRow());
+        assertEquals(1, myEngine.getScoreCounter().getScore());
+    }
+
+    /**
+     * Test for {@link GameLoop#advance(long)} after a long pause.
+     * Test whether a long frame only simulates a limited time instead of catching up all of it.
+     */
+    @Test
+    public void testLongFrame() {
+        assertEquals(25, myLoop.advance(10_000 * MILLI));
+        assertEquals(1, myLoop.getMetrics().skippedFrames());
+        assertEquals(0, myGameSpace.getCurrentRow());
+        assertTrue(myEngine.isPlaying());
+    }
+
+    /**
+     * Test for {@link GameLoop#start()} and {@link GameLoop#stop()}.
+     * Test whether the loop renders frames on its own thread until it is stopped.
+     */
+    @Test
+    public void testStartStop() throws InterruptedException {
+        final int[] frames = new int[1];
+        final GameLoop loop = new GameLoop(myEngine, 1000, theProgress -> frames[0]++);
+        loop.start();
+        assertTrue(loop.isRunning());
+        Thread.sleep(50);
+        loop.stop();
+        assertFalse(loop.isRunning());
+        final int rendered = frames[0];
+        assertTrue(rendered > 0);
+        assertEquals(rendered, loop.getMetrics().frames());
+        Thread.sleep(10);
+        assertEquals(rendered, frames[0]);
+    }
+
+    /**
+     * Test for the constructor of {@link GameLoop} with a rate that is not positive.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidRate() {
+        new GameLoop(myEngine, 0, theProgress -> { });
+    }
+
+}
@@ -0,0 +1,184 @@
+package com.tetris.engine;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.tetris.model.GameSpace;
+import com.tetris.model.Setting;
+
+/**
+ * Test for {@link InputHandler}.
+ * Test whether key edges are applied in order and held shifts repeat after the delay at the interval.
+ * 
+ * @author Jiameng Li
+ * @version 1.0
+ */
+public class InputHandlerTest {
+
+    /** Nanoseconds in a millisecond. */
+    private static final long MILLI = 1_000_000L;
+
+    /** The engine used to test. */
+    private GameEngine myEngine;
+
+    /** The game space of the engine. */
+    private GameSpace myGameSpace;
+
+    /** The handler used to test, with a delay of 100 milliseconds and an interval of 20. */
+    private InputHandler myHandler;
+
+    /** The column of the first piece. */
+    private int myColumn;
+
+    /**
+     * Start a new game before each test.
+     */
+    @Before
+    public void setup() {
+        myEngine = new GameEngine(new Setting());
+        myGameSpace = myEngine.getGameSpace();
+        myEngine.newGame(1);
+        myHandler = new InputHandler();
+        myHandler.setAutoShift(100, 20);
+        myColumn = myGameSpace.getCurrentColumn();
+    }
+
+    /**
+     * Test for {@link InputHandler#update(GameEngine, long)} with a held shift.
+     * Test whether the piece shifts once on the press, again after the delay, and then once for every interval.
+     */
+    @Test
+    public void testAutoShift() {
+        myHandler.press(Input.SHIFT_LEFT, 0);
+        assertTrue(myHandler.update(myEngine, 0));
+        assertEquals(myColumn - 1, myGameSpace.getCurrentColumn());
+        assertFalse(myHandler.update(myEngine, 99 * MILLI));
+        assertTrue(myHandler.update(myEngine, 100 * MILLI));
+        assertEquals(myColumn - 2, myGameSpace.getCurrentColumn());
+        assertFalse(myHandler.update(myEngine, 119 * MILLI));
+        assertTrue(myHandler.update(myEngine, 120 * MILLI));
+        assertEquals(myColumn - 3, myGameSpace.getCurrentColumn());
+        // A key repeat of the operating system is ignored
+        myHandler.press(Input.SHIFT_LEFT, 120 * MILLI);
+        assertFalse(myHandler.update(myEngine, 120 * MILLI));
+        myHandler.release(Input.SHIFT_LEFT, 120 * MILLI);
+        myHandler.update(myEngine, 120 * MILLI);
+        assertFalse(myHandler.update(myEngine, 1120 * MILLI));
+        assertEquals(myColumn - 3, myGameSpace.getCurrentColumn());
+    }
+
+    /**
+     * Test for {@link InputHandler#update(GameEngine, long)} with a press applied after it happened.
+     * Test whether the delay is counted from the time of the press, not from the update that applies it.
+     */
+    @Test
+    public void testDelayFromPress() {
+        myHandler.update(myEngine, 0);
+        myHandler.press(Input.SHIFT_LEFT, 10 * MILLI);
+        myHandler.update(myEngine, 16 * MILLI);
+        assertEquals(myColumn - 1, myGameSpace.getCurrentColumn());
+        assertFalse(myHandler.update(myEngine, 109 * MILLI));
+        assertTrue(myHandler.update(myEngine, 110 * MILLI));
+        assertEquals(myColumn - 2, myGameSpace.getCurrentColumn());
+    }
+
+    /**
+     * Test for {@link InputHandler#update(GameEngine, long)} with both shift keys.
+     * Test whether the latest direction wins and the other direction charges again when it is released.
+     */
+    @Test
+    public void testBothDirections() {
+        myHandler.press(Input.SHIFT_LEFT, 0);
+        myHandler.press(Input.SHIFT_RIGHT, 0);
+        myHandler.update(myEngine, 0);
+        assertEquals(myColumn, myGameSpace.getCurrentColumn());
+        myHandler.update(myEngine, 100 * MILLI);
+        assertEquals(myColumn + 1, myGameSpace.getCurrentColumn());
+        myHandler.release(Input.SHIFT_RIGHT, 100 * MILLI);
+        myHandler.update(myEngine, 100 * MILLI);
+        myHandler.update(myEngine, 199 * MILLI);
+        assertEquals(myColumn + 1, myGameSpace.getCurrentColumn());
+        myHandler.update(myEngine, 200 * MILLI);
+        assertEquals(myColumn, myGameSpace.getCurrentColumn());
+    }
+
+    /**
+     * Test for {@link InputHandler#setAutoShift(int, int)} with an interval of 0.
+     * Test whether the piece shifts all the way to the wall once the delay has passed.
+     */
+    @Test
+    public void testInstantRepeat() {
+        myHandler.setAutoShift(0, 0);
+        myHandler.press(Input.SHIFT_RIGHT, 0);
+        assertTrue(myHandler.update(myEngine, 0));
+        assertFalse(myGameSpace.canMove(myGameSpace.getCurrentRow(), myGameSpace.getCurrentColumn() + 1));
+    }
+
+    /**
+     * Test for {@link InputHandler#update(GameEngine, long)} with a shift held against the wall.
+     * Test whether the shift stops stepping the engine once it fails, until the piece moves.
+     */
+    @Test
+    public void testStopAtWall() {
+        final int[] steps = new int[1];
+        final GameEngine engine = new GameEngine(new Setting()) {
+            @Override
+            public boolean step(final Input theInput) {
+                steps[0]++;
+                return super.step(theInput);
+            }
+        };
+        engine.newGame(1);
+        final int column = engine.getGameSpace().getCurrentColumn();
+        myHandler.press(Input.SHIFT_LEFT, 0);
+        for (int i = 0; i <= 100; i++) {
+            myHandler.update(engine, i * 20 * MILLI);
+        }
+        // Every shift to the wall and a single failed shift
+        assertEquals(column - engine.getGameSpace().getCurrentColumn() + 1, steps[0]);
+        engine.tick();
+        myHandler.update(engine, 2020 * MILLI);
+        assertEquals(column - engine.getGameSpace().getCurrentColumn() + 2, steps[0]);
+    }
+
+    /**
+     * Test for {@link InputHandler#update(GameEngine, long)} with several edges.
+     * Test whether every edge is applied in order in a single update and soft drop is released with its key.
+     */
+    @Test
+    public void testEdgesInOrder() {
+        myHandler.press(Input.SHIFT_LEFT, 0);
+        myHandler.release(Input.SHIFT_LEFT, 0);
+        myHandler.press(Input.SHIFT_LEFT, 0);
+        myHandler.release(Input.SHIFT_LEFT, 0);
+        myHandler.press(Input.SOFT_DROP, 0);
+        myHandler.update(myEngine, 0);
+        assertEquals(myColumn - 2, myGameSpace.getCurrentColumn());
+        assertTrue(myEngine.isSoftDropping());
+        myHandler.release(Input.SOFT_DROP, 0);
+        myHandler.update(myEngine, 0);
+        assertFalse(myEngine.isSoftDropping());
+        myHandler.press(Input.HARD_DROP, 0);
+        myHandler.update(myEngine, 0);
+        assertFalse(myGameSpace.canMove(myGameSpace.getCurrentRow() + 1, myGameSpace.getCurrentColumn()));
+    }
+
+    /**
+     * Test for {@link InputHandler#reset()}.
+     * Test whether captured edges and held keys are forgotten.
+     */
+    @Test
+    public void testReset() {
+        myHandler.press(Input.SHIFT_LEFT, 0);
+        myHandler.update(myEngine, 0);
+        myHandler.press(Input.SHIFT_RIGHT, 0);
+        myHandler.reset();
+        assertFalse(myHandler.update(myEngine, 1000 * MILLI));
+        assertEquals(myColumn - 1, myGameSpace.getCurrentColumn());
+    }
+
+}
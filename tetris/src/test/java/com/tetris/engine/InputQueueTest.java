@@ -0,0 +1,87 @@
+package com.tetris.engine;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.locks.LockSupport;
+
+import java.util.concurrent.locks.LockSupport;
+
+import org.junit.Test;
+
+/**
+ * Test for {@link InputQueue}.
+ * Test whether values are taken in the order they are added, across the end of the ring buffer and threads.
+ * 
+ * @author Jiameng Li
+ * @version 1.0
+ */
+public class InputQueueTest {
+
+    /**
+     * Test for {@link InputQueue#offer(int, long)} and {@link InputQueue#poll()}.
+     * Test whether values come out in order with their times and a full queue refuses more values.
+     */
+    @Test
+    public void testOfferPoll() {
+        final InputQueue queue = new InputQueue(4);
+        assertEquals(InputQueue.EMPTY, queue.poll());
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 4; i++) {
+                assertTrue(queue.offer(round * 4 + i, 100L * i));
+            }
+            assertFalse(queue.offer(99, 0));
+            assertEquals(4, queue.size());
+            for (int i = 0; i < 4; i++) {
+                assertEquals(round * 4 + i, queue.poll());
+                assertEquals(100L * i, queue.getTime());
+            }
+            assertEquals(InputQueue.EMPTY, queue.poll());
+        }
+        queue.offer(1, 0);
+        queue.clear();
+        assertEquals(0, queue.size());
+        assertEquals(InputQueue.EMPTY, queue.poll());
+    }
+
+    /**
+     * Test for {@link InputQueue} with a producer and a consumer thread.
+     * Test whether every value is received once and in order with its time.
+     */
+    @Test
+    public void testThreads() throws InterruptedException {
+        final InputQueue queue = new InputQueue(8);
+        final int count = 1000;
+        final Thread producer = new Thread(() -> {
+            for (int i = 0; i < count; i++) {
+                while (!queue.offer(i, i)) {
+                    LockSupport.parkNanos(1000);
+                }
+            }
+        });
+        producer.start();
+        int expected = 0;
+        while (expected < count) {
+            final int value = queue.poll();
+            if (value == InputQueue.EMPTY) {
+                LockSupport.parkNanos(1000);
+            } else {
+                assertEquals(expected, value);
+                assertEquals(expected, queue.getTime());
+                expected++;
+            }
+        }
+        producer.join();
+        assertEquals(InputQueue.EMPTY, queue.poll());
+    }
+
+    /**
+     * Test for the constructor of {@link InputQueue} with a capacity that is not a power of 2.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidCapacity() {
+        new InputQueue(6);
+    }
+
+}
@@ -0,0 +1,118 @@
+package com.tetris.gui_scene;
+
+import static org.junit.Assert.assertEquals;
+
+import javax.swing.JLabel;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test for {@link HudUpdater}.
+ * Test whether events are coalesced into one update per frame that only touches the labels that changed.
+ * 
+ * @author Jiameng Li
+ * @version 1.0
+ */
+public class HudUpdaterTest {
+
+    /** The label for score. */
+    private CountingLabel myScore;
+
+    /** The label for level. */
+    private CountingLabel myLevel;
+
+    /** The updater used to test. */
+    private HudUpdater myHud;
+
+    /**
+     * Create the labels and the updater before each test, and forget the texts set by the reset.
+     */
+    @Before
+    public void setup() {
+        myScore = new CountingLabel();
+        myLevel = new CountingLabel();
+        myHud = new HudUpdater(myScore, myLevel);
+        myScore.myCount = 0;
+        myLevel.myCount = 0;
+    }
+
+    /**
+     * Test for {@link HudUpdater#flush()} after many events.
+     * Test whether the labels are only set once, with the latest values, when the frame is flushed.
+     */
+    @Test
+    public void testCoalesce() {
+        for (int i = 1; i <= 20; i++) {
+            myHud.onScore(i * 100L);
+        }
+        myHud.onLevel(1);
+        myHud.onLevel(2);
+        assertEquals(0, myScore.myCount);
+        assertEquals(0, myLevel.myCount);
+        myHud.flush();
+        assertEquals(1, myScore.myCount);
+        assertEquals(1, myLevel.myCount);
+        assertEquals("2000", myScore.getText());
+        assertEquals("2", myLevel.getText());
+        myHud.flush();
+        assertEquals(1, myScore.myCount);
+        assertEquals(1, myLevel.myCount);
+    }
+
+    /**
+     * Test for {@link HudUpdater#flush()} when only one value changes.
+     * Test whether the label whose value didn't change isn't set.
+     */
+    @Test
+    public void testSkipUnchanged() {
+        myHud.onScore(40);
+        myHud.onLevel(0);
+        myHud.flush();
+        assertEquals(1, myScore.myCount);
+        assertEquals(0, myLevel.myCount);
+        // A value that changes and changes back within a frame isn't shown
+        myHud.onScore(80);
+        myHud.onScore(40);
+        myHud.flush();
+        assertEquals(1, myScore.myCount);
+    }
+
+    /**
+     * Test for {@link HudUpdater#stop()} and {@link HudUpdater#reset()}.
+     * Test whether stopping shows the latest values and resetting shows 0 right away.
+     */
+    @Test
+    public void testStopAndReset() {
+        myHud.onScore(500);
+        myHud.stop();
+        assertEquals("500", myScore.getText());
+        myHud.reset();
+        assertEquals("0", myScore.getText());
+        assertEquals("0", myLevel.getText());
+    }
+
+    /**
+     * Label that counts how many times its text is set.
+     */
+    private static final class CountingLabel extends JLabel {
+
+        /** The serial version UID. */
+        private static final long serialVersionUID = 1L;
+
+        /** The number of times the text is set. */
+        private int myCount;
+
+        /**
+         * {@inheritDoc}
+         * Count the change.
+         */
+        @Override
+        public void setText(final String theText) {
+            myCount++;
+            super.setText(theText);
+        }
+
+    }
+
+}
@@ -0,0 +1,148 @@
+package com.tetris.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test for {@link Board}.
+ * Test whether the board keeps track of occupancy and colors with row masks.
+ * 
+ * @author Jiameng Li
+ * @version 1.0
+ */
+public class BoardTest {
+
+    /** The board used to test. */
+    private Board myBoard;
+
+    /**
+     * Create an empty board before each test.
+     */
+    @Before
+    public void setup() {
+        myBoard = new Board();
+    }
+
+    /**
+     * Test for {@link Board#isOccupied(int, int)}.
+     * Test whether the walls, floor, and the area above the board are recognized.
+     */
+    @Test
+    public void testIsOccupied() {
+        assertTrue(myBoard.isOccupied(5, 0));
+        assertTrue(myBoard.isOccupied(5, 1));
+        assertTrue(myBoard.isOccupied(5, 12));
+        assertTrue(myBoard.isOccupied(5, 13));
+        assertTrue(myBoard.isOccupied(5, -1));
+        assertTrue(myBoard.isOccupied(20, 5));
+        assertFalse(myBoard.isOccupied(5, 2));
+        assertFalse(myBoard.isOccupied(5, 11));
+        assertFalse(myBoard.isOccupied(-3, 5));
+        assertTrue(myBoard.isOccupied(-3, 1));
+    }
+
+    /**
+     * Test for {@link Board#collides(int, int, int)}.
+     * Test whether a row of piece collides with walls and filled cells.
+     */
+    @Test
+    public void testCollides() {
+        // 1111 placed from column 2 to 5
+        assertFalse(myBoard.collides(0b1111, 19, 2));
+        assertTrue(myBoard.collides(0b1111, 19, 1));
+        assertTrue(myBoard.collides(0b1111, 19, 9));
+        assertTrue(myBoard.collides(0b1111, 20, 2));
+        // 0100 placed with the empty column outside the board
+        assertFalse(myBoard.collides(0b0100, 19, 0));
+        assertTrue(myBoard.collides(0b0011, 19, -1));
+        assertTrue(myBoard.collides(0b0100, 19, -1));
+        myBoard.fill(19, 4, (byte) 1);
+        assertTrue(myBoard.collides(0b1111, 19, 2));
+        assertFalse(myBoard.collides(0b1111, 18, 2));
+        assertFalse(myBoard.collides(0, 19, 2));
+    }
+
+    /**
+     * Test for {@link Board#removeRow(int)}.
+     * Test whether the rows above move down with their colors.
+     */
+    @Test
+    public void testRemoveRow() {
+        for (int c = Board.LEFT; c <= Board.RIGHT; c++) {
+            myBoard.fill(19, c, (byte) 2);
+        }
+        myBoard.fill(18, 3, (byte) 5);
+        myBoard.fill(0, 7, (byte) 1);
+        assertTrue(myBoard.isFull(19));
+        myBoard.removeRow(19);
+        assertFalse(myBoard.isFull(19));
+        assertTrue(myBoard.isOccupied(19, 3));
+        assertEquals(5, myBoard.getColor(19, 3));
+        assertTrue(myBoard.isOccupied(1, 7));
+        assertEquals(1, myBoard.getColor(1, 7));
+        assertEquals(Board.WALL_ROW, myBoard.getRow(0));
+        assertEquals(0, myBoard.getColor(0, 7));
+    }
+
+    /**
+     * Test for {@link Board#getVersion()}.
+     * Test whether the version changes with every change to the board but not when reading it.
+     */
+    @Test
+    public void testGetVersion() {
+        int version = myBoard.getVersion();
+        myBoard.getRow(19);
+        myBoard.collides(0b1, 19, 2);
+        assertEquals(version, myBoard.getVersion());
+        myBoard.fill(19, 2, (byte) 1);
+        assertTrue(myBoard.getVersion() != version);
+        version = myBoard.getVersion();
+        myBoard.removeRow(19);
+        assertTrue(myBoard.getVersion() != version);
+        version = myBoard.getVersion();
+        myBoard.clear();
+        assertTrue(myBoard.getVersion() != version);
+    }
+
+    /**
+     * Test for {@link Board#getHash()}.
+     * Test whether the hash kept as cells change equals the hash of the same cells computed from scratch.
+     */
+    @Test
+    public void testGetHash() {
+        assertEquals(0, myBoard.getHash());
+        myBoard.fill(19, 2, (byte) 1);
+        myBoard.fill(18, 3, (byte) 1);
+        final long hash = myBoard.getHash();
+        assertTrue(hash != 0);
+        myBoard.fill(18, 3, (byte) 2);
+        assertEquals(hash, myBoard.getHash());
+        final Board other = new Board();
+        other.fill(18, 3, (byte) 5);
+        other.fill(19, 2, (byte) 5);
+        assertEquals(hash, other.getHash());
+        myBoard.empty(18, 3);
+        myBoard.empty(19, 2);
+        assertEquals(0, myBoard.getHash());
+        // Fill every column of row 17 but one, row 18 completely, and a few cells above them
+        for (int c = Board.LEFT; c <= Board.RIGHT; c++) {
+            myBoard.fill(18, c, (byte) 1);
+            if (c != 6) {
+                myBoard.fill(17, c, (byte) 1);
+            }
+        }
+        myBoard.fill(16, 4, (byte) 1);
+        myBoard.fill(14, 9, (byte) 1);
+        myBoard.removeRow(18);
+        assertEquals(Zobrist.hash(myBoard), myBoard.getHash());
+        other.copyFrom(myBoard);
+        assertEquals(myBoard.getHash(), other.getHash());
+        myBoard.clear();
+        assertEquals(0, myBoard.getHash());
+    }
+
+}
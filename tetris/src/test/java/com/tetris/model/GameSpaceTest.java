@@ -0,0 +1,245 @@
+package com.tetris.model;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test for {@link GameSpace}.
+ * Test whether pieces are moved, placed, and cleared correctly.
+ * 
+ * @author Jiameng Li
+ * @version 1.0
+ */
+public class GameSpaceTest {
+
+    /** The placeholder used to create scenarios. */
+    private final PieceUnit temp = TestHelper.TEMP;
+
+    /** The game space used to create scenarios. */
+    private final GameSpace myGameSpace = new GameSpace(new Setting());
+
+    /** The O-Piece used to test. */
+    private final OPiece myPiece = new OPiece();
+
+    /**
+     * Start a new game space with an O-piece before each test.
+     */
+    @Before
+    public void setup() {
+        myGameSpace.clear();
+        myGameSpace.newGame();
+        myGameSpace.setCurrentPiece(myPiece);
+    }
+
+    /**
+     * Test for {@link GameSpace#canMove(int, int)}.
+     * Test whether the piece is blocked by walls, floor, and placed units.
+     */
+    @Test
+    public void testCanMove() {
+        // The O-piece occupies the middle two columns and rows of its 4x4 shape
+        assertTrue(myGameSpace.canMove(0, 5));
+        assertTrue(myGameSpace.canMove(0, 1));
+        assertFalse(myGameSpace.canMove(0, 0));
+        assertTrue(myGameSpace.canMove(0, 9));
+        assertFalse(myGameSpace.canMove(0, 10));
+        assertTrue(myGameSpace.canMove(20, 5));
+        assertFalse(myGameSpace.canMove(21, 5));
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
+            {null, null, null, null, temp, null, null, null, null, null}
+        });
+        assertFalse(myGameSpace.canMove(20, 4));
+        assertTrue(myGameSpace.canMove(20, 2));
+    }
+
+    /**
+     * Test for {@link GameSpace#clearLine(ScoreCounter)}.
+     * Test whether filled rows are removed and the rows above move down.
+     */
+    @Test
+    public void testClearLine() {
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
+            {null, null, null, null, null, null, null, temp, null, null},
+            {null, null, null, null, null, null, temp, null, null, null},
+            {temp, temp, temp, temp, null, null, temp, temp, temp, temp},
+            {temp, temp, temp, temp, null, null, temp, temp, temp, temp}
+        });
+        final ScoreCounter counter = new ScoreCounter();
+        myGameSpace.dropCurrent(20);
+        assertFalse(myGameSpace.canMove(21, 5));
+        assertFalse(myGameSpace.placeCurrent());
+        myGameSpace.clearLine(counter);
+        assertEquals(2, counter.getLine());
+        assertEquals(300, counter.getScore());
+        assertNull(myGameSpace.getUnit(19, 2));
+        assertNotNull(myGameSpace.getUnit(19, 8));
+        assertNotNull(myGameSpace.getUnit(18, 9));
+        assertNull(myGameSpace.getUnit(17, 9));
+    }
+
+    /**
+     * Test for {@link GameSpace#setPreviewLength(int)}.
+     * Test whether a preview too long to be saved in a byte is rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testPreviewTooLong() {
+        myGameSpace.setPreviewLength(Byte.MAX_VALUE + 1);
+    }
+
+    /**
+     * Test for {@link GameSpace#nextPiece()} with a longer preview.
+     * Test whether pieces leave the preview in order and the preview survives save and load.
+     */
+    @Test
+    public void testPreview() {
+        myGameSpace.setPreviewLength(5);
+        assertEquals(1, myGameSpace.getPreviewLength());
+        myGameSpace.newGame();
+        assertEquals(5, myGameSpace.getPreviewLength());
+        for (int p = 0; p < 12; p++) {
+            final int[] previews = new int[5];
+            for (int i = 0; i < previews.length; i++) {
+                previews[i] = myGameSpace.getPreview(i);
+            }
+            assertSame(myGameSpace.getPiece(PieceGenerator.getType(previews[0])), myGameSpace.getNextPiece());
+            myGameSpace.nextPiece();
+            assertSame(myGameSpace.getPiece(PieceGenerator.getType(previews[0])), myGameSpace.getCurrentPiece());
+            assertEquals(PieceGenerator.getShape(previews[0]), myGameSpace.getCurrentShape());
+            for (int i = 0; i < previews.length - 1; i++) {
+                assertEquals(previews[i + 1], myGameSpace.getPreview(i));
+            }
+        }
+        final ByteBuffer buffer = ByteBuffer.allocate(1024);
+        myGameSpace.save(buffer);
+        buffer.flip();
+        final GameSpace loaded = new GameSpace(new Setting());
+        loaded.load(buffer);
+        assertEquals(5, loaded.getPreviewLength());
+        for (int i = 0; i < 5; i++) {
+            assertEquals(myGameSpace.getPreview(i), loaded.getPreview(i));
+        }
+    }
+
+    /**
+     * Test for {@link GameSpace#hold()}.
+     * Test whether the current piece is swapped with the hold once for each piece,
+     * starts from the top with its first shape, and the hold survives save and load.
+     */
+    @Test
+    public void testHold() {
+        myGameSpace.newGame();
+        final int first = myGameSpace.getCurrentSpawn();
+        final int next = myGameSpace.getPreview(0);
+        assertEquals(GameSpace.NO_HOLD, myGameSpace.getHold());
+        myGameSpace.shiftCurrentRight(1);
+        myGameSpace.dropCurrent(3);
+        assertTrue(myGameSpace.hold());
+        assertEquals(first, myGameSpace.getHold());
+        assertEquals(next, myGameSpace.getCurrentSpawn());
+        assertSame(myGameSpace.getPiece(PieceGenerator.getType(next)), myGameSpace.getCurrentPiece());
+        assertEquals(GameSpace.START_ROW, myGameSpace.getCurrentRow());
+        assertEquals(GameSpace.START_COLUMN, myGameSpace.getCurrentColumn());
+        assertFalse(myGameSpace.canHold());
+        assertFalse(myGameSpace.hold());
+        assertEquals(first, myGameSpace.getHold());
+
+        myGameSpace.nextPiece();
+        final int current = myGameSpace.getCurrentSpawn();
+        final int preview = myGameSpace.getPreview(0);
+        myGameSpace.rotate(true);
+        assertTrue(myGameSpace.hold());
+        assertEquals(current, myGameSpace.getHold());
+        assertEquals(first, myGameSpace.getCurrentSpawn());
+        assertSame(myGameSpace.getPiece(PieceGenerator.getType(first)), myGameSpace.getCurrentPiece());
+        assertEquals(PieceGenerator.getShape(first), myGameSpace.getCurrentShape());
+        assertEquals(preview, myGameSpace.getPreview(0));
+
+        final ByteBuffer buffer = ByteBuffer.allocate(1024);
+        myGameSpace.save(buffer);
+        buffer.flip();
+        final GameSpace loaded = new GameSpace(new Setting());
+        loaded.load(buffer);
+        assertEquals(current, loaded.getHold());
+        assertEquals(first, loaded.getCurrentSpawn());
+        assertFalse(loaded.canHold());
+        assertEquals(myGameSpace.getHash(), loaded.getHash());
+        myGameSpace.newGame();
+        assertEquals(GameSpace.NO_HOLD, myGameSpace.getHold());
+        assertTrue(myGameSpace.canHold());
+    }
+
+    /**
+     * Test for {@link GameSpace#snapshot(GameSpace.Snapshot)} and {@link GameSpace#restore(GameSpace.Snapshot)}.
+     * Test whether a restored game replays exactly the same pieces, positions, and boards.
+     */
+    @Test
+    public void testSnapshot() {
+        final GameSpace space = new GameSpace(new Setting(), Randomizer.BAG_7.create(3));
+        space.setPreviewLength(3);
+        space.newGame();
+        playPieces(space, 5);
+        space.hold();
+        space.shiftCurrentLeft(2);
+        space.setTSpin(TPiece.MINI_T_SPIN);
+        final GameSpace.Snapshot snapshot = space.snapshot();
+        final long hash = space.getHash();
+        final long[] first = playPieces(space, 20);
+        space.restore(snapshot);
+        assertEquals(hash, space.getHash());
+        assertFalse(space.canHold());
+        assertArrayEquals(first, playPieces(space, 20));
+        // A snapshot is reused without changing what it captures until it is written again
+        space.snapshot(snapshot);
+        final long[] second = playPieces(space, 10);
+        space.restore(snapshot);
+        assertArrayEquals(second, playPieces(space, 10));
+    }
+
+    /**
+     * Test for {@link GameSpace#fork()}.
+     * Test whether a fork continues the same game and changing it leaves the original alone.
+     */
+    @Test
+    public void testFork() {
+        final GameSpace space = new GameSpace(new Setting(), Randomizer.BAG_14.create(5));
+        space.newGame();
+        playPieces(space, 8);
+        final GameSpace fork = space.fork();
+        assertEquals(space.getHash(), fork.getHash());
+        assertSame(space.getCurrentPiece(), fork.getCurrentPiece());
+        final long[] forked = playPieces(fork, 15);
+        assertEquals(Zobrist.hash(space.getBoard()), space.getBoard().getHash());
+        assertArrayEquals(forked, playPieces(space, 15));
+    }
+
+    /**
+     * Hard drop and place the given number of pieces, clearing lines and taking the next piece each time.
+     * 
+     * @param theSpace The game space.
+     * @param thePieces The number of pieces.
+     * @return The hash of the game space after each piece.
+     */
+    private static long[] playPieces(final GameSpace theSpace, final int thePieces) {
+        final long[] hashes = new long[thePieces];
+        for (int p = 0; p < thePieces; p++) {
+            theSpace.shiftCurrentLeft(p % 4);
+            theSpace.hardDrop();
+            theSpace.placeCurrent();
+            theSpace.clearLine(new ScoreCounter());
+            theSpace.nextPiece();
+            hashes[p] = theSpace.getHash();
+        }
+        return hashes;
+    }
+
+}
@@ -43,9 +43,9 @@ public class IPieceRotationTest {
     @Test
     public void testZeroToOneRotate() {
         // Test 0 {0, 0}
-        myPiece.setCurrentShapeIdx(0);
+        myGameSpace.setCurrentShape(0);
         myGameSpace.dropCurrent(18);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, null, null, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp}
         });
@@ -54,8 +54,8 @@ public class IPieceRotationTest {
         assertEquals(0, move[1]);
 
         // Test 1 {0, -2}
-        myPiece.setCurrentShapeIdx(0);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(0);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, null, null, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp}
         });
@@ -64,8 +64,8 @@ public class IPieceRotationTest {
         assertEquals(-2, move[1]);
 
         // Test 2 {0, 1}
-        myPiece.setCurrentShapeIdx(0);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(0);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, null, temp, null, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp}
         });
@@ -74,8 +74,8 @@ public class IPieceRotationTest {
         assertEquals(1, move[1]);
 
         // Test 3 {1, -2}
-        myPiece.setCurrentShapeIdx(0);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(0);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, null, null, null, null, temp, temp},
             {temp, temp, temp, null, null, null, null, null, temp, temp},
             {temp, temp, temp, null, null, temp, temp, temp, temp, temp},
@@ -87,8 +87,8 @@ public class IPieceRotationTest {
         assertEquals(-2, move[1]);
 
         // Test 4 {-2, 1}
-        myPiece.setCurrentShapeIdx(0);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(0);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, null, null, null, null, temp, temp},
             {temp, temp, temp, null, null, null, null, null, temp, temp},
             {temp, temp, temp, null, null, temp, temp, temp, temp, temp},
@@ -109,9 +109,9 @@ public class IPieceRotationTest {
     @Test
     public void testOneToTwoRotate() {
         // Test 0 {0, 0}
-        myPiece.setCurrentShapeIdx(1);
+        myGameSpace.setCurrentShape(1);
         myGameSpace.dropCurrent(19);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, temp, null, temp, temp, temp, temp}
         });
         int[] move = myPiece.rotateClockwise(myGameSpace);
@@ -119,8 +119,8 @@ public class IPieceRotationTest {
         assertEquals(0, move[1]);
 
         // Test 1 {0, -1}
-        myPiece.setCurrentShapeIdx(1);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(1);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, null, null, null, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, null, temp, temp, temp, temp}
         });
@@ -129,8 +129,8 @@ public class IPieceRotationTest {
         assertEquals(-1, move[1]);
 
         // Test 2 {0, 2}
-        myPiece.setCurrentShapeIdx(1);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(1);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, null, null, null, null, null, temp},
             {temp, temp, temp, temp, temp, null, temp, temp, temp, temp}
         });
@@ -139,8 +139,8 @@ public class IPieceRotationTest {
         assertEquals(2, move[1]);
 
         // Test 3 {-2, -1}
-        myPiece.setCurrentShapeIdx(1);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(1);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, temp, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, null, temp, temp, temp, temp}
         });
@@ -149,8 +149,8 @@ public class IPieceRotationTest {
         assertEquals(-1, move[1]);
 
         // Test 4 {1, 2}
-        myPiece.setCurrentShapeIdx(1);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(1);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, temp, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, null, temp, temp, temp, temp},
@@ -169,9 +169,9 @@ public class IPieceRotationTest {
     @Test
     public void testTwoToThreeRotate() {
         // Test 0 {0, 0}
-        myPiece.setCurrentShapeIdx(2);
+        myGameSpace.setCurrentShape(2);
         myGameSpace.dropCurrent(17);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, null, null, null, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp}
@@ -181,8 +181,8 @@ public class IPieceRotationTest {
         assertEquals(0, move[1]);
 
         // Test 1 {0, 2}
-        myPiece.setCurrentShapeIdx(2);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(2);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, null, temp, null, null, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp}
@@ -192,8 +192,8 @@ public class IPieceRotationTest {
         assertEquals(2, move[1]);
 
         // Test 2 {0, -1}
-        myPiece.setCurrentShapeIdx(2);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(2);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, null, temp, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp}
@@ -203,8 +203,8 @@ public class IPieceRotationTest {
         assertEquals(-1, move[1]);
 
         // Test 3 {-1, 2}
-        myPiece.setCurrentShapeIdx(2);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(2);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, temp, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp}
@@ -214,8 +214,8 @@ public class IPieceRotationTest {
         assertEquals(2, move[1]);
 
         // Test 4 {2, -1}
-        myPiece.setCurrentShapeIdx(2);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(2);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, null, null, temp, temp, temp, temp},
             {temp, temp, temp, null, null, null, null, temp, temp, temp},
             {temp, temp, temp, null, temp, temp, temp, temp, temp, temp},
@@ -235,9 +235,9 @@ public class IPieceRotationTest {
     @Test
     public void testThreeToZeroRotate() {
         // Test 0 {0, 0}
-        myPiece.setCurrentShapeIdx(3);
+        myGameSpace.setCurrentShape(3);
         myGameSpace.dropCurrent(19);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, null, temp, temp, temp, temp, temp}
         });
         int[] move = myPiece.rotateClockwise(myGameSpace);
@@ -245,8 +245,8 @@ public class IPieceRotationTest {
         assertEquals(0, move[1]);
 
         // Test 1 {0, 1}
-        myPiece.setCurrentShapeIdx(3);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(3);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, null, null, null, null, temp, temp},
             {temp, temp, temp, temp, null, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, null, temp, temp, temp, temp, temp}
@@ -256,8 +256,8 @@ public class IPieceRotationTest {
         assertEquals(1, move[1]);
 
         // Test 2 {0, -2}
-        myPiece.setCurrentShapeIdx(3);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(3);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, null, null, null, null, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, null, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, null, temp, temp, temp, temp, temp}
@@ -267,8 +267,8 @@ public class IPieceRotationTest {
         assertEquals(-2, move[1]);
 
         // Test 3 {2, 1}
-        myPiece.setCurrentShapeIdx(3);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(3);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, null, null, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, null, temp, temp, temp, temp, temp},
             {temp, null, null, null, null, null, null, null, temp, temp}
@@ -278,8 +278,8 @@ public class IPieceRotationTest {
         assertEquals(1, move[1]);
 
         // Test 4 {-1, -2}
-        myPiece.setCurrentShapeIdx(3);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(3);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, null, null, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, null, temp, temp, temp, temp, temp},
             {temp, null, null, null, null, temp, temp, temp, temp, temp}
@@ -297,9 +297,9 @@ public class IPieceRotationTest {
     @Test
     public void testZeroToThreeRotate() {
         // Test 0 {0, 0}
-        myPiece.setCurrentShapeIdx(0);
+        myGameSpace.setCurrentShape(0);
         myGameSpace.dropCurrent(18);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, null, null, null, null, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp}
         });
@@ -308,8 +308,8 @@ public class IPieceRotationTest {
         assertEquals(0, move[1]);
 
         // Test 1 {0, -1}
-        myPiece.setCurrentShapeIdx(0);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(0);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, null, temp, null, null, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp}
         });
@@ -318,8 +318,8 @@ public class IPieceRotationTest {
         assertEquals(-1, move[1]);
 
         // Test 2 {0, 2}
-        myPiece.setCurrentShapeIdx(0);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(0);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, temp, null, null, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp}
         });
@@ -328,8 +328,8 @@ public class IPieceRotationTest {
         assertEquals(2, move[1]);
 
         // Test 3 {-2, -1}
-        myPiece.setCurrentShapeIdx(0);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(0);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, temp, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp}
         });
@@ -338,8 +338,8 @@ public class IPieceRotationTest {
         assertEquals(-1, move[1]);
 
         // Test 4 {1, 2}
-        myPiece.setCurrentShapeIdx(0);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(0);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, null, null, temp, temp, temp, temp},
             {temp, temp, temp, null, null, null, temp, temp, temp, temp},
             {temp, temp, temp, null, null, null, null, temp, temp, temp},
@@ -360,9 +360,9 @@ public class IPieceRotationTest {
     @Test
     public void testThreeToTwoRotate() {
         // Test 0 {0, 0}
-        myPiece.setCurrentShapeIdx(3);
+        myGameSpace.setCurrentShape(3);
         myGameSpace.dropCurrent(19);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, null, temp, temp, temp, temp, temp}
         });
         int[] move = myPiece.rotateCounterclockwise(myGameSpace);
@@ -370,8 +370,8 @@ public class IPieceRotationTest {
         assertEquals(0, move[1]);
 
         // Test 1 {0, -2}
-        myPiece.setCurrentShapeIdx(3);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(3);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, null, null, null, null, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, null, temp, temp, temp, temp, temp}
         });
@@ -380,8 +380,8 @@ public class IPieceRotationTest {
         assertEquals(-2, move[1]);
 
         // Test 2 {0, 1}
-        myPiece.setCurrentShapeIdx(3);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(3);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, null, null, null, null, temp, temp},
             {temp, temp, temp, temp, null, temp, temp, temp, temp, temp}
         });
@@ -390,8 +390,8 @@ public class IPieceRotationTest {
         assertEquals(1, move[1]);
 
         // Test 3 {1, -2}
-        myPiece.setCurrentShapeIdx(3);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(3);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, null, temp, temp, temp, temp, temp},
             {temp, null, null, null, null, null, null, null, null, temp}
         });
@@ -400,8 +400,8 @@ public class IPieceRotationTest {
         assertEquals(-2, move[1]);
 
         // Test 4 {-2, 1}
-        myPiece.setCurrentShapeIdx(3);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(3);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, null, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, null, temp, temp, temp, temp, temp}
         });
@@ -418,9 +418,9 @@ public class IPieceRotationTest {
     @Test
     public void testTwoToOneRotate() {
         // Test 0 {0, 0}
-        myPiece.setCurrentShapeIdx(2);
+        myGameSpace.setCurrentShape(2);
         myGameSpace.dropCurrent(17);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, null, null, null, null, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp}
@@ -430,8 +430,8 @@ public class IPieceRotationTest {
         assertEquals(0, move[1]);
 
         // Test 1 {0, 1}
-        myPiece.setCurrentShapeIdx(2);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(2);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, null, null, temp, null, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp}
@@ -441,8 +441,8 @@ public class IPieceRotationTest {
         assertEquals(1, move[1]);
 
         // Test 2 {0, -2}
-        myPiece.setCurrentShapeIdx(2);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(2);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, null, null, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp}
@@ -452,8 +452,8 @@ public class IPieceRotationTest {
         assertEquals(-2, move[1]);
 
         // Test 3 {2, 1}
-        myPiece.setCurrentShapeIdx(2);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(2);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, null, null, null, null, temp, temp, temp, temp},
             {temp, temp, null, null, null, null, null, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, null, temp, temp, temp},
@@ -465,8 +465,8 @@ public class IPieceRotationTest {
         assertEquals(1, move[1]);
 
         // Test 4 {-1, -2}
-        myPiece.setCurrentShapeIdx(2);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(2);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, null, null, null, null, temp, temp, temp, temp},
             {temp, temp, null, null, null, null, null, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp},
@@ -486,9 +486,9 @@ public class IPieceRotationTest {
     @Test
     public void testOneToZeroRotate() {
         // Test 0 {0, 0}
-        myPiece.setCurrentShapeIdx(1);
+        myGameSpace.setCurrentShape(1);
         myGameSpace.dropCurrent(19);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, temp, null, temp, temp, temp, temp}
         });
         int[] move = myPiece.rotateCounterclockwise(myGameSpace);
@@ -496,8 +496,8 @@ public class IPieceRotationTest {
         assertEquals(0, move[1]);
 
         // Test 1 {0, 2}
-        myPiece.setCurrentShapeIdx(1);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(1);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, null, null, null, null, null, temp},
             {temp, temp, temp, temp, temp, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, null, temp, temp, temp, temp}
@@ -507,8 +507,8 @@ public class IPieceRotationTest {
         assertEquals(2, move[1]);
 
         // Test 2 {0, -1}
-        myPiece.setCurrentShapeIdx(1);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(1);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, null, null, null, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, null, temp, temp, temp, temp}
@@ -518,8 +518,8 @@ public class IPieceRotationTest {
         assertEquals(-1, move[1]);
 
         // Test 3 {-1, 2}
-        myPiece.setCurrentShapeIdx(1);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(1);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, temp, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, null, temp, temp, temp, temp}
@@ -529,8 +529,8 @@ public class IPieceRotationTest {
         assertEquals(2, move[1]);
 
         // Test 4 {2, -1}
-        myPiece.setCurrentShapeIdx(1);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(1);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, temp, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, null, temp, temp, temp, temp},
@@ -542,11 +542,11 @@ public class IPieceRotationTest {
     }
 
     /**
-     * Test for {@link IPiece#isValidRotate(PieceUnit[][], int)}.
+     * Test for {@link IPiece#fits(Board, int, int, int)}.
      * Test whether this method recognize valid and invlaid rotate.
      */
     @Test
-    public void testIsValidRotate() {
+    public void testFits() {
         // Valid rotate
         PieceUnit[][] surrounding = new PieceUnit[][]{
             {temp, temp, temp, temp},
@@ -554,7 +554,7 @@ public class IPieceRotationTest {
             {temp, temp, temp, temp},
             {temp, temp, temp, temp}
         };
-        assertTrue(myPiece.isValidRotate(surrounding, 0));
+        assertTrue(TestHelper.fits(myPiece, surrounding, 0));
         // Invalid rotate
         surrounding = new PieceUnit[][]{
             {temp, temp, temp, temp},
@@ -562,6 +562,6 @@ public class IPieceRotationTest {
             {null, null, null, null},
             {temp, temp, temp, temp}
         };
-        assertFalse(myPiece.isValidRotate(surrounding, 0));
+        assertFalse(TestHelper.fits(myPiece, surrounding, 0));
     }
 }
@@ -43,9 +43,9 @@ public class JPieceRotationTest {
     @Test
     public void testZeroToOneRotate() {
         // Test 0 {0, 0}
-        myPiece.setCurrentShapeIdx(0);
+        myGameSpace.setCurrentShape(0);
         myGameSpace.dropCurrent(17);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, null, null, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp}
@@ -55,8 +55,8 @@ public class JPieceRotationTest {
         assertEquals(0, move[1]);
 
         // Test 1 {0, -1}
-        myPiece.setCurrentShapeIdx(0);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(0);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, null, temp, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp}
@@ -66,8 +66,8 @@ public class JPieceRotationTest {
         assertEquals(-1, move[1]);
 
         // Test 2 {-1, -1}
-        myPiece.setCurrentShapeIdx(0);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(0);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp}
@@ -77,8 +77,8 @@ public class JPieceRotationTest {
         assertEquals(-1, move[1]);
 
         // Test 3 {2, 0}
-        myPiece.setCurrentShapeIdx(0);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(0);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, null, null, null, temp, temp, temp, temp, temp, temp},
             {temp, null, null, null, temp, temp, temp, temp, temp, temp},
             {temp, null, null, null, null, null, temp, temp, temp, temp},
@@ -91,8 +91,8 @@ public class JPieceRotationTest {
         assertEquals(0, move[1]);
 
         // Test 4 {2, -1}
-        myPiece.setCurrentShapeIdx(0);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(0);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, null, null, null, temp, temp, temp, temp, temp, temp},
             {temp, null, null, null, temp, temp, temp, temp, temp, temp},
             {temp, null, null, null, null, null, temp, temp, temp, temp},
@@ -113,9 +113,9 @@ public class JPieceRotationTest {
     @Test
     public void testOneToTwoRotate() {
         // Test 0 {0, 0}
-        myPiece.setCurrentShapeIdx(1);
+        myGameSpace.setCurrentShape(1);
         myGameSpace.dropCurrent(18);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, null, null, null, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp}
         });
@@ -124,8 +124,8 @@ public class JPieceRotationTest {
         assertEquals(0, move[1]);
 
         // Test 1 {0, 1}
-        myPiece.setCurrentShapeIdx(1);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(1);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, null, temp, null, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp}
         });
@@ -134,8 +134,8 @@ public class JPieceRotationTest {
         assertEquals(1, move[1]);
 
         // Test 2 {1, 1}
-        myPiece.setCurrentShapeIdx(1);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(1);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, null, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, null, null, null, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, null, temp, temp, temp}
@@ -145,8 +145,8 @@ public class JPieceRotationTest {
         assertEquals(1, move[1]);
 
         // Test 3 {-2, 0}
-        myPiece.setCurrentShapeIdx(1);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(1);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, null, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, null, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp}
@@ -156,8 +156,8 @@ public class JPieceRotationTest {
         assertEquals(0, move[1]);
 
         // Test 4 {-2, 1}
-        myPiece.setCurrentShapeIdx(1);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(1);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, null, null, null, temp, temp, temp},
             {temp, temp, temp, temp, null, null, null, temp, temp, temp},
             {temp, temp, temp, temp, null, temp, temp, temp, temp, temp},
@@ -177,9 +177,9 @@ public class JPieceRotationTest {
     @Test
     public void testTwoToThreeRotate() {
         // Test 0 {0, 0}
-        myPiece.setCurrentShapeIdx(2);
+        myGameSpace.setCurrentShape(2);
         myGameSpace.dropCurrent(17);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, null, null, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp}
@@ -189,8 +189,8 @@ public class JPieceRotationTest {
         assertEquals(0, move[1]);
 
         // Test 1 {0, 1}
-        myPiece.setCurrentShapeIdx(2);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(2);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, null, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp}
@@ -200,8 +200,8 @@ public class JPieceRotationTest {
         assertEquals(1, move[1]);
 
         // Test 2 {-1, 1}
-        myPiece.setCurrentShapeIdx(2);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(2);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, temp, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp}
@@ -211,8 +211,8 @@ public class JPieceRotationTest {
         assertEquals(1, move[1]);
 
         // Test 3 {2, 0}
-        myPiece.setCurrentShapeIdx(2);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(2);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, temp, temp, null, null, null, temp},
             {temp, temp, temp, null, null, null, null, null, null, temp},
             {temp, temp, temp, temp, null, null, null, null, null, temp},
@@ -224,8 +224,8 @@ public class JPieceRotationTest {
         assertEquals(0, move[1]);
 
         // Test 4 {2, 1}
-        myPiece.setCurrentShapeIdx(2);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(2);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, temp, temp, null, null, null, temp},
             {temp, temp, temp, null, null, null, null, null, null, temp},
             {temp, temp, temp, temp, temp, null, null, null, null, temp},
@@ -245,9 +245,9 @@ public class JPieceRotationTest {
     @Test
     public void testThreeToZeroRotate() {
         // Test 0 {0, 0}
-        myPiece.setCurrentShapeIdx(3);
+        myGameSpace.setCurrentShape(3);
         myGameSpace.dropCurrent(19);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, null, null, temp, temp, temp, temp, temp}
         });
         int[] move = myPiece.rotateClockwise(myGameSpace);
@@ -255,8 +255,8 @@ public class JPieceRotationTest {
         assertEquals(0, move[1]);
 
         // Test 1 {0, -1}
-        myPiece.setCurrentShapeIdx(3);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(3);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, null, null, null, temp, temp, temp, temp, temp},
             {temp, temp, temp, null, null, temp, temp, temp, temp, temp}
         });
@@ -265,8 +265,8 @@ public class JPieceRotationTest {
         assertEquals(-1, move[1]);
 
         // Test 2 {1, -1}
-        myPiece.setCurrentShapeIdx(3);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(3);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, null, temp, null, null, temp, temp, temp, temp},
             {temp, temp, null, null, null, null, temp, temp, temp, temp}
         });
@@ -275,8 +275,8 @@ public class JPieceRotationTest {
         assertEquals(-1, move[1]);
 
         // Test 3 {-2, 0}
-        myPiece.setCurrentShapeIdx(3);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(3);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, null, null, temp, temp, temp, temp},
             {temp, temp, temp, null, null, null, temp, temp, temp, temp}
         });
@@ -285,8 +285,8 @@ public class JPieceRotationTest {
         assertEquals(0, move[1]);
         
         // Test 4 {-2, -1}
-        myPiece.setCurrentShapeIdx(3);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(3);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, null, temp, null, null, temp, temp, temp, temp},
             {temp, temp, null, null, null, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, null, null, temp, temp, temp, temp},
@@ -306,9 +306,9 @@ public class JPieceRotationTest {
     @Test
     public void testZeroToThreeRotate() {
         // Test 0 {0, 0}
-        myPiece.setCurrentShapeIdx(0);
+        myGameSpace.setCurrentShape(0);
         myGameSpace.dropCurrent(17);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, null, null, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp}
@@ -318,8 +318,8 @@ public class JPieceRotationTest {
         assertEquals(0, move[1]);
 
         // Test 1 {0, 1}
-        myPiece.setCurrentShapeIdx(0);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(0);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, null, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp}
@@ -329,8 +329,8 @@ public class JPieceRotationTest {
         assertEquals(1, move[1]);
 
         // Test 2 {-1, 1}
-        myPiece.setCurrentShapeIdx(0);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(0);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp}
@@ -340,8 +340,8 @@ public class JPieceRotationTest {
         assertEquals(1, move[1]);
 
         // Test 3 {2, 0}
-        myPiece.setCurrentShapeIdx(0);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(0);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, null, null, null, temp, temp, temp, temp, temp, temp},
             {temp, null, null, null, null, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, null, temp, temp, temp, temp, temp},
@@ -353,8 +353,8 @@ public class JPieceRotationTest {
         assertEquals(0, move[1]);
 
         // Test 4 {2, 1}
-        myPiece.setCurrentShapeIdx(0);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(0);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, null, null, null, temp, temp, temp, temp, temp, temp},
             {temp, null, null, null, null, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, null, temp, temp, temp, temp},
@@ -374,9 +374,9 @@ public class JPieceRotationTest {
     @Test
     public void testThreeToTwoRotate() {
         // Test 0 {0, 0}
-        myPiece.setCurrentShapeIdx(3);
+        myGameSpace.setCurrentShape(3);
         myGameSpace.dropCurrent(18);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, null, null, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp}
         });
@@ -385,8 +385,8 @@ public class JPieceRotationTest {
         assertEquals(0, move[1]);
 
         // Test 1 {0, -1}
-        myPiece.setCurrentShapeIdx(3);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(3);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, null, null, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp}
         });
@@ -395,8 +395,8 @@ public class JPieceRotationTest {
         assertEquals(-1, move[1]);
 
         // Test 2 {1, -1}
-        myPiece.setCurrentShapeIdx(3);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(3);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, null, null, temp, temp, temp, temp, temp},
             {temp, temp, null, null, null, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, null, temp, temp, temp, temp, temp}
@@ -406,8 +406,8 @@ public class JPieceRotationTest {
         assertEquals(-1, move[1]);
 
         // Test 3 {-2, 0}
-        myPiece.setCurrentShapeIdx(3);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(3);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, null, null, temp, temp, temp, temp, temp},
             {temp, temp, temp, null, null, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp}
@@ -417,8 +417,8 @@ public class JPieceRotationTest {
         assertEquals(0, move[1]);
 
         // Test 4 {-2, -1}
-        myPiece.setCurrentShapeIdx(3);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(3);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, null, null, temp, temp, temp, temp, temp},
             {temp, temp, temp, null, null, temp, temp, temp, temp, temp},
             {temp, temp, temp, null, null, temp, temp, temp, temp, temp},
@@ -437,9 +437,9 @@ public class JPieceRotationTest {
     @Test
     public void testTwoToOneRotate() {
         // Test 0 {0, 0}
-        myPiece.setCurrentShapeIdx(2);
+        myGameSpace.setCurrentShape(2);
         myGameSpace.dropCurrent(17);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, null, null, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp}
@@ -449,8 +449,8 @@ public class JPieceRotationTest {
         assertEquals(0, move[1]);
 
         // Test 1 {0, -1}
-        myPiece.setCurrentShapeIdx(2);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(2);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, null, temp, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp}
@@ -460,8 +460,8 @@ public class JPieceRotationTest {
         assertEquals(-1, move[1]);
 
         // Test 2 {-1, -1}
-        myPiece.setCurrentShapeIdx(2);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(2);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, temp, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp}
@@ -471,8 +471,8 @@ public class JPieceRotationTest {
         assertEquals(-1, move[1]);
 
         // Test 3 {2, 0}
-        myPiece.setCurrentShapeIdx(2);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(2);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, temp, temp, null, null, null, temp},
             {temp, temp, temp, null, null, null, null, null, null, temp},
             {temp, temp, temp, temp, null, null, null, null, null, temp},
@@ -484,8 +484,8 @@ public class JPieceRotationTest {
         assertEquals(0, move[1]);
 
         // Test 4 {2, -1}
-        myPiece.setCurrentShapeIdx(2);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(2);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, temp, temp, null, null, null, temp},
             {temp, temp, temp, null, null, null, null, null, null, temp},
             {temp, temp, temp, null, null, null, null, null, null, temp},
@@ -505,9 +505,9 @@ public class JPieceRotationTest {
     @Test
     public void testOneToZeroRotate() {
         // Test 0 {0, 0}
-        myPiece.setCurrentShapeIdx(1);
+        myGameSpace.setCurrentShape(1);
         myGameSpace.dropCurrent(19);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, null, temp, temp, temp, temp, temp}
         });
         int[] move = myPiece.rotateCounterclockwise(myGameSpace);
@@ -515,8 +515,8 @@ public class JPieceRotationTest {
         assertEquals(0, move[1]);
 
         // Test 1 {0, 1}
-        myPiece.setCurrentShapeIdx(1);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(1);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, null, null, null, temp, temp, temp},
             {temp, temp, temp, temp, null, temp, temp, temp, temp, temp}
         });
@@ -525,8 +525,8 @@ public class JPieceRotationTest {
         assertEquals(1, move[1]);
 
         // Test 2 {1, 1}
-        myPiece.setCurrentShapeIdx(1);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(1);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, null, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, null, null, null, temp, temp, temp}
         });
@@ -535,8 +535,8 @@ public class JPieceRotationTest {
         assertEquals(1, move[1]);
 
         // Test 3 {-2, 0}
-        myPiece.setCurrentShapeIdx(1);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(1);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, null, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, null, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, null, temp, temp, temp, temp, temp}
@@ -546,8 +546,8 @@ public class JPieceRotationTest {
         assertEquals(0, move[1]);
 
         // Test 4 {-2, 1}
-        myPiece.setCurrentShapeIdx(1);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(1);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, null, null, null, temp, temp, temp},
             {temp, temp, temp, temp, null, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, null, temp, temp, temp, temp, temp},
@@ -559,24 +559,24 @@ public class JPieceRotationTest {
     }
 
     /**
-     * Test for {@link JPiece#isValidRotate(PieceUnit[][], int)}.
+     * Test for {@link JPiece#fits(Board, int, int, int)}.
      * Test whether this method recognize valid and invlaid rotate.
      */
     @Test
-    public void testIsValidRotate() {
+    public void testFits() {
         // Valid rotate
         PieceUnit[][] surrounding = new PieceUnit[][]{
             {null, temp, temp},
             {null, null, null},
             {temp, temp, temp}
         };
-        assertTrue(myPiece.isValidRotate(surrounding, 0));
+        assertTrue(TestHelper.fits(myPiece, surrounding, 0));
         // Invalid rotate
         surrounding = new PieceUnit[][]{
             {temp, null, null},
             {temp, null, temp},
             {temp, null, temp}
         };
-        assertFalse(myPiece.isValidRotate(surrounding, 0));
+        assertFalse(TestHelper.fits(myPiece, surrounding, 0));
     }
 }
@@ -43,9 +43,9 @@ public class LPieceRotationTest {
     @Test
     public void testZeroToOneRotate() {
         // Test 0 {0, 0}
-        myPiece.setCurrentShapeIdx(0);
+        myGameSpace.setCurrentShape(0);
         myGameSpace.dropCurrent(17);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, null, null, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp}
@@ -55,8 +55,8 @@ public class LPieceRotationTest {
         assertEquals(0, move[1]);
 
         // Test 1 {0, -1}
-        myPiece.setCurrentShapeIdx(0);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(0);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, null, null, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp}
@@ -66,8 +66,8 @@ public class LPieceRotationTest {
         assertEquals(-1, move[1]);
 
         // Test 2 {-1, -1}
-        myPiece.setCurrentShapeIdx(0);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(0);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, null, null, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp},
@@ -78,8 +78,8 @@ public class LPieceRotationTest {
         assertEquals(-1, move[1]);
 
         // Test 3 {2, 0}
-        myPiece.setCurrentShapeIdx(0);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(0);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, null, null, null, temp, temp, temp},
             {temp, temp, temp, null, null, null, null, temp, temp, temp},
             {temp, temp, temp, temp, null, temp, temp, temp, temp, temp},
@@ -91,8 +91,8 @@ public class LPieceRotationTest {
         assertEquals(0, move[1]);
 
         // Test 4 {2, -1}
-        myPiece.setCurrentShapeIdx(0);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(0);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, null, null, null, temp, temp, temp},
             {temp, temp, temp, null, null, null, null, temp, temp, temp},
             {temp, temp, temp, null, temp, temp, temp, temp, temp, temp},
@@ -112,9 +112,9 @@ public class LPieceRotationTest {
     @Test
     public void testOneToTwoRotate() {
         // Test 0 {0, 0}
-        myPiece.setCurrentShapeIdx(1);
+        myGameSpace.setCurrentShape(1);
         myGameSpace.dropCurrent(18);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, null, null, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp}
         });
@@ -123,8 +123,8 @@ public class LPieceRotationTest {
         assertEquals(0, move[1]);
 
         // Test 1 {0, 1}
-        myPiece.setCurrentShapeIdx(1);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(1);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, null, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp}
         });
@@ -133,8 +133,8 @@ public class LPieceRotationTest {
         assertEquals(1, move[1]);
 
         // Test 2 {1, 1}
-        myPiece.setCurrentShapeIdx(1);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(1);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, null, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, null, null, null, temp, temp, temp},
             {temp, temp, temp, temp, null, temp, temp, temp, temp, temp}
@@ -144,8 +144,8 @@ public class LPieceRotationTest {
         assertEquals(1, move[1]);
 
         // Test 3 {-2, 0}
-        myPiece.setCurrentShapeIdx(1);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(1);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, null, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, null, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp}
@@ -155,8 +155,8 @@ public class LPieceRotationTest {
         assertEquals(0, move[1]);
 
         // Test 4 {-2, 1}
-        myPiece.setCurrentShapeIdx(1);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(1);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, null, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, null, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, null, null, temp, temp, temp, temp},
@@ -175,9 +175,9 @@ public class LPieceRotationTest {
     @Test
     public void testTwoToThreeRotate() {
         // Test 0 {0, 0}
-        myPiece.setCurrentShapeIdx(2);
+        myGameSpace.setCurrentShape(2);
         myGameSpace.dropCurrent(17);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, null, null, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp}
@@ -187,8 +187,8 @@ public class LPieceRotationTest {
         assertEquals(0, move[1]);
 
         // Test 1 {0, 1}
-        myPiece.setCurrentShapeIdx(2);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(2);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, null, temp, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp}
@@ -198,8 +198,8 @@ public class LPieceRotationTest {
         assertEquals(1, move[1]);
 
         // Test 2 {-1, 1}
-        myPiece.setCurrentShapeIdx(2);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(2);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, null, temp, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp}
@@ -209,8 +209,8 @@ public class LPieceRotationTest {
         assertEquals(1, move[1]);
 
         // Test 3 {2, 0}
-        myPiece.setCurrentShapeIdx(2);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(2);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, null, null, null, temp, temp, temp, temp, temp, temp},
             {temp, null, null, null, null, null, temp, temp, temp, temp},
             {temp, null, null, null, null, temp, temp, temp, temp, temp},
@@ -222,8 +222,8 @@ public class LPieceRotationTest {
         assertEquals(0, move[1]);
 
         // Test 4 {2, 1}
-        myPiece.setCurrentShapeIdx(2);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(2);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, null, null, null, temp, temp, temp, temp, temp, temp},
             {temp, null, null, null, null, null, temp, temp, temp, temp},
             {temp, null, null, null, null, null, temp, temp, temp, temp},
@@ -243,9 +243,9 @@ public class LPieceRotationTest {
     @Test
     public void testThreeToZeroRotate() {
         // Test 0 {0, 0}
-        myPiece.setCurrentShapeIdx(3);
+        myGameSpace.setCurrentShape(3);
         myGameSpace.dropCurrent(19);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, null, temp, temp, temp, temp, temp}
         });
         int[] move = myPiece.rotateClockwise(myGameSpace);
@@ -253,8 +253,8 @@ public class LPieceRotationTest {
         assertEquals(0, move[1]);
 
         // Test 1 {0, -1}
-        myPiece.setCurrentShapeIdx(3);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(3);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, null, null, null, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, null, temp, temp, temp, temp, temp}
         });
@@ -263,8 +263,8 @@ public class LPieceRotationTest {
         assertEquals(-1, move[1]);
 
         // Test 2 {1, -1}
-        myPiece.setCurrentShapeIdx(3);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(3);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, null, temp, temp, temp, temp, temp},
             {temp, temp, null, null, null, temp, temp, temp, temp, temp}
         });
@@ -273,8 +273,8 @@ public class LPieceRotationTest {
         assertEquals(-1, move[1]);
 
         // Test 3 {-2, 0}
-        myPiece.setCurrentShapeIdx(3);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(3);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, null, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, null, temp, temp, temp, temp, temp}
         });
@@ -283,8 +283,8 @@ public class LPieceRotationTest {
         assertEquals(0, move[1]);
 
         // Test 4 {-2, -1}
-        myPiece.setCurrentShapeIdx(3);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(3);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, null, null, null, temp, temp, temp, temp, temp},
             {temp, temp, temp, null, null, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, null, temp, temp, temp, temp, temp},
@@ -303,9 +303,9 @@ public class LPieceRotationTest {
     @Test
     public void testZeroToThreeRotate() {
         // Test 0 {0, 0}
-        myPiece.setCurrentShapeIdx(0);
+        myGameSpace.setCurrentShape(0);
         myGameSpace.dropCurrent(17);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, null, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp}
@@ -315,8 +315,8 @@ public class LPieceRotationTest {
         assertEquals(0, move[1]);
 
         // Test 1 {0, 1}
-        myPiece.setCurrentShapeIdx(0);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(0);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, temp, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp}
@@ -326,8 +326,8 @@ public class LPieceRotationTest {
         assertEquals(1, move[1]);
 
         // Test 2 {-1, 1}
-        myPiece.setCurrentShapeIdx(0);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(0);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp}
@@ -337,8 +337,8 @@ public class LPieceRotationTest {
         assertEquals(1, move[1]);
 
         // Test 3 {2, 0}
-        myPiece.setCurrentShapeIdx(0);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(0);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, temp, null, null, null, temp, temp},
             {temp, temp, temp, temp, temp, null, null, null, temp, temp},
             {temp, temp, temp, null, null, null, null, null, temp, temp},
@@ -351,8 +351,8 @@ public class LPieceRotationTest {
         assertEquals(0, move[1]);
 
         // Test 4 {2, 1}
-        myPiece.setCurrentShapeIdx(0);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(0);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, temp, null, null, null, temp, temp},
             {temp, temp, temp, temp, temp, null, null, null, temp, temp},
             {temp, temp, temp, null, null, null, null, null, temp, temp},
@@ -373,9 +373,9 @@ public class LPieceRotationTest {
     @Test
     public void testThreeToTwoRotate() {
         // Test 0 {0, 0}
-        myPiece.setCurrentShapeIdx(3);
+        myGameSpace.setCurrentShape(3);
         myGameSpace.dropCurrent(18);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, null, null, null, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp}
         });
@@ -384,8 +384,8 @@ public class LPieceRotationTest {
         assertEquals(0, move[1]);
 
         // Test 1 {0, -1}
-        myPiece.setCurrentShapeIdx(3);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(3);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, null, temp, null, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp}
         });
@@ -394,8 +394,8 @@ public class LPieceRotationTest {
         assertEquals(-1, move[1]);
 
         // Test 2 {1, -1}
-        myPiece.setCurrentShapeIdx(3);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(3);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, null, temp, temp, temp, temp, temp},
             {temp, temp, null, null, null, temp, temp, temp, temp, temp},
             {temp, temp, null, temp, temp, temp, temp, temp, temp, temp}
@@ -405,8 +405,8 @@ public class LPieceRotationTest {
         assertEquals(-1, move[1]);
 
         // Test 3 {-2, 0}
-        myPiece.setCurrentShapeIdx(3);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(3);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, null, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp}
         });
@@ -415,8 +415,8 @@ public class LPieceRotationTest {
         assertEquals(0, move[1]);
 
         // Test 4 {-2, -1}
-        myPiece.setCurrentShapeIdx(3);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(3);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, null, null, null, temp, temp, temp, temp, temp},
             {temp, temp, null, null, null, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, null, temp, temp, temp, temp, temp},
@@ -436,9 +436,9 @@ public class LPieceRotationTest {
     @Test
     public void testTwoToOneRotate() {
         // Test 0 {0, 0}
-        myPiece.setCurrentShapeIdx(2);
+        myGameSpace.setCurrentShape(2);
         myGameSpace.dropCurrent(17);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, null, null, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp}
@@ -448,8 +448,8 @@ public class LPieceRotationTest {
         assertEquals(0, move[1]);
 
         // Test 1 {0, -1}
-        myPiece.setCurrentShapeIdx(2);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(2);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, null, null, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp}
@@ -459,8 +459,8 @@ public class LPieceRotationTest {
         assertEquals(-1, move[1]);
 
         // Test 2 {-1, -1}
-        myPiece.setCurrentShapeIdx(2);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(2);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, null, temp, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp}
@@ -470,8 +470,8 @@ public class LPieceRotationTest {
         assertEquals(-1, move[1]);
 
         // Test 3 {2, 0}
-        myPiece.setCurrentShapeIdx(2);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(2);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {null, null, null, temp, temp, temp, temp, temp, temp, temp},
             {null, null, null, null, null, null, temp, temp, temp, temp},
             {temp, null, null, null, null, temp, temp, temp, temp, temp},
@@ -483,8 +483,8 @@ public class LPieceRotationTest {
         assertEquals(0, move[1]);
 
         // Test 4 {2, -1}
-        myPiece.setCurrentShapeIdx(2);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(2);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {null, null, null, temp, temp, temp, temp, temp, temp, temp},
             {null, null, null, null, null, null, temp, temp, temp, temp},
             {temp, null, null, null, temp, temp, temp, temp, temp, temp},
@@ -504,9 +504,9 @@ public class LPieceRotationTest {
     @Test
     public void testOneToZeroRotate() {
         // Test 0 {0, 0}
-        myPiece.setCurrentShapeIdx(1);
+        myGameSpace.setCurrentShape(1);
         myGameSpace.dropCurrent(19);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, null, null, temp, temp, temp, temp}
         });
         int[] move = myPiece.rotateCounterclockwise(myGameSpace);
@@ -514,8 +514,8 @@ public class LPieceRotationTest {
         assertEquals(0, move[1]);
 
         // Test 1 {0, 1}
-        myPiece.setCurrentShapeIdx(1);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(1);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, null, null, null, temp, temp, temp},
             {temp, temp, temp, temp, null, null, temp, temp, temp, temp}
         });
@@ -524,8 +524,8 @@ public class LPieceRotationTest {
         assertEquals(1, move[1]);
 
         // Test 2 {1, 1}
-        myPiece.setCurrentShapeIdx(1);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(1);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, null, temp, null, temp, temp, temp},
             {temp, temp, temp, temp, null, null, null, temp, temp, temp}
         });
@@ -534,8 +534,8 @@ public class LPieceRotationTest {
         assertEquals(1, move[1]);
 
         // Test 3 {-2, 0}
-        myPiece.setCurrentShapeIdx(1);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(1);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, null, null, temp, temp, temp, temp, temp},
             {temp, temp, temp, null, null, null, temp, temp, temp, temp}
         });
@@ -544,8 +544,8 @@ public class LPieceRotationTest {
         assertEquals(0, move[1]);
 
         // Test 4 {-2, 1}
-        myPiece.setCurrentShapeIdx(1);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(1);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, null, null, temp, null, temp, temp, temp},
             {temp, temp, temp, null, null, null, null, temp, temp, temp},
             {temp, temp, temp, null, null, temp, temp, temp, temp, temp},
@@ -558,24 +558,24 @@ public class LPieceRotationTest {
     }
 
     /**
-     * Test for {@link LPiece#isValidRotate(PieceUnit[][], int)}.
+     * Test for {@link LPiece#fits(Board, int, int, int)}.
      * Test whether this method recognize valid and invlaid rotate.
      */
     @Test
-    public void testIsValidRotate() {
+    public void testFits() {
         // Valid rotate
         PieceUnit[][] surrounding = new PieceUnit[][]{
             {temp, temp, null},
             {null, null, null},
             {temp, temp, temp}
         };
-        assertTrue(myPiece.isValidRotate(surrounding, 0));
+        assertTrue(TestHelper.fits(myPiece, surrounding, 0));
         // Invalid rotate
         surrounding = new PieceUnit[][]{
             {temp, null, temp},
             {temp, null, temp},
             {temp, null, null}
         };
-        assertFalse(myPiece.isValidRotate(surrounding, 0));
+        assertFalse(TestHelper.fits(myPiece, surrounding, 0));
     }
 }
@@ -0,0 +1,87 @@
+package com.tetris.model;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * Test for {@link PieceGenerator} and its implementations.
+ * Test whether pieces are generated deterministically from the seed and bags contain every piece.
+ * 
+ * @author Jiameng Li
+ * @version 1.0
+ */
+public class PieceGeneratorTest {
+
+    /**
+     * Test for {@link PieceGenerator#next()}.
+     * Test whether generators of every kind repeat the same sequence for the same seed.
+     */
+    @Test
+    public void testSameSeed() {
+        for (Randomizer r : Randomizer.values()) {
+            assertArrayEquals(generate(r.create(42), 200), generate(r.create(42), 200));
+        }
+    }
+
+    /**
+     * Test for {@link BagPieceGenerator#next()}.
+     * Test whether every bag of 7 and 14 contains the right number of each piece type.
+     */
+    @Test
+    public void testBag() {
+        for (int copies = 1; copies <= 2; copies++) {
+            final int[] pieces = generate(new BagPieceGenerator(copies, 3), PieceGenerator.TYPES * copies * 20);
+            for (int bag = 0; bag < 20; bag++) {
+                final int[] count = new int[PieceGenerator.TYPES];
+                for (int i = 0; i < PieceGenerator.TYPES * copies; i++) {
+                    final int piece = pieces[bag * PieceGenerator.TYPES * copies + i];
+                    count[PieceGenerator.getType(piece)]++;
+                    assertTrue(PieceGenerator.getShape(piece) < PieceGenerator.SHAPES);
+                }
+                for (int c : count) {
+                    assertEquals(copies, c);
+                }
+            }
+        }
+    }
+
+    /**
+     * Test for {@link GameSpace#nextPiece()}.
+     * Test whether game spaces with the same seed get the same pieces with the same shapes.
+     */
+    @Test
+    public void testGameSpaceSameSeed() {
+        final GameSpace space1 = new GameSpace(new Setting(), Randomizer.BAG_7.create(9));
+        final GameSpace space2 = new GameSpace(new Setting(), Randomizer.BAG_7.create(9));
+        space1.newGame();
+        space2.newGame();
+        for (int i = 0; i < 100; i++) {
+            assertEquals(space1.getCurrentPiece().getClass(), space2.getCurrentPiece().getClass());
+            for (int r = 0; r < space1.getCurrentPiece().getSize(); r++) {
+                assertEquals(space1.getCurrentPiece().getMask(space1.getCurrentShape(), r),
+                             space2.getCurrentPiece().getMask(space2.getCurrentShape(), r));
+            }
+            space1.nextPiece();
+            space2.nextPiece();
+        }
+    }
+
+    /**
+     * Generate the given number of pieces.
+     * 
+     * @param theGenerator The piece generator.
+     * @param theCount The number of pieces.
+     * @return The generated pieces.
+     */
+    private static int[] generate(final PieceGenerator theGenerator, final int theCount) {
+        final int[] pieces = new int[theCount];
+        for (int i = 0; i < theCount; i++) {
+            pieces[i] = theGenerator.next();
+        }
+        return pieces;
+    }
+
+}
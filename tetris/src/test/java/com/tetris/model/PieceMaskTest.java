@@ -0,0 +1,86 @@
+package com.tetris.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import org.junit.Test;
+
+/**
+ * Test for the row masks of pieces {@link Piece#getMask(int, int)}.
+ * Test whether the masks match the shapes of every piece.
+ * 
+ * @author Jiameng Li
+ * @version 1.0
+ */
+public class PieceMaskTest {
+
+    /** All pieces used to test. */
+    private final AbstractPiece[] myPieces = {new IPiece(), new JPiece(), new LPiece(), new OPiece(), 
+                                              new SPiece(), new TPiece(), new ZPiece()};
+
+    /**
+     * Test for {@link Piece#getMask(int, int)} and {@link Piece#getShape(int)}.
+     * Test whether every row mask of every shape matches the shape.
+     */
+    @Test
+    public void testMasksMatchShapes() {
+        for (AbstractPiece p : myPieces) {
+            for (int s = 0; s < 4; s++) {
+                final int index = p instanceof OPiece ? 0 : s;
+                final int[][] shape = p.getShape(index);
+                for (int r = 0; r < shape.length; r++) {
+                    int mask = 0;
+                    for (int c = 0; c < shape[r].length; c++) {
+                        mask |= shape[r][c] << c;
+                    }
+                    assertEquals(mask, p.getMask(index, r));
+                }
+            }
+        }
+    }
+
+    /**
+     * Test for {@link Piece#packRotation(int, int, int)}.
+     * Test whether negative moves are unpacked correctly and never collide with a failed rotation.
+     */
+    @Test
+    public void testPackRotation() {
+        for (int s = 0; s < 4; s++) {
+            for (int row = -2; row <= 2; row++) {
+                for (int col = -2; col <= 2; col++) {
+                    final int rotation = Piece.packRotation(s, row, col);
+                    assertNotEquals(Piece.ROTATION_FAILED, rotation);
+                    assertEquals(s, Piece.getRotationShape(rotation));
+                    assertEquals(row, Piece.getRotationRow(rotation));
+                    assertEquals(col, Piece.getRotationColumn(rotation));
+                }
+            }
+        }
+    }
+
+    /**
+     * Test for {@link Piece#findRotation(Board, int, int, int, boolean)}.
+     * Test whether a wall kick is found against the board.
+     */
+    @Test
+    public void testFindRotation() {
+        final Board board = new Board();
+        final IPiece piece = new IPiece();
+        // Vertical I-piece against the right wall kicks one column to the left
+        final int rotation = piece.findRotation(board, 1, 10, 9, true);
+        assertEquals(2, Piece.getRotationShape(rotation));
+        assertEquals(0, Piece.getRotationRow(rotation));
+        assertEquals(-1, Piece.getRotationColumn(rotation));
+        // Fill the whole area around it so every kick fails
+        for (int r = 4; r < Board.FLOOR; r++) {
+            for (int c = Board.LEFT; c <= Board.RIGHT; c++) {
+                if (c != 11) {
+                    board.fill(r, c, (byte) 1);
+                }
+            }
+        }
+        assertEquals(Piece.ROTATION_FAILED, piece.findRotation(board, 1, 10, 9, true));
+        assertEquals(Piece.ROTATION_FAILED, piece.findRotation(board, 1, 10, 9, false));
+    }
+
+}
@@ -0,0 +1,60 @@
+package com.tetris.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * Test for {@link PieceState}.
+ * Test whether states survive being packed into an int, including positions above the top and left of the walls.
+ * 
+ * @author Jiameng Li
+ * @version 1.0
+ */
+public class PieceStateTest {
+
+    /**
+     * Test for {@link PieceState#pack(int, int, int, int)} and {@link PieceState#unpack(int)}.
+     * Test whether every field is unpacked as it was packed and no state collides with {@link PieceState#NONE}.
+     */
+    @Test
+    public void testPack() {
+        for (int type = 0; type < PieceGenerator.TYPES; type++) {
+            for (int rotation = 0; rotation < PieceGenerator.SHAPES; rotation++) {
+                for (int row = -4; row < Board.ROWS + 4; row++) {
+                    for (int col = -2; col < Board.COLUMNS + 2; col++) {
+                        final PieceState state = new PieceState(type, rotation, row, col);
+                        final int packed = state.pack();
+                        assertTrue(packed >= 0);
+                        assertNotEquals(PieceState.NONE, packed);
+                        assertEquals(state, PieceState.unpack(packed));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Test for {@link PieceState#move(int, int, int)} and {@link PieceState#rotate(int, int)}.
+     * Test whether moving and rotating only change their own fields.
+     */
+    @Test
+    public void testMoveAndRotate() {
+        final int packed = PieceState.pack(5, 3, 1, 4);
+        assertEquals(new PieceState(5, 3, -1, 7), PieceState.unpack(PieceState.move(packed, -2, 3)));
+        assertEquals(new PieceState(5, 0, 1, 4), PieceState.unpack(PieceState.rotate(packed, 0)));
+        assertEquals(packed, PieceState.move(PieceState.move(packed, 5, -6), -5, 6));
+    }
+
+    /**
+     * Test for the validation of {@link PieceState}.
+     * Test whether a state that doesn't fit in an int is rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalid() {
+        new PieceState(0, 0, 200, 0);
+    }
+
+}
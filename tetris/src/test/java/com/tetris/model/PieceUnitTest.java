@@ -0,0 +1,58 @@
+package com.tetris.model;
+
+import static org.junit.Assert.assertEquals;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+
+import org.junit.Test;
+
+/**
+ * Test for {@link PieceUnit}.
+ * Test whether units are painted following the design with the current colors.
+ * 
+ * @author Jiameng Li
+ * @version 1.0
+ */
+public class PieceUnitTest {
+
+    /**
+     * Test for {@link PieceUnit#paintUnit(Graphics2D, int, int, int)}.
+     * Test whether the painted unit follows the design and changes with its colors.
+     */
+    @Test
+    public void testPaintUnit() {
+        final PieceUnit unit = new PieceUnit(Color.RED, Color.BLUE);
+        assertPainted(unit, 3);
+        assertPainted(unit, PieceUnit.SUB_SIZE);
+        unit.setOuterColor(Color.GREEN);
+        assertPainted(unit, PieceUnit.SUB_SIZE);
+        unit.setInnerColor(Color.YELLOW);
+        assertPainted(unit, 3);
+        assertPainted(unit, PieceUnit.SUB_SIZE * 2);
+    }
+
+    /**
+     * Paint the unit at an offset and assert every pixel has the color given by the design.
+     * 
+     * @param theUnit The unit.
+     * @param theSubSize Sub size of each small unit in the whole unit.
+     */
+    private static void assertPainted(final PieceUnit theUnit, final int theSubSize) {
+        final int offset = 5;
+        final int size = theSubSize * PieceUnit.DESIGN.length;
+        final BufferedImage image = new BufferedImage(size + offset, size + offset, BufferedImage.TYPE_INT_RGB);
+        final Graphics2D graphics = image.createGraphics();
+        theUnit.paintUnit(graphics, offset, offset, theSubSize);
+        graphics.dispose();
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                final Color expected = PieceUnit.DESIGN[y / theSubSize][x / theSubSize] == 0 
+                                       ? theUnit.getOuterColor() : theUnit.getInnerColor();
+                assertEquals(expected.getRGB(), image.getRGB(x + offset, y + offset));
+            }
+        }
+    }
+
+}
@@ -43,9 +43,9 @@ public class SPieceRotationTest {
     @Test
     public void testZeroToOneRotate() {
         // Test 0 {0, 0}
-        myPiece.setCurrentShapeIdx(0);
+        myGameSpace.setCurrentShape(0);
         myGameSpace.dropCurrent(17);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, null, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp}
@@ -55,8 +55,8 @@ public class SPieceRotationTest {
         assertEquals(0, move[1]);
 
         // Test 1 {0, -1}
-        myPiece.setCurrentShapeIdx(0);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(0);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, null, null, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, null, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp},
@@ -67,8 +67,8 @@ public class SPieceRotationTest {
         assertEquals(-1, move[1]);
 
         // Test 2 {-1, -1}
-        myPiece.setCurrentShapeIdx(0);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(0);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, null, null, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp},
@@ -79,8 +79,8 @@ public class SPieceRotationTest {
         assertEquals(-1, move[1]);
 
         // Test 3 {2, 0}
-        myPiece.setCurrentShapeIdx(0);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(0);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, null, null, temp, temp, temp, temp},
             {temp, temp, temp, null, null, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, null, temp, temp, temp, temp, temp},
@@ -92,8 +92,8 @@ public class SPieceRotationTest {
         assertEquals(0, move[1]);
 
         // Test 4 {2, -1}
-        myPiece.setCurrentShapeIdx(0);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(0);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, null, null, temp, temp, temp, temp},
             {temp, temp, temp, null, null, temp, temp, temp, temp, temp},
             {temp, temp, temp, null, temp, temp, temp, temp, temp, temp},
@@ -113,9 +113,9 @@ public class SPieceRotationTest {
     @Test
     public void testOneToTwoRotate() {
         // Test 0 {0, 0}
-        myPiece.setCurrentShapeIdx(1);
+        myGameSpace.setCurrentShape(1);
         myGameSpace.dropCurrent(18);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, null, null, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp}
         });
@@ -124,8 +124,8 @@ public class SPieceRotationTest {
         assertEquals(0, move[1]);
 
         // Test 1 {0, 1}
-        myPiece.setCurrentShapeIdx(1);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(1);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, null, null, null, temp, temp, temp},
             {temp, temp, temp, temp, null, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp}
@@ -135,8 +135,8 @@ public class SPieceRotationTest {
         assertEquals(1, move[1]);
 
         // Test 2 {1, 1}
-        myPiece.setCurrentShapeIdx(1);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(1);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, null, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, null, null, null, temp, temp, temp},
             {temp, temp, temp, temp, null, null, temp, temp, temp, temp}
@@ -146,8 +146,8 @@ public class SPieceRotationTest {
         assertEquals(1, move[1]);
 
         // Test 3 {-2, 0}
-        myPiece.setCurrentShapeIdx(1);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(1);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, null, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, null, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp}
@@ -157,8 +157,8 @@ public class SPieceRotationTest {
         assertEquals(0, move[1]);
 
         // Test 4 {-2, 1}
-        myPiece.setCurrentShapeIdx(1);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(1);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, null, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, null, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, null, null, temp, temp, temp, temp},
@@ -177,9 +177,9 @@ public class SPieceRotationTest {
     @Test
     public void testTwoToThreeRotate() {
         // Test 0 {0, 0}
-        myPiece.setCurrentShapeIdx(2);
+        myGameSpace.setCurrentShape(2);
         myGameSpace.dropCurrent(17);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, null, null, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp}
@@ -189,8 +189,8 @@ public class SPieceRotationTest {
         assertEquals(0, move[1]);
 
         // Test 1 {0, 1}
-        myPiece.setCurrentShapeIdx(2);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(2);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, null, null, temp, temp, temp, temp},
             {temp, temp, temp, null, null, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp},
@@ -201,8 +201,8 @@ public class SPieceRotationTest {
         assertEquals(1, move[1]);
 
         // Test 2 {-1, 1}
-        myPiece.setCurrentShapeIdx(2);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(2);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, null, null, temp, temp, temp, temp},
             {temp, temp, temp, null, null, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp},
@@ -213,8 +213,8 @@ public class SPieceRotationTest {
         assertEquals(1, move[1]);
 
         // Test 3 {2, 0}
-        myPiece.setCurrentShapeIdx(2);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(2);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, null, null, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, null, null, temp, temp, temp, temp},
             {temp, temp, temp, null, null, temp, temp, temp, temp, temp},
@@ -226,8 +226,8 @@ public class SPieceRotationTest {
         assertEquals(0, move[1]);
 
         // Test 4 {2, 1}
-        myPiece.setCurrentShapeIdx(2);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(2);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, null, null, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, null, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, null, temp, temp, temp, temp, temp},
@@ -247,9 +247,9 @@ public class SPieceRotationTest {
     @Test
     public void testThreeToZeroRotate() {
         // Test 0 {0, 0}
-        myPiece.setCurrentShapeIdx(3);
+        myGameSpace.setCurrentShape(3);
         myGameSpace.dropCurrent(19);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, null, null, temp, temp, temp, temp, temp}
         });
         int[] move = myPiece.rotateClockwise(myGameSpace);
@@ -257,8 +257,8 @@ public class SPieceRotationTest {
         assertEquals(0, move[1]);
 
         // Test 1 {0, -1}
-        myPiece.setCurrentShapeIdx(3);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(3);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, null, null, temp, temp, temp, temp, temp},
             {temp, temp, null, null, null, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, null, temp, temp, temp, temp, temp}
@@ -268,8 +268,8 @@ public class SPieceRotationTest {
         assertEquals(-1, move[1]);
 
         // Test 2 {1, -1}
-        myPiece.setCurrentShapeIdx(3);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(3);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, null, null, temp, temp, temp, temp, temp},
             {temp, temp, temp, null, null, temp, temp, temp, temp, temp},
             {temp, temp, null, null, null, temp, temp, temp, temp, temp}
@@ -279,8 +279,8 @@ public class SPieceRotationTest {
         assertEquals(-1, move[1]);
 
         // Test 3 {-2, 0}
-        myPiece.setCurrentShapeIdx(3);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(3);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, null, null, temp, temp, temp, temp, temp},
             {temp, temp, temp, null, null, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, null, temp, temp, temp, temp, temp}
@@ -290,8 +290,8 @@ public class SPieceRotationTest {
         assertEquals(0, move[1]);
 
         // Test 4 {-2, -1}
-        myPiece.setCurrentShapeIdx(3);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(3);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, null, null, temp, temp, temp, temp, temp},
             {temp, temp, null, null, null, temp, temp, temp, temp, temp},
             {temp, temp, temp, null, null, temp, temp, temp, temp, temp},
@@ -311,9 +311,9 @@ public class SPieceRotationTest {
     @Test
     public void testZeroToThreeRotate() {
         // Test 0 {0, 0}
-        myPiece.setCurrentShapeIdx(0);
+        myGameSpace.setCurrentShape(0);
         myGameSpace.dropCurrent(17);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, null, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp}
@@ -323,8 +323,8 @@ public class SPieceRotationTest {
         assertEquals(0, move[1]);
 
         // Test 1 {0, 1}
-        myPiece.setCurrentShapeIdx(0);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(0);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, temp, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp}
@@ -334,8 +334,8 @@ public class SPieceRotationTest {
         assertEquals(1, move[1]);
 
         // Test 2 {-1, 1}
-        myPiece.setCurrentShapeIdx(0);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(0);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, null, null, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp},
@@ -346,8 +346,8 @@ public class SPieceRotationTest {
         assertEquals(1, move[1]);
 
         // Test 3 {2, 0}
-        myPiece.setCurrentShapeIdx(0);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(0);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, null, null, temp, temp, temp, temp, temp},
             {temp, temp, temp, null, temp, temp, temp, temp, temp, temp},
             {temp, temp, temp, null, null, temp, temp, temp, temp, temp},
@@ -358,8 +358,8 @@ public class SPieceRotationTest {
         assertEquals(0, move[1]);
 
         // Test 4 {2, 1}
-        myPiece.setCurrentShapeIdx(0);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(0);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, null, null, temp, temp, temp, temp},
             {temp, temp, temp, null, null, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, null, temp, temp, temp, temp, temp},
@@ -379,9 +379,9 @@ public class SPieceRotationTest {
     @Test
     public void testThreeToTwoRotate() {
         // Test 0 {0, 0}
-        myPiece.setCurrentShapeIdx(3);
+        myGameSpace.setCurrentShape(3);
         myGameSpace.dropCurrent(18);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, null, null, null, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp}
         });
@@ -390,8 +390,8 @@ public class SPieceRotationTest {
         assertEquals(0, move[1]);
 
         // Test 1 {0, -1}
-        myPiece.setCurrentShapeIdx(3);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(3);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, null, null, null, temp, temp, temp, temp, temp},
             {temp, temp, null, null, null, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp}
@@ -401,8 +401,8 @@ public class SPieceRotationTest {
         assertEquals(-1, move[1]);
 
         // Test 2 {1, -1}
-        myPiece.setCurrentShapeIdx(3);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(3);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, null, null, temp, temp, temp, temp, temp},
             {temp, temp, temp, null, null, temp, temp, temp, temp, temp},
             {temp, temp, null, null, temp, temp, temp, temp, temp, temp}
@@ -412,8 +412,8 @@ public class SPieceRotationTest {
         assertEquals(-1, move[1]);
 
         // Test 3 {-2, 0}
-        myPiece.setCurrentShapeIdx(3);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(3);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, null, null, temp, temp, temp, temp, temp},
             {temp, temp, temp, null, null, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp}
@@ -423,8 +423,8 @@ public class SPieceRotationTest {
         assertEquals(0, move[1]);
 
         // Test 4 {-2, -1}
-        myPiece.setCurrentShapeIdx(3);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(3);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, null, null, temp, temp, temp, temp, temp},
             {temp, temp, null, null, null, temp, temp, temp, temp, temp},
             {temp, temp, temp, null, null, temp, temp, temp, temp, temp},
@@ -444,9 +444,9 @@ public class SPieceRotationTest {
     @Test
     public void testTwoToOneRotate() {
         // Test 0 {0, 0}
-        myPiece.setCurrentShapeIdx(2);
+        myGameSpace.setCurrentShape(2);
         myGameSpace.dropCurrent(17);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, null, null, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp}
@@ -456,8 +456,8 @@ public class SPieceRotationTest {
         assertEquals(0, move[1]);
 
         // Test 1 {0, -1}
-        myPiece.setCurrentShapeIdx(2);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(2);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, null, null, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp}
@@ -467,8 +467,8 @@ public class SPieceRotationTest {
         assertEquals(-1, move[1]);
 
         // Test 2 {-1, -1}
-        myPiece.setCurrentShapeIdx(2);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(2);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, null, null, temp, temp, temp, temp},
             {temp, temp, temp, null, null, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp},
@@ -479,8 +479,8 @@ public class SPieceRotationTest {
         assertEquals(-1, move[1]);
 
         // Test 3 {2, 0}
-        myPiece.setCurrentShapeIdx(2);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(2);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, null, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, null, null, temp, temp, temp, temp},
             {temp, temp, temp, null, null, temp, temp, temp, temp, temp},
@@ -492,8 +492,8 @@ public class SPieceRotationTest {
         assertEquals(0, move[1]);
 
         // Test 4 {2, -1}
-        myPiece.setCurrentShapeIdx(2);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(2);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, null, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, null, null, temp, temp, temp, temp},
             {temp, temp, temp, null, null, temp, temp, temp, temp, temp},
@@ -513,9 +513,9 @@ public class SPieceRotationTest {
     @Test
     public void testOneToZeroRotate() {
         // Test 0 {0, 0}
-        myPiece.setCurrentShapeIdx(1);
+        myGameSpace.setCurrentShape(1);
         myGameSpace.dropCurrent(19);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, temp, null, temp, temp, temp, temp}
         });
         int[] move = myPiece.rotateCounterclockwise(myGameSpace);
@@ -523,8 +523,8 @@ public class SPieceRotationTest {
         assertEquals(0, move[1]);
 
         // Test 1 {0, 1}
-        myPiece.setCurrentShapeIdx(1);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(1);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, null, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, null, temp, temp, temp, temp}
         });
@@ -533,8 +533,8 @@ public class SPieceRotationTest {
         assertEquals(1, move[1]);
 
         // Test 2 {1, 1}
-        myPiece.setCurrentShapeIdx(1);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(1);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, null, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, null, null, null, temp, temp, temp},
             {temp, temp, temp, temp, null, null, temp, temp, temp, temp}
@@ -544,8 +544,8 @@ public class SPieceRotationTest {
         assertEquals(1, move[1]);
 
         // Test 3 {-2, 0}
-        myPiece.setCurrentShapeIdx(1);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(1);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, null, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, null, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, null, temp, temp, temp, temp}
@@ -555,8 +555,8 @@ public class SPieceRotationTest {
         assertEquals(0, move[1]);
 
         // Test 4 {-2, 1}
-        myPiece.setCurrentShapeIdx(1);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(1);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, null, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, null, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, null, null, temp, temp, temp, temp},
@@ -568,24 +568,24 @@ public class SPieceRotationTest {
     }
 
     /**
-     * Test for {@link SPiece#isValidRotate(PieceUnit[][], int)}.
+     * Test for {@link SPiece#fits(Board, int, int, int)}.
      * Test whether this method recognize valid and invlaid rotate.
      */
     @Test
-    public void testIsValidRotate() {
+    public void testFits() {
         // Valid rotate
         PieceUnit[][] surrounding = new PieceUnit[][]{
             {temp, null, temp},
             {temp, null, null},
             {temp, temp, null}
         };
-        assertTrue(myPiece.isValidRotate(surrounding, 1));
+        assertTrue(TestHelper.fits(myPiece, surrounding, 1));
         // Invalid rotate
         surrounding = new PieceUnit[][]{
             {temp, temp, temp},
             {temp, null, null},
             {null, null, temp}
         };
-        assertFalse(myPiece.isValidRotate(surrounding, 1));
+        assertFalse(TestHelper.fits(myPiece, surrounding, 1));
     }
 }
@@ -1,15 +1,309 @@
 package com.tetris.model;
 
+import static org.junit.Assert.assertEquals;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
 import org.junit.Test;
 
+/**
+ * Test for {@link ScoreCounter}.
+ * Test whether every kind of line clear is scored the same way the game always has,
+ * including the rules that look odd, so the scores of old replays don't change.
+ *
+ * @author Jiameng Li
+ * @version 1.0
+ */
 public class ScoreCounterTest {
+
+    /** The flags of a Tetris: mini T-spin, full T-spin, and wall kick. */
+    private static final boolean[] TETRIS = {false, false, false};
+
+    /** The flags of a full T-spin double without a wall kick. */
+    private static final boolean[] T_SPIN_DOUBLE = {false, true, false};
+
+    /** The flags of a mini T-spin without a wall kick. */
+    private static final boolean[] MINI_T_SPIN = {true, false, false};
+
+    /** The score counter used to test. */
+    private ScoreCounter myCounter;
+
+    /**
+     * Create a new score counter before each test.
+     */
+    @Before
+    public void setup() {
+        myCounter = new ScoreCounter();
+    }
+
+    /**
+     * Test for {@link ScoreCounter#addLine(int, boolean, boolean, boolean)} with regular line clears.
+     * Test whether single, double, triple, and Tetris are scored and a regular clear ends a back-to-back chain.
+     */
     @Test
     public void testAddLine() {
+        assertEquals(100, addLine(1, false, false, false));
+        assertEquals(300, addLine(2, false, false, false));
+        assertEquals(500, addLine(3, false, false, false));
+        assertEquals(0, myCounter.getLevel());
+        assertEquals(800, addLine(4, false, false, false));
+        // The level is raised after the clear is scored
+        assertEquals(1, myCounter.getLevel());
+        assertEquals(200, addLine(1, false, false, false));
+        assertEquals(1600, addLine(4, false, false, false));
+        assertEquals(0, addLine(0, false, false, false));
+        assertEquals(15, myCounter.getLine());
+    }
 
+    /**
+     * Test for {@link ScoreCounter#addLine(int, boolean, boolean, boolean)} with T-spins.
+     * Test whether full and mini T-spins are scored, with and without a wall kick.
+     */
+    @Test
+    public void testAddLineTSpin() {
+        assertEquals(400, tSpinAfterSingle(0, false, true, false));
+        assertEquals(100, tSpinAfterSingle(0, false, true, true));
+        assertEquals(800, tSpinAfterSingle(1, false, true, false));
+        assertEquals(200, tSpinAfterSingle(1, false, true, true));
+        assertEquals(1200, tSpinAfterSingle(2, false, true, false));
+        assertEquals(1200, tSpinAfterSingle(2, false, true, true));
+        assertEquals(1600, tSpinAfterSingle(3, false, true, false));
+        assertEquals(400, tSpinAfterSingle(2, true, false, false));
+        // A mini T-spin single is scored as a full T-spin single
+        assertEquals(800, tSpinAfterSingle(1, true, false, false));
+        assertEquals(200, tSpinAfterSingle(1, true, false, true));
+        // A mini T-spin without lines is not scored and doesn't start a back-to-back chain
+        assertEquals(0, tSpinAfterSingle(0, true, false, false));
+        assertEquals(800, addLine(4, false, false, false));
+    }
+
+    /**
+     * Test for {@link ScoreCounter#addLine(int, boolean, boolean, boolean)} with back-to-back clears.
+     * Test whether the same clear again has a fixed bonus and a different difficult clear scores half as much again.
+     */
+    @Test
+    public void testAddLineBackToBack() {
+        assertEquals(1200, backToBack(TETRIS, TETRIS));
+        assertEquals(1800, backToBack(T_SPIN_DOUBLE, T_SPIN_DOUBLE));
+        assertEquals(1800, backToBack(TETRIS, T_SPIN_DOUBLE));
+        assertEquals(1200, backToBack(T_SPIN_DOUBLE, TETRIS));
+        assertEquals(2400, backToBack(T_SPIN_DOUBLE, new boolean[]{false, true, true}, 3));
+        assertEquals(1200, backToBack(T_SPIN_DOUBLE, new boolean[]{false, true, false}, 1));
+        assertEquals(600, backToBack(T_SPIN_DOUBLE, new boolean[]{false, true, false}, 0));
+        assertEquals(600, backToBack(T_SPIN_DOUBLE, MINI_T_SPIN, 2));
+        // The same full T-spin without lines again only gets the bonus for its line count
+        myCounter.addLine(0, false, true, false);
+        assertEquals(600, addLine(0, false, true, true));
+        // The same mini T-spin again gets 300 for each line
+        myCounter = new ScoreCounter();
+        assertEquals(400, addLine(2, true, false, false));
+        assertEquals(600, addLine(2, true, false, false));
+        // A mini T-spin single after a different difficult clear is scored as a regular single
+        assertEquals(150, backToBack(TETRIS, MINI_T_SPIN, 1));
+        myCounter.addLine(1, true, false, false);
+        assertEquals(300, addLine(1, true, false, true));
+        // A regular clear ends the chain
+        myCounter = new ScoreCounter();
+        assertEquals(800, addLine(4, false, false, false));
+        assertEquals(100, addLine(1, false, false, false));
+        assertEquals(800, addLine(4, false, false, false));
+    }
+
+    /**
+     * Test for {@link ScoreCounter#addLine(int, boolean, boolean, boolean)} at a higher level.
+     * Test whether a different back-to-back clear is scaled by the level and the same clear again is not.
+     */
+    @Test
+    public void testAddLineLevel() {
+        for (int i = 0; i < 5; i++) {
+            myCounter.addLine(2, false, false, false);
+        }
+        assertEquals(1, myCounter.getLevel());
+        assertEquals(1600, addLine(4, false, false, false));
+        assertEquals(1200, addLine(4, false, false, false));
+        assertEquals(3600, addLine(2, false, true, false));
+        assertEquals(1800, addLine(2, false, true, false));
+        assertEquals(2, myCounter.getLevel());
+        assertEquals(1200, addLine(1, false, false, false) + addLine(1, false, false, false) 
+                           + addLine(1, false, false, false) + addLine(1, false, false, false));
+    }
+
+    /**
+     * Test for the level and speed of {@link ScoreCounter}.
+     * Test whether the level is raised once for every 10 lines and the speed follows the level.
+     */
+    @Test
+    public void testLevel() {
+        final int[] speeds = {790, 710, 630, 550, 470, 390, 310, 230, 150, 120, 100, 100, 100, 80, 80, 80, 60,
+                              60, 60, 40, 40, 40, 40, 40, 40, 40, 40, 40, 40, 20, 20};
+        for (int level = 0; level < speeds.length; level++) {
+            assertEquals(level, myCounter.getLevel());
+            assertEquals(speeds[level], myCounter.getSpeed());
+            for (int i = 0; i < 5; i++) {
+                myCounter.addLine(2, false, false, false);
+            }
+        }
+        assertEquals(speeds.length * 10, myCounter.getLine());
     }
 
+    /**
+     * Test for {@link ScoreCounter#addScore(long)}.
+     * Test whether soft and hard drop points are added without affecting lines or level, and never overflow.
+     */
+    @Test
+    public void testAddScore() {
+        myCounter.addScore(1);
+        myCounter.addScore(40);
+        assertEquals(41, myCounter.getScore());
+        assertEquals(0, myCounter.getLine());
+        assertEquals(0, myCounter.getLevel());
+        // Long games score more than an int can hold
+        myCounter.addScore(Integer.MAX_VALUE);
+        myCounter.addScore(Integer.MAX_VALUE);
+        assertEquals(41 + 2L * Integer.MAX_VALUE, myCounter.getScore());
+    }
+
+    /**
+     * Test for {@link ScoreCounter#reset()}.
+     * Test whether the score, level, lines, speed, and back-to-back record are reset,
+     * so the first Tetris of a new game isn't scored as back-to-back.
+     */
     @Test
     public void testReset() {
+        for (int i = 0; i < 3; i++) {
+            myCounter.addLine(4, false, false, false);
+        }
+        myCounter.reset();
+        assertEquals(0, myCounter.getScore());
+        assertEquals(0, myCounter.getLevel());
+        assertEquals(0, myCounter.getLine());
+        assertEquals(ScoreCounter.INIT_SPEED, myCounter.getSpeed());
+        assertEquals(800, addLine(4, false, false, false));
+        assertEquals(1200, addLine(4, false, false, false));
+    }
+
+    /**
+     * Test for {@link ScoreCounter#save(ByteBuffer)} and {@link ScoreCounter#load(ByteBuffer)}.
+     * Test whether a loaded counter continues with the same score, level, and back-to-back record.
+     */
+    @Test
+    public void testSaveLoad() {
+        for (int i = 0; i < 4; i++) {
+            myCounter.addLine(4, false, false, false);
+        }
+        final ByteBuffer buffer = ByteBuffer.allocate(64);
+        myCounter.save(buffer);
+        buffer.flip();
+        final ScoreCounter loaded = new ScoreCounter();
+        loaded.load(buffer);
+        assertEquals(myCounter.getScore(), loaded.getScore());
+        assertEquals(myCounter.getLevel(), loaded.getLevel());
+        assertEquals(myCounter.getLine(), loaded.getLine());
+        assertEquals(myCounter.getSpeed(), loaded.getSpeed());
+        final long before = loaded.getScore();
+        loaded.addLine(4, false, false, false);
+        assertEquals(1200, loaded.getScore() - before);
+    }
+
+    /**
+     * Test for {@link ScoreCounter#setGameEventListener(GameEventListener)}.
+     * Test whether the score, level, and type of every scored line clear are reported to the listener.
+     */
+    @Test
+    public void testGameEventListener() {
+        final List<ClearType> types = new ArrayList<>();
+        final long[] score = new long[1];
+        final int[] level = new int[1];
+        myCounter.setGameEventListener(new GameEventListener() {
+            @Override
+            public void onScore(final long theScore) {
+                score[0] = theScore;
+            }
+
+            @Override
+            public void onLevel(final int theLevel) {
+                level[0] = theLevel;
+            }
 
+            @Override
+            public void onLinesCleared(final int theLines, final ClearType theType) {
+                assertEquals(theType.getLines(), theLines);
+                types.add(theType);
+            }
+        });
+        myCounter.addScore(5);
+        assertEquals(5, score[0]);
+        myCounter.addLine(0, true, false, false);
+        myCounter.addLine(0, false, true, false);
+        myCounter.addLine(1, false, false, false);
+        myCounter.addLine(4, false, false, false);
+        myCounter.addLine(2, true, false, false);
+        myCounter.addLine(3, false, true, true);
+        assertEquals(List.of(ClearType.T_SPIN, ClearType.SINGLE, ClearType.TETRIS, ClearType.MINI_T_SPIN_DOUBLE,
+                             ClearType.T_SPIN_TRIPLE), types);
+        assertEquals(myCounter.getScore(), score[0]);
+        assertEquals(1, level[0]);
+        assertEquals(ClearType.TRIPLE, ClearType.of(TPiece.MINI_T_SPIN, 3));
     }
+
+    /**
+     * Add a line clear to the counter.
+     *
+     * @param theLine Number of lines cleared.
+     * @param theMiniT Whether a mini T-spin is performed.
+     * @param theFullT Whether a full T-spin is performed.
+     * @param theKick Whether a wall kick is performed.
+     * @return The score of the line clear.
+     */
+    private long addLine(final int theLine, final boolean theMiniT, final boolean theFullT, final boolean theKick) {
+        final long before = myCounter.getScore();
+        myCounter.addLine(theLine, theMiniT, theFullT, theKick);
+        return myCounter.getScore() - before;
+    }
+
+    /**
+     * Add a line clear after a single, so it is never part of a back-to-back chain.
+     *
+     * @param theLine Number of lines cleared.
+     * @param theMiniT Whether a mini T-spin is performed.
+     * @param theFullT Whether a full T-spin is performed.
+     * @param theKick Whether a wall kick is performed.
+     * @return The score of the line clear.
+     */
+    private long tSpinAfterSingle(final int theLine, final boolean theMiniT, final boolean theFullT,
+                                  final boolean theKick) {
+        myCounter = new ScoreCounter();
+        myCounter.addLine(1, false, false, false);
+        return addLine(theLine, theMiniT, theFullT, theKick);
+    }
+
+    /**
+     * Add a line clear to a new counter right after another line clear, where both
+     * clear four lines if a Tetris, and two lines if a T-spin double.
+     *
+     * @param theFirst The flags of the first clear.
+     * @param theSecond The flags of the second clear.
+     * @return The score of the second clear.
+     */
+    private long backToBack(final boolean[] theFirst, final boolean[] theSecond) {
+        return backToBack(theFirst, theSecond, theSecond == TETRIS ? 4 : 2);
+    }
+
+    /**
+     * Add a line clear to a new counter right after another line clear.
+     *
+     * @param theFirst The flags of the first clear, which clears four lines if a Tetris and two otherwise.
+     * @param theSecond The flags of the second clear.
+     * @param theLine Number of lines cleared by the second clear.
+     * @return The score of the second clear.
+     */
+    private long backToBack(final boolean[] theFirst, final boolean[] theSecond, final int theLine) {
+        myCounter = new ScoreCounter();
+        myCounter.addLine(theFirst == TETRIS ? 4 : 2, theFirst[0], theFirst[1], theFirst[2]);
+        return addLine(theLine, theSecond[0], theSecond[1], theSecond[2]);
+    }
+
 }
@@ -0,0 +1,179 @@
+package com.tetris.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.event.KeyEvent;
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test for the key bindings of {@link Setting}.
+ * Test whether the table of the operation bound to each key code follows every change of the keys.
+ * 
+ * @author Jiameng Li
+ * @version 1.0
+ */
+public class SettingTest {
+
+    /** The setting used to test. */
+    private Setting mySetting;
+
+    /**
+     * Create a new setting before each test.
+     */
+    @Before
+    public void setup() {
+        mySetting = new Setting();
+    }
+
+    /**
+     * Test whether every default key is bound to its operation.
+     */
+    @Test
+    public void testDefaultKeys() {
+        for (final KeyAction action : KeyAction.values()) {
+            assertEquals(action.getDefaultKey(), mySetting.getKey(action.getName()));
+            assertEquals(action.ordinal(), mySetting.getAction(action.getDefaultKey()));
+        }
+        assertEquals(KeyAction.values().length, mySetting.getAllOperations().size());
+    }
+
+    /**
+     * Test whether key codes that aren't bound or are out of range have no operation.
+     */
+    @Test
+    public void testNoAction() {
+        assertEquals(Setting.NO_ACTION, mySetting.getAction(KeyEvent.VK_Q));
+        assertEquals(Setting.NO_ACTION, mySetting.getAction(-1));
+        assertEquals(Setting.NO_ACTION, mySetting.getAction(0x10000));
+    }
+
+    /**
+     * Test whether a key code larger than every key bound so far can be bound.
+     */
+    @Test
+    public void testLargeKeyCode() {
+        assertTrue(mySetting.addKey("Hold", KeyEvent.VK_F12));
+        assertEquals(KeyAction.HOLD.ordinal(), mySetting.getAction(KeyEvent.VK_F12));
+        assertEquals(Setting.NO_ACTION, mySetting.getAction(KeyEvent.VK_F12 + 1));
+        assertEquals(KeyAction.HOLD.ordinal(), mySetting.getAction(KeyEvent.VK_L));
+    }
+
+    /**
+     * Test whether the shared headless setting has the default keys and can't be changed.
+     */
+    @Test(expected = UnsupportedOperationException.class)
+    public void testHeadlessReadOnly() {
+        assertEquals(KeyAction.HOLD.ordinal(), Setting.HEADLESS.getAction(KeyEvent.VK_L));
+        Setting.HEADLESS.setKey("Hold", KeyEvent.VK_H);
+    }
+
+    /**
+     * Test whether changing a key rebinds the new key and unbinds the old one.
+     */
+    @Test
+    public void testSetKey() {
+        mySetting.setKey("Hard Drop", KeyEvent.VK_W);
+        assertEquals(KeyEvent.VK_W, mySetting.getKey("Hard Drop"));
+        assertEquals(KeyAction.HARD_DROP.ordinal(), mySetting.getAction(KeyEvent.VK_W));
+        assertEquals(Setting.NO_ACTION, mySetting.getAction(KeyEvent.VK_SPACE));
+        assertFalse(mySetting.getAllKeys().contains(KeyEvent.VK_SPACE));
+    }
+
+    /**
+     * Test whether changing a key to one bound to another operation takes it from that operation,
+     * unless it is the only key of that operation.
+     */
+    @Test
+    public void testSetKeyTaken() {
+        mySetting.addKey("Shift Left", KeyEvent.VK_LEFT);
+        assertTrue(mySetting.setKey("Shift Right", KeyEvent.VK_LEFT));
+        assertEquals(Arrays.asList(KeyEvent.VK_LEFT), mySetting.getKeys("Shift Right"));
+        assertEquals(Arrays.asList(KeyEvent.VK_A), mySetting.getKeys("Shift Left"));
+        assertEquals(KeyAction.SHIFT_RIGHT.ordinal(), mySetting.getAction(KeyEvent.VK_LEFT));
+        assertEquals(Setting.NO_ACTION, mySetting.getAction(KeyEvent.VK_D));
+
+        assertFalse(mySetting.setKey("Shift Right", KeyEvent.VK_A));
+        assertEquals(KeyEvent.VK_LEFT, mySetting.getKey("Shift Right"));
+        assertEquals(KeyAction.SHIFT_LEFT.ordinal(), mySetting.getAction(KeyEvent.VK_A));
+    }
+
+    /**
+     * Test whether changing a key to a secondary key of the same operation replaces the first key.
+     */
+    @Test
+    public void testSetKeySecondary() {
+        mySetting.addKey("Hold", KeyEvent.VK_H);
+        mySetting.addKey("Hold", KeyEvent.VK_C);
+        assertTrue(mySetting.setKey("Hold", KeyEvent.VK_C));
+        assertEquals(Arrays.asList(KeyEvent.VK_C, KeyEvent.VK_H), mySetting.getKeys("Hold"));
+        assertEquals(Setting.NO_ACTION, mySetting.getAction(KeyEvent.VK_L));
+        assertTrue(mySetting.setKey("Hold", KeyEvent.VK_C));
+        assertEquals(Arrays.asList(KeyEvent.VK_C, KeyEvent.VK_H), mySetting.getKeys("Hold"));
+    }
+
+    /**
+     * Test whether an unknown operation changes nothing.
+     */
+    @Test
+    public void testSetKeyUnknownOperation() {
+        assertFalse(mySetting.setKey("Jump", KeyEvent.VK_W));
+        assertEquals(Setting.NO_ACTION, mySetting.getAction(KeyEvent.VK_W));
+        assertFalse(mySetting.addKey("Jump", KeyEvent.VK_W));
+    }
+
+    /**
+     * Test whether several keys can be bound to one operation, the first staying the one shown.
+     */
+    @Test
+    public void testAddKey() {
+        assertTrue(mySetting.addKey("Shift Left", KeyEvent.VK_LEFT));
+        assertEquals(Arrays.asList(KeyEvent.VK_A, KeyEvent.VK_LEFT), mySetting.getKeys("Shift Left"));
+        assertEquals(KeyEvent.VK_A, mySetting.getKey("Shift Left"));
+        assertEquals(KeyAction.SHIFT_LEFT.ordinal(), mySetting.getAction(KeyEvent.VK_A));
+        assertEquals(KeyAction.SHIFT_LEFT.ordinal(), mySetting.getAction(KeyEvent.VK_LEFT));
+        assertTrue(mySetting.getAllKeys().contains(KeyEvent.VK_LEFT));
+    }
+
+    /**
+     * Test whether adding a key takes it from the operation it was bound to,
+     * unless it is the only key of that operation.
+     */
+    @Test
+    public void testAddKeyTaken() {
+        mySetting.addKey("Shift Left", KeyEvent.VK_LEFT);
+        assertTrue(mySetting.addKey("Shift Right", KeyEvent.VK_LEFT));
+        assertEquals(Arrays.asList(KeyEvent.VK_A), mySetting.getKeys("Shift Left"));
+        assertEquals(KeyAction.SHIFT_RIGHT.ordinal(), mySetting.getAction(KeyEvent.VK_LEFT));
+
+        assertFalse(mySetting.addKey("Shift Right", KeyEvent.VK_A));
+        assertEquals(KeyAction.SHIFT_LEFT.ordinal(), mySetting.getAction(KeyEvent.VK_A));
+    }
+
+    /**
+     * Test whether removing a key unbinds it, but never the last key of an operation.
+     */
+    @Test
+    public void testRemoveKey() {
+        mySetting.addKey("Soft Drop", KeyEvent.VK_DOWN);
+        mySetting.removeKey("Soft Drop", KeyEvent.VK_S);
+        assertEquals(KeyEvent.VK_DOWN, mySetting.getKey("Soft Drop"));
+        assertEquals(Setting.NO_ACTION, mySetting.getAction(KeyEvent.VK_S));
+
+        mySetting.removeKey("Soft Drop", KeyEvent.VK_DOWN);
+        assertEquals(KeyAction.SOFT_DROP.ordinal(), mySetting.getAction(KeyEvent.VK_DOWN));
+    }
+
+    /**
+     * Test whether the keys of an operation can't be changed from outside.
+     */
+    @Test(expected = UnsupportedOperationException.class)
+    public void testGetKeysUnmodifiable() {
+        mySetting.getKeys("Hold").add(KeyEvent.VK_H);
+    }
+
+}
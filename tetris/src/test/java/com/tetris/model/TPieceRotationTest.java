@@ -43,9 +43,9 @@ public class TPieceRotationTest {
     @Test
     public void testZeroToOneRotate() {
         // Test 0 {0, 0}
-        myPiece.setCurrentShapeIdx(0);
+        myGameSpace.setCurrentShape(0);
         myGameSpace.dropCurrent(17);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, null, null, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp}
@@ -55,8 +55,8 @@ public class TPieceRotationTest {
         assertEquals(0, move[1]);
 
         // Test 1 {0, -1}
-        myPiece.setCurrentShapeIdx(0);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(0);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, null, temp, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp}
@@ -66,8 +66,8 @@ public class TPieceRotationTest {
         assertEquals(-1, move[1]);
 
         // Test 2 {-1, -1}
-        myPiece.setCurrentShapeIdx(0);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(0);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, null, null, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp},
@@ -80,8 +80,8 @@ public class TPieceRotationTest {
         // Test 3 {2, 0} is not possible for T-piece in real life, so skip.
 
         // Test 4 {2, -1}
-        myPiece.setCurrentShapeIdx(0);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(0);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, null, null, null, temp, temp, temp},
             {temp, temp, temp, null, null, null, null, temp, temp, temp},
             {temp, temp, temp, null, temp, temp, temp, temp, temp, temp},
@@ -101,9 +101,9 @@ public class TPieceRotationTest {
     @Test
     public void testOneToTwoRotate() {
         // Test 0 {0, 0}
-        myPiece.setCurrentShapeIdx(1);
+        myGameSpace.setCurrentShape(1);
         myGameSpace.dropCurrent(18);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, null, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp}
         });
@@ -112,8 +112,8 @@ public class TPieceRotationTest {
         assertEquals(0, move[1]);
 
         // Test 1 {0, 1}
-        myPiece.setCurrentShapeIdx(1);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(1);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, temp, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp}
         });
@@ -122,8 +122,8 @@ public class TPieceRotationTest {
         assertEquals(1, move[1]);
 
         // Test 2 {1, 1}
-        myPiece.setCurrentShapeIdx(1);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(1);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, null, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, null, null, null, temp, temp, temp},
             {temp, temp, temp, temp, temp, null, temp, temp, temp, temp}
@@ -133,8 +133,8 @@ public class TPieceRotationTest {
         assertEquals(1, move[1]);
 
         // Test 3 {-2, 0}
-        myPiece.setCurrentShapeIdx(1);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(1);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, null, null, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, null, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, null, null, temp, temp, temp, temp},
@@ -146,8 +146,8 @@ public class TPieceRotationTest {
         assertEquals(0, move[1]);
 
         // Test 4 {-2, 1}
-        myPiece.setCurrentShapeIdx(1);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(1);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, null, null, null, temp, temp, temp},
             {temp, temp, temp, temp, null, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, null, null, temp, temp, temp, temp},
@@ -167,9 +167,9 @@ public class TPieceRotationTest {
     @Test
     public void testTwoToThreeRotate() {
         // Test 0 {0, 0}
-        myPiece.setCurrentShapeIdx(2);
+        myGameSpace.setCurrentShape(2);
         myGameSpace.dropCurrent(17);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, null, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp}
@@ -179,8 +179,8 @@ public class TPieceRotationTest {
         assertEquals(0, move[1]);
 
         // Test 1 {0, 1}
-        myPiece.setCurrentShapeIdx(2);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(2);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, temp, null, null, null, temp, temp},
             {temp, temp, temp, null, null, null, null, null, temp, temp},
             {temp, temp, temp, temp, null, null, null, null, temp, temp},
@@ -194,8 +194,8 @@ public class TPieceRotationTest {
         // Test 2 {-1, 1} is not possible for T-piece in real life, so skip.
 
         // Test 3 {2, 0}
-        myPiece.setCurrentShapeIdx(2);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(2);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, temp, temp, null, null, temp, temp},
             {temp, temp, temp, null, null, null, null, null, temp, temp},
             {temp, temp, temp, temp, null, null, null, null, temp, temp},
@@ -207,8 +207,8 @@ public class TPieceRotationTest {
         assertEquals(0, move[1]);
 
         // Test 4 {2, 1}
-        myPiece.setCurrentShapeIdx(2);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(2);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, temp, temp, null, null, temp, temp},
             {temp, temp, temp, null, null, null, null, null, temp, temp},
             {temp, temp, temp, temp, null, null, null, null, temp, temp},
@@ -228,9 +228,9 @@ public class TPieceRotationTest {
     @Test
     public void testThreeToZeroRotate() {
         // Test 0 {0, 0}
-        myPiece.setCurrentShapeIdx(3);
+        myGameSpace.setCurrentShape(3);
         myGameSpace.dropCurrent(19);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, null, temp, temp, temp, temp, temp}
         });
         int[] move = myPiece.rotateClockwise(myGameSpace);
@@ -238,8 +238,8 @@ public class TPieceRotationTest {
         assertEquals(0, move[1]);
 
         // Test 1 {0, -1}
-        myPiece.setCurrentShapeIdx(3);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(3);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, null, null, null, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, null, temp, temp, temp, temp, temp}
         });
@@ -248,8 +248,8 @@ public class TPieceRotationTest {
         assertEquals(-1, move[1]);
 
         // Test 2 {1, -1}
-        myPiece.setCurrentShapeIdx(3);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(3);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, null, null, temp, temp, temp, temp, temp},
             {temp, temp, null, null, null, temp, temp, temp, temp, temp}
         });
@@ -258,8 +258,8 @@ public class TPieceRotationTest {
         assertEquals(-1, move[1]);
 
         // Test 3 {-2, 0}
-        myPiece.setCurrentShapeIdx(3);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(3);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, null, null, null, temp, temp, temp, temp},
             {temp, temp, temp, null, null, temp, temp, temp, temp, temp},
             {temp, temp, temp, null, null, temp, temp, temp, temp, temp},
@@ -270,8 +270,8 @@ public class TPieceRotationTest {
         assertEquals(0, move[1]);
 
         // Test 4 {-2, -1}
-        myPiece.setCurrentShapeIdx(3);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(3);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, null, null, null, temp, temp, temp, temp, temp},
             {temp, temp, temp, null, null, temp, temp, temp, temp, temp},
             {temp, temp, temp, null, null, temp, temp, temp, temp, temp},
@@ -290,9 +290,9 @@ public class TPieceRotationTest {
     @Test
     public void testZeroToThreeRotate() {
         // Test 0 {0, 0}
-        myPiece.setCurrentShapeIdx(0);
+        myGameSpace.setCurrentShape(0);
         myGameSpace.dropCurrent(17);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, null, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp}
@@ -302,8 +302,8 @@ public class TPieceRotationTest {
         assertEquals(0, move[1]);
 
         // Test 1 {0, 1}
-        myPiece.setCurrentShapeIdx(0);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(0);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, temp, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp}
@@ -313,8 +313,8 @@ public class TPieceRotationTest {
         assertEquals(1, move[1]);
 
         // Test 2 {-1, 1}
-        myPiece.setCurrentShapeIdx(0);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(0);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, null, null, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp},
@@ -327,8 +327,8 @@ public class TPieceRotationTest {
         // Test 3 {2, 0} is not possible for T-piece in real life, so skip.
 
         // Test 4 {2, 1}
-        myPiece.setCurrentShapeIdx(0);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(0);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, null, null, null, temp, temp, temp, temp, temp},
             {temp, temp, null, null, null, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, null, temp, temp, temp, temp},
@@ -348,9 +348,9 @@ public class TPieceRotationTest {
     @Test
     public void testThreeToTwoRotate() {
         // Test 0 {0, 0}
-        myPiece.setCurrentShapeIdx(3);
+        myGameSpace.setCurrentShape(3);
         myGameSpace.dropCurrent(18);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, null, null, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp}
         });
@@ -359,8 +359,8 @@ public class TPieceRotationTest {
         assertEquals(0, move[1]);
 
         // Test 1 {0, -1}
-        myPiece.setCurrentShapeIdx(3);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(3);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, null, null, null, temp, temp, temp, temp, temp},
             {temp, temp, temp, null, null, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp}
@@ -370,8 +370,8 @@ public class TPieceRotationTest {
         assertEquals(-1, move[1]);
 
         // Test 2 {1, -1}
-        myPiece.setCurrentShapeIdx(3);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(3);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, null, null, temp, temp, temp, temp, temp},
             {temp, temp, null, null, null, temp, temp, temp, temp, temp},
             {temp, temp, temp, null, temp, temp, temp, temp, temp, temp}
@@ -381,8 +381,8 @@ public class TPieceRotationTest {
         assertEquals(-1, move[1]);
 
         // Test 3 {-2, 0}
-        myPiece.setCurrentShapeIdx(3);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(3);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, null, null, temp, temp, temp, temp, temp},
             {temp, temp, temp, null, null, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp}
@@ -392,8 +392,8 @@ public class TPieceRotationTest {
         assertEquals(0, move[1]);
 
         // Test 4 {-2, -1}
-        myPiece.setCurrentShapeIdx(3);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(3);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, null, null, null, temp, temp, temp, temp, temp},
             {temp, temp, temp, null, null, temp, temp, temp, temp, temp},
             {temp, temp, temp, null, null, temp, temp, temp, temp, temp},
@@ -413,9 +413,9 @@ public class TPieceRotationTest {
     @Test
     public void testTwoToOneRotate() {
         // Test 0 {0, 0}
-        myPiece.setCurrentShapeIdx(2);
+        myGameSpace.setCurrentShape(2);
         myGameSpace.dropCurrent(17);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, null, null, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp}
@@ -425,8 +425,8 @@ public class TPieceRotationTest {
         assertEquals(0, move[1]);
 
         // Test 1 {0, -1}
-        myPiece.setCurrentShapeIdx(2);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(2);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, null, null, null, temp, temp, temp, temp, temp, temp},
             {temp, null, null, null, null, null, temp, temp, temp, temp},
             {temp, temp, null, null, null, temp, temp, temp, temp, temp},
@@ -440,8 +440,8 @@ public class TPieceRotationTest {
         // Test 2 {-1, -1} is not possible for T-piece in real life, so skip.
 
         // Test 3 {2, 0}
-        myPiece.setCurrentShapeIdx(2);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(2);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {null, null, null, temp, temp, temp, temp, temp, temp, temp},
             {null, null, null, null, null, null, temp, temp, temp, temp},
             {temp, null, null, null, null, temp, temp, temp, temp, temp},
@@ -453,8 +453,8 @@ public class TPieceRotationTest {
         assertEquals(0, move[1]);
         
         // Test 4 {2, -1}
-        myPiece.setCurrentShapeIdx(2);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(2);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {null, null, null, temp, temp, temp, temp, temp, temp, temp},
             {null, null, null, null, null, null, temp, temp, temp, temp},
             {temp, null, null, null, null, temp, temp, temp, temp, temp},
@@ -474,9 +474,9 @@ public class TPieceRotationTest {
     @Test
     public void testOneToZeroRotate() {
         // Test 0 {0, 0}
-        myPiece.setCurrentShapeIdx(1);
+        myGameSpace.setCurrentShape(1);
         myGameSpace.dropCurrent(18);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, null, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp}
         });
@@ -485,8 +485,8 @@ public class TPieceRotationTest {
         assertEquals(0, move[1]);
 
         // Test 1 {0, 1}
-        myPiece.setCurrentShapeIdx(1);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(1);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, null, null, null, temp, temp, temp},
             {temp, temp, temp, temp, null, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp}
@@ -496,8 +496,8 @@ public class TPieceRotationTest {
         assertEquals(1, move[1]);
 
         // Test 2 {1, 1}
-        myPiece.setCurrentShapeIdx(1);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(1);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, null, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, null, null, null, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp}
@@ -507,8 +507,8 @@ public class TPieceRotationTest {
         assertEquals(1, move[1]);
 
         // Test 3 {-2, 0}
-        myPiece.setCurrentShapeIdx(1);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(1);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, null, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, null, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, temp, temp, temp, temp, temp, temp}
@@ -518,8 +518,8 @@ public class TPieceRotationTest {
         assertEquals(0, move[1]);
 
         // Test 4 {-2, 1}
-        myPiece.setCurrentShapeIdx(1);
-        TestHelper.copySurrounding(myGameSpace.getPieces(), new PieceUnit[][]{
+        myGameSpace.setCurrentShape(1);
+        TestHelper.copySurrounding(myGameSpace, new PieceUnit[][]{
             {temp, temp, temp, temp, null, null, null, temp, temp, temp},
             {temp, temp, temp, temp, null, null, temp, temp, temp, temp},
             {temp, temp, temp, temp, null, null, temp, temp, temp, temp},
@@ -532,25 +532,25 @@ public class TPieceRotationTest {
     }
 
     /**
-     * Test for {@link TPiece#isValidRotate(PieceUnit[][], int)}.
+     * Test for {@link TPiece#fits(Board, int, int, int)}.
      * Test whether this method recognize valid and invlaid rotate.
      */
     @Test
-    public void testIsValidRotate() {
+    public void testFits() {
         // Valid rotate
         PieceUnit[][] surrounding = new PieceUnit[][]{
             {temp, null, temp},
             {null, null, null},
             {temp, temp, temp}
         };
-        assertTrue(myPiece.isValidRotate(surrounding, 0));
+        assertTrue(TestHelper.fits(myPiece, surrounding, 0));
         // Invalid rotate
         surrounding = new PieceUnit[][]{
             {temp, temp, temp},
             {null, null, null},
             {temp, null, temp}
         };
-        assertFalse(myPiece.isValidRotate(surrounding, 0));
+        assertFalse(TestHelper.fits(myPiece, surrounding, 0));
     }
 
 }
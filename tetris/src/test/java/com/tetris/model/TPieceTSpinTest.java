@@ -6,7 +6,7 @@ import org.junit.Before;
 import org.junit.Test;
 
 /**
- * Test for T-piece {@link TPiece#isTSpin(PieceUnit[][])}.
+ * Test for T-piece {@link TPiece#isTSpin(Board, int, int, int)}.
  * Test whether the method can recognize different T-spins and other spins.
  * 
  * @author Jiameng Li
@@ -14,110 +14,158 @@ import org.junit.Test;
  */
 public class TPieceTSpinTest {
 
-    /** The placeholder used to create scenarios. */
-    private final PieceUnit temp = TestHelper.TEMP;
+    /** The row of the bottom left corner of the T-Piece. */
+    private static final int ROW = 19;
 
-    /** The T-Piece used to test. */
-    private final TPiece myPiece = new TPiece();
+    /** The column of the bottom left corner of the T-Piece. */
+    private static final int COL = 5;
 
-    /** The surrounding around the T-Piece. */
-    private PieceUnit[][] mySurrounding;
+    /** The board around the T-Piece. */
+    private Board myBoard;
+
+    /** The index of the shape of the T-Piece. */
+    private int myShape;
 
     /**
-     * Create a empty surrounding before each test.
+     * Create a empty board before each test.
      */
     @Before
     public void setup() {
-        mySurrounding = new PieceUnit[3][3];
+        myBoard = new Board();
+    }
+
+    /**
+     * Fill or empty a cell of the 3 by 3 square around the T-Piece.
+     * 
+     * @param theRow The row in the square, 0 at the top.
+     * @param theCol The column in the square, 0 on the left.
+     * @param theFilled Whether the cell is filled.
+     */
+    private void set(final int theRow, final int theCol, final boolean theFilled) {
+        if (theFilled) {
+            myBoard.fill(ROW - 2 + theRow, COL + theCol, (byte) 1);
+        } else {
+            myBoard.empty(ROW - 2 + theRow, COL + theCol);
+        }
+    }
+
+    /**
+     * Check the T-spin of the T-Piece in the current shape.
+     * 
+     * @return 0 if not T-spin, MINI_T_SPIN if mini T-spin, FULL_T_SPIN if full T-spin.
+     */
+    private int isTSpin() {
+        return TPiece.isTSpin(myBoard, myShape, ROW, COL);
     }
 
     /**
-     * Test for {@link TPiece#isTSpin(PieceUnit[][])}.
+     * Test for {@link TPiece#isTSpin(Board, int, int, int)}.
      * Test whether the method recognize spins that are not T-spin.
      */
     @Test
     public void testIsTSpinNot() {
-        // No unit in surronding
-        myPiece.setCurrentShapeIdx(0);
-        assertEquals(0, myPiece.isTSpin(mySurrounding));
-        // One unit in surrounding
-        mySurrounding[0][0] = temp;
-        assertEquals(0, myPiece.isTSpin(mySurrounding));
-        // Two units in surrounding
-        mySurrounding[0][2] = temp;
-        assertEquals(0, myPiece.isTSpin(mySurrounding));
+        // No occupied corner
+        myShape = 0;
+        assertEquals(0, isTSpin());
+        // One occupied corner
+        set(0, 0, true);
+        assertEquals(0, isTSpin());
+        // Two occupied corners
+        set(0, 2, true);
+        assertEquals(0, isTSpin());
     }
 
     /**
-     * Test for {@link TPiece#isTSpin(PieceUnit[][])}.
+     * Test for {@link TPiece#isTSpin(Board, int, int, int)}.
      * Test whether the method recognize full and mini T-spin while the piece is facing up after rotation.
      */
     @Test
     public void testIsTSpinlUp() {
-        myPiece.setCurrentShapeIdx(0);
+        myShape = 0;
         // Mini T-spin
-        mySurrounding[0][0] = temp;
-        mySurrounding[2][0] = temp;
-        mySurrounding[2][2] = temp;
-        assertEquals(1, myPiece.isTSpin(mySurrounding));
+        set(0, 0, true);
+        set(2, 0, true);
+        set(2, 2, true);
+        assertEquals(1, isTSpin());
         // Full T-spin
-        mySurrounding[0][2] = temp;
-        mySurrounding[2][0] = null;
-        assertEquals(2, myPiece.isTSpin(mySurrounding));
+        set(0, 2, true);
+        set(2, 0, false);
+        assertEquals(2, isTSpin());
     }
 
     /**
-     * Test for {@link TPiece#isTSpin(PieceUnit[][])}.
+     * Test for {@link TPiece#isTSpin(Board, int, int, int)}.
      * Test whether the method recognize full and mini T-spin while the piece is facing down after rotation.
      */
     @Test
     public void testIsTSpinDown() {
-        myPiece.setCurrentShapeIdx(2);
+        myShape = 2;
         // Mini T-spin
-        mySurrounding[0][0] = temp;
-        mySurrounding[0][2] = temp;
-        mySurrounding[2][0] = temp;
-        assertEquals(1, myPiece.isTSpin(mySurrounding));
+        set(0, 0, true);
+        set(0, 2, true);
+        set(2, 0, true);
+        assertEquals(1, isTSpin());
         // Full T-spin
-        mySurrounding[0][2] = null;
-        mySurrounding[2][2] = temp;
-        assertEquals(2, myPiece.isTSpin(mySurrounding));
+        set(0, 2, false);
+        set(2, 2, true);
+        assertEquals(2, isTSpin());
     }
 
     /**
-     * Test for {@link TPiece#isTSpin(PieceUnit[][])}.
+     * Test for {@link TPiece#isTSpin(Board, int, int, int)}.
      * Test whether the method recognize full and mini T-spin while the piece is facing left after rotation.
      */
     @Test
     public void testIsTSpinLeft() {
-        myPiece.setCurrentShapeIdx(3);
+        myShape = 3;
         // Mini T-spin
-        mySurrounding[0][2] = temp;
-        mySurrounding[2][0] = temp;
-        mySurrounding[2][2] = temp;
-        assertEquals(1, myPiece.isTSpin(mySurrounding));
+        set(0, 2, true);
+        set(2, 0, true);
+        set(2, 2, true);
+        assertEquals(1, isTSpin());
         // Full T-spin
-        mySurrounding[0][0] = temp;
-        mySurrounding[0][2] = null;
-        assertEquals(2, myPiece.isTSpin(mySurrounding));
+        set(0, 0, true);
+        set(0, 2, false);
+        assertEquals(2, isTSpin());
     }
 
     /**
-     * Test for {@link TPiece#isTSpin(PieceUnit[][])}.
+     * Test for {@link TPiece#isTSpin(Board, int, int, int)}.
      * Test whether the method recognize full and mini T-spin while the piece is facing down after rotation.
      */
     @Test
     public void testIsTSpinRight() {
-        myPiece.setCurrentShapeIdx(1);
+        myShape = 1;
         // Mini T-spin
-        mySurrounding[0][0] = temp;
-        mySurrounding[2][0] = temp;
-        mySurrounding[2][2] = temp;
-        assertEquals(1, myPiece.isTSpin(mySurrounding));
+        set(0, 0, true);
+        set(2, 0, true);
+        set(2, 2, true);
+        assertEquals(1, isTSpin());
         // Full T-spin
-        mySurrounding[0][0] = null;
-        mySurrounding[0][2] = temp;
-        assertEquals(2, myPiece.isTSpin(mySurrounding));
+        set(0, 0, false);
+        set(0, 2, true);
+        assertEquals(2, isTSpin());
+    }
+
+    /**
+     * Test for {@link TPiece#isTSpin(Board, int, int, int)}.
+     * Test whether the corners are read from the board at other positions, including the wall.
+     */
+    @Test
+    public void testIsTSpinBoard() {
+        final Board board = new Board();
+        myShape = 2;
+        board.fill(17, 5, (byte) 1);
+        board.fill(19, 5, (byte) 1);
+        assertEquals(0, TPiece.isTSpin(board, myShape, 19, 5));
+        board.fill(19, 7, (byte) 1);
+        assertEquals(2, TPiece.isTSpin(board, myShape, 19, 5));
+        myShape = 0;
+        assertEquals(1, TPiece.isTSpin(board, myShape, 19, 5));
+        // The wall counts as a corner
+        board.fill(19, 3, (byte) 1);
+        myShape = 3;
+        assertEquals(2, TPiece.isTSpin(board, myShape, 19, 1));
     }
 
 }
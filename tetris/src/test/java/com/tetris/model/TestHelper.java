@@ -14,14 +14,37 @@ public class TestHelper {
      * @param theSpace The game space.
      * @param theSurrounding The surrounding used for testing.
      */
-    protected static void copySurrounding(final PieceUnit[][] theSpace, final PieceUnit[][] theSurrounding) {
+    protected static void copySurrounding(final GameSpace theSpace, final PieceUnit[][] theSurrounding) {
         int r = 19 - theSurrounding.length + 1;
         for (int i = 0; i < theSurrounding.length; i++, r++) {
             int c = 2;
             for (int j = 0; j < theSurrounding[0].length; j++, c++) {
-                theSpace[r][c] = theSurrounding[i][j];
+                theSpace.setFilled(r, c, theSurrounding[i][j] != null);
             }
         }
     }
 
+    /**
+     * Check whether a shape of the testing piece fits in the surrounding, placed where
+     * {@link #copySurrounding(GameSpace, PieceUnit[][])} puts the surrounding.
+     * 
+     * @param thePiece The testing piece.
+     * @param theSurrounding The surrounding used for testing, the same size as the shape.
+     * @param theShape The index of the shape.
+     * @return Whether the shape overlaps no placeholder.
+     */
+    protected static boolean fits(final Piece thePiece, final PieceUnit[][] theSurrounding, final int theShape) {
+        final Board board = new Board();
+        int r = 19 - theSurrounding.length + 1;
+        for (int i = 0; i < theSurrounding.length; i++, r++) {
+            int c = 2;
+            for (int j = 0; j < theSurrounding[0].length; j++, c++) {
+                if (theSurrounding[i][j] != null) {
+                    board.fill(r, c, (byte) 1);
+                }
+            }
+        }
+        return thePiece.fits(board, theShape, 19, 2);
+    }
+
 }
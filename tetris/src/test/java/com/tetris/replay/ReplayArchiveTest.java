@@ -0,0 +1,142 @@
+package com.tetris.replay;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.tetris.engine.GameEngine;
+import com.tetris.model.Randomizer;
+import com.tetris.model.Setting;
+
+/**
+ * Test for {@link ReplayArchive}.
+ * Test whether replays are stored across segments and seeking reaches the same state as playing from the start.
+ * 
+ * @author Jiameng Li
+ * @version 1.0
+ */
+public class ReplayArchiveTest {
+
+    /** The folder that contains the archive. */
+    @Rule
+    public final TemporaryFolder myFolder = new TemporaryFolder();
+
+    /**
+     * Test for {@link ReplayArchive#seek(long, int)}.
+     * Test whether seeking from keyframes, before and after reopening the archive, matches playing from the start.
+     * 
+     * @throws IOException If the archive can't be written.
+     */
+    @Test
+    public void testSeek() throws IOException {
+        final Path directory = myFolder.getRoot().toPath();
+        final Replay[] replays = new Replay[3];
+        try (ReplayArchive archive = new ReplayArchive(directory, 512, 4)) {
+            for (int i = 0; i < replays.length; i++) {
+                replays[i] = record(i);
+                assertEquals(i, archive.append(replays[i]));
+            }
+            assertEquals(replays.length, archive.size());
+            assertSeek(archive, replays);
+        }
+        assertTrue(directory.toFile().list().length > 1);
+        try (ReplayArchive archive = new ReplayArchive(directory, 512, 4)) {
+            assertEquals(replays.length, archive.size());
+            assertSeek(archive, replays);
+            assertEquals(replays.length, archive.append(replays[0]));
+        }
+    }
+
+    /**
+     * Test for opening a {@link ReplayArchive} whose last entry was cut off by an interrupted write.
+     * Test whether the incomplete entry is cut off the file, so entries appended afterwards are read back alone.
+     * 
+     * @throws IOException If the archive can't be written.
+     */
+    @Test
+    public void testTornEntry() throws IOException {
+        final Path directory = myFolder.getRoot().toPath();
+        final Replay replay = record(1);
+        try (ReplayArchive archive = new ReplayArchive(directory)) {
+            archive.append(replay);
+        }
+        final Path segment = directory.resolve("replays-00000.seg");
+        final long size = Files.size(segment);
+        final ByteBuffer torn = ByteBuffer.allocate(64);
+        torn.putInt(10_000).put((byte) 0).putLong(99);
+        Files.write(segment, torn.array(), StandardOpenOption.APPEND);
+        try (ReplayArchive archive = new ReplayArchive(directory)) {
+            assertEquals(1, archive.size());
+            assertEquals(size, Files.size(segment));
+            assertEquals(1, archive.append(replay));
+        }
+        try (ReplayArchive archive = new ReplayArchive(directory)) {
+            assertEquals(2, archive.size());
+            ReplayTest.assertSameState(new ReplayPlayer(replay).play(), new ReplayPlayer(archive.read(1)).play());
+        }
+    }
+
+    /**
+     * Test whether an archive with a keyframe interval that never advances can't be opened.
+     * 
+     * @throws IOException If the archive can't be opened.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testZeroKeyframeInterval() throws IOException {
+        new ReplayArchive(myFolder.getRoot().toPath(), 512, 0).close();
+    }
+
+    /**
+     * Test whether an archive with segments too large to map can't be opened.
+     * 
+     * @throws IOException If the archive can't be opened.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testSegmentTooLarge() throws IOException {
+        new ReplayArchive(myFolder.getRoot().toPath(), Integer.MAX_VALUE + 1L, 4).close();
+    }
+
+    /**
+     * Assert that seeking to every piece of every replay matches playing the replay from the start.
+     * 
+     * @param theArchive The archive that contains the replays.
+     * @param theReplays The replays in the order they were appended.
+     * @throws IOException If the archive can't be read.
+     */
+    private static void assertSeek(final ReplayArchive theArchive, final Replay[] theReplays) throws IOException {
+        for (int i = 0; i < theReplays.length; i++) {
+            assertEquals(theReplays[i].getInputCount(), theArchive.read(i).getInputCount());
+            final ReplayPlayer full = new ReplayPlayer(theReplays[i]);
+            final int pieces = new ReplayPlayer(theReplays[i]).play().getPieceCount();
+            for (int p = 0; p <= pieces; p += 3) {
+                full.playToPiece(p);
+                ReplayTest.assertSameState(full.getEngine(), theArchive.seek(i, p).getEngine());
+            }
+            ReplayTest.assertSameState(full.play(), theArchive.seek(i, pieces).play());
+        }
+    }
+
+    /**
+     * Record a game with random operations.
+     * 
+     * @param theSeed The seed of the game.
+     * @return The replay of the game.
+     */
+    private static Replay record(final long theSeed) {
+        final GameEngine engine = new GameEngine(new Setting(), Randomizer.BAG_7);
+        final ReplayRecorder recorder = new ReplayRecorder(engine);
+        engine.newGame(theSeed);
+        ReplayTest.playRandomly(engine, theSeed + 100, 2000);
+        return recorder.toReplay();
+    }
+
+}
@@ -0,0 +1,121 @@
+package com.tetris.replay;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import com.tetris.engine.GameEngine;
+import com.tetris.engine.Input;
+import com.tetris.model.Board;
+import com.tetris.model.Randomizer;
+import com.tetris.model.Setting;
+import com.tetris.model.SplitMix64;
+
+/**
+ * Test for {@link ReplayRecorder} and {@link ReplayPlayer}.
+ * Test whether a recorded game is played again to exactly the same state.
+ * 
+ * @author Jiameng Li
+ * @version 1.0
+ */
+public class ReplayTest {
+
+    /**
+     * Test for {@link ReplayPlayer#play()}.
+     * Test whether the replay of a game with random operations ends in the same state.
+     */
+    @Test
+    public void testRecordAndPlay() {
+        final GameEngine engine = new GameEngine(new Setting(), Randomizer.BAG_7);
+        final ReplayRecorder recorder = new ReplayRecorder(engine);
+        engine.newGame(1234);
+        playRandomly(engine, 5678, 3000);
+        final Replay replay = recorder.toReplay();
+        assertEquals(1234, replay.getSeed());
+        assertTrue(replay.getInputCount() > 0);
+        assertTrue(replay.getInputSize() < 2 * replay.getInputCount());
+
+        final GameEngine played = new ReplayPlayer(Replay.fromBytes(replay.toBytes())).play();
+        assertSameState(engine, played);
+    }
+
+    /**
+     * Test for {@link ReplayRecorder#inputPerformed(long, Input)}.
+     * Test whether shifts that fail against the wall aren't recorded, but the replay still ends in the same state.
+     */
+    @Test
+    public void testFailedShiftNotRecorded() {
+        final GameEngine engine = new GameEngine(new Setting(), Randomizer.BAG_7);
+        final ReplayRecorder recorder = new ReplayRecorder(engine);
+        engine.newGame(42);
+        int moves = 0;
+        for (int i = 0; i < 20; i++) {
+            if (engine.step(Input.SHIFT_RIGHT)) {
+                moves++;
+            }
+        }
+        engine.step(Input.SOFT_DROP_RELEASE);
+        engine.tick();
+        final Replay replay = recorder.toReplay();
+        assertEquals(moves, replay.getInputCount());
+
+        final GameEngine played = new ReplayPlayer(Replay.fromBytes(replay.toBytes())).play();
+        assertSameState(engine, played);
+    }
+
+    /**
+     * Test for {@link Replay#toBytes()} and {@link Replay#fromBytes(byte[])}.
+     * Test whether a replay is decoded to the same replay.
+     */
+    @Test
+    public void testEncode() {
+        final Replay replay = new Replay(Randomizer.BAG_14, -5, 300, 2, new byte[]{3, (byte) 0x81, 1});
+        final Replay decoded = Replay.fromBytes(replay.toBytes());
+        assertEquals(Randomizer.BAG_14, decoded.getRandomizer());
+        assertEquals(-5, decoded.getSeed());
+        assertEquals(300, decoded.getFrames());
+        assertEquals(2, decoded.getInputCount());
+        assertEquals(3, decoded.getInputSize());
+        assertEquals(replay.getEncodedSize(), replay.toBytes().length);
+    }
+
+    /**
+     * Play the given engine with random operations.
+     * 
+     * @param theEngine The engine.
+     * @param theSeed The seed of the operations.
+     * @param theTicks The maximum number of ticks.
+     */
+    protected static void playRandomly(final GameEngine theEngine, final long theSeed, final int theTicks) {
+        final SplitMix64 rand = new SplitMix64(theSeed);
+        final Input[] inputs = Input.values();
+        for (int t = 0; t < theTicks && theEngine.isPlaying(); t++) {
+            final int count = rand.nextInt(3);
+            for (int i = 0; i < count; i++) {
+                theEngine.step(inputs[rand.nextInt(inputs.length)]);
+            }
+            theEngine.tick();
+        }
+    }
+
+    /**
+     * Assert that both engines are in the same state.
+     * 
+     * @param theExpected The expected engine.
+     * @param theActual The actual engine.
+     */
+    protected static void assertSameState(final GameEngine theExpected, final GameEngine theActual) {
+        assertEquals(theExpected.getFrame(), theActual.getFrame());
+        assertEquals(theExpected.getPieceCount(), theActual.getPieceCount());
+        assertEquals(theExpected.isGameOver(), theActual.isGameOver());
+        assertEquals(theExpected.getScoreCounter().getScore(), theActual.getScoreCounter().getScore());
+        assertEquals(theExpected.getScoreCounter().getLine(), theActual.getScoreCounter().getLine());
+        assertEquals(theExpected.getGameSpace().getCurrentRow(), theActual.getGameSpace().getCurrentRow());
+        assertEquals(theExpected.getGameSpace().getCurrentColumn(), theActual.getGameSpace().getCurrentColumn());
+        for (int r = 0; r < Board.ROWS; r++) {
+            assertEquals(theExpected.getGameSpace().getBoard().getRow(r), theActual.getGameSpace().getBoard().getRow(r));
+        }
+    }
+
+}